@@ -0,0 +1,13 @@
+-- 자정 파이프라인 노드 상태 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+CREATE TABLE IF NOT EXISTS batch_pipeline_node
+(
+    run_date    DATE          NOT NULL COMMENT '수집 대상 날짜',
+    node        VARCHAR(64)   NOT NULL COMMENT '노드 이름 (예: ingest:politics, index:politics, hot-topics)',
+    status      VARCHAR(10)   NOT NULL COMMENT 'RUNNING / DONE / FAILED / SKIPPED',
+    attempts    INT           NOT NULL DEFAULT 0 COMMENT '실행 횟수',
+    fence_token BIGINT        NULL COMMENT '마지막으로 실행한 리더의 펜싱 토큰',
+    started_at  DATETIME      NULL COMMENT '마지막 실행 시작 시각',
+    finished_at DATETIME      NULL COMMENT '마지막 실행 종료 시각',
+    last_error  VARCHAR(500)  NULL COMMENT '마지막 실패 사유',
+    PRIMARY KEY (run_date, node)
+);
@@ -0,0 +1,38 @@
+-- news 저장 시점 중복 제거 마이그레이션 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+-- 해시 규칙은 NewsDedupHelper.contentHash와 동일해야 함
+--   title, publisher: 공백 연속 → 공백 1개, 앞뒤 공백 제거, 소문자 변환
+--   SHA-256(title + CHAR(31) + publisher + CHAR(31) + 발행일 yyyy-MM-dd), 소문자 hex
+-- 중복 범위는 발행일 하루 (이전 idx_news_dup 기반 중복 삭제와 동일) - 다른 날 같은 제목의 기사는 남김
+
+-- 1. 컬럼 추가 (백필 전이므로 NULL 허용)
+ALTER TABLE news ADD COLUMN content_hash CHAR(64) NULL COMMENT '정규화된 title + publisher + 발행일의 SHA-256 (발행일 단위 중복 방지)';
+
+-- 2. 기존 데이터 백필
+UPDATE news
+SET content_hash = SHA2(CONCAT(
+        LOWER(TRIM(REGEXP_REPLACE(title, '[[:space:]]+', ' '))),
+        CHAR(31),
+        LOWER(TRIM(REGEXP_REPLACE(publisher, '[[:space:]]+', ' '))),
+        CHAR(31),
+        DATE_FORMAT(published_at, '%Y-%m-%d')
+    ), 256);
+
+-- 3. 기존 중복/속보 뉴스 1회 정리 (history가 참조하는 행은 남김)
+DELETE FROM news
+WHERE (id IN (
+        SELECT id FROM (
+            SELECT id, ROW_NUMBER() OVER (PARTITION BY content_hash, DATE(published_at) ORDER BY id) AS rn
+            FROM news
+        ) t
+        WHERE t.rn > 1
+    )
+    OR title LIKE '%[속보]%')
+  AND id NOT IN (SELECT news_id FROM (SELECT DISTINCT news_id FROM history) h);
+
+-- 4. history가 참조하던 중복이 남은 경우 유니크 키 생성이 실패하므로, 남은 중복 확인 후 수동 처리
+-- SELECT content_hash, COUNT(*) FROM news GROUP BY content_hash HAVING COUNT(*) > 1;
+
+-- 5. NOT NULL + 유니크 키 적용, 더 이상 쓰지 않는 중복 삭제용 인덱스 제거
+ALTER TABLE news MODIFY content_hash CHAR(64) NOT NULL COMMENT '정규화된 title + publisher + 발행일의 SHA-256 (발행일 단위 중복 방지)';
+ALTER TABLE news ADD UNIQUE KEY uk_news_content_hash (content_hash);
+DROP INDEX idx_news_dup ON news;
@@ -0,0 +1,9 @@
+-- Elasticsearch 색인 실패 뉴스 기록 테이블 (outbox 릴레이가 반영에 실패한 뉴스, 운영 DB는 ddl-auto=none 이므로 수동 적용)
+-- 이 스크립트 뒤에 alter_news_es_failure_dead_letter.sql 을 적용해야 init.sql 의 최종 스키마와 같아집니다.
+CREATE TABLE IF NOT EXISTS news_es_failure
+(
+    news_id   BIGINT       NOT NULL COMMENT '색인에 실패한 뉴스의 고유번호',
+    reason    VARCHAR(500) NULL COMMENT '실패 사유',
+    failed_at DATETIME     NOT NULL COMMENT '마지막 실패 시각',
+    PRIMARY KEY (news_id)
+);
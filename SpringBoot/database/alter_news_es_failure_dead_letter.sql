@@ -0,0 +1,8 @@
+-- 색인 실패 분류 (재시도 가능 / 영구 실패) 및 dead-letter 재처리 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+-- 기존 기록은 분류 정보가 없으므로 재시도 가능(1)으로 두어 자정 파이프라인이 한 번 더 재처리합니다.
+ALTER TABLE news_es_failure
+    ADD COLUMN status     INT          NULL COMMENT '마지막 응답 상태 코드' AFTER news_id,
+    ADD COLUMN error_type VARCHAR(100) NULL COMMENT '오류 유형 (예: es_rejected_execution_exception)' AFTER status,
+    ADD COLUMN retryable  TINYINT(1)   NOT NULL DEFAULT 1 COMMENT '재시도 가능한 실패 여부 (1: 거부 / 일시 장애, 0: 매핑 오류 등)' AFTER reason,
+    ADD COLUMN attempts   INT          NOT NULL DEFAULT 1 COMMENT '실패 횟수' AFTER retryable,
+    ADD INDEX idx_news_es_failure_retryable (retryable, failed_at);
@@ -0,0 +1,8 @@
+-- 색인 실패 기록에 발행일 추가 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+-- 재처리 전에 뉴스가 삭제되면 news 테이블에서 발행일을 알 수 없으므로, 삭제할 날짜 인덱스를 실패 기록에 함께 남깁니다.
+ALTER TABLE news_es_failure
+    ADD COLUMN published_at DATETIME NULL COMMENT '실패한 뉴스의 발행일 (뉴스가 삭제되어도 재처리 시 대상 날짜 인덱스 결정)' AFTER retryable;
+
+UPDATE news_es_failure f
+    JOIN news n ON n.id = f.news_id
+SET f.published_at = n.published_at;
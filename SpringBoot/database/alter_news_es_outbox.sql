@@ -0,0 +1,31 @@
+-- news → Elasticsearch outbox 동기화 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+-- 트리거가 INSERT / DELETE와 같은 트랜잭션에서 이벤트를 기록하고, NewsEsOutboxRelay가 주기적으로 반영합니다.
+CREATE TABLE IF NOT EXISTS news_es_outbox
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT COMMENT '이벤트 고유번호 (Elasticsearch 외부 버전)',
+    news_id    BIGINT      NOT NULL COMMENT '대상 뉴스의 고유번호',
+    op         VARCHAR(10) NOT NULL COMMENT 'INDEX / DELETE',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '이벤트 기록 시각',
+    PRIMARY KEY (id),
+    INDEX idx_news_es_outbox_created_at (created_at)
+);
+
+CREATE TABLE IF NOT EXISTS news_es_outbox_offset
+(
+    relay_name    VARCHAR(50) NOT NULL COMMENT '릴레이 이름',
+    last_event_id BIGINT      NOT NULL COMMENT '마지막으로 반영한 outbox 이벤트 ID',
+    updated_at    DATETIME    NOT NULL COMMENT '갱신 시각',
+    PRIMARY KEY (relay_name)
+);
+
+DROP TRIGGER IF EXISTS trg_news_es_outbox_insert;
+CREATE TRIGGER trg_news_es_outbox_insert
+    AFTER INSERT ON news
+    FOR EACH ROW
+    INSERT INTO news_es_outbox (news_id, op) VALUES (NEW.id, 'INDEX');
+
+DROP TRIGGER IF EXISTS trg_news_es_outbox_delete;
+CREATE TRIGGER trg_news_es_outbox_delete
+    AFTER DELETE ON news
+    FOR EACH ROW
+    INSERT INTO news_es_outbox (news_id, op) VALUES (OLD.id, 'DELETE');
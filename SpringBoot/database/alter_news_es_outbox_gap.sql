@@ -0,0 +1,10 @@
+-- outbox 릴레이 ID 구멍 추적 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+-- 오프셋이 커밋되지 않은 ID를 지나갈 때 그 ID를 기록해 두고, 늦게 커밋된 이벤트를 다음 배치에서 반영합니다.
+CREATE TABLE IF NOT EXISTS news_es_outbox_gap
+(
+    relay_name  VARCHAR(50) NOT NULL COMMENT '릴레이 이름',
+    event_id    BIGINT      NOT NULL COMMENT '오프셋이 지나간 시점에 보이지 않던 outbox 이벤트 ID',
+    detected_at DATETIME    NOT NULL COMMENT '건너뛴 시각',
+    PRIMARY KEY (relay_name, event_id),
+    INDEX idx_news_es_outbox_gap_detected_at (detected_at)
+);
@@ -0,0 +1,16 @@
+-- 날짜별 뉴스 인덱스(news-nori-yyyy.MM.dd) 전환 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+-- DELETE 이벤트 시점에는 news 행이 없으므로, 삭제할 도큐먼트의 날짜 인덱스를 알 수 있도록 발행일을 이벤트에 함께 기록합니다.
+ALTER TABLE news_es_outbox
+    ADD COLUMN published_at DATETIME NULL COMMENT '대상 뉴스의 발행일 (날짜 인덱스 결정)' AFTER op;
+
+DROP TRIGGER IF EXISTS trg_news_es_outbox_insert;
+CREATE TRIGGER trg_news_es_outbox_insert
+    AFTER INSERT ON news
+    FOR EACH ROW
+    INSERT INTO news_es_outbox (news_id, op, published_at) VALUES (NEW.id, 'INDEX', NEW.published_at);
+
+DROP TRIGGER IF EXISTS trg_news_es_outbox_delete;
+CREATE TRIGGER trg_news_es_outbox_delete
+    AFTER DELETE ON news
+    FOR EACH ROW
+    INSERT INTO news_es_outbox (news_id, op, published_at) VALUES (OLD.id, 'DELETE', OLD.published_at);
@@ -0,0 +1,18 @@
+-- DeepSearch 수집 실패 페이지 큐 (운영 DB는 ddl-auto=none 이므로 수동 적용)
+CREATE TABLE IF NOT EXISTS news_failed_page
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT COMMENT '고유번호',
+    source     VARCHAR(20)  NOT NULL COMMENT 'DAILY / MONITORING',
+    section    VARCHAR(100) NOT NULL COMMENT '섹션',
+    date_from  VARCHAR(19)  NOT NULL COMMENT 'DeepSearch date_from',
+    date_to    VARCHAR(19)  NOT NULL COMMENT 'DeepSearch date_to',
+    page       INT          NOT NULL COMMENT '페이지 번호',
+    status     VARCHAR(10)  NOT NULL COMMENT 'PENDING / DONE / DEAD',
+    attempts   INT          NOT NULL DEFAULT 0 COMMENT '재수집 시도 횟수',
+    last_error VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    created_at DATETIME     NOT NULL COMMENT '최초 실패 시각',
+    updated_at DATETIME     NOT NULL COMMENT '마지막 갱신 시각',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_news_failed_page (section, date_from, date_to, page),
+    INDEX idx_news_failed_page_status (status, id)
+);
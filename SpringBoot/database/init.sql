@@ -18,7 +18,9 @@ CREATE TABLE news
     content_url  VARCHAR(255) NOT NULL COMMENT '기사의 url',
     published_at DATETIME     NOT NULL COMMENT '기사가 작성된 날짜',
     send         BOOLEAN      NOT NULL COMMENT '발송 여부',
-    PRIMARY KEY (id)
+    content_hash CHAR(64)     NOT NULL COMMENT '정규화된 title + publisher + 발행일의 SHA-256 (발행일 단위 중복 방지)',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_news_content_hash (content_hash)
 );
 
 -- 3. 설정
@@ -109,10 +111,98 @@ CREATE TABLE hot_topic
     PRIMARY KEY (id)
 );
 
+-- 11. Elasticsearch 색인 실패 뉴스 dead-letter (재시도 가능한 실패는 자정 배치에서, 영구 실패는 관리자가 재처리)
+CREATE TABLE news_es_failure
+(
+    news_id    BIGINT       NOT NULL COMMENT '색인에 실패한 뉴스의 고유번호',
+    status     INT          NULL COMMENT '마지막 응답 상태 코드',
+    error_type VARCHAR(100) NULL COMMENT '오류 유형 (예: es_rejected_execution_exception)',
+    reason     VARCHAR(500) NULL COMMENT '실패 사유',
+    retryable  TINYINT(1)   NOT NULL DEFAULT 1 COMMENT '재시도 가능한 실패 여부 (1: 거부 / 일시 장애, 0: 매핑 오류 등)',
+    published_at DATETIME   NULL COMMENT '실패한 뉴스의 발행일 (뉴스가 삭제되어도 재처리 시 대상 날짜 인덱스 결정)',
+    attempts   INT          NOT NULL DEFAULT 1 COMMENT '실패 횟수',
+    failed_at  DATETIME     NOT NULL COMMENT '마지막 실패 시각',
+    PRIMARY KEY (news_id),
+    INDEX idx_news_es_failure_retryable (retryable, failed_at)
+);
+
+-- 12. news → Elasticsearch 동기화 outbox (news 트리거가 같은 트랜잭션에서 기록, NewsEsOutboxRelay가 반영)
+CREATE TABLE news_es_outbox
+(
+    id           BIGINT      NOT NULL AUTO_INCREMENT COMMENT '이벤트 고유번호 (Elasticsearch 외부 버전)',
+    news_id      BIGINT      NOT NULL COMMENT '대상 뉴스의 고유번호',
+    op           VARCHAR(10) NOT NULL COMMENT 'INDEX / DELETE',
+    published_at DATETIME    NULL COMMENT '대상 뉴스의 발행일 (날짜 인덱스 결정)',
+    created_at   DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '이벤트 기록 시각',
+    PRIMARY KEY (id),
+    INDEX idx_news_es_outbox_created_at (created_at)
+);
+
+-- 13. outbox 릴레이 오프셋 (마지막으로 반영한 이벤트 ID)
+CREATE TABLE news_es_outbox_offset
+(
+    relay_name    VARCHAR(50) NOT NULL COMMENT '릴레이 이름',
+    last_event_id BIGINT      NOT NULL COMMENT '마지막으로 반영한 outbox 이벤트 ID',
+    updated_at    DATETIME    NOT NULL COMMENT '갱신 시각',
+    PRIMARY KEY (relay_name)
+);
+
+-- 14. DeepSearch 수집 실패 페이지 큐 (failedPageReplayJob이 재수집)
+CREATE TABLE news_failed_page
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT COMMENT '고유번호',
+    source     VARCHAR(20)  NOT NULL COMMENT 'DAILY / MONITORING',
+    section    VARCHAR(100) NOT NULL COMMENT '섹션',
+    date_from  VARCHAR(19)  NOT NULL COMMENT 'DeepSearch date_from',
+    date_to    VARCHAR(19)  NOT NULL COMMENT 'DeepSearch date_to',
+    page       INT          NOT NULL COMMENT '페이지 번호',
+    status     VARCHAR(10)  NOT NULL COMMENT 'PENDING / DONE / DEAD',
+    attempts   INT          NOT NULL DEFAULT 0 COMMENT '재수집 시도 횟수',
+    last_error VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    created_at DATETIME     NOT NULL COMMENT '최초 실패 시각',
+    updated_at DATETIME     NOT NULL COMMENT '마지막 갱신 시각',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_news_failed_page (section, date_from, date_to, page),
+    INDEX idx_news_failed_page_status (status, id)
+);
+
+-- 15. 자정 파이프라인 노드 상태 (실패한 노드만 다시 실행)
+CREATE TABLE batch_pipeline_node
+(
+    run_date    DATE          NOT NULL COMMENT '수집 대상 날짜',
+    node        VARCHAR(64)   NOT NULL COMMENT '노드 이름 (예: ingest:politics, index:politics, hot-topics)',
+    status      VARCHAR(10)   NOT NULL COMMENT 'RUNNING / DONE / FAILED / SKIPPED',
+    attempts    INT           NOT NULL DEFAULT 0 COMMENT '실행 횟수',
+    fence_token BIGINT        NULL COMMENT '마지막으로 실행한 리더의 펜싱 토큰',
+    started_at  DATETIME      NULL COMMENT '마지막 실행 시작 시각',
+    finished_at DATETIME      NULL COMMENT '마지막 실행 종료 시각',
+    last_error  VARCHAR(500)  NULL COMMENT '마지막 실패 사유',
+    PRIMARY KEY (run_date, node)
+);
+
+-- 16. outbox 릴레이가 건너뛴 이벤트 ID (늦게 커밋되면 다음 배치에서 반영, 끝내 나타나지 않으면 보관 기간 후 삭제)
+CREATE TABLE news_es_outbox_gap
+(
+    relay_name  VARCHAR(50) NOT NULL COMMENT '릴레이 이름',
+    event_id    BIGINT      NOT NULL COMMENT '오프셋이 지나간 시점에 보이지 않던 outbox 이벤트 ID',
+    detected_at DATETIME    NOT NULL COMMENT '건너뛴 시각',
+    PRIMARY KEY (relay_name, event_id),
+    INDEX idx_news_es_outbox_gap_detected_at (detected_at)
+);
+
+CREATE TRIGGER trg_news_es_outbox_insert
+    AFTER INSERT ON news
+    FOR EACH ROW
+    INSERT INTO news_es_outbox (news_id, op, published_at) VALUES (NEW.id, 'INDEX', NEW.published_at);
+
+CREATE TRIGGER trg_news_es_outbox_delete
+    AFTER DELETE ON news
+    FOR EACH ROW
+    INSERT INTO news_es_outbox (news_id, op, published_at) VALUES (OLD.id, 'DELETE', OLD.published_at);
+
 CREATE INDEX idx_news_title ON news(title); -- news 테이블 DELETE 시 title 검색 시
 CREATE INDEX idx_news_published_at ON news(published_at);
 CREATE INDEX idx_news_publisher ON news(publisher);
 -- SELECT에 사용되는 조건
 CREATE INDEX idx_news_published_sections ON news(published_at, sections);
--- 중복 삭제에 효율적인 복합 인덱스
-CREATE INDEX idx_news_dup ON news(published_at, title, publisher, id);
\ No newline at end of file
+-- 중복 제거는 저장 시점에 uk_news_content_hash로 처리 (기존 idx_news_dup 제거)
\ No newline at end of file
@@ -31,7 +31,7 @@ import java.util.List;
  * 을 제공합니다.
  *
  * <p>핫토픽 추출은 {@link NewsEsService#getTopKeywordsForDateRange(LocalDate, LocalDate, int)}를 통해 수행되며,</p>
- * 대상 인덱스는 {@code news-index-nori}, 분석 필드는 {@code combinedTokens}입니다.
+ * 대상 인덱스는 기간 내 날짜 인덱스 {@code news-nori-yyyy.MM.dd}, 집계 필드는 색인 시점에 추출한 {@code keywords}입니다.
  *
  * 기준 날짜는 항상 **전날(CURDATE - 1)** 이며,
  * DB에는 최대 10건의 키워드와 키워드 등장 횟수(docCount)가 저장됩니다.
@@ -109,7 +109,7 @@ public class HotTopicService {
      * "어제"의 인기 키워드 Top 10을 Elasticsearch에서 추출 후 DB에 저장
      *
      * <p>{@code published_at BETWEEN 어제 ~ 오늘} 범위 내에서,
-     * {@code combinedTokens} 필드에 대해 Terms Aggregation을 수행해 키워드를 추출합니다.</p>
+     * {@code keywords} 필드에 대해 Terms Aggregation을 수행해 키워드를 추출합니다.</p>
      *
      * <p>추출된 키워드는 {@link HotTopic} Entity로 저장되며,
      * 순위(topicRank), 키워드, 키워드 등장 횟수, 날짜가 함께 기록됩니다.</p>
@@ -118,8 +118,20 @@ public class HotTopicService {
      */
     @Transactional
     public void getAndSaveHotTopic() throws IOException {
-        LocalDate today = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1);
+        getAndSaveHotTopic(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * 지정한 날짜의 인기 키워드 Top 10을 Elasticsearch에서 추출 후 DB에 저장
+     *
+     * <p>자정 파이프라인에서 수집 날짜를 기준으로 실행하거나, 실패한 날짜를 재실행할 때 사용합니다.</p>
+     *
+     * @param yesterday 핫토픽 기준 날짜
+     * @throws IOException Elasticsearch 통신 실패 시
+     */
+    @Transactional
+    public void getAndSaveHotTopic(LocalDate yesterday) throws IOException {
+        LocalDate today = yesterday.plusDays(1);
 
         List<StringTermsBucket> buckets = elasticSearchService.getTopKeywordsForDateRange(
                 yesterday, today, 10
@@ -137,7 +149,7 @@ public class HotTopicService {
             hotTopicRepository.save(topic);
         }
 
-        log.info("🔥 어제자 핫토픽 {}건 저장 완료", buckets.size());
+        log.info("🔥 {} 핫토픽 {}건 저장 완료", yesterday, buckets.size());
     }
 
     /**
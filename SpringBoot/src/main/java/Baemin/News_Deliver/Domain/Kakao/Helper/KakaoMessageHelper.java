@@ -4,6 +4,7 @@ import Baemin.News_Deliver.Domain.Mypage.DTO.SettingDTO;
 import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
@@ -67,4 +68,23 @@ public class KakaoMessageHelper {
                 .toList();
     }
 
-}
\ No newline at end of file
+    /**
+     * 전송 시각(요일, 분)에 뉴스 받아야 할 세팅을 필터링하는 메서드
+     *
+     * <p>요일 번호는 스케줄 등록과 같이 1(월)~7(일)로 비교합니다.</p>
+     *
+     * @param allSettings 모든 세팅값
+     * @param fireTime 전송 시각
+     * @return 세팅 DTO
+     */
+    public static List<SettingDTO> filterDueSettings(List<SettingDTO> allSettings, LocalDateTime fireTime) {
+
+        LocalTime fireMinute = fireTime.toLocalTime().truncatedTo(ChronoUnit.MINUTES);
+        int dayOfWeek = fireTime.getDayOfWeek().getValue();
+
+        return filterCurrentSettings(allSettings, fireMinute).stream()
+                .filter(setting -> setting.getDays() != null && setting.getDays().contains(dayOfWeek))
+                .toList();
+    }
+
+}
@@ -35,7 +35,7 @@ import java.util.Map;
 public class KakaoMessageManager {
 
     private static final String KAKAO_SEND_TOME_URL = "https://kapi.kakao.com/v2/api/talk/memo/send";
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate kakaoApiRestTemplate;
 
     private final KakaoTokenProvider kakaoTokenProvider;
     private final KakaoNewsService kakaoNewsService;
@@ -205,7 +205,7 @@ public class KakaoMessageManager {
 
             /* 세팅 별 개별 메시지 전송 */
             HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(params, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(KAKAO_SEND_TOME_URL, entity, String.class);
+            ResponseEntity<String> response = kakaoApiRestTemplate.postForEntity(KAKAO_SEND_TOME_URL, entity, String.class);
             log.info("카카오 메시지 전송 응답: {}", response.getBody());
 
             return response.getStatusCode() == HttpStatus.OK;
@@ -228,6 +228,18 @@ public class KakaoMessageManager {
         List<NewsEsDocument> newsList = kakaoNewsService.searchNewsWithFallback(
                 setting.getSettingKeywords(), setting.getBlockKeywords());
 
+        processSetting(accessToken, setting, newsList);
+    }
+
+    /**
+     * 이미 검색한 뉴스로 메시지 발송 과정을 처리하는 메서드
+     *
+     * @param accessToken 유저의 엑세스 토큰
+     * @param setting 유저 세팅
+     * @param newsList 세팅으로 검색한 뉴스 리스트
+     */
+    public void processSetting(String accessToken, SettingDTO setting, List<NewsEsDocument> newsList) {
+
         // 뉴스가 겁색 되지 않을 시의 예외 처리
         if (newsList == null || newsList.isEmpty()) {
             log.info("[스킵] : 세팅 ID {}에 해당하는 뉴스가 검색되지 않음", setting.getId());
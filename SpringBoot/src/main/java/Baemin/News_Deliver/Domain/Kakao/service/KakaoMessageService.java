@@ -4,13 +4,16 @@ import Baemin.News_Deliver.Domain.Kakao.Helper.KakaoMessageHelper;
 import Baemin.News_Deliver.Domain.Kakao.Manager.KakaoMessageManager;
 import Baemin.News_Deliver.Domain.Mypage.DTO.SettingDTO;
 import Baemin.News_Deliver.Domain.Mypage.service.SettingService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +22,7 @@ public class KakaoMessageService {
 
     private final SettingService settingService;
     private final KakaoMessageManager kakaoMessageManager;
+    private final KakaoNewsService kakaoNewsService;
 
     /**
      * 유저의 세팅값에 맞는 뉴스를 추출 후, 카카오 메시지로 전송하는 메서드
@@ -43,9 +47,46 @@ public class KakaoMessageService {
         // 현재 시간에 유저에게 발송할 세팅이 있는지 확인
         KakaoMessageHelper.checkCurrentSetting_Exist(currentSettings,nowTime);
 
-        // 뉴스 검색 → 뉴스 저장 → 메시지 발송까지의 전 과정을 처리
-        for (SettingDTO setting : currentSettings) {
-            kakaoMessageManager.processSetting(accessToken, setting);
+        sendSettings(accessToken, currentSettings);
+    }
+
+    /**
+     * 전송 시각에 해당하는 유저의 세팅만 뉴스를 추출 후, 카카오 메시지로 전송하는 메서드
+     *
+     * <p>스케줄러가 전송 시각을 직접 넘기므로, 실행이 늦어져도 현재 시각이 아닌 원래 전송 시각(요일, 분)의 세팅을 보냅니다.</p>
+     *
+     * @param refreshAccessToken 유저의 리프레시 토큰
+     * @param userId 유저의 고유 번호
+     * @param fireTime 전송 시각 (분 단위)
+     */
+    public void sendKakaoMessage(String refreshAccessToken, Long userId, LocalDateTime fireTime) {
+
+        // 유저의 리프레시 토큰에서 엑세스 토큰을 발급
+        String accessToken = kakaoMessageManager.getKakaoUserAccessToken(refreshAccessToken, userId);
+
+        // 유저의 모든 세팅(유효한) 조회
+        List<SettingDTO> settings = settingService.getAllSettingsByUserId(userId);
+
+        // 전송 시각(요일, 분) 기준 뉴스 받아야 할 세팅 필터링
+        List<SettingDTO> dueSettings = KakaoMessageHelper.filterDueSettings(settings, fireTime);
+
+        // 전송 시각에 유저에게 발송할 세팅이 있는지 확인
+        KakaoMessageHelper.checkCurrentSetting_Exist(dueSettings, fireTime.toLocalTime());
+
+        sendSettings(accessToken, dueSettings);
+    }
+
+    private void sendSettings(String accessToken, List<SettingDTO> currentSettings) {
+
+        // 세팅별 뉴스 검색을 동시에 요청 (비동기 클라이언트, 요청은 여러 Elasticsearch 노드로 분산)
+        List<CompletableFuture<List<NewsEsDocument>>> searches = currentSettings.stream()
+                .map(setting -> kakaoNewsService.searchNewsWithFallbackAsync(
+                        setting.getSettingKeywords(), setting.getBlockKeywords()))
+                .toList();
+
+        // 뉴스 저장 → 메시지 발송까지의 전 과정을 세팅 순서대로 처리
+        for (int i = 0; i < currentSettings.size(); i++) {
+            kakaoMessageManager.processSetting(accessToken, currentSettings.get(i), searches.get(i).join());
         }
 
     }
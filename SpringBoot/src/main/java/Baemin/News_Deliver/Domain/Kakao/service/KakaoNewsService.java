@@ -1,6 +1,10 @@
 package Baemin.News_Deliver.Domain.Kakao.service;
 
 import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.EsSearchHealthTracker;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsFallbackIndexService;
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
@@ -17,6 +21,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +30,9 @@ import java.util.stream.Collectors;
 public class KakaoNewsService {
 
     private final ElasticsearchClient client;
+    private final ElasticsearchAsyncClient asyncClient;
+    private final EsSearchHealthTracker esSearchHealthTracker;
+    private final NewsFallbackIndexService newsFallbackIndexService;
 
     /**
      * 뉴스가 5개 미만일 경우 fallback 로직 적용하는 메서드
@@ -61,20 +69,138 @@ public class KakaoNewsService {
     /**
      * 날짜 범위를 받는 뉴스 검색 메서드
      *
+     * <p>Elasticsearch 검색이 실패하거나 최근 실패율 / 지연 시간이 기준을 넘은 동안에는 로컬 대체 인덱스에서 검색합니다.</p>
+     *
      * @param includeKeywords 포함 키워드
      * @param blockKeywords 제외 키워드
      * @param fromDaysAgo 검색할 기간
      * @return 뉴스 리스트
      */
     public List<NewsEsDocument> searchNewsByDateRange(List<String> includeKeywords, List<String> blockKeywords, int fromDaysAgo) {
+        if (useFallback()) {
+            return searchFallback(includeKeywords, blockKeywords, fromDaysAgo);
+        }
+
+        long start = System.nanoTime();
         try {
-            LocalDate now = LocalDate.now();
-            LocalDate fromDate = now.minusDays(fromDaysAgo);
+            SearchRequest request = buildDateRangeRequest(includeKeywords, blockKeywords, fromDaysAgo);
+            SearchResponse<NewsEsDocument> response = client.search(request, NewsEsDocument.class);
+            esSearchHealthTracker.recordSuccess(elapsedMs(start));
+
+            return toDocuments(response);
+
+        } catch (IOException | RuntimeException e) { // 오류 응답(ElasticsearchException)도 비동기 경로처럼 대체 검색
+            esSearchHealthTracker.recordFailure(elapsedMs(start));
+            log.error("키워드 기반 뉴스 검색 실패 → 로컬 대체 인덱스 검색: {}", e.getMessage(), e);
+            return searchFallback(includeKeywords, blockKeywords, fromDaysAgo);
+        }
+    }
+
+    /**
+     * 뉴스가 5개 미만일 경우 fallback 로직 적용하는 비동기 메서드
+     *
+     * <p>여러 세팅의 검색을 동시에 보낼 때 사용합니다. 검색 스레드를 점유하지 않으며,
+     * 어제 기준 결과가 5개 미만일 때만 최근 7일 검색을 이어서 보냅니다.</p>
+     *
+     * @param includeKeywords 포함 키워드
+     * @param blockKeywords 제외 키워드
+     * @return 뉴스 리스트 (최대 5개, 검색 실패 시 빈 리스트)
+     */
+    public CompletableFuture<List<NewsEsDocument>> searchNewsWithFallbackAsync(List<String> includeKeywords, List<String> blockKeywords) {
+        return searchNewsByDateRangeAsync(includeKeywords, blockKeywords, 1) // 어제 기준
+                .thenCompose(result -> {
+                    if (result.size() >= 5) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    log.info("⚠뉴스 부족 → 최근 7일간으로 fallback");
+                    return searchNewsByDateRangeAsync(includeKeywords, blockKeywords, 7); // fallback
+                })
+                .thenApply(result -> result.size() > 5 ? result.subList(0, 5) : result);
+    }
+
+    /**
+     * 날짜 범위를 받는 비동기 뉴스 검색 메서드
+     *
+     * @param includeKeywords 포함 키워드
+     * @param blockKeywords 제외 키워드
+     * @param fromDaysAgo 검색할 기간
+     * @return 뉴스 리스트 (Elasticsearch 검색 실패 / 상태 이상 시 로컬 대체 인덱스 결과)
+     */
+    public CompletableFuture<List<NewsEsDocument>> searchNewsByDateRangeAsync(List<String> includeKeywords, List<String> blockKeywords, int fromDaysAgo) {
+        if (useFallback()) {
+            return CompletableFuture.completedFuture(searchFallback(includeKeywords, blockKeywords, fromDaysAgo));
+        }
+
+        long start = System.nanoTime();
+        return asyncClient.search(buildDateRangeRequest(includeKeywords, blockKeywords, fromDaysAgo), NewsEsDocument.class)
+                .thenApply(response -> {
+                    esSearchHealthTracker.recordSuccess(elapsedMs(start));
+                    return toDocuments(response);
+                })
+                .exceptionally(e -> {
+                    esSearchHealthTracker.recordFailure(elapsedMs(start));
+                    log.error("키워드 기반 뉴스 비동기 검색 실패 → 로컬 대체 인덱스 검색: {}", e.getMessage(), e);
+                    return searchFallback(includeKeywords, blockKeywords, fromDaysAgo);
+                });
+    }
 
-            // 포함 키워드 쿼리
-            Query includeKeywordQuery = Query.of(q -> q
+    /* 로컬 인덱스가 없으면 상태와 관계없이 Elasticsearch 사용 */
+    private boolean useFallback() {
+        return esSearchHealthTracker.shouldUseFallback() && newsFallbackIndexService.isAvailable();
+    }
+
+    private List<NewsEsDocument> searchFallback(List<String> includeKeywords, List<String> blockKeywords, int fromDaysAgo) {
+        return newsFallbackIndexService.search(includeKeywords, blockKeywords, fromDaysAgo, 5);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 포함 / 제외 키워드와 검색 기간으로 검색 요청 생성
+     */
+    private SearchRequest buildDateRangeRequest(List<String> includeKeywords, List<String> blockKeywords, int fromDaysAgo) {
+        LocalDate now = LocalDate.now();
+        LocalDate fromDate = now.minusDays(fromDaysAgo);
+
+        // 포함 키워드 쿼리
+        Query includeKeywordQuery = Query.of(q -> q
+                .bool(b -> b
+                        .should(includeKeywords.stream()
+                                .map(kw -> Query.of(q2 -> q2
+                                        .multiMatch(m -> m
+                                                .query(kw)
+                                                .fields("title", "summary", "content_url", "publisher")
+                                                .type(TextQueryType.BoolPrefix)
+                                        )
+                                ))
+                                .collect(Collectors.toList())
+                        )
+                        .minimumShouldMatch("1")
+                )
+        );
+
+        // 날짜 필터 (fromDate ~ now)
+        Query dateFilter = Query.of(q -> q
+                .range(r -> r
+                        .field("published_at")
+                        .gte(JsonData.of(fromDate.toString()))
+                        .lte(JsonData.of(now.toString()))
+                        .format("yyyy-MM-dd")
+                )
+        );
+
+        List<Query> mustQueries = new ArrayList<>();
+        mustQueries.add(includeKeywordQuery);
+        mustQueries.add(dateFilter);
+
+        // 제외 키워드 처리
+        Query finalQuery;
+        if (blockKeywords != null && !blockKeywords.isEmpty()) {
+            Query excludeKeywordQuery = Query.of(q -> q
                     .bool(b -> b
-                            .should(includeKeywords.stream()
+                            .should(blockKeywords.stream()
                                     .map(kw -> Query.of(q2 -> q2
                                             .multiMatch(m -> m
                                                     .query(kw)
@@ -84,80 +210,45 @@ public class KakaoNewsService {
                                     ))
                                     .collect(Collectors.toList())
                             )
-                            .minimumShouldMatch("1")
                     )
             );
 
-            // 날짜 필터 (fromDate ~ now)
-            Query dateFilter = Query.of(q -> q
-                    .range(r -> r
-                            .field("published_at")
-                            .gte(JsonData.of(fromDate.toString()))
-                            .lte(JsonData.of(now.toString()))
-                            .format("yyyy-MM-dd")
+            finalQuery = Query.of(q -> q
+                    .bool(b -> b
+                            .must(mustQueries)
+                            .mustNot(excludeKeywordQuery)
                     )
             );
-
-            List<Query> mustQueries = new ArrayList<>();
-            mustQueries.add(includeKeywordQuery);
-            mustQueries.add(dateFilter);
-
-            // 제외 키워드 처리
-            Query finalQuery;
-            if (blockKeywords != null && !blockKeywords.isEmpty()) {
-                Query excludeKeywordQuery = Query.of(q -> q
-                        .bool(b -> b
-                                .should(blockKeywords.stream()
-                                        .map(kw -> Query.of(q2 -> q2
-                                                .multiMatch(m -> m
-                                                        .query(kw)
-                                                        .fields("title", "summary", "content_url", "publisher")
-                                                        .type(TextQueryType.BoolPrefix)
-                                                )
-                                        ))
-                                        .collect(Collectors.toList())
-                                )
-                        )
-                );
-
-                finalQuery = Query.of(q -> q
-                        .bool(b -> b
-                                .must(mustQueries)
-                                .mustNot(excludeKeywordQuery)
-                        )
-                );
-            } else {
-                finalQuery = Query.of(q -> q
-                        .bool(b -> b
-                                .must(mustQueries)
-                        )
-                );
-            }
-
-            // Elasticsearch 검색 요청
-            SearchRequest request = SearchRequest.of(s -> s
-                    .index("news-index-nori")
-                    .query(finalQuery)
-                    .size(5)
-                    .sort(sort -> sort
-                            .score(sc -> sc.order(SortOrder.Desc))
+        } else {
+            finalQuery = Query.of(q -> q
+                    .bool(b -> b
+                            .must(mustQueries)
                     )
             );
+        }
 
-            SearchResponse<NewsEsDocument> response = client.search(request, NewsEsDocument.class);
+        // Elasticsearch 검색 요청 (조회 기간의 날짜 인덱스만)
+        return SearchRequest.of(s -> s
+                .index(NewsIndexHelper.indicesFor(fromDate, now))
+                .ignoreUnavailable(true)
+                .allowNoIndices(true)
+                .query(finalQuery)
+                .size(5)
+                .sort(sort -> sort
+                        .score(sc -> sc.order(SortOrder.Desc))
+                )
+        );
 
-            response.hits().hits().forEach(hit ->
-                    log.info("{} | score: {}", hit.source().getTitle(), hit.score())
-            );
+    }
 
-            return response.hits().hits().stream()
-                    .map(hit -> hit.source())
-                    .collect(Collectors.toList());
+    private List<NewsEsDocument> toDocuments(SearchResponse<NewsEsDocument> response) {
+        response.hits().hits().forEach(hit ->
+                log.info("{} | score: {}", hit.source().getTitle(), hit.score())
+        );
 
-        } catch (IOException e) {
-            log.error("키워드 기반 뉴스 검색 실패: {}", e.getMessage(), e);
-            return List.of();
-        }
+        return response.hits().hits().stream()
+                .map(hit -> hit.source())
+                .collect(Collectors.toList());
     }
 
 
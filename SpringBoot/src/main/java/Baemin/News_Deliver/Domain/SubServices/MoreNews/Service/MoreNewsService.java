@@ -5,6 +5,7 @@ import Baemin.News_Deliver.Domain.Kakao.repository.HistoryRepository;
 import Baemin.News_Deliver.Domain.SubServices.Exception.SubServicesException;
 import Baemin.News_Deliver.Global.Exception.ErrorCode;
 import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
@@ -18,6 +19,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -136,9 +138,11 @@ public class MoreNewsService {
             );
         }
 
-        // 검색 엔진
+        // 검색 엔진 (날짜 필터 기간의 날짜 인덱스만)
         SearchRequest request = SearchRequest.of(s -> s
-                .index("news-index-nori")
+                .index(NewsIndexHelper.indicesFor(publishedAt.toLocalDate().minusDays(1), LocalDate.now()))
+                .ignoreUnavailable(true)
+                .allowNoIndices(true)
                 .query(finalQuery)
                 .size(15)
                 .sort(sort -> sort
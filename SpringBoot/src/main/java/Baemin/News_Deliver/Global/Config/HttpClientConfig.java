@@ -0,0 +1,142 @@
+package Baemin.News_Deliver.Global.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정 클래스
+ *
+ * <p>호출 대상 호스트마다 커넥션 풀을 따로 두고, 해당 풀을 사용하는 {@link RestTemplate}을 빈으로 등록합니다.
+ * 요청마다 {@code new RestTemplate()}을 만들던 방식과 달리 TLS 커넥션을 keep-alive로 재사용합니다.</p>
+ *
+ * <ul>
+ *     <li>{@code deepSearchRestTemplate}: api-v2.deepsearch.com (뉴스 수집 배치 / 모니터링)</li>
+ *     <li>{@code kakaoApiRestTemplate}: kapi.kakao.com (메시지 전송, 토큰 검증)</li>
+ *     <li>{@code kakaoAuthRestTemplate}: kauth.kakao.com (토큰 갱신)</li>
+ * </ul>
+ *
+ * <p>공통 설정:</p>
+ * <ul>
+ *     <li>연결/응답 타임아웃: {@code http.client.connect-timeout-ms}, {@code http.client.read-timeout-ms}</li>
+ *     <li>풀에서 커넥션을 얻기까지의 대기 한도: {@code http.client.pool-timeout-ms}</li>
+ *     <li>응답 압축: HttpClient 5 기본 동작으로 {@code Accept-Encoding: gzip, x-gzip, deflate}를 보내고 응답을 자동 해제</li>
+ *     <li>유휴 커넥션 정리: {@code http.client.idle-evict-seconds} 이상 유휴 상태인 커넥션 종료</li>
+ * </ul>
+ *
+ * <p>각 커넥션 풀은 빈으로 등록되어 {@link HttpClientPoolMonitor}에서 사용률을 조회합니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http.client.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${http.client.pool-timeout-ms:5000}")
+    private long poolTimeoutMs;
+
+    @Value("${http.client.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    @Value("${http.client.deepsearch.max-connections:8}")
+    private int deepSearchMaxConnections;
+
+    @Value("${http.client.kakao.max-connections:20}")
+    private int kakaoMaxConnections;
+
+    /* ---------------------- 커넥션 풀 ---------------------- */
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager deepSearchConnectionManager() {
+        return connectionManager(deepSearchMaxConnections);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager kakaoApiConnectionManager() {
+        return connectionManager(kakaoMaxConnections);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager kakaoAuthConnectionManager() {
+        return connectionManager(kakaoMaxConnections);
+    }
+
+    /* ---------------------- RestTemplate ---------------------- */
+
+    @Bean
+    public RestTemplate deepSearchRestTemplate(PoolingHttpClientConnectionManager deepSearchConnectionManager) {
+        return pooledRestTemplate(deepSearchConnectionManager);
+    }
+
+    @Bean
+    public RestTemplate kakaoApiRestTemplate(PoolingHttpClientConnectionManager kakaoApiConnectionManager) {
+        return pooledRestTemplate(kakaoApiConnectionManager);
+    }
+
+    @Bean
+    public RestTemplate kakaoAuthRestTemplate(PoolingHttpClientConnectionManager kakaoAuthConnectionManager) {
+        return pooledRestTemplate(kakaoAuthConnectionManager);
+    }
+
+    /**
+     * 호스트 하나를 위한 커넥션 풀 생성
+     *
+     * @param maxConnections 풀의 최대 커넥션 수 (호스트가 하나이므로 route당 최대치와 동일)
+     * @return 커넥션 풀
+     */
+    private PoolingHttpClientConnectionManager connectionManager(int maxConnections) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    /**
+     * 커넥션 풀을 사용하는 RestTemplate 생성
+     *
+     * <p>HttpClient의 수명은 커넥션 풀 빈이 관리하므로, 종료 시 커넥션 풀이 함께 정리됩니다.</p>
+     *
+     * @param connectionManager 사용할 커넥션 풀
+     * @return RestTemplate
+     */
+    private RestTemplate pooledRestTemplate(PoolingHttpClientConnectionManager connectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
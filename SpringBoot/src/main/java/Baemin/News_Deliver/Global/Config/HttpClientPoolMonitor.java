@@ -0,0 +1,66 @@
+package Baemin.News_Deliver.Global.Config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 API 커넥션 풀 사용률 모니터
+ *
+ * <p>{@link HttpClientConfig}에서 등록한 호스트별 커넥션 풀의 상태(사용 중/유휴/대기/최대)를 조회합니다.
+ * 사용 중이거나 대기 중인 커넥션이 있을 때만 주기적으로 로그를 남깁니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpClientPoolMonitor {
+
+    /* 빈 이름(deepSearchConnectionManager 등) → 커넥션 풀 */
+    private final Map<String, PoolingHttpClientConnectionManager> connectionManagers;
+
+    /**
+     * 커넥션 풀별 사용 현황 조회
+     *
+     * @return 풀 이름별 leased / available / pending / max / utilization(%)
+     */
+    public Map<String, Map<String, Object>> getPoolStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+
+        connectionManagers.forEach((name, manager) -> {
+            PoolStats stats = manager.getTotalStats();
+
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("leased", stats.getLeased());
+            pool.put("available", stats.getAvailable());
+            pool.put("pending", stats.getPending());
+            pool.put("max", stats.getMax());
+            pool.put("utilization", stats.getMax() == 0 ? 0 : stats.getLeased() * 100 / stats.getMax());
+            result.put(name, pool);
+        });
+
+        return result;
+    }
+
+    /**
+     * 사용 중인 풀 상태 주기적 로깅
+     */
+    @Scheduled(fixedDelayString = "${http.client.pool-log-interval-ms:60000}")
+    public void logPoolStats() {
+        connectionManagers.forEach((name, manager) -> {
+            PoolStats stats = manager.getTotalStats();
+            if (stats.getLeased() == 0 && stats.getPending() == 0) {
+                return;
+            }
+            log.info("🔌 [{}] leased={}, available={}, pending={}, max={}",
+                    name, stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+        });
+    }
+}
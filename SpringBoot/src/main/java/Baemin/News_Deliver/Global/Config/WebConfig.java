@@ -1,9 +1,7 @@
 package Baemin.News_Deliver.Global.Config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class WebConfig {
@@ -13,8 +11,5 @@ public class WebConfig {
 //        return new ObjectMapper();
 //    }
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
+    /* 외부 API 호출용 RestTemplate은 호스트별 커넥션 풀을 사용하는 HttpClientConfig에서 등록 */
 }
\ No newline at end of file
@@ -63,6 +63,10 @@ public enum ErrorCode {
     HT_SCHEDULER_FAILED("SCHEDULER_ERROR_852", "HotTopic 배치 스케쥴러 실패", HttpStatus.INTERNAL_SERVER_ERROR),
     SETTING_SCHEDULER_FAILED("SCHEDULER_ERROR_853", "Setting 배치 스케쥴러 실패", HttpStatus.INTERNAL_SERVER_ERROR),
     SETTING_CRON_FAILED("SCHEDULER_ERROR_854", "Setting 크론 생성 실패", HttpStatus.INTERNAL_SERVER_ERROR),
+    BATCH_LOCK_HELD("SCHEDULER_ERROR_855", "다른 인스턴스에서 배치가 실행 중입니다", HttpStatus.CONFLICT),
+    BATCH_LOCK_LOST("SCHEDULER_ERROR_856", "배치 실행 중 리더 락을 잃었습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+    PIPELINE_NODE_NOT_FOUND("SCHEDULER_ERROR_857", "존재하지 않는 파이프라인 노드입니다", HttpStatus.BAD_REQUEST),
+    PIPELINE_NODE_ALREADY_DONE("SCHEDULER_ERROR_858", "이미 완료된 파이프라인 노드입니다", HttpStatus.CONFLICT),
 
 
     /* Mypage 예외 : 9xx */
@@ -41,7 +41,8 @@ public class KakaoTokenProvider {
 
     private final AuthRepository authRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
+    private final RestTemplate kakaoAuthRestTemplate;
+    private final RestTemplate kakaoApiRestTemplate;
 
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String kakaoClientId;
@@ -153,7 +154,7 @@ public class KakaoTokenProvider {
 
             // 카카오 토큰 API 호출
             log.debug("카카오 토큰 API 호출 중...");
-            ResponseEntity<Map> response = restTemplate.postForEntity(KAKAO_TOKEN_URL, request, Map.class);
+            ResponseEntity<Map> response = kakaoAuthRestTemplate.postForEntity(KAKAO_TOKEN_URL, request, Map.class);
 
             // 응답 상태 로깅
             log.info("카카오 API 응답 수신: statusCode={}", response.getStatusCode());
@@ -213,7 +214,7 @@ public class KakaoTokenProvider {
             HttpEntity<String> request = new HttpEntity<>(headers);
 
             // 카카오 사용자 정보 API로 토큰 검증
-            ResponseEntity<Map> response = restTemplate.exchange(
+            ResponseEntity<Map> response = kakaoApiRestTemplate.exchange(
                     "https://kapi.kakao.com/v2/user/me",
                     HttpMethod.GET,
                     request,
@@ -1,35 +1,46 @@
 package Baemin.News_Deliver.Global.News.Batch.configuration;
 
-import Baemin.News_Deliver.Global.News.Batch.listener.BatchJobCompletionListener;
+import Baemin.News_Deliver.Global.News.Batch.listener.AdaptiveChunkMetrics;
+import Baemin.News_Deliver.Global.News.Batch.listener.AdaptiveChunkPolicy;
+import Baemin.News_Deliver.Global.News.Batch.listener.PartitionStepListener;
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchFetchExecutor;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchPageDecoder;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchPageReader;
+import Baemin.News_Deliver.Global.News.Batch.service.FailedPageService;
 import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
-import Baemin.News_Deliver.Global.News.Batch.dto.NewsResponseDTO;
 import Baemin.News_Deliver.Global.News.Batch.entity.News;
+import Baemin.News_Deliver.Global.News.Batch.helper.NewsDedupHelper;
+import Baemin.News_Deliver.Global.NewsMonitoring.Manager.NewsMonitoringManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.BeanPropertyItemSqlParameterSourceProvider;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
-import org.springframework.batch.item.support.ListItemReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -41,17 +52,20 @@ import java.util.List;
  * 구성 요소:
  * <ul>
  *     <li>Job: {@code newsDataSaveJob}</li>
- *     <li>Step: {@code newsDataSaveStep}</li>
+ *     <li>Manager Step: {@code newsPartitionStep} (섹션 × 시간 구간 파티션 분배)</li>
+ *     <li>Worker Step: {@code newsDataSaveStep}</li>
  *     <li>Reader: {@code apiReader}</li>
  *     <li>Processor: {@code newsProcessor}</li>
- *     <li>Writer: {@code newsWriter}</li>
+ *     <li>Writer: {@code newsWriter} (Elasticsearch 동기화는 news 테이블 트리거가 기록한 outbox 이벤트로 처리)</li>
  * </ul>
  *
  * 주요 흐름:
  * <ol>
- *     <li>전날 날짜에 해당하는 뉴스 데이터를 섹션별로 수집</li>
- *     <li>각 페이지별 데이터를 순차적으로 요청 후, 리스트에 적재</li>
- *     <li>중복 뉴스는 Listener에서 후처리로 제거</li>
+ *     <li>{@link TimeWindowPartitioner}가 수집 기간(기본: 전날, 백필 시 {@code date_from ~ date_to})을
+ *     섹션별 시간 구간으로 나누고(구간당 최대 10,000건), 워커 스레드 풀에서 병렬 실행</li>
+ *     <li>각 파티션은 자기 구간의 뉴스를 처음부터 끝까지 수집 (100페이지 상한 / offset 건너뛰기 없음)</li>
+ *     <li>Reader가 다음 페이지들을 제한된 동시성으로 미리 요청하고, 페이지 순서대로 전달 (메모리에는 선행 요청 페이지만 유지)</li>
+ *     <li>[속보] 뉴스는 Processor에서 제외, 중복 뉴스는 Writer에서 content_hash 유니크 키로 저장 시점에 무시</li>
  * </ol>
  *
  * API 요청 구조:
@@ -71,104 +85,220 @@ public class BatchConfig {
     private String apiKey;
     private static final String API_URL = "https://api-v2.deepsearch.com/v1/articles";
 
+    /** 동시에 실행할 섹션 파티션 수 */
+    @Value("${batch.partition.concurrency:4}")
+    private int partitionConcurrency;
+
+    /** 섹션별로 미리 요청해 둘 DeepSearch 페이지 수 */
+    @Value("${deepsearch.fetch.prefetch-pages:4}")
+    private int prefetchPages;
+
+    /** 적응형 청크 크기 (초기 / 최소 / 최대 / 목표 커밋 시간) */
+    @Value("${batch.chunk.initial-size:1000}")
+    private int chunkInitialSize;
+    @Value("${batch.chunk.min-size:100}")
+    private int chunkMinSize;
+    @Value("${batch.chunk.max-size:10000}")
+    private int chunkMaxSize;
+    @Value("${batch.chunk.target-commit-ms:500}")
+    private long chunkTargetCommitMillis;
+
+    /** 섹션 파티션당 건너뛸 수 있는 잘못된 뉴스 수 */
+    @Value("${batch.skip-limit:100}")
+    private int skipLimit;
+
+    private final DeepSearchFetchExecutor deepSearchFetchExecutor;
+    private final RestTemplate deepSearchRestTemplate;
+    private final DeepSearchPageDecoder deepSearchPageDecoder;
+    private final FailedPageService failedPageService;
+    private final NewsMonitoringManager newsMonitoringManager;
+    private final AdaptiveChunkMetrics adaptiveChunkMetrics;
+
     /**
      * 뉴스 저장 배치 Job 정의
      *
      * @param jobRepository Job Repository
-     * @param newsDataSaveStep 뉴스 저장 Step
-     * @param listener 배치 완료 후 리스너
+     * @param newsPartitionStep 섹션별 파티션 Manager Step
      * @return Job 인스턴스
      */
     @Bean
     public Job newsDataSaveJob(JobRepository jobRepository,
-                               Step newsDataSaveStep,
-                               BatchJobCompletionListener listener) {
+                               Step newsPartitionStep) {
         return new JobBuilder("newsDataSaveJob", jobRepository)
-                .start(newsDataSaveStep)
-                .listener(listener)
+                .start(newsPartitionStep)
+                .build();
+    }
+
+    /**
+     * 섹션 × 시간 구간 파티션 Manager Step 정의
+     *
+     * <p>{@link TimeWindowPartitioner}가 만든 구간 파티션을 {@code newsPartitionTaskExecutor}에 분배하여
+     * 워커 Step({@code newsDataSaveStep})을 병렬로 실행합니다.</p>
+     *
+     * @param jobRepository Job Repository
+     * @param newsDataSaveStep 구간 하나를 처리하는 워커 Step
+     * @param newsWindowPartitioner 섹션 × 시간 구간 Partitioner
+     * @param newsPartitionTaskExecutor 파티션 워커 스레드 풀
+     * @return Step 인스턴스
+     */
+    @Bean
+    public Step newsPartitionStep(JobRepository jobRepository,
+                                  Step newsDataSaveStep,
+                                  Partitioner newsWindowPartitioner,
+                                  TaskExecutor newsPartitionTaskExecutor) {
+
+        return new StepBuilder("newsPartitionStep", jobRepository)
+                .partitioner("newsDataSaveStep", newsWindowPartitioner)
+                .step(newsDataSaveStep)
+                .taskExecutor(newsPartitionTaskExecutor)
                 .build();
     }
 
+    /**
+     * 수집 기간을 섹션 × 시간 구간으로 나누는 Partitioner
+     *
+     * <p>Job 파라미터 {@code date_from}, {@code date_to}(yyyy-MM-dd, 양 끝 포함)로 기간을 받으며,
+     * 없으면 전날 하루를 수집합니다. 여러 날짜를 지정하면 백필로 동작합니다.
+     * {@code sections}(쉼표 구분)를 지정하면 해당 섹션만 수집합니다.</p>
+     *
+     * @param dateFrom 수집 시작 날짜 (Job 파라미터)
+     * @param dateTo 수집 종료 날짜 (Job 파라미터)
+     * @param sections 수집할 섹션 (Job 파라미터, 없으면 전체)
+     * @return Partitioner
+     */
+    @StepScope
+    @Bean
+    public Partitioner newsWindowPartitioner(@Value("#{jobParameters['date_from']}") String dateFrom,
+                                             @Value("#{jobParameters['date_to']}") String dateTo,
+                                             @Value("#{jobParameters['sections']}") String sections) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate from = dateFrom != null ? LocalDate.parse(dateFrom) : yesterday;
+        LocalDate to = dateTo != null ? LocalDate.parse(dateTo) : from;
+
+        return new TimeWindowPartitioner(newsMonitoringManager, deepSearchFetchExecutor,
+                sections != null ? sections.split(",") : TimeWindowPartitioner.SECTIONS, from, to);
+    }
+
+    /**
+     * 섹션 파티션 워커 스레드 풀
+     *
+     * <p>동시 실행 수는 {@code batch.partition.concurrency}로 조절하며,
+     * 초과된 파티션은 큐에서 대기하다가 앞선 구간이 끝나면 실행됩니다.
+     * 파티션 수가 수집 기간과 뉴스 양에 따라 달라지므로 큐 크기는 제한하지 않습니다.</p>
+     *
+     * @return TaskExecutor
+     */
+    @Bean
+    public TaskExecutor newsPartitionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partitionConcurrency);
+        executor.setMaxPoolSize(partitionConcurrency);
+        executor.setThreadNamePrefix("news-partition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * 뉴스 저장 Step 정의 (청크 단위 처리)
      *
+     * <p>잘못된 뉴스(필수 필드 누락, DB 제약 위반)는 섹션당 {@code batch.skip-limit}건까지 건너뜁니다.
+     * Writer에서 제약 위반이 나면 해당 청크를 한 건씩 다시 써서 문제 뉴스만 제외합니다.</p>
+     *
      * @param jobRepository Job Repository
      * @param transactionManager 트랜잭션 관리자
      * @param apiReader API Reader (뉴스 리스트)
      * @param newsProcessor DTO → Entity 변환 Processor
      * @param newsWriter DB 저장 Writer
+     * @param partitionStepListener 파티션별 소요 시간/건수 로깅 리스너
+     * @param newsChunkPolicy 목표 커밋 시간 기반 적응형 청크 크기 정책
      * @return Step 인스턴스
      */
     @Bean
     public Step newsDataSaveStep(JobRepository jobRepository,
                                  PlatformTransactionManager transactionManager,
-                                 ItemReader<NewsItemDTO> apiReader,
+                                 ItemStreamReader<NewsItemDTO> apiReader,
                                  ItemProcessor<NewsItemDTO, News> newsProcessor,
-                                 ItemWriter<News> newsWriter) {
+                                 ItemWriter<News> newsWriter,
+                                 PartitionStepListener partitionStepListener,
+                                 AdaptiveChunkPolicy newsChunkPolicy) {
 
         return new StepBuilder("newsDataSaveStep", jobRepository)
-                .<NewsItemDTO, News>chunk(10_000, transactionManager)  // 10000개씩 처리
+                .<NewsItemDTO, News>chunk(newsChunkPolicy, transactionManager)  // 커밋 시간에 맞춰 청크 크기 조정
                 .reader(apiReader)
                 .processor(newsProcessor)
                 .writer(newsWriter)
+                .faultTolerant()
+                .skipLimit(skipLimit)
+                .skip(IllegalArgumentException.class)           // Processor: 필수 필드 누락
+                .skip(DataIntegrityViolationException.class)    // Writer: 컬럼 길이 초과 등 (해당 뉴스만 제외)
+                .listener(partitionStepListener)
+                .listener((ChunkListener) newsChunkPolicy)
+                .listener((ItemWriteListener<News>) newsChunkPolicy)
                 .build();
     }
 
+    /**
+     * 섹션 파티션별 적응형 청크 크기 정책
+     *
+     * <p>청크마다 쓰기~커밋 시간을 측정해 {@code batch.chunk.target-commit-ms}에 맞도록 다음 청크 크기를 조정합니다.</p>
+     *
+     * @param section 섹션명 (파티션 ExecutionContext로 전달)
+     * @return AdaptiveChunkPolicy
+     */
+    @StepScope
+    @Bean
+    public AdaptiveChunkPolicy newsChunkPolicy(@Value("#{stepExecutionContext['section']}") String section) {
+        return new AdaptiveChunkPolicy("newsDataSaveStep", section, chunkInitialSize, chunkMinSize, chunkMaxSize,
+                chunkTargetCommitMillis, adaptiveChunkMetrics);
+    }
+
     /**
      * 외부 API Reader
      *
-     * <p>지정된 섹션과 날짜를 기준으로 뉴스 데이터를 모두 가져와서 ListItemReader로 반환합니다.</p>
+     * <p>파티션에 배정된 섹션/시간 구간의 뉴스 데이터를 한 페이지씩 가져오는 {@link DeepSearchPageReader}를 반환합니다.
+     * 다음 페이지들은 {@link DeepSearchFetchExecutor}를 통해 최대 {@code prefetchPages}개까지 동시에 미리 요청되며,
+     * Writer에는 항상 페이지 순서대로 전달됩니다. 읽은 위치는 Step ExecutionContext에 저장됩니다.</p>
+     *
+     * <p>구간의 뉴스 수는 {@link TimeWindowPartitioner}가 이미 조회했으므로, 첫 페이지를 따로 요청하지 않고 페이지 수를 계산합니다.</p>
+     *
+     * <p>일시적인 실패는 {@link DeepSearchFetchExecutor}가 재시도하고, 그래도 실패한 페이지는
+     * {@link FailedPageService}에 기록한 뒤 빈 페이지로 건너뛰므로 한 페이지 때문에 섹션 전체가 실패하지 않습니다.</p>
      *
-     * @param section 섹션명 (JobParameter로 전달)
-     * @return ItemReader
+     * @param section 섹션명 (파티션 ExecutionContext로 전달)
+     * @param dateFrom 구간 시작 (파티션 ExecutionContext로 전달)
+     * @param dateTo 구간 끝, 포함 (파티션 ExecutionContext로 전달)
+     * @param totalItems 구간의 뉴스 수 (파티션 ExecutionContext로 전달)
+     * @return ItemStreamReader
      */
     @StepScope
     @Bean
-    public ItemReader<NewsItemDTO> apiReader(
-            @Value("#{jobParameters['section']}") String section,
-            @Value("#{jobParameters['offset']}") Long offset
+    public ItemStreamReader<NewsItemDTO> apiReader(
+            @Value("#{stepExecutionContext['section']}") String section,
+            @Value("#{stepExecutionContext['dateFrom']}") String dateFrom,
+            @Value("#{stepExecutionContext['dateTo']}") String dateTo,
+            @Value("#{stepExecutionContext['totalItems']}") Integer totalItems
     ) {
-        // API에서 데이터를 모두 불러와서 ListItemReader로 반환
-        // ListItemReader가 이 데이터를 하나씩 읽어서 다음 단계로 전달
-
-        //하루 전날 날짜 구하기
-        LocalDate day = LocalDate.now().minusDays(1);
-
-        //원하는 포맷 지정
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-        //문자열로 변환
-        String dateTo = day.format(formatter);
-        String dateFrom = day.format(formatter);
-
         int pageSize = 100;
 
-        log.info("🔍 검색한 기간: {} ~ {}", dateFrom, dateTo);
-
-        NewsResponseDTO newsResponseDTO = getAPIResponse(1, section, pageSize, dateFrom, dateTo);
+        // 한 구간은 최대 MAX_ITEMS_PER_WINDOW건 = 100페이지 (마지막 부분 페이지 포함)
+        int totalPages = Math.min((totalItems + pageSize - 1) / pageSize, TimeWindowPartitioner.MAX_ITEMS_PER_WINDOW / pageSize);
 
-        //전체 페이지수 확인
-        //offset만큼 생략하기
-        //반복할 페이지 정하기
-        int totalPages = getTotalPagesOfResponse(newsResponseDTO, offset);
-
-        List<NewsItemDTO> newsList = new ArrayList<>();
-
-        for (int page = 1; page <= totalPages; page++) {
-            getNewsList(page, section, pageSize, dateFrom, dateTo, newsList);
-            if (newsList == null) {
-                log.warn("⚠️ [{}] Page {} 수집 실패 또는 빈 응답", section, page);
-            }
-        }
-
-        log.info("📦 [{}] 전체 뉴스 수: {}", section, newsList.size());
-        return new ListItemReader<>(newsList);
+        log.info("📦 [{}] {} ~ {} 뉴스 수: {} (요청할 페이지 수: {})", section, dateFrom, dateTo, totalItems, totalPages);
+        return new DeepSearchPageReader(section, totalPages,
+                page -> failedPageService.recoverPage(
+                        deepSearchFetchExecutor.submit(section + " p" + page,
+                                () -> getNewsList(page, section, pageSize, dateFrom, dateTo)),
+                        FailedPageService.SOURCE_DAILY, section, dateFrom, dateTo, page),
+                prefetchPages);
     }
 
     /**
      * 뉴스 DTO → Entity 변환 Processor
      *
-     * <p>섹션이 존재하지 않는 뉴스는 {@code null}을 반환하여 skip 처리합니다.</p>
+     * <p>섹션이 존재하지 않는 뉴스와 [속보] 뉴스는 {@code null}을 반환하여 필터링하고,
+     * 제목/URL/발행 시각이 없는 뉴스는 {@link IllegalArgumentException}으로 skip 처리합니다.
+     * 중복 판별용 {@code contentHash}를 함께 계산합니다.</p>
      *
      * @return ItemProcessor
      */
@@ -182,6 +312,14 @@ public class BatchConfig {
                 return null; // sections가 없으면 skip
             }
 
+            if (NewsDedupHelper.isBreakingNews(dto.getTitle())) {
+                return null; // [속보] 기사는 저장하지 않음
+            }
+
+            if (dto.getTitle() == null || dto.getContent_url() == null || dto.getPublished_at() == null) {
+                throw new IllegalArgumentException("필수 필드 누락 (url: " + dto.getContent_url() + ")"); // skip 대상
+            }
+
             return News.builder()
                     .title(dto.getTitle())
                     .summary(dto.getSummary())
@@ -190,6 +328,7 @@ public class BatchConfig {
                     .publishedAt(dto.getPublished_at())
                     .sections(dto.getSections().get(0)) // List → String
                     .send(false)
+                    .contentHash(NewsDedupHelper.contentHash(dto.getTitle(), dto.getPublisher(), dto.getPublished_at()))
                     .build();
         };
     }
@@ -197,7 +336,9 @@ public class BatchConfig {
     /**
      * 뉴스 DB 저장용 Writer (JDBC Batch 방식)
      *
-     * <p>{@code JdbcBatchItemWriter}를 사용하여 한 번에 10,000건의 데이터를 삽입합니다.</p>
+     * <p>{@code JdbcBatchItemWriter}를 사용하여 한 번에 10,000건의 데이터를 삽입합니다.
+     * {@code content_hash} 유니크 키가 이미 존재하면 아무것도 하지 않으므로(ON DUPLICATE KEY UPDATE id = id),
+     * 같은 청크를 다시 쓰거나 다른 섹션에서 같은 기사를 받아도 중복 행이 생기지 않습니다.</p>
      *
      * @param dataSource DataSource (DB 연결)
      * @return ItemWriter
@@ -207,9 +348,11 @@ public class BatchConfig {
         JdbcBatchItemWriter<News> writer = new JdbcBatchItemWriter<>();
         writer.setDataSource(dataSource);
         writer.setSql("""
-        INSERT INTO news (title, summary, content_url, published_at, send, sections, publisher)
-        VALUES (:title, :summary, :contentUrl, :publishedAt, :send, :sections, :publisher)
+        INSERT INTO news (title, summary, content_url, published_at, send, sections, publisher, content_hash)
+        VALUES (:title, :summary, :contentUrl, :publishedAt, :send, :sections, :publisher, :contentHash)
+        ON DUPLICATE KEY UPDATE id = id
     """);
+        writer.setAssertUpdates(false); // 중복 뉴스는 영향 행 수가 0이므로 검증 생략
 
         writer.setItemSqlParameterSourceProvider(new BeanPropertyItemSqlParameterSourceProvider<>());
         writer.afterPropertiesSet(); // 설정 검증 필수
@@ -218,18 +361,16 @@ public class BatchConfig {
     }
 
     /**
-     * API 응답 뉴스 데이터를 리스트에 적재
+     * 한 페이지의 API 응답 뉴스 데이터를 반환
      *
      * @param page 요청할 페이지 번호
      * @param section 섹션명
      * @param pageSize 페이지당 데이터 수
      * @param dateFrom 시작 날짜
      * @param dateTo 종료 날짜
-     * @param newsList 데이터를 담을 리스트
+     * @return 해당 페이지의 뉴스 리스트 (없으면 빈 리스트)
      */
-    private void getNewsList(int page, String section, int pageSize, String dateFrom, String dateTo, List<NewsItemDTO> newsList) {
-        RestTemplate restTemplate = new RestTemplate();
-
+    private List<NewsItemDTO> getNewsList(int page, String section, int pageSize, String dateFrom, String dateTo) {
         // 쿼리 파라미터 구성
         String url = UriComponentsBuilder.fromHttpUrl(API_URL)
                 .pathSegment(section)
@@ -246,60 +387,17 @@ public class BatchConfig {
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<NewsResponseDTO> response = restTemplate.exchange(
+        // 응답 본문을 스트리밍으로 바로 NewsItemDTO 목록으로 디코딩
+        DeepSearchPageDecoder.Page body = deepSearchRestTemplate.execute(
                 url,
                 HttpMethod.GET,
-                entity,
-                NewsResponseDTO.class
+                deepSearchRestTemplate.httpEntityCallback(entity),
+                deepSearchPageDecoder
         );
 
-        NewsResponseDTO body = response.getBody();
-
-        if (body != null && body.getData() != null) {
-            for (NewsItemDTO item : body.getData()) {
-                newsList.add(item);
-            }
+        if (body == null) {
+            return List.of();
         }
-
-    }
-
-    /**
-     * 총 페이지 수를 가져오는 메서드
-     *
-     * <p>page=1 요청을 통해 해당 조건에 대한 전체 페이지 수를 파악합니다.</p>
-     *
-     * @return 총 페이지 수
-     */
-    private NewsResponseDTO getAPIResponse(int page, String section, int pageSize, String dateFrom, String dateTo) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 쿼리 파라미터 구성
-        String url = UriComponentsBuilder.fromHttpUrl(API_URL)
-                .pathSegment(section)
-                .queryParam("page_size", pageSize)
-                .queryParam("date_to", dateTo)
-                .queryParam("date_from", dateFrom)
-                .queryParam("order", "published_at")
-                .queryParam("page", page)
-                .build()
-                .toUriString();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<NewsResponseDTO> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                NewsResponseDTO.class
-        );
-
-        return response.getBody();
-    }
-
-    private int getTotalPagesOfResponse(NewsResponseDTO newsResponseDTO, Long offset) {
-        return Math.min((int) (newsResponseDTO.getTotal_items() - (9000 * offset)) / 100 + 1, 100);
+        return body.items();
     }
 }
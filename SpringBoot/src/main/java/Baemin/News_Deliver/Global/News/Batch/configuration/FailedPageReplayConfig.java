@@ -0,0 +1,167 @@
+package Baemin.News_Deliver.Global.News.Batch.configuration;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import Baemin.News_Deliver.Global.News.Batch.entity.News;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchFetchExecutor;
+import Baemin.News_Deliver.Global.News.Batch.service.FailedPageService;
+import Baemin.News_Deliver.Global.News.Batch.service.FailedPageService.FailedPage;
+import Baemin.News_Deliver.Global.NewsMonitoring.Manager.NewsMonitoringManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 수집 실패 페이지 재수집 Job 설정
+ *
+ * <p>{@link FailedPageService}의 PENDING 페이지를 ID 순으로 하나씩 다시 요청하여,
+ * 정규 배치와 같은 Processor / Writer로 저장합니다. 페이지 하나가 하나의 트랜잭션입니다.</p>
+ *
+ * <ul>
+ *     <li>성공: 저장 후 DONE (content_hash 유니크 키로 이미 저장된 뉴스는 무시)</li>
+ *     <li>실패(요청 / 변환 / 저장): 시도 횟수 증가, 최대 횟수에 도달하면 DEAD. 이번 실행에서는 다음 페이지로 넘어감</li>
+ * </ul>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class FailedPageReplayConfig {
+
+    private static final String LAST_ID_KEY = "replay.lastId";
+
+    private final FailedPageService failedPageService;
+    private final DeepSearchFetchExecutor deepSearchFetchExecutor;
+    private final NewsMonitoringManager newsMonitoringManager;
+
+    /**
+     * 실패 페이지 재수집 Job
+     *
+     * @param jobRepository Job Repository
+     * @param failedPageReplayStep 재수집 Step
+     * @return Job 인스턴스
+     */
+    @Bean
+    public Job failedPageReplayJob(JobRepository jobRepository, Step failedPageReplayStep) {
+        return new JobBuilder("failedPageReplayJob", jobRepository)
+                .start(failedPageReplayStep)
+                .build();
+    }
+
+    /**
+     * 실패 페이지 재수집 Step
+     *
+     * @param jobRepository Job Repository
+     * @param transactionManager 트랜잭션 관리자 (페이지 단위 커밋)
+     * @param failedPageReplayTasklet 페이지 하나를 처리하는 Tasklet
+     * @return Step 인스턴스
+     */
+    @Bean
+    public Step failedPageReplayStep(JobRepository jobRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     Tasklet failedPageReplayTasklet) {
+        return new StepBuilder("failedPageReplayStep", jobRepository)
+                .tasklet(failedPageReplayTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 실행마다 PENDING 페이지를 하나씩 재수집하는 Tasklet
+     *
+     * <p>마지막으로 시도한 페이지 ID를 Step ExecutionContext에 저장하므로,
+     * 이번 실행에서 실패한 페이지를 다시 잡지 않고 Job 재시작 시에도 이어서 처리합니다.</p>
+     *
+     * <p>변환/저장은 savepoint(NESTED) 안에서 수행하므로, 실패하면 그 페이지의 저장만 되돌리고
+     * 실패 기록은 Step 트랜잭션과 함께 커밋됩니다. 계속 실패하는 페이지는 최대 횟수 후 DEAD가 되어 다시 잡히지 않습니다.</p>
+     *
+     * @param newsProcessor 정규 배치 Processor (DTO → Entity)
+     * @param newsWriter 정규 배치 Writer (중복 무시 INSERT)
+     * @param transactionManager 트랜잭션 관리자 (페이지 저장 savepoint)
+     * @return Tasklet
+     */
+    @Bean
+    public Tasklet failedPageReplayTasklet(ItemProcessor<NewsItemDTO, News> newsProcessor,
+                                           ItemWriter<News> newsWriter,
+                                           PlatformTransactionManager transactionManager) {
+        TransactionTemplate pageTransaction = new TransactionTemplate(transactionManager);
+        pageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long lastId = context.getLong(LAST_ID_KEY, 0L);
+
+            Optional<FailedPage> next = failedPageService.nextPending(lastId);
+            if (next.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            FailedPage page = next.get();
+            context.putLong(LAST_ID_KEY, page.id());
+
+            List<NewsItemDTO> items;
+            try {
+                items = deepSearchFetchExecutor.execute(page.section() + " p" + page.page() + " replay",
+                        () -> newsMonitoringManager.fetchPage(page.section(), page.dateFrom(), page.dateTo(), page.page()));
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [{}] {}페이지 재수집 실패 ({}회째): {}", page.section(), page.page(), page.attempts() + 1, e.getMessage());
+                failedPageService.markFailed(page.id(), e.getMessage());
+                return RepeatStatus.CONTINUABLE;
+            }
+
+            List<News> news = new ArrayList<>(items.size());
+            try {
+                pageTransaction.executeWithoutResult(status -> {
+                    try {
+                        for (NewsItemDTO item : items) {
+                            try {
+                                News processed = newsProcessor.process(item);
+                                if (processed != null) {
+                                    news.add(processed);
+                                }
+                            } catch (IllegalArgumentException e) {
+                                contribution.incrementProcessSkipCount();
+                            }
+                        }
+                        newsWriter.write(new Chunk<>(news));
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e.getMessage(), e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                Throwable cause = e instanceof IllegalStateException && e.getCause() != null ? e.getCause() : e;
+                log.warn("⚠️ [{}] {}페이지 재수집 저장 실패 ({}회째): {}", page.section(), page.page(), page.attempts() + 1, cause.getMessage());
+                failedPageService.markFailed(page.id(), cause.getMessage());
+                return RepeatStatus.CONTINUABLE;
+            }
+
+            contribution.incrementReadCount();
+            contribution.incrementWriteCount(news.size());
+            failedPageService.markDone(page.id());
+
+            log.info("✅ [{}] {}페이지 재수집 완료 ({} ~ {}, {}건)", page.section(), page.page(),
+                    page.dateFrom(), page.dateTo(), news.size());
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+}
@@ -1,25 +1,32 @@
 package Baemin.News_Deliver.Global.News.Batch.controller;
 
 import Baemin.News_Deliver.Global.News.Batch.service.BatchService;
+import Baemin.News_Deliver.Global.News.Batch.service.FailedPageReplayService;
+import Baemin.News_Deliver.Global.Scheduler.MidnightPipelineService;
+import Baemin.News_Deliver.Global.Scheduler.PipelineNodeStateService.NodeState;
+import Baemin.News_Deliver.Global.Scheduler.TaskSchedulerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
-import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
-import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class BatchController {
 
     private final BatchService batchService;
+    private final FailedPageReplayService failedPageReplayService;
+    private final MidnightPipelineService midnightPipelineService;
+    private final TaskSchedulerService taskSchedulerService;
 
     @Operation(
             summary = "배치 작업 실행",
@@ -27,15 +34,79 @@ public class BatchController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "성공적으로 배치 작업이 실행됨"),
+            @ApiResponse(responseCode = "409", description = "다른 인스턴스에서 파이프라인이 실행 중"),
             @ApiResponse(responseCode = "500", description = "배치 실행 중 오류 발생 (Job이 이미 실행 중이거나 완료됨)")
     })
     @GetMapping("/api/admin/batch")
-    public ResponseEntity<Void> runBatch()
-            throws JobInstanceAlreadyCompleteException,
-            JobExecutionAlreadyRunningException,
-            JobParametersInvalidException,
-            JobRestartException {
+    public ResponseEntity<Void> runBatch() throws Exception {
         batchService.runBatch();
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "뉴스 백필 실행",
+            description = "관리자 권한으로 지정한 날짜 범위(양 끝 포함)의 뉴스를 섹션 × 시간 구간 파티션으로 다시 수집합니다. 이미 저장된 뉴스는 무시됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "백필 작업이 완료됨"),
+            @ApiResponse(responseCode = "409", description = "다른 인스턴스에서 파이프라인이 실행 중"),
+            @ApiResponse(responseCode = "500", description = "배치 실행 중 오류 발생 (Job이 이미 실행 중이거나 날짜 범위가 잘못됨)")
+    })
+    @GetMapping("/api/admin/batch/backfill")
+    public ResponseEntity<Void> runBackfill(@RequestParam LocalDate from, @RequestParam LocalDate to) throws Exception {
+        batchService.runBackfill(from, to);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "실패 페이지 재수집 실행",
+            description = "관리자 권한으로 수집에 실패해 큐에 기록된 DeepSearch 페이지를 다시 수집합니다. 대기 페이지가 없으면 실행하지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "실행 시작 시점의 재수집 대기 페이지 수"),
+            @ApiResponse(responseCode = "409", description = "다른 인스턴스에서 재수집이 실행 중"),
+            @ApiResponse(responseCode = "500", description = "재수집 Job 실행 중 오류 발생")
+    })
+    @GetMapping("/api/admin/batch/failed-pages")
+    public ResponseEntity<Integer> replayFailedPages() throws Exception {
+        return ResponseEntity.ok(failedPageReplayService.replay());
+    }
+
+    @Operation(
+            summary = "자정 파이프라인 노드 상태 조회",
+            description = "관리자 권한으로 수집 날짜의 자정 파이프라인 노드별 상태(PENDING / RUNNING / DONE / FAILED / SKIPPED)를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "노드 이름별 상태")
+    })
+    @GetMapping("/api/admin/batch/pipeline")
+    public ResponseEntity<Map<String, NodeState>> getPipelineStatus(@RequestParam LocalDate date) {
+        return ResponseEntity.ok(midnightPipelineService.getStatus(date));
+    }
+
+    @Operation(
+            summary = "자정 파이프라인 노드 재실행",
+            description = "관리자 권한으로 완료되지 않은 노드(예: ingest:economy)와 아직 완료되지 않은 후속 노드를 다시 실행합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재실행 후 노드 이름별 상태"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 노드"),
+            @ApiResponse(responseCode = "409", description = "이미 완료된 노드이거나 다른 인스턴스에서 파이프라인이 실행 중")
+    })
+    @GetMapping("/api/admin/batch/pipeline/rerun")
+    public ResponseEntity<Map<String, NodeState>> rerunPipelineNode(@RequestParam LocalDate date, @RequestParam String node) throws Exception {
+        return ResponseEntity.ok(midnightPipelineService.rerun(date, node));
+    }
+
+    @Operation(
+            summary = "분 단위 전송 디스패처 상태 조회",
+            description = "관리자 권한으로 이 인스턴스의 전송 인덱스 크기(세팅 / 슬롯 수), 마지막 전송 시각, 지연되어 이어서 보낸 분 수를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "디스패처 상태")
+    })
+    @GetMapping("/api/admin/batch/delivery")
+    public ResponseEntity<Map<String, Object>> getDeliveryStatus() {
+        return ResponseEntity.ok(taskSchedulerService.getStatus());
+    }
+}
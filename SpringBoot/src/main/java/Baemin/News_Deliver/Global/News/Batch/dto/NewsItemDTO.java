@@ -1,5 +1,6 @@
 package Baemin.News_Deliver.Global.News.Batch.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -37,4 +38,9 @@ public class NewsItemDTO {
 
     @Schema(description = "뉴스 발행 일시 (KST 기준)", example = "2025-07-15T09:00:00")
     private LocalDateTime published_at;
+
+    /* 이미 수집된 뉴스 여부 (중간 배치 Reader가 페이지 단위로 표시, API 응답에는 없음) */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private boolean collected;
 }
\ No newline at end of file
@@ -38,4 +38,8 @@ public class News {
 
     @Column(nullable = false, length = 255)
     private String publisher;
+
+    /* 정규화된 title + publisher + 발행일의 SHA-256 (발행일 단위 중복 방지 유니크 키, NewsDedupHelper 참고) */
+    @Column(name = "content_hash", nullable = false, length = 64, unique = true)
+    private String contentHash;
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package Baemin.News_Deliver.Global.News.Batch.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * 뉴스 중복 판별 Helper
+ *
+ * <p>news 테이블의 {@code content_hash} 유니크 키에 저장할 해시를 계산하고,
+ * 저장하지 않을 뉴스(속보)를 판별합니다.</p>
+ *
+ * <p>해시 규칙 (database/alter_news_content_hash.sql의 백필 SQL과 동일해야 함):</p>
+ * <ul>
+ *     <li>title, publisher 각각 공백 연속 → 공백 1개, 앞뒤 공백 제거, 소문자 변환</li>
+ *     <li>{@code 정규화된 title + 0x1F(Unit Separator) + 정규화된 publisher + 0x1F + 발행일(yyyy-MM-dd)}의 SHA-256 (소문자 hex 64자)</li>
+ * </ul>
+ *
+ * <p>중복 범위는 발행일 하루입니다. 같은 언론사가 매일 같은 제목으로 내는 기사(날씨, 시황, 고정 칼럼 등)는
+ * 날짜가 다르면 다른 뉴스로 저장됩니다.</p>
+ *
+ * @author 김원중
+ */
+public class NewsDedupHelper {
+
+    private static final String BREAKING_NEWS_TAG = "[속보]";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private NewsDedupHelper() {
+    }
+
+    /**
+     * 제목, 언론사, 발행일로 중복 판별용 해시 계산
+     *
+     * @param title 기사 제목
+     * @param publisher 언론사
+     * @param publishedAt 발행 시각 (날짜만 사용, null이면 빈 값)
+     * @return SHA-256 hex 문자열 (64자)
+     */
+    public static String contentHash(String title, String publisher, LocalDateTime publishedAt) {
+        String key = normalize(title) + FIELD_SEPARATOR + normalize(publisher) + FIELD_SEPARATOR
+                + (publishedAt == null ? "" : publishedAt.toLocalDate().format(DATE_FORMAT));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    /**
+     * 속보 기사 여부 ("[속보]" 태그 포함) - 속보는 저장 대상에서 제외
+     *
+     * @param title 기사 제목
+     * @return 속보이면 true
+     */
+    public static boolean isBreakingNews(String title) {
+        return title != null && title.contains(BREAKING_NEWS_TAG);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("(?U)\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,85 @@
+package Baemin.News_Deliver.Global.News.Batch.listener;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 적응형 청크 크기 지표 저장소
+ *
+ * <p>{@link AdaptiveChunkPolicy}가 청크를 커밋할 때마다 Step/섹션별로 청크 크기와 커밋 시간을 기록합니다.
+ * 수집 처리량(청크 크기)과 조회 지연(커밋 시간 = news 테이블 잠금 시간)의 균형을 확인하는 용도이며,
+ * {@code /monitoring/test/batch/chunk}에서 조회할 수 있습니다.</p>
+ *
+ * @author 김원중
+ */
+@Component
+public class AdaptiveChunkMetrics {
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    private static final class Stats {
+        private long chunks;
+        private long rollbacks;
+        private long items;
+        private long totalCommitMillis;
+        private long maxCommitMillis;
+        private long lastCommitMillis;
+        private int lastChunkSize;
+        private int nextChunkSize;
+    }
+
+    void record(String stepName, String section, int chunkSize, long commitMillis, int nextChunkSize) {
+        Stats s = stats.computeIfAbsent(key(stepName, section), k -> new Stats());
+        synchronized (s) {
+            s.chunks++;
+            s.items += chunkSize;
+            s.totalCommitMillis += commitMillis;
+            s.maxCommitMillis = Math.max(s.maxCommitMillis, commitMillis);
+            s.lastCommitMillis = commitMillis;
+            s.lastChunkSize = chunkSize;
+            s.nextChunkSize = nextChunkSize;
+        }
+    }
+
+    void recordRollback(String stepName, String section, int nextChunkSize) {
+        Stats s = stats.computeIfAbsent(key(stepName, section), k -> new Stats());
+        synchronized (s) {
+            s.rollbacks++;
+            s.nextChunkSize = nextChunkSize;
+        }
+    }
+
+    /**
+     * Step/섹션별 청크 지표 조회
+     *
+     * @return "step:section" → chunks / rollbacks / avgChunkSize / lastChunkSize / nextChunkSize / avgCommitMs / maxCommitMs / lastCommitMs
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Stats s = entry.getValue();
+                    synchronized (s) {
+                        Map<String, Object> values = new LinkedHashMap<>();
+                        values.put("chunks", s.chunks);
+                        values.put("rollbacks", s.rollbacks);
+                        values.put("avgChunkSize", s.chunks == 0 ? 0 : s.items / s.chunks);
+                        values.put("lastChunkSize", s.lastChunkSize);
+                        values.put("nextChunkSize", s.nextChunkSize);
+                        values.put("avgCommitMs", s.chunks == 0 ? 0 : s.totalCommitMillis / s.chunks);
+                        values.put("maxCommitMs", s.maxCommitMillis);
+                        values.put("lastCommitMs", s.lastCommitMillis);
+                        result.put(entry.getKey(), values);
+                    }
+                });
+        return result;
+    }
+
+    private static String key(String stepName, String section) {
+        return stepName + ":" + section;
+    }
+}
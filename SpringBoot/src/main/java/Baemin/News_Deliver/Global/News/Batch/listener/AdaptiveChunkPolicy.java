@@ -0,0 +1,119 @@
+package Baemin.News_Deliver.Global.News.Batch.listener;
+
+import Baemin.News_Deliver.Global.News.Batch.entity.News;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+
+/**
+ * 목표 트랜잭션 시간 기반 적응형 청크 크기 정책
+ *
+ * <p>고정 {@code chunk(10_000)} 대신, 청크마다 "Writer 시작 ~ 커밋 완료" 시간을 측정해
+ * 다음 청크 크기를 {@code 목표 시간 / 건당 쓰기 시간}으로 조정합니다.
+ * 작은 섹션은 거대한 트랜잭션 하나로 끝나지 않고, 큰 섹션은 news 테이블 잠금을 목표 시간 이상 잡지 않습니다.</p>
+ *
+ * <ul>
+ *     <li>건당 쓰기 시간은 EWMA(가중 이동 평균)로 평활화</li>
+ *     <li>한 번에 최대 2배까지만 증가 (DB가 여유 있을 때 천천히 늘림)</li>
+ *     <li>청크가 목표 시간의 1.5배를 넘거나 롤백되면 즉시 절반으로 감소 (DB 지연 상승 시 빠르게 후퇴)</li>
+ *     <li>크기는 항상 {@code [minSize, maxSize]} 범위로 제한</li>
+ * </ul>
+ *
+ * <p>{@link SimpleCompletionPolicy}는 청크 완료 여부를 판단할 때 현재 {@code chunkSize}를 읽으므로,
+ * 커밋 후 {@link #setChunkSize}로 바꾼 값이 바로 다음 청크부터 적용됩니다.
+ * 파티션(섹션)마다 별도 인스턴스를 사용해야 하므로 Step Scope 빈으로 등록합니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+public class AdaptiveChunkPolicy extends SimpleCompletionPolicy implements ChunkListener, ItemWriteListener<News> {
+
+    private static final double EWMA_ALPHA = 0.3;
+    private static final double BACKOFF_THRESHOLD = 1.5;
+
+    private final String stepName;
+    private final String section;
+    private final int minSize;
+    private final int maxSize;
+    private final long targetCommitMillis;
+    private final AdaptiveChunkMetrics metrics;
+
+    private long writeStartNanos;
+    private int writtenItems;
+    private double millisPerItem = -1;
+
+    public AdaptiveChunkPolicy(String stepName, String section, int initialSize, int minSize, int maxSize,
+                               long targetCommitMillis, AdaptiveChunkMetrics metrics) {
+        super(clamp(initialSize, minSize, maxSize));
+        this.stepName = stepName;
+        this.section = section;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetCommitMillis = targetCommitMillis;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        writeStartNanos = 0;
+        writtenItems = 0;
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends News> items) {
+        writeStartNanos = System.nanoTime();
+        writtenItems = items.size();
+    }
+
+    /* 트랜잭션 커밋 이후 호출 */
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (writeStartNanos == 0 || writtenItems == 0) {
+            return; // 모두 필터링된 청크는 측정하지 않음
+        }
+
+        adjust(Math.max(1, (System.nanoTime() - writeStartNanos) / 1_000_000), writtenItems);
+    }
+
+    /**
+     * 커밋된 청크의 측정값으로 다음 청크 크기 결정
+     *
+     * @param commitMillis Writer 시작 ~ 커밋 완료 시간
+     * @param writtenItems 청크에서 쓴 건수
+     */
+    void adjust(long commitMillis, int writtenItems) {
+        double sample = (double) commitMillis / writtenItems;
+        millisPerItem = millisPerItem < 0 ? sample : EWMA_ALPHA * sample + (1 - EWMA_ALPHA) * millisPerItem;
+
+        int current = getChunkSize();
+        int next;
+        if (commitMillis > targetCommitMillis * BACKOFF_THRESHOLD) {
+            next = current / 2;
+        } else {
+            next = (int) Math.min((long) current * 2, Math.round(targetCommitMillis / millisPerItem));
+        }
+        next = clamp(next, minSize, maxSize);
+        setChunkSize(next);
+
+        metrics.record(stepName, section, writtenItems, commitMillis, next);
+        if (next != current) {
+            log.debug("📏 [{}] 청크 크기 {} → {} (커밋 {}ms / {}건, 건당 {}ms)",
+                    section, current, next, commitMillis, writtenItems, String.format("%.3f", millisPerItem));
+        }
+    }
+
+    /* 롤백된 청크: 다음 청크는 절반 크기로 */
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        int next = clamp(getChunkSize() / 2, minSize, maxSize);
+        setChunkSize(next);
+        metrics.recordRollback(stepName, section, next);
+    }
+
+    private static int clamp(int size, int min, int max) {
+        return Math.max(min, Math.min(max, size));
+    }
+}
@@ -0,0 +1,49 @@
+package Baemin.News_Deliver.Global.News.Batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 섹션 × 시간 구간 파티션(워커 Step) 실행 결과 리스너
+ *
+ * <p>각 파티션이 끝날 때마다 소요 시간과 읽기/필터/쓰기 건수를 로그로 남깁니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Component
+public class PartitionStepListener implements StepExecutionListener {
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        log.info("▶️ [{}] {} 파티션 시작 (thread: {})",
+                stepExecution.getExecutionContext().getString("section", stepExecution.getStepName()),
+                stepExecution.getExecutionContext().getString("dateFrom", ""),
+                Thread.currentThread().getName());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String section = stepExecution.getExecutionContext().getString("section", stepExecution.getStepName());
+        LocalDateTime start = stepExecution.getStartTime();
+        long elapsed = start != null ? Duration.between(start, LocalDateTime.now()).toMillis() : -1;
+
+        log.info("⏱️ [{}] {} 파티션 완료 - 상태: {}, 소요 시간: {}ms, read: {}, filter: {}, write: {}, skip: {}",
+                section,
+                stepExecution.getExecutionContext().getString("dateFrom", ""),
+                stepExecution.getStatus(),
+                elapsed,
+                stepExecution.getReadCount(),
+                stepExecution.getFilterCount(),
+                stepExecution.getWriteCount(),
+                stepExecution.getSkipCount());
+
+        return stepExecution.getExitStatus();
+    }
+}
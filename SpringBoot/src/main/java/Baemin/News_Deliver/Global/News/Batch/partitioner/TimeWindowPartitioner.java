@@ -0,0 +1,247 @@
+package Baemin.News_Deliver.Global.News.Batch.partitioner;
+
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchFetchExecutor;
+import Baemin.News_Deliver.Global.NewsMonitoring.Manager.NewsMonitoringManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 뉴스 섹션 × 시간 구간 Partitioner
+ *
+ * <p>{@code [dateFrom, dateTo]} 기간을 섹션별로 시간 구간(window)으로 나누어, 구간 하나를 파티션 하나로 병렬 수집합니다.
+ * DeepSearch는 한 조회에 최대 100페이지(페이지당 100건)만 돌려주므로, 구간의 뉴스 수가
+ * {@value #MAX_ITEMS_PER_WINDOW}건을 넘으면 더 작은 구간으로 나눕니다.</p>
+ *
+ * 구간 분할 순서:
+ * <ol>
+ *     <li>섹션별로 전체 기간을 한 구간으로 시작</li>
+ *     <li>상한을 넘는 구간 중 하루보다 긴 구간은 일 단위로 분할</li>
+ *     <li>하루 이하이고 1시간보다 긴 구간은 1시간 단위로 분할</li>
+ *     <li>1시간 이하 구간은 절반씩 분할 (최소 {@code 1분})</li>
+ * </ol>
+ *
+ * <p>같은 단계의 구간 뉴스 수 조회는 {@link DeepSearchFetchExecutor}로 동시에 요청합니다(초당 요청 수 제한, 재시도 적용).
+ * 뉴스가 없는 구간은 파티션을 만들지 않습니다. 하루치 정규 배치와 여러 날짜의 백필이 같은 Partitioner를 사용하고,
+ * 중간 배치(모니터링)는 같은 분할 규칙({@link #countWindows})으로 나눈 구간을 한 Step에서 차례로 읽습니다.</p>
+ *
+ * 각 파티션의 {@link ExecutionContext}에는 다음 값이 저장됩니다:
+ * <ul>
+ *     <li>{@code section}: 수집할 뉴스 섹션명</li>
+ *     <li>{@code dateFrom}, {@code dateTo}: DeepSearch 조회 구간 ({@code yyyy-MM-dd'T'HH:mm:ss}, 양 끝 포함)</li>
+ *     <li>{@code totalItems}: 구간의 뉴스 수 (Reader가 요청할 페이지 수 계산에 사용)</li>
+ * </ul>
+ *
+ * @author 김원중
+ */
+@Slf4j
+public class TimeWindowPartitioner implements Partitioner {
+
+    /** 처리할 섹션 목록 */
+    public static final String[] SECTIONS = {
+            "politics", "economy", "society", "culture", "tech", "entertainment", "opinion"
+    };
+
+    /** DeepSearch 한 조회의 최대 수집 건수 (page_size 100 × 최대 100페이지) */
+    public static final int MAX_ITEMS_PER_WINDOW = 100 * 100;
+
+    private static final Duration MIN_WINDOW = Duration.ofMinutes(1);
+    private static final DateTimeFormatter PARAM_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final NewsMonitoringManager newsMonitoringManager;
+    private final DeepSearchFetchExecutor deepSearchFetchExecutor;
+    private final String[] sections;
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+
+    /**
+     * @param newsMonitoringManager 구간별 뉴스 수 조회
+     * @param deepSearchFetchExecutor 뉴스 수 조회 동시 실행기
+     * @param sections 수집할 섹션 (기본: {@link #SECTIONS} 전체, 자정 파이프라인은 섹션 하나씩)
+     * @param dateFrom 수집 시작 날짜 (포함)
+     * @param dateTo 수집 종료 날짜 (포함)
+     */
+    public TimeWindowPartitioner(NewsMonitoringManager newsMonitoringManager,
+                                 DeepSearchFetchExecutor deepSearchFetchExecutor,
+                                 String[] sections, LocalDate dateFrom, LocalDate dateTo) {
+        if (dateTo.isBefore(dateFrom)) {
+            throw new IllegalArgumentException("date_to(" + dateTo + ")가 date_from(" + dateFrom + ")보다 앞섭니다.");
+        }
+        this.newsMonitoringManager = newsMonitoringManager;
+        this.deepSearchFetchExecutor = deepSearchFetchExecutor;
+        this.sections = sections;
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+    }
+
+    /**
+     * 뉴스 수를 확인한 조회 구간
+     *
+     * @param section 섹션
+     * @param dateFrom DeepSearch date_from ({@code yyyy-MM-dd'T'HH:mm:ss}, 포함)
+     * @param dateTo DeepSearch date_to ({@code yyyy-MM-dd'T'HH:mm:ss}, 포함)
+     * @param totalItems 구간의 뉴스 수
+     */
+    public record WindowCount(String section, String dateFrom, String dateTo, int totalItems) {
+
+        /** 최소 구간에서도 상한을 넘어 앞 {@value #MAX_ITEMS_PER_WINDOW}건만 수집할 수 있는 구간인지 */
+        public boolean truncated() {
+            return totalItems > MAX_ITEMS_PER_WINDOW;
+        }
+
+        /** 요청할 페이지 수 (페이지당 100건, 최대 100페이지) */
+        public int pages() {
+            return (Math.min(totalItems, MAX_ITEMS_PER_WINDOW) + 99) / 100;
+        }
+    }
+
+    /**
+     * 섹션별 시간 구간 [start, end)
+     */
+    record Window(String section, LocalDateTime start, LocalDateTime end) {
+
+        String dateFromParam() {
+            return start.format(PARAM_FORMAT);
+        }
+
+        /* DeepSearch date_to는 포함 범위이므로 다음 구간과 겹치지 않도록 1초 앞까지 */
+        String dateToParam() {
+            return end.minusSeconds(1).format(PARAM_FORMAT);
+        }
+
+        Duration length() {
+            return Duration.between(start, end);
+        }
+
+        List<Window> split() {
+            Duration step;
+            if (length().compareTo(Duration.ofDays(1)) > 0) {
+                step = Duration.ofDays(1);
+            } else if (length().compareTo(Duration.ofHours(1)) > 0) {
+                step = Duration.ofHours(1);
+            } else {
+                step = Duration.ofSeconds((length().getSeconds() + 1) / 2); // DeepSearch 파라미터가 초 단위이므로 초 단위로 절반
+            }
+
+            List<Window> windows = new ArrayList<>();
+            for (LocalDateTime cursor = start; cursor.isBefore(end); cursor = cursor.plus(step)) {
+                LocalDateTime next = cursor.plus(step);
+                windows.add(new Window(section, cursor, next.isAfter(end) ? end : next));
+            }
+            return windows;
+        }
+    }
+
+    /**
+     * 섹션 × 시간 구간 파티션 생성
+     *
+     * @param gridSize 요청된 파티션 수 (구간 수는 뉴스 양으로 결정되므로 사용하지 않음)
+     * @return 파티션 이름 → ExecutionContext
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long start = System.nanoTime();
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        long totalItems = 0;
+
+        List<Window> initial = new ArrayList<>();
+        for (String section : sections) {
+            initial.add(new Window(section, dateFrom.atStartOfDay(), dateTo.plusDays(1).atStartOfDay()));
+        }
+
+        for (WindowCount window : refine(initial, counter(newsMonitoringManager, deepSearchFetchExecutor))) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString("section", window.section());
+            context.putString("dateFrom", window.dateFrom());
+            context.putString("dateTo", window.dateTo());
+            context.putInt("totalItems", window.totalItems());
+            partitions.put("window:" + window.section() + ":" + window.dateFrom(), context);
+            totalItems += window.totalItems();
+        }
+
+        log.info("📦 시간 구간 파티션 생성 완료: {} ~ {}, {}개 파티션, 뉴스 {}건 ({}ms)",
+                dateFrom, dateTo, partitions.size(), totalItems, (System.nanoTime() - start) / 1_000_000);
+        return partitions;
+    }
+
+    /**
+     * 한 섹션의 [start, end) 구간을 파티션과 같은 규칙으로 나누고 구간별 뉴스 수 확인 (중간 배치용)
+     *
+     * @param newsMonitoringManager 구간별 뉴스 수 조회
+     * @param deepSearchFetchExecutor 뉴스 수 조회 동시 실행기
+     * @param section 섹션
+     * @param start 구간 시작 (포함)
+     * @param end 구간 끝 (제외)
+     * @return 뉴스가 있는 구간 (시간순)
+     */
+    public static List<WindowCount> countWindows(NewsMonitoringManager newsMonitoringManager,
+                                                 DeepSearchFetchExecutor deepSearchFetchExecutor,
+                                                 String section, LocalDateTime start, LocalDateTime end) {
+        List<WindowCount> windows = refine(List.of(new Window(section, start, end)),
+                counter(newsMonitoringManager, deepSearchFetchExecutor));
+        windows.sort(Comparator.comparing(WindowCount::dateFrom));
+        return windows;
+    }
+
+    /**
+     * 구간 분할: 뉴스 수가 상한을 넘는 구간은 {@link Window#split()}으로 나눠 다시 확인 (같은 단계의 구간은 동시에 확인)
+     *
+     * @param initial 처음 구간
+     * @param counter 구간의 뉴스 수 조회
+     * @return 뉴스가 있는 구간
+     */
+    static List<WindowCount> refine(List<Window> initial, Function<Window, CompletableFuture<Integer>> counter) {
+        List<WindowCount> counted = new ArrayList<>();
+        List<Window> pending = initial;
+        int probes = 0;
+
+        while (!pending.isEmpty()) {
+            List<CompletableFuture<Integer>> counts = new ArrayList<>(pending.size());
+            for (Window window : pending) {
+                counts.add(counter.apply(window));
+            }
+            probes += pending.size();
+
+            List<Window> oversized = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                Window window = pending.get(i);
+                int total = counts.get(i).join();
+
+                if (total == 0) {
+                    continue;
+                }
+                if (total > MAX_ITEMS_PER_WINDOW && window.length().compareTo(MIN_WINDOW) > 0) {
+                    oversized.addAll(window.split());
+                    continue;
+                }
+                if (total > MAX_ITEMS_PER_WINDOW) {
+                    log.warn("⚠️ [{}] {} ~ {} 구간이 최소 구간에서도 {}건 → 앞 {}건만 수집",
+                            window.section(), window.dateFromParam(), window.dateToParam(), total, MAX_ITEMS_PER_WINDOW);
+                }
+                counted.add(new WindowCount(window.section(), window.dateFromParam(), window.dateToParam(), total));
+            }
+            pending = oversized;
+        }
+
+        log.debug("구간 분할 완료: {}개 구간 (구간 조회 {}회)", counted.size(), probes);
+        return counted;
+    }
+
+    private static Function<Window, CompletableFuture<Integer>> counter(NewsMonitoringManager newsMonitoringManager,
+                                                                       DeepSearchFetchExecutor deepSearchFetchExecutor) {
+        return window -> deepSearchFetchExecutor.submit(window.section() + " " + window.dateFromParam() + " total",
+                () -> newsMonitoringManager.fetchTotalItems(window.section(), window.dateFromParam(), window.dateToParam()));
+    }
+}
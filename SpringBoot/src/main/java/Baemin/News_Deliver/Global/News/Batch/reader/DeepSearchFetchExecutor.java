@@ -0,0 +1,177 @@
+package Baemin.News_Deliver.Global.News.Batch.reader;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * DeepSearch API 동시 요청 실행기
+ *
+ * <p>DeepSearch 페이지 요청을 고정 크기 스레드 풀에서 동시에 실행하되,
+ * API 쿼터를 넘지 않도록 다음 두 가지 제한을 함께 적용합니다.</p>
+ *
+ * <ul>
+ *     <li>최대 동시 요청 수: {@code deepsearch.fetch.max-in-flight} (스레드 풀 크기)</li>
+ *     <li>초당 요청 수: {@code deepsearch.fetch.requests-per-second} (요청 시작 간격을 균등하게 배분)</li>
+ * </ul>
+ *
+ * <p>모든 섹션 파티션이 하나의 실행기를 공유하므로, 파티션 수와 관계없이 전체 요청량이 위 한도로 제한됩니다.</p>
+ *
+ * <p>일시적인 실패(429, 5xx, 타임아웃 등 I/O 오류)는 지수 백오프 + 지터로 최대 {@code deepsearch.fetch.retry.max-attempts}회까지
+ * 재시도합니다. 429 응답에 {@code Retry-After} 헤더가 있으면 그보다 먼저 재시도하지 않으며,
+ * 재시도도 초당 요청 수 제한을 다시 통과합니다. 그 외 4xx 등 영구적인 실패는 바로 예외를 던집니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Component
+public class DeepSearchFetchExecutor {
+
+    private final ExecutorService executor;
+    private final long intervalNanos;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private long nextPermitNanos = System.nanoTime();
+
+    public DeepSearchFetchExecutor(@Value("${deepsearch.fetch.max-in-flight:4}") int maxInFlight,
+                                   @Value("${deepsearch.fetch.requests-per-second:5}") double requestsPerSecond,
+                                   @Value("${deepsearch.fetch.retry.max-attempts:4}") int maxAttempts,
+                                   @Value("${deepsearch.fetch.retry.initial-backoff-ms:500}") long initialBackoffMillis,
+                                   @Value("${deepsearch.fetch.retry.max-backoff-ms:8000}") long maxBackoffMillis) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+            Thread thread = new Thread(runnable, "deepsearch-fetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (1_000_000_000L / requestsPerSecond) : 0L;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        log.info("DeepSearch 요청 실행기 생성: maxInFlight={}, requestsPerSecond={}, maxAttempts={}",
+                maxInFlight, requestsPerSecond, this.maxAttempts);
+    }
+
+    /**
+     * 요청을 비동기로 실행
+     *
+     * <p>작업 스레드에서 초당 요청 수 제한을 통과한 뒤 {@code request}를 실행하며, 일시적인 실패는 재시도합니다.</p>
+     *
+     * @param label 로그용 요청 구분자 (예: "economy p3")
+     * @param request 실행할 요청
+     * @return 요청 결과 Future (재시도 후에도 실패하면 마지막 예외로 완료)
+     */
+    public <T> CompletableFuture<T> submit(String label, Supplier<T> request) {
+        return CompletableFuture.supplyAsync(() -> execute(label, request), executor);
+    }
+
+    /**
+     * 요청을 호출한 스레드에서 실행 (초당 요청 수 제한 + 재시도 적용)
+     *
+     * @param label 로그용 요청 구분자
+     * @param request 실행할 요청
+     * @return 요청 결과
+     */
+    public <T> T execute(String label, Supplier<T> request) {
+        for (int attempt = 1; ; attempt++) {
+            acquirePermit();
+            try {
+                return request.get();
+            } catch (RuntimeException e) {
+                if (!isTransient(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                long backoff = backoffMillis(attempt, e);
+                log.warn("🔁 [{}] DeepSearch 요청 실패 ({}/{}) → {}ms 후 재시도: {}",
+                        label, attempt, maxAttempts, backoff, e.getMessage());
+                if (!sleep(backoff)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 재시도할 수 있는 실패인지 판단 (429, 5xx, I/O 오류)
+     */
+    static boolean isTransient(Throwable e) {
+        if (e instanceof RestClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return e instanceof ResourceAccessException;
+    }
+
+    /**
+     * 지수 백오프 + 지터: [상한/2, 상한] 범위의 임의 시간, 상한 = min(max, initial * 2^(attempt-1))
+     * 429의 Retry-After(초)가 더 길면 그 시간을 따름
+     */
+    private long backoffMillis(int attempt, RuntimeException e) {
+        long cap = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        long backoff = ThreadLocalRandom.current().nextLong(cap / 2, cap + 1);
+
+        if (e instanceof RestClientResponseException response && response.getResponseHeaders() != null) {
+            String retryAfter = response.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null && retryAfter.chars().allMatch(Character::isDigit)) {
+                backoff = Math.max(backoff, Long.parseLong(retryAfter) * 1000);
+            }
+        }
+        return backoff;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 초당 요청 수 제한
+     *
+     * <p>다음 요청 가능 시각을 예약한 뒤, 해당 시각까지 대기합니다.</p>
+     */
+    private void acquirePermit() {
+        if (intervalNanos == 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitAt + intervalNanos;
+            waitNanos = permitAt - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,241 @@
+package Baemin.News_Deliver.Global.News.Batch.reader;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DeepSearch 응답 스트리밍 디코더
+ *
+ * <p>응답 본문을 {@link JsonParser}로 토큰 단위로 읽으면서 {@code data} 배열의 뉴스를 바로 {@link NewsItemDTO}로 만듭니다.
+ * 응답 전체를 {@code NewsResponseDTO} 객체 그래프로 바인딩하지 않으며, 사용하지 않는 필드(이미지, ESG, 기업 정보 등)는
+ * 객체를 만들지 않고 건너뜁니다. 결과 목록은 그대로 {@link DeepSearchPageReader}의 페이지 버퍼가 됩니다.</p>
+ *
+ * 할당을 줄이기 위해 다음을 재사용합니다:
+ * <ul>
+ *     <li>파서 읽기 버퍼: {@link JsonFactory}의 스레드별 버퍼 재사용 풀 (요청 스레드마다 같은 버퍼 사용)</li>
+ *     <li>필드 이름: {@link JsonFactory}의 필드명 정규화 (응답마다 새 문자열을 만들지 않음)</li>
+ *     <li>섹션명 / 언론사명: 스레드별 문자열 풀 (파서 문자 버퍼에서 바로 조회, 같은 값이면 기존 문자열 반환)</li>
+ * </ul>
+ *
+ * <p>{@code published_at}을 해석할 수 없는 뉴스는 페이지 전체를 실패시키지 않고 {@code null}로 두어,
+ * Processor의 필수 필드 검증에서 skip 처리되도록 합니다.</p>
+ *
+ * @author 김원중
+ */
+@Component
+public class DeepSearchPageDecoder implements ResponseExtractor<DeepSearchPageDecoder.Page> {
+
+    /** 스레드별 버퍼 재사용 풀을 쓰는 공용 팩토리 (스레드 안전) */
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .recyclerPool(JsonRecyclerPools.threadLocalPool())
+            .build();
+
+    private static final ThreadLocal<StringPool> STRING_POOL = ThreadLocal.withInitial(StringPool::new);
+
+    /** DeepSearch 기본 page_size (결과 목록 초기 용량) */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * 디코딩된 DeepSearch 응답 한 페이지
+     *
+     * @param totalItems 조회 구간의 전체 뉴스 수
+     * @param items 이 페이지의 뉴스 목록 (없으면 빈 List)
+     */
+    public record Page(int totalItems, List<NewsItemDTO> items) {
+    }
+
+    @Override
+    public Page extractData(ClientHttpResponse response) throws IOException {
+        return decode(response.getBody());
+    }
+
+    /**
+     * 응답 본문을 읽어 페이지로 디코딩
+     *
+     * @param body 응답 본문 스트림 (호출자가 닫음)
+     * @return 디코딩된 페이지
+     * @throws IOException 읽기 실패 또는 JSON 형식 오류
+     */
+    public Page decode(InputStream body) throws IOException {
+        StringPool pool = STRING_POOL.get();
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "DeepSearch 응답이 JSON 객체가 아닙니다.");
+            }
+
+            int totalItems = 0;
+            List<NewsItemDTO> items = List.of();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "total_items" -> totalItems = value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : 0;
+                    case "data" -> items = readItems(parser, value, pool);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new Page(totalItems, items);
+        }
+    }
+
+    private List<NewsItemDTO> readItems(JsonParser parser, JsonToken value, StringPool pool) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+
+        List<NewsItemDTO> items = new ArrayList<>(DEFAULT_PAGE_SIZE);
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                items.add(readItem(parser, pool));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return items;
+    }
+
+    private NewsItemDTO readItem(JsonParser parser, StringPool pool) throws IOException {
+        NewsItemDTO item = new NewsItemDTO();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "id" -> item.setId(text(parser, value));
+                case "sections" -> item.setSections(readSections(parser, value, pool));
+                case "title" -> item.setTitle(text(parser, value));
+                case "publisher" -> item.setPublisher(pooled(parser, value, pool));
+                case "summary" -> item.setSummary(text(parser, value));
+                case "content_url" -> item.setContent_url(text(parser, value));
+                case "published_at" -> item.setPublished_at(dateTime(text(parser, value)));
+                default -> parser.skipChildren();
+            }
+        }
+        return item;
+    }
+
+    /* 대부분 섹션이 하나이므로 불변 단일 원소 List로 반환 */
+    private List<String> readSections(JsonParser parser, JsonToken value, StringPool pool) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            String single = pooled(parser, value, pool);
+            return single != null ? List.of(single) : null;
+        }
+
+        String first = null;
+        List<String> sections = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            String section = pooled(parser, token, pool);
+            if (section == null) {
+                continue;
+            }
+            if (first == null) {
+                first = section;
+            } else {
+                if (sections == null) {
+                    sections = new ArrayList<>(4);
+                    sections.add(first);
+                }
+                sections.add(section);
+            }
+        }
+
+        if (sections != null) {
+            return sections;
+        }
+        return first != null ? List.of(first) : List.of();
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    private static String pooled(JsonParser parser, JsonToken value, StringPool pool) throws IOException {
+        if (value != JsonToken.VALUE_STRING) {
+            return text(parser, value);
+        }
+        return pool.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /* 기존 바인딩(JavaTimeModule)과 같은 형식: ISO 로컬 일시, 'Z'로 끝나면 UTC 기준 */
+    private static LocalDateTime dateTime(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        try {
+            if (text.endsWith("Z")) {
+                return LocalDateTime.ofInstant(Instant.parse(text), ZoneOffset.UTC);
+            }
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 반복되는 짧은 문자열(섹션명, 언론사명)용 고정 크기 문자열 캐시
+     *
+     * <p>파서의 문자 버퍼를 그대로 해시하여 조회하므로, 이미 본 값이면 새 문자열을 만들지 않습니다.
+     * 슬롯이 충돌하면 새 값으로 덮어쓰므로 크기가 늘어나지 않습니다. 스레드별로 하나씩 사용합니다.</p>
+     */
+    static final class StringPool {
+
+        private static final int SIZE = 1024; // 2의 거듭제곱
+
+        private final String[] table = new String[SIZE];
+
+        String intern(char[] buffer, int offset, int length) {
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + buffer[offset + i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+
+            String cached = table[slot];
+            if (cached != null && matches(cached, buffer, offset, length)) {
+                return cached;
+            }
+            String value = new String(buffer, offset, length);
+            table[slot] = value;
+            return value;
+        }
+
+        private static boolean matches(String cached, char[] buffer, int offset, int length) {
+            if (cached.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (cached.charAt(i) != buffer[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package Baemin.News_Deliver.Global.News.Batch.reader;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+/**
+ * DeepSearch API 페이지 단위 스트리밍 Reader
+ *
+ * <p>섹션의 모든 페이지를 미리 받아 두지 않고, 현재 페이지를 다 읽었을 때만 다음 페이지를 요청합니다.
+ * 비동기 페이지 요청 함수를 사용하면 최대 {@code prefetch}개 페이지를 미리 요청해 두고,
+ * 응답 순서와 관계없이 항상 페이지 번호 순서대로 Writer에 전달합니다.
+ * 따라서 메모리에는 최대 {@code prefetch}개 페이지만 유지됩니다.</p>
+ *
+ * <p>읽은 위치(페이지 번호, 페이지 내 인덱스)는 청크 커밋 시점마다 Step {@link ExecutionContext}에 저장되며,
+ * Job 재시작 시 마지막으로 커밋된 위치부터 다시 읽습니다.</p>
+ *
+ * 저장 키:
+ * <ul>
+ *     <li>{@code {name}.page}: 현재 버퍼에 담긴 페이지 번호 (1부터 시작, 0은 아직 읽지 않음)</li>
+ *     <li>{@code {name}.index}: 해당 페이지에서 다음에 읽을 항목 인덱스</li>
+ * </ul>
+ *
+ * @author 김원중
+ */
+@Slf4j
+public class DeepSearchPageReader extends ItemStreamSupport implements ItemStreamReader<NewsItemDTO> {
+
+    private static final String PAGE_KEY = "page";
+    private static final String INDEX_KEY = "index";
+
+    private final String section;
+    private final int totalPages;
+    private final IntFunction<CompletableFuture<List<NewsItemDTO>>> pageLoader;
+    private final int prefetch;
+
+    /** 요청은 보냈지만 아직 읽지 않은 페이지 (페이지 번호 순) */
+    private final TreeMap<Integer, CompletableFuture<List<NewsItemDTO>>> pending = new TreeMap<>();
+    private int nextPageToRequest = 1;
+
+    private int currentPage = 0;
+    private int currentIndex = 0;
+    private List<NewsItemDTO> buffer = List.of();
+
+    /**
+     * 동기 페이지 요청 Reader (한 번에 한 페이지씩 요청)
+     *
+     * @param section 섹션명 (로그 용도)
+     * @param totalPages 읽을 전체 페이지 수
+     * @param pageFetcher 페이지 번호를 받아 해당 페이지의 뉴스 목록을 반환하는 함수
+     */
+    public DeepSearchPageReader(String section, int totalPages, IntFunction<List<NewsItemDTO>> pageFetcher) {
+        this(section, totalPages, page -> CompletableFuture.completedFuture(pageFetcher.apply(page)), 1);
+    }
+
+    /**
+     * 비동기 선행 요청 Reader
+     *
+     * @param section 섹션명 (로그 용도)
+     * @param totalPages 읽을 전체 페이지 수
+     * @param pageLoader 페이지 번호를 받아 해당 페이지 요청 Future를 반환하는 함수
+     * @param prefetch 미리 요청해 둘 최대 페이지 수 (1이면 순차 요청)
+     */
+    public DeepSearchPageReader(String section, int totalPages,
+                                IntFunction<CompletableFuture<List<NewsItemDTO>>> pageLoader, int prefetch) {
+        this.section = section;
+        this.totalPages = totalPages;
+        this.pageLoader = pageLoader;
+        this.prefetch = Math.max(1, prefetch);
+        setName("deepSearchPageReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (!executionContext.containsKey(getExecutionContextKey(PAGE_KEY))) {
+            return;
+        }
+
+        int page = executionContext.getInt(getExecutionContextKey(PAGE_KEY));
+        int index = executionContext.getInt(getExecutionContextKey(INDEX_KEY), 0);
+
+        nextPageToRequest = Math.max(1, page);
+        if (page > 0) {
+            buffer = fetch(page);
+            currentPage = page;
+            currentIndex = Math.min(index, buffer.size());
+        }
+
+        log.info("🔁 [{}] 재시작: {}페이지 {}번째 항목부터 읽기 재개", section, page, index);
+    }
+
+    @Override
+    public NewsItemDTO read() {
+        while (currentIndex >= buffer.size()) {
+            if (currentPage >= totalPages) {
+                return null; // 모든 페이지 소진
+            }
+            currentPage++;
+            buffer = fetch(currentPage);
+            currentIndex = 0;
+        }
+        return buffer.get(currentIndex++);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(getExecutionContextKey(PAGE_KEY), currentPage);
+        executionContext.putInt(getExecutionContextKey(INDEX_KEY), currentIndex);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        pending.values().forEach(future -> future.cancel(true));
+        pending.clear();
+        buffer = List.of();
+    }
+
+    /**
+     * 지정한 페이지를 반환하고, 이후 페이지를 prefetch 범위만큼 미리 요청
+     */
+    private List<NewsItemDTO> fetch(int page) {
+        if (nextPageToRequest <= page) {
+            nextPageToRequest = page;
+        }
+        while (nextPageToRequest <= totalPages && nextPageToRequest < page + prefetch) {
+            pending.put(nextPageToRequest, pageLoader.apply(nextPageToRequest));
+            nextPageToRequest++;
+        }
+
+        CompletableFuture<List<NewsItemDTO>> future = pending.remove(page);
+        List<NewsItemDTO> items = future != null ? await(future) : await(pageLoader.apply(page));
+
+        if (items == null || items.isEmpty()) {
+            log.warn("⚠️ [{}] Page {} 수집 실패 또는 빈 페이지", section, page);
+            return List.of();
+        }
+        return items;
+    }
+
+    private List<NewsItemDTO> await(CompletableFuture<List<NewsItemDTO>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
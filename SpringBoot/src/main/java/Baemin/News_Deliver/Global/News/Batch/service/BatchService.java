@@ -1,25 +1,33 @@
 package Baemin.News_Deliver.Global.News.Batch.service;
 
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner;
 import Baemin.News_Deliver.Global.NewsMonitoring.Service.IntermediateBatchRedisService;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock.Lease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
-import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
-import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+
 /**
  * 뉴스 섹션별 배치 실행 서비스
  *
- * <p>이 서비스는 Spring Batch 기반으로, 미리 정의된 각 뉴스 섹션에 대해 반복적으로
- * Job을 실행합니다. 주로 수동 또는 예약된 호출을 통해 작동하며,
- * 각 섹션별로 {@code JobParameters}에 "section"을 포함해 전달합니다.</p>
+ * <p>이 서비스는 Spring Batch 기반으로, 섹션별 파티션으로 구성된 {@code newsDataSaveJob}을
+ * 한 번 실행합니다. 각 섹션은 {@link TimeWindowPartitioner}에 의해 시간 구간 파티션으로 나뉘어
+ * 워커 스레드 풀에서 병렬로 처리됩니다. 정규 배치는 전날 하루를, 백필은 지정한 날짜 범위를 수집합니다.</p>
+ *
+ * <p>Job 식별 파라미터는 수집 기간과 섹션뿐이므로 같은 기간을 다시 실행하면 같은 JobInstance가 됩니다.
+ * 이전 실행이 실패했다면 {@link RestartableJobLauncher}가 저장된 페이지/인덱스부터 재시작하고,
+ * 이미 완료된 기간은 다시 수집하지 않습니다.</p>
  *
  * <p>총 섹션 목록은 다음과 같습니다:</p>
  * <ul>
@@ -32,9 +40,11 @@ import org.springframework.stereotype.Service;
  *     <li>opinion</li>
  * </ul>
  *
- * <p>모든 섹션을 처리하는데 걸린 총 소요 시간도 로그로 출력됩니다.</p>
+ * <p>전체 소요 시간과 구간(파티션)별 소요 시간 및 처리 건수가 로그로 출력됩니다.</p>
  *
- * <p>이 서비스는 컨트롤러에서 호출되어 사용되며, 성공 시 200 OK를, 실패 시 500을 응답합니다.</p>
+ * <p>이 서비스는 컨트롤러에서 호출되어 사용되며, 성공 시 200 OK를, 실패 시 500을 응답합니다.
+ * 모든 실행은 {@link BatchLeaderLock#NEWS_PIPELINE} 락을 잡은 상태에서만 수행되므로,
+ * 여러 인스턴스에서 동시에 호출되어도 한 곳에서만 실행되고 나머지는 409로 거절됩니다.</p>
  *
  * @author 김원중
  */
@@ -43,41 +53,116 @@ import org.springframework.stereotype.Service;
 @Service
 public class BatchService {
 
-    private final JobLauncher jobLauncher;
+    private final RestartableJobLauncher restartableJobLauncher;
     private final Job newsDataSaveJob;
     private final IntermediateBatchRedisService intermediateBatchRedisService;
+    private final BatchLeaderLock batchLeaderLock;
 
+    /**
+     * 섹션별 뉴스 저장 배치 실행 (전날 하루)
+     *
+     * 섹션 × 시간 구간 파티션으로 구성된 Job을 한 번 실행하며,
+     * JobParameter로 수집 기간(`date_from`, `date_to` = 전날)을 전달하며, 같은 날 실패한 실행이 있으면 이어서 실행합니다.
+     * 섹션명과 구간은 {@link TimeWindowPartitioner}가 파티션마다 주입합니다.
+     * 정규 배치가 COMPLETED로 끝났을 때만 중간 배치의 Redis 키를 정리합니다.
+     * 파이프라인 락을 새로 획득하며, 이미 다른 곳에서 실행 중이면 예외가 발생합니다.
+     */
+    public void runBatch() throws Exception {
+        batchLeaderLock.runExclusive(BatchLeaderLock.NEWS_PIPELINE, lease -> {
+            runBatch(lease);
+            return null;
+        });
+    }
 
-    /** 처리할 섹션 목록 */
-    private  String[] sections = {
-            "politics", "economy", "society", "culture", "tech", "entertainment", "opinion"
-    };
     /**
-     * 섹션별 뉴스 저장 배치 실행
+     * 이미 파이프라인 락을 가진 호출자(자정 파이프라인)용 정규 배치 실행
      *
-     * 각 섹션에 대해 하나의 Job을 실행하며,
-     * JobParameter로 섹션명과 현재 시간(`time`)을 함께 전달합니다.
+     * @param lease 보유 중인 파이프라인 락 임대
      */
-    public void runBatch() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
-        long totalStart = System.currentTimeMillis(); // 전체 시작 시간
+    public void runBatch(Lease lease) throws Exception {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        JobExecution jobExecution = run(yesterday, yesterday, null, lease);
 
-        for (String section : sections) {
-            int count = intermediateBatchRedisService.getBatchCount(section);
+        // 실패했으면 중간 배치 기록을 남겨 둠 (재시작/다음 모니터링이 이미 수집한 범위를 다시 판단할 수 있도록)
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("⚠️ 정규 배치 상태 {} → 중간 배치 Redis 키를 유지", jobExecution.getStatus());
+            return;
+        }
+        lease.checkValid(); // 임대를 잃었으면 다른 리더의 중간 배치 키를 지우지 않음
+        intermediateBatchRedisService.flushIntermediateBatchKeys();
+    }
 
-            JobParameters params = new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .addString("section", section)
-                    .addLong("offset", Long.valueOf(count))
-                    .toJobParameters();
+    /**
+     * 지정한 날짜 범위의 뉴스 백필 실행
+     *
+     * 정규 배치와 같은 Job을 {@code date_from ~ date_to}(양 끝 포함)로 실행합니다.
+     * 같은 범위를 다시 실행하면 실패한 실행은 이어서 수집하고, 완료된 범위는 건너뜁니다.
+     * 이미 저장된 뉴스는 content_hash 유니크 키로 무시되므로 겹치는 범위를 실행해도 안전합니다.
+     *
+     * @param from 수집 시작 날짜
+     * @param to 수집 종료 날짜
+     */
+    public void runBackfill(LocalDate from, LocalDate to) throws Exception {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to(" + to + ")가 from(" + from + ")보다 앞섭니다.");
+        }
+        batchLeaderLock.runExclusive(BatchLeaderLock.NEWS_PIPELINE, lease -> {
+            run(from, to, null, lease);
+            return null;
+        });
+    }
+
+    /**
+     * 한 섹션의 하루치 뉴스 저장 (자정 파이프라인의 섹션별 노드용)
+     *
+     * @param date 수집 날짜
+     * @param section 섹션명
+     * @param lease 보유 중인 파이프라인 락 임대
+     * @return Job 실행 결과 (호출자가 상태 확인)
+     */
+    public JobExecution runSection(LocalDate date, String section, Lease lease) throws Exception {
+        return run(date, date, section, lease);
+    }
+
+    private JobExecution run(LocalDate from, LocalDate to, String sections, Lease lease) throws Exception {
+        long totalStart = System.currentTimeMillis(); // 전체 시작 시간
 
-            log.info("📦 섹션별 배치 시작: {}", section);
-            jobLauncher.run(newsDataSaveJob, params);
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addString("date_from", from.toString())
+                .addString("date_to", to.toString())
+                .addLong("fence_token", lease.token(), false); // 실행한 리더 기록용 (식별 파라미터 아님)
+        if (sections != null) {
+            builder.addString("sections", sections);
         }
+        JobParameters params = builder.toJobParameters();
 
-        intermediateBatchRedisService.flushIntermediateBatchKeys();
+        log.info("📦 시간 구간 파티션 배치 시작: {} ~ {} (섹션: {})", from, to, sections != null ? sections : "전체");
+        JobExecution jobExecution = restartableJobLauncher.run(newsDataSaveJob, params);
+
+        // 파티션(구간)별 결과 요약
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (!stepExecution.getExecutionContext().containsKey("section")) {
+                continue; // Manager Step 제외
+            }
+            log.info("📊 [{}] {} 상태: {}, 소요 시간: {}ms, read: {}, write: {}",
+                    stepExecution.getExecutionContext().getString("section"),
+                    stepExecution.getExecutionContext().getString("dateFrom", ""),
+                    stepExecution.getStatus(),
+                    elapsedMillis(stepExecution),
+                    stepExecution.getReadCount(),
+                    stepExecution.getWriteCount());
+        }
 
         long totalEnd = System.currentTimeMillis(); // 전체 끝 시간
-        log.info("✅ 전체 섹션 배치 소요 시간: {} ms", (totalEnd - totalStart));
+        log.info("✅ 전체 섹션 배치 소요 시간: {} ms (상태: {})", (totalEnd - totalStart), jobExecution.getStatus());
+        return jobExecution;
+    }
+
+    private long elapsedMillis(StepExecution stepExecution) {
+        if (stepExecution.getStartTime() == null || stepExecution.getEndTime() == null) {
+            return -1;
+        }
+        return Duration.between(stepExecution.getStartTime(), stepExecution.getEndTime()).toMillis();
     }
 
 }
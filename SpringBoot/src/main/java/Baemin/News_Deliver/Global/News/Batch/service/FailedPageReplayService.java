@@ -0,0 +1,84 @@
+package Baemin.News_Deliver.Global.News.Batch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsFallbackIndexService;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock.Lease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 수집 실패 페이지 재수집 Job 실행 서비스
+ *
+ * <p>{@code deepsearch.failed-page.replay-cron} 주기(기본: 매시 30분)로 재수집 대기 페이지가 있을 때만
+ * {@code failedPageReplayJob}을 실행합니다. 관리자 API로 수동 실행할 수도 있습니다.
+ * 어느 경우든 {@link BatchLeaderLock#FAILED_PAGE_REPLAY} 락을 가진 인스턴스 하나만 실행합니다.
+ * 직전 실행이 실패했으면 같은 JobInstance를 재시작하고, 완료됐으면 다음 순번({@code run_id})으로 실행합니다.
+ * 복구한 페이지가 있으면 로컬 대체 인덱스를 다시 만들고 새 세대를 게시해, 모든 인스턴스가 복구된 뉴스를 포함하도록 합니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FailedPageReplayService {
+
+    private final RestartableJobLauncher restartableJobLauncher;
+    private final Job failedPageReplayJob;
+    private final FailedPageService failedPageService;
+    private final BatchLeaderLock batchLeaderLock;
+    private final NewsFallbackIndexService newsFallbackIndexService;
+
+    @Scheduled(cron = "${deepsearch.failed-page.replay-cron:0 30 * * * *}")
+    public void scheduledReplay() {
+        try {
+            batchLeaderLock.runIfLeader(BatchLeaderLock.FAILED_PAGE_REPLAY, this::replay);
+        } catch (Exception e) {
+            log.error("❌ 실패 페이지 재수집 Job 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 재수집 대기 페이지가 있으면 재수집 Job 실행 (관리자 API용, 다른 곳에서 실행 중이면 예외)
+     *
+     * @return 실행 시작 시점의 대기 페이지 수 (0이면 실행하지 않음)
+     */
+    public int replay() throws Exception {
+        return batchLeaderLock.runExclusive(BatchLeaderLock.FAILED_PAGE_REPLAY, this::replay);
+    }
+
+    private int replay(Lease lease) throws Exception {
+        int pending = failedPageService.countPending();
+        if (pending == 0) {
+            return 0;
+        }
+
+        log.info("🔁 실패 페이지 재수집 시작: 대기 {}페이지", pending);
+        JobParameters params = new JobParametersBuilder()
+                .addLong("fence_token", lease.token(), false)
+                .toJobParameters();
+        JobExecution execution = restartableJobLauncher.runNextOrRestart(failedPageReplayJob, params);
+
+        int remaining = failedPageService.countPending();
+        log.info("✅ 실패 페이지 재수집 종료 (상태: {}, 남은 대기: {}페이지)", execution.getStatus(), remaining);
+
+        if (remaining < pending) {
+            publishFallbackIndex();
+        }
+        return pending;
+    }
+
+    /* 재수집은 이미 끝났으므로 인덱스 생성 실패는 기록만 (다음 게시 / 관리자 API로 복구) */
+    private void publishFallbackIndex() {
+        try {
+            newsFallbackIndexService.rebuildAndPublish();
+        } catch (Exception e) {
+            log.error("❌ 재수집 후 로컬 대체 인덱스 게시 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package Baemin.News_Deliver.Global.News.Batch.service;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * DeepSearch 수집 실패 페이지 큐 서비스
+ *
+ * <p>재시도({@code DeepSearchFetchExecutor})까지 실패한 페이지를 {@code news_failed_page} 테이블에 기록하고,
+ * 섹션 수집은 해당 페이지만 비운 채 계속 진행합니다. 기록된 페이지는 {@code failedPageReplayJob}이 나중에 다시 수집합니다.</p>
+ *
+ * 상태:
+ * <ul>
+ *     <li>{@code PENDING}: 재수집 대기</li>
+ *     <li>{@code DONE}: 재수집 완료</li>
+ *     <li>{@code DEAD}: 재수집을 {@code deepsearch.failed-page.max-attempts}회 실패 (수동 확인 필요)</li>
+ * </ul>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+public class FailedPageService {
+
+    public static final String SOURCE_DAILY = "DAILY";
+    public static final String SOURCE_MONITORING = "MONITORING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxAttempts;
+
+    public FailedPageService(JdbcTemplate jdbcTemplate,
+                             @Value("${deepsearch.failed-page.max-attempts:5}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 재수집 대상 페이지
+     */
+    public record FailedPage(long id, String source, String section, String dateFrom, String dateTo, int page,
+                             int attempts) {
+    }
+
+    /**
+     * 페이지 요청 Future가 실패하면 큐에 기록하고 빈 페이지로 대체
+     *
+     * @param future 페이지 요청 Future
+     * @param source 수집 출처 ({@link #SOURCE_DAILY} / {@link #SOURCE_MONITORING})
+     * @param section 섹션
+     * @param dateFrom 조회 시작 (DeepSearch date_from)
+     * @param dateTo 조회 종료 (DeepSearch date_to)
+     * @param page 페이지 번호
+     * @return 실패 시 빈 List로 완료되는 Future
+     */
+    public CompletableFuture<List<NewsItemDTO>> recoverPage(CompletableFuture<List<NewsItemDTO>> future, String source,
+                                                            String section, String dateFrom, String dateTo, int page) {
+        return future.exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("❌ [{}] {}페이지 수집 실패 → 재수집 큐에 기록: {}", section, page, cause.getMessage());
+            enqueue(source, section, dateFrom, dateTo, page, cause.getMessage());
+            return List.of();
+        });
+    }
+
+    /**
+     * 실패 페이지 기록 (이미 있으면 다시 PENDING으로)
+     */
+    public void enqueue(String source, String section, String dateFrom, String dateTo, int page, String error) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO news_failed_page (source, section, date_from, date_to, page, status, attempts, last_error, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?, ?)
+                    ON DUPLICATE KEY UPDATE status = 'PENDING', last_error = VALUES(last_error), updated_at = VALUES(updated_at)
+                """, source, section, dateFrom, dateTo, page, truncate(error), now, now);
+        } catch (Exception e) {
+            log.error("❌ [{}] {}페이지 실패 기록 저장 실패: {}", section, page, e.getMessage());
+        }
+    }
+
+    /**
+     * ID 순으로 다음 재수집 대기 페이지 조회
+     *
+     * @param afterId 이 ID 이후부터 조회 (이번 실행에서 이미 시도한 페이지 제외)
+     * @return 다음 PENDING 페이지
+     */
+    public Optional<FailedPage> nextPending(long afterId) {
+        return jdbcTemplate.query("""
+                    SELECT id, source, section, date_from, date_to, page, attempts
+                    FROM news_failed_page
+                    WHERE status = 'PENDING' AND id > ?
+                    ORDER BY id
+                    LIMIT 1
+                """, (rs, rowNum) -> new FailedPage(
+                rs.getLong("id"),
+                rs.getString("source"),
+                rs.getString("section"),
+                rs.getString("date_from"),
+                rs.getString("date_to"),
+                rs.getInt("page"),
+                rs.getInt("attempts")
+        ), afterId).stream().findFirst();
+    }
+
+    public void markDone(long id) {
+        jdbcTemplate.update("UPDATE news_failed_page SET status = 'DONE', updated_at = NOW() WHERE id = ?", id);
+    }
+
+    /**
+     * 재수집 실패 기록 (최대 시도 횟수에 도달하면 DEAD)
+     */
+    public void markFailed(long id, String error) {
+        jdbcTemplate.update("""
+                    UPDATE news_failed_page
+                    SET status = IF(attempts + 1 >= ?, 'DEAD', 'PENDING'),
+                        attempts = attempts + 1,
+                        last_error = ?,
+                        updated_at = NOW()
+                    WHERE id = ?
+                """, maxAttempts, truncate(error), id);
+    }
+
+    public int countPending() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_failed_page WHERE status = 'PENDING'", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 상태별 페이지 수
+     *
+     * @return PENDING / DONE / DEAD → 건수
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("PENDING", 0L);
+        stats.put("DONE", 0L);
+        stats.put("DEAD", 0L);
+        jdbcTemplate.query("SELECT status, COUNT(*) AS cnt FROM news_failed_page GROUP BY status",
+                rs -> {
+                    stats.put(rs.getString("status"), rs.getLong("cnt"));
+                });
+        return stats;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
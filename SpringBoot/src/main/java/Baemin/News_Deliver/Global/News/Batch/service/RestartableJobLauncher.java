@@ -0,0 +1,109 @@
+package Baemin.News_Deliver.Global.News.Batch.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실패한 Job을 이어서 실행하는 Job 실행기
+ *
+ * <p>식별 파라미터(날짜, 섹션 등)가 같으면 같은 JobInstance이므로, 이전 실행이 실패했다면 Spring Batch가
+ * 저장된 ExecutionContext(Reader의 페이지/인덱스 등)부터 재시작합니다. 이미 완료된 JobInstance는 다시 실행하지 않고
+ * 이전 실행 결과를 돌려줍니다.</p>
+ *
+ * <p>프로세스가 죽어 {@code STARTED}로 남은 실행은 그대로 두면 영원히 재시작할 수 없으므로 {@code FAILED}로 정리한 뒤
+ * 재시작합니다. 이 판단은 호출자가 해당 Job의 {@code BatchLeaderLock}을 보유하고 있어 다른 곳에서 실행 중일 수 없다는
+ * 전제에서만 안전하므로, 반드시 락 안에서 호출해야 합니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RestartableJobLauncher {
+
+    /** 순번으로 JobInstance를 구분하는 Job의 식별 파라미터 */
+    public static final String RUN_ID = "run_id";
+
+    private final JobLauncher jobLauncher;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+
+    /**
+     * 같은 식별 파라미터의 JobInstance를 실행 (실패했으면 재시작, 완료됐으면 건너뜀)
+     *
+     * @param job 실행할 Job
+     * @param params Job 파라미터 (식별 파라미터는 결정적이어야 함)
+     * @return 이번 실행 결과, 이미 완료된 경우 이전 실행 결과
+     */
+    public JobExecution run(Job job, JobParameters params) throws Exception {
+        JobExecution last = jobRepository.getLastJobExecution(job.getName(), params);
+        if (last != null) {
+            if (last.getStatus() == BatchStatus.COMPLETED || last.getStatus() == BatchStatus.ABANDONED) {
+                log.info("⏭️ [{}] 이미 {}된 JobInstance → 건너뜀 {}", job.getName(), last.getStatus(), params.getIdentifyingParameters().keySet());
+                return last;
+            }
+            if (last.isRunning()) {
+                failOrphan(last);
+            }
+            log.info("🔁 [{}] 이전 실행(id={}, 상태: {})을 저장된 위치부터 재시작", job.getName(), last.getId(), last.getStatus());
+        }
+        return jobLauncher.run(job, params);
+    }
+
+    /**
+     * 순번({@link #RUN_ID})으로 구분하는 Job 실행: 마지막 JobInstance가 끝나지 않았으면 재시작, 끝났으면 다음 순번으로 실행
+     *
+     * @param job 실행할 Job
+     * @param extraParams 이번 실행에만 붙일 비식별 파라미터 (펜싱 토큰 등)
+     * @return 이번 실행 결과
+     */
+    public JobExecution runNextOrRestart(Job job, JobParameters extraParams) throws Exception {
+        long runId = 1;
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+        if (lastInstance != null) {
+            JobExecution last = jobExplorer.getLastJobExecution(lastInstance);
+            Long lastRunId = last != null ? last.getJobParameters().getLong(RUN_ID) : null;
+            if (lastRunId != null) {
+                boolean finished = last.getStatus() == BatchStatus.COMPLETED || last.getStatus() == BatchStatus.ABANDONED;
+                runId = finished ? lastRunId + 1 : lastRunId;
+            }
+        }
+        JobParameters params = new JobParametersBuilder(extraParams)
+                .addLong(RUN_ID, runId)
+                .toJobParameters();
+        return run(job, params);
+    }
+
+    /* 락을 보유한 상태에서 실행 중으로 남은 실행 = 죽은 프로세스의 흔적 → FAILED로 정리 */
+    private void failOrphan(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription("orphaned"));
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED.addExitDescription("orphaned"));
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+        log.warn("🧹 [{}] 실행 중으로 남은 실행(id={})을 FAILED로 정리 (이전 프로세스 종료 추정)",
+                execution.getJobInstance().getJobName(), execution.getId());
+    }
+}
@@ -1,56 +1,153 @@
 package Baemin.News_Deliver.Global.News.ElasticSearch.configuration;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
+import org.elasticsearch.client.NodeSelector;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Arrays;
+
 /**
  * Elasticsearch Client 설정 클래스
  *
  * <p>Elasticsearch 7.17 이상 버전과 호환되는 Java API Client(co.elastic.clients)를 사용하여
- * Elasticsearch와 통신할 수 있는 {@link ElasticsearchClient}를 생성합니다.</p>
+ * Elasticsearch와 통신할 수 있는 {@link ElasticsearchClient} / {@link ElasticsearchAsyncClient}를 생성합니다.</p>
  *
  * 구성 내용:
  * <ul>
- *     <li>Low-level RestClient: HTTP 기반 연결 설정</li>
- *     <li>Jackson 기반 JSON 직렬화 매퍼 설정</li>
- *     <li>Java 8 LocalDateTime 지원을 위한 모듈 등록</li>
- *     <li>날짜를 timestamp가 아닌 ISO 포맷으로 출력 설정</li>
+ *     <li>Low-level RestClient: {@code spring.elasticsearch.uris}의 모든 노드에 요청을 돌아가며 분산 (전용 마스터 노드 제외)</li>
+ *     <li>커넥션 풀 크기 / 연결·응답·풀 대기 타임아웃: {@code news.es.client.*}</li>
+ *     <li>Sniffer: 주기적으로(그리고 노드 실패 직후) 클러스터 노드 목록을 조회해 RestClient 노드를 갱신 - 데이터 노드를 추가하면 설정 변경 없이 요청이 분산됨</li>
+ *     <li>Jackson 기반 JSON 직렬화 매퍼 설정 (Java 8 LocalDateTime 지원, ISO 포맷 출력)</li>
+ *     <li>동기 / 비동기 클라이언트는 같은 Transport(커넥션 풀)를 공유</li>
  * </ul>
  *
- * 접속 대상: {@code http://elasticsearch:9200}
+ * 접속 대상: {@code spring.elasticsearch.uris} (쉼표로 여러 노드 지정, 기본 {@code http://elasticsearch:9200})
  *
  * ⚠️ 주의:
  * - Spring Boot 3.x 환경에서 `JavaTimeModule`을 등록하지 않으면 `LocalDateTime` 직렬화 오류 발생 가능
- * - ElasticsearchClient는 singleton bean으로 등록됨
+ * - Sniffer는 노드의 publish 주소로 목록을 교체하므로, 애플리케이션이 그 주소에 접근할 수 없는 환경(로컬 개발 등)에서는
+ *   {@code news.es.client.sniff-enabled=false}로 끄고 uris만 사용
+ * - 클라이언트는 singleton bean으로 등록됨
  *
  * @author 김원중
  */
+@Slf4j
 @Configuration
 public class ElasticsearchClientConfig {
 
+    @Value("${spring.elasticsearch.uris:http://elasticsearch:9200}")
+    private String[] uris;
+
+    @Value("${news.es.client.max-conn-total:30}")
+    private int maxConnTotal;
+
+    @Value("${news.es.client.max-conn-per-route:10}")
+    private int maxConnPerRoute;
+
+    @Value("${news.es.client.connect-timeout-ms:1000}")
+    private int connectTimeoutMs;
+
+    @Value("${news.es.client.socket-timeout-ms:30000}")
+    private int socketTimeoutMs;
+
+    @Value("${news.es.client.connection-request-timeout-ms:1000}")
+    private int connectionRequestTimeoutMs;
+
+    @Value("${news.es.client.sniff-enabled:true}")
+    private boolean sniffEnabled;
+
+    @Value("${news.es.client.sniff-interval-ms:300000}")
+    private int sniffIntervalMs;
+
+    @Value("${news.es.client.sniff-after-failure-delay-ms:60000}")
+    private int sniffAfterFailureDelayMs;
+
+    private final SniffOnFailureListener sniffOnFailureListener = new SniffOnFailureListener();
+
     /**
-     * Elasticsearch Java API Client 빈 등록
+     * 여러 노드에 요청을 분산하는 Low-level RestClient
      *
-     * <p>커스텀 ObjectMapper 설정과 RestClient를 기반으로 {@link ElasticsearchClient} 인스턴스를 반환합니다.</p>
+     * @return RestClient (애플리케이션 종료 시 close)
+     */
+    @Bean(destroyMethod = "close")
+    public RestClient elasticsearchRestClient() {
+        HttpHost[] hosts = Arrays.stream(uris)
+                .map(String::trim)
+                .filter(uri -> !uri.isEmpty())
+                .map(HttpHost::create)
+                .toArray(HttpHost[]::new);
+
+        log.info("🔌 Elasticsearch 노드 {}개 연결: {} (커넥션 {} / 노드당 {})",
+                hosts.length, Arrays.toString(hosts), maxConnTotal, maxConnPerRoute);
+
+        RestClientBuilder builder = RestClient.builder(hosts)
+                .setNodeSelector(NodeSelector.SKIP_DEDICATED_MASTERS); // 검색 / 색인은 데이터 노드로만
+        if (sniffEnabled) {
+            // 노드 실패 시 바로 목록 갱신 (Sniffer가 없으면 리스너가 예외를 던지므로 켜져 있을 때만 등록)
+            builder.setFailureListener(sniffOnFailureListener);
+        }
+
+        return builder
+                .setRequestConfigCallback(config -> config
+                        .setConnectTimeout(connectTimeoutMs)
+                        .setSocketTimeout(socketTimeoutMs)
+                        .setConnectionRequestTimeout(connectionRequestTimeoutMs)
+                )
+                .setHttpClientConfigCallback(http -> http
+                        .setMaxConnTotal(maxConnTotal)
+                        .setMaxConnPerRoute(maxConnPerRoute)
+                )
+                .build();
+    }
+
+    /**
+     * 클러스터 노드 자동 탐색 (노드 목록 주기 갱신)
      *
-     * @return ElasticsearchClient
+     * @param restClient 갱신할 RestClient
+     * @return Sniffer (RestClient보다 먼저 close)
      */
-    @Bean
-    public ElasticsearchClient elasticsearchClient() {
-        // HTTP 기반 Low-level 클라이언트 구성
-        RestClient restClient = RestClient.builder(
-                new HttpHost("elasticsearch", 9200)
-                //FIXME : ElasticSearch 수정 시 수정할 것
-        ).build();
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "news.es.client.sniff-enabled", havingValue = "true", matchIfMissing = true)
+    public Sniffer elasticsearchSniffer(RestClient restClient) {
+        ElasticsearchNodesSniffer.Scheme scheme = uris[0].trim().startsWith("https")
+                ? ElasticsearchNodesSniffer.Scheme.HTTPS
+                : ElasticsearchNodesSniffer.Scheme.HTTP;
+
+        Sniffer sniffer = Sniffer.builder(restClient)
+                .setNodesSniffer(new ElasticsearchNodesSniffer(restClient,
+                        ElasticsearchNodesSniffer.DEFAULT_SNIFF_REQUEST_TIMEOUT, scheme))
+                .setSniffIntervalMillis(sniffIntervalMs)
+                .setSniffAfterFailureDelayMillis(sniffAfterFailureDelayMs)
+                .build();
+        sniffOnFailureListener.setSniffer(sniffer);
+        return sniffer;
+    }
 
+    /**
+     * 동기 / 비동기 클라이언트가 공유하는 Transport
+     *
+     * @param restClient Low-level RestClient
+     * @return ElasticsearchTransport
+     */
+    @Bean
+    public ElasticsearchTransport elasticsearchTransport(RestClient restClient) {
         // LocalDateTime 직렬화 지원 및 ISO 포맷 지정
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // Java 8 Date/Time 지원
@@ -60,9 +157,30 @@ public class ElasticsearchClientConfig {
         JacksonJsonpMapper mapper = new JacksonJsonpMapper(objectMapper);
 
         // 전송 설정 구성
-        RestClientTransport transport = new RestClientTransport(restClient, mapper);
+        return new RestClientTransport(restClient, mapper);
+    }
 
+    /**
+     * Elasticsearch Java API Client 빈 등록 (블로킹 호출)
+     *
+     * @param transport 공유 Transport
+     * @return ElasticsearchClient
+     */
+    @Bean
+    public ElasticsearchClient elasticsearchClient(ElasticsearchTransport transport) {
         return new ElasticsearchClient(transport);
     }
 
+    /**
+     * Elasticsearch 비동기 Client 빈 등록
+     *
+     * <p>여러 검색을 동시에 보내고 결과를 모으는 호출자(세팅별 뉴스 검색 등)가 스레드를 점유하지 않고 사용합니다.</p>
+     *
+     * @param transport 공유 Transport
+     * @return ElasticsearchAsyncClient
+     */
+    @Bean
+    public ElasticsearchAsyncClient elasticsearchAsyncClient(ElasticsearchTransport transport) {
+        return new ElasticsearchAsyncClient(transport);
+    }
 }
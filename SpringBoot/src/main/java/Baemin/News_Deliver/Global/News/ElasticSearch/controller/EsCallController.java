@@ -1,24 +1,33 @@
 package Baemin.News_Deliver.Global.News.ElasticSearch.controller;
 
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.EsSearchHealthTracker;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsMigrationService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsReindexService;
 import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsFallbackIndexService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Elasticsearch 색인 호출 테스트용 컨트롤러
  *
- * <p>뉴스 데이터를 DB에서 읽어와 Elasticsearch에 색인하는 작업을 수동으로 호출하는 용도의 컨트롤러입니다.</p>
+ * <p>색인에 실패했던 뉴스를 outbox에 다시 등록하여 Elasticsearch에 재반영하는 작업을 수동으로 호출하는 용도의 컨트롤러입니다.</p>
  * <p>실 운영에서는 Scheduler 또는 Admin 기능으로 대체될 예정이며, 현재는 개발 및 테스트 목적에서 사용됩니다.</p>
  *
- * 색인 대상: {@code news-index-nori}
- * 색인 데이터: 전날 기준 뉴스 데이터 (섹션별)
+ * 색인 대상: 발행일별 인덱스 {@code news-nori-yyyy.MM.dd} (읽기 별칭 {@code news-nori})
+ * 색인 데이터: {@code news_es_failure}(dead-letter)에 기록된 뉴스 (정상 색인은 outbox 릴레이가 수행)
  *
  * @author 김원중
  */
@@ -27,23 +36,123 @@ import java.io.IOException;
 public class EsCallController {
 
     private final NewsEsService newsEsService;
+    private final NewsEsReindexService newsEsReindexService;
+    private final NewsEsMigrationService newsEsMigrationService;
+    private final NewsFallbackIndexService newsFallbackIndexService;
+    private final EsSearchHealthTracker esSearchHealthTracker;
 
     /**
-     *  뉴스 데이터 Elasticsearch 색인 수동 실행
+     *  뉴스 데이터 Elasticsearch 색인 실패 재처리 수동 실행
      *
-     * <p>전날 뉴스 데이터를 Elasticsearch에 섹션별로 bulk 색인합니다.</p>
-     * <p>스케줄러 구현 전 테스트용으로 사용되며, 나중에 Admin 기능으로 대체할 수 있습니다.</p>
-     *
-     * @throws IOException Elasticsearch 통신 실패 시
+     * <p>재시도 가능한 실패로 기록된 뉴스를 outbox에 다시 등록합니다. 실제 색인은 outbox 릴레이가 수행합니다.</p>
+     * <p>자정 파이프라인의 {@code es-retry} 노드와 같은 작업이며, 영구 실패는 dead-letter 재처리로 다시 보냅니다.</p>
      */
     @Operation(
-            summary = "[관리자/테스트] 전날 뉴스 색인 실행",
-            description = "전날 DB에서 뉴스 데이터를 불러와 섹션별로 Elasticsearch에 bulk 색인합니다. 테스트용 엔드포인트입니다."
+            summary = "[관리자/테스트] 색인 실패 뉴스 재색인 실행",
+            description = "재시도 가능한 실패(거부 / 일시 장애)로 기록된 뉴스를 outbox에 다시 등록하여 Elasticsearch에 재반영합니다."
     )
-    @ApiResponses(@ApiResponse(responseCode = "204", description = "설정 삭제 성공"))
+    @ApiResponses(@ApiResponse(responseCode = "204", description = "재등록 완료"))
     @GetMapping("/api/admin/elasticsearch")
-    public ResponseEntity<Void> bulk() throws IOException {
-        newsEsService.esBulkService();
+    public ResponseEntity<Void> bulk() {
+        newsEsService.retryFailedIndexing();
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 색인 실패 dead-letter 조회
+     *
+     * <p>최종 실패한 뉴스의 상태 코드, 오류 유형, 사유, 재시도 가능 여부, 실패 횟수를 최근 실패 순으로 반환합니다.</p>
+     */
+    @Operation(
+            summary = "[관리자] 색인 실패 dead-letter 조회",
+            description = "재시도 후에도 색인에 실패한 뉴스를 최근 실패 순으로 조회합니다. retryable=false는 매핑 오류 등 영구 실패입니다."
+    )
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "조회 성공"))
+    @GetMapping("/api/admin/elasticsearch/dead-letter")
+    public ResponseEntity<List<NewsEsService.DeadLetter>> deadLetters(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(newsEsService.getDeadLetters(limit));
+    }
+
+    /**
+     * 색인 실패 dead-letter 재처리
+     *
+     * <p>원인(매핑 등)을 고친 뒤 영구 실패를 포함해 다시 보낼 때 사용합니다. 실제 색인은 outbox 릴레이가 수행합니다.</p>
+     */
+    @Operation(
+            summary = "[관리자] 색인 실패 dead-letter 재처리",
+            description = "dead-letter의 뉴스를 outbox에 다시 등록합니다. newsId를 생략하면 영구 실패를 포함한 전체를 재처리합니다."
+    )
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "다시 등록한 뉴스 수"))
+    @GetMapping("/api/admin/elasticsearch/dead-letter/replay")
+    public ResponseEntity<Integer> replayDeadLetters(@RequestParam(required = false) Long newsId) {
+        return ResponseEntity.ok(newsEsService.replayDeadLetters(newsId));
+    }
+
+    /**
+     * 기간 내 뉴스를 DB에서 직접 읽어 Elasticsearch에 재색인
+     *
+     * <p>outbox 보관 기간이 지난 뉴스를 다시 반영해야 할 때 사용합니다. news 테이블을 keyset 페이지 단위로 읽습니다.</p>
+     */
+    @Operation(
+            summary = "[관리자] 기간 뉴스 재색인 실행",
+            description = "지정한 날짜 범위(양 끝 포함)의 뉴스를 DB에서 페이지 단위로 읽어 Elasticsearch에 다시 색인합니다."
+    )
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "색인 요청한 뉴스 수"))
+    @GetMapping("/api/admin/elasticsearch/reindex")
+    public ResponseEntity<Long> reindex(@RequestParam LocalDate from, @RequestParam LocalDate to) throws IOException {
+        return ResponseEntity.ok(newsEsReindexService.reindex(from, to));
+    }
+
+    /**
+     * 기간 내 날짜 인덱스를 현재 템플릿(분석기 / 불용어 / 매핑)으로 무중단 재생성
+     *
+     * <p>템플릿을 바꾸고 재시작한 뒤 호출합니다. 새 버전 인덱스를 채우고 도큐먼트 수를 확인한 다음 별칭을 한 번에 옮기므로,
+     * 재생성 중에도 검색 / 전송은 기존 인덱스를 그대로 사용합니다.</p>
+     */
+    @Operation(
+            summary = "[관리자] 날짜 인덱스 무중단 재생성",
+            description = "지정한 날짜 범위(양 끝 포함)의 날짜 인덱스를 새 버전으로 다시 만들고, 도큐먼트 수가 DB와 같으면 별칭을 원자적으로 교체합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "날짜별 결과 (SWAPPED / SKIPPED / FAILED)"),
+            @ApiResponse(responseCode = "409", description = "다른 인스턴스에서 재생성 실행 중")
+    })
+    @GetMapping("/api/admin/elasticsearch/migrate")
+    public ResponseEntity<List<NewsEsMigrationService.DayResult>> migrate(@RequestParam LocalDate from, @RequestParam LocalDate to) throws Exception {
+        return ResponseEntity.ok(newsEsMigrationService.migrate(from, to));
+    }
+
+    /**
+     * 로컬 대체 인덱스 / Elasticsearch 검색 상태 조회
+     *
+     * <p>{@code health.fallback}이 true인 동안 사용자 전송 검색은 로컬 대체 인덱스에서 수행됩니다.</p>
+     */
+    @Operation(
+            summary = "[관리자] 로컬 대체 인덱스 상태 조회",
+            description = "이 인스턴스의 로컬 대체 인덱스(기간, 도큐먼트 수, 크기)와 Elasticsearch 검색 실패율 / 지연 시간, 전환 여부를 조회합니다."
+    )
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "조회 성공"))
+    @GetMapping("/api/admin/elasticsearch/fallback")
+    public ResponseEntity<Map<String, Object>> fallbackStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("index", newsFallbackIndexService.getStatus());
+        status.put("health", esSearchHealthTracker.getStatus());
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * 로컬 대체 인덱스 재생성
+     *
+     * <p>요청을 받은 인스턴스의 인덱스를 다시 만들고 새 세대를 게시합니다.
+     * 다른 인스턴스는 {@code news.fallback.index.refresh-cron}마다 세대를 확인해 따라 재생성합니다.</p>
+     */
+    @Operation(
+            summary = "[관리자] 로컬 대체 인덱스 재생성",
+            description = "최근 news.fallback.index.days일치 뉴스를 DB에서 읽어 로컬 대체 인덱스를 다시 만듭니다. 다른 인스턴스는 다음 세대 확인 때 따라 재생성합니다."
+    )
+    @ApiResponses(@ApiResponse(responseCode = "200", description = "색인한 뉴스 수"))
+    @GetMapping("/api/admin/elasticsearch/fallback/rebuild")
+    public ResponseEntity<Long> rebuildFallback() throws IOException {
+        return ResponseEntity.ok(newsFallbackIndexService.rebuildAndPublish());
+    }
 }
@@ -13,6 +13,7 @@ import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Elasticsearch 색인용 뉴스 문서 (DTO 겸용)
@@ -70,4 +71,8 @@ public class NewsEsDocument {
     @Field(type = FieldType.Text, analyzer = "korean_nori")
     @Schema(description = "색인용 통합 토큰 (제목 + 요약 병합 결과)", example = "윤석열 미국 방문 경제 협력")
     private String combinedTokens;
+
+    @Field(type = FieldType.Keyword)
+    @Schema(description = "색인 시점에 추출한 키워드 (핫토픽 집계용)", example = "[\"윤석열\", \"미국\", \"방문\", \"경제\", \"협력\"]")
+    private List<String> keywords;
 }
\ No newline at end of file
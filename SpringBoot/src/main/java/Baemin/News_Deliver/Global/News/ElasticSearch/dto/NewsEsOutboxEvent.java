@@ -0,0 +1,40 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * news → Elasticsearch 동기화 outbox 이벤트
+ *
+ * <p>{@code news_es_outbox} 테이블의 한 행이며, news 테이블의 INSERT / DELETE 트리거가 같은 트랜잭션 안에서 기록합니다.
+ * 이벤트 ID는 Elasticsearch 외부 버전(external version)으로 사용되므로,
+ * 같은 이벤트를 여러 번 반영하거나 오래된 이벤트가 늦게 도착해도 도큐먼트 상태는 한 번 반영한 것과 같습니다.</p>
+ *
+ * @author 김원중
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NewsEsOutboxEvent {
+
+    public enum Op {
+        INDEX, DELETE
+    }
+
+    /** outbox 이벤트 ID (AUTO_INCREMENT, 외부 버전) */
+    private final long eventId;
+
+    /** 대상 뉴스 ID (= Elasticsearch 도큐먼트 ID) */
+    private final long newsId;
+
+    private final Op op;
+
+    /** 뉴스 발행 시각 (트리거가 기록, 도큐먼트가 들어갈 날짜 인덱스 결정. 기록 전 이벤트는 null) */
+    private final LocalDateTime publishedAt;
+
+    /** 색인할 도큐먼트 (DELETE 이거나 뉴스 행이 이미 삭제된 경우 null) */
+    private final NewsEsDocument document;
+}
@@ -0,0 +1,160 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.helper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 뉴스 검색용 Elasticsearch 상태 추적기
+ *
+ * <p>최근 {@code window-size}건의 검색 결과(지연 시간, 실패 여부)를 기록하고, 호출 수가 {@code min-calls} 이상일 때
+ * 실패율이 {@code error-rate-threshold} 이상이거나 평균 지연 시간이 {@code latency-threshold-ms} 이상이면
+ * {@code open-duration-ms} 동안 검색을 로컬 대체 인덱스로 보냅니다.
+ * 기간이 지나면 기록을 비우고 다시 Elasticsearch로 검색하며, 여전히 느리거나 실패하면 다시 전환됩니다.</p>
+ *
+ * <p>전송이 몰리는 분에 Elasticsearch가 느려지면 그 분의 나머지 검색을 로컬 인덱스가 맡아 Elasticsearch 부하도 줄어듭니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Component
+public class EsSearchHealthTracker {
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double errorRateThreshold;
+    private final long latencyThresholdMs;
+    private final long openDurationMs;
+
+    /* 최근 검색 기록 (링 버퍼) */
+    private final long[] latencies;
+    private final boolean[] failures;
+    private int next;
+    private int count;
+    private long latencySum;
+    private int failureCount;
+
+    /** 로컬 인덱스로 검색하는 기간의 종료 시각 (0이면 Elasticsearch 사용) */
+    private volatile long openUntilMillis;
+    private volatile String openReason;
+    private volatile long openCount;
+
+    public EsSearchHealthTracker(@Value("${news.fallback.health.window-size:50}") int windowSize,
+                                 @Value("${news.fallback.health.min-calls:10}") int minCalls,
+                                 @Value("${news.fallback.health.error-rate-threshold:0.5}") double errorRateThreshold,
+                                 @Value("${news.fallback.health.latency-threshold-ms:1500}") long latencyThresholdMs,
+                                 @Value("${news.fallback.health.open-duration-ms:30000}") long openDurationMs) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minCalls = Math.max(1, Math.min(minCalls, this.windowSize));
+        this.errorRateThreshold = errorRateThreshold;
+        this.latencyThresholdMs = latencyThresholdMs;
+        this.openDurationMs = openDurationMs;
+        this.latencies = new long[this.windowSize];
+        this.failures = new boolean[this.windowSize];
+    }
+
+    /**
+     * 지금 검색을 로컬 대체 인덱스로 보내야 하는지
+     *
+     * @return 전환 기간 중이면 true
+     */
+    public boolean shouldUseFallback() {
+        long until = openUntilMillis;
+        if (until == 0) {
+            return false;
+        }
+        if (System.currentTimeMillis() < until) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    /**
+     * 성공한 Elasticsearch 검색 기록
+     *
+     * @param latencyMs 응답 시간
+     */
+    public void recordSuccess(long latencyMs) {
+        record(latencyMs, false);
+    }
+
+    /**
+     * 실패한 Elasticsearch 검색 기록
+     *
+     * @param latencyMs 실패까지 걸린 시간
+     */
+    public void recordFailure(long latencyMs) {
+        record(latencyMs, true);
+    }
+
+    /**
+     * 현재 상태 (모니터링용)
+     *
+     * @return fallback / reason / openUntil / calls / errorRate / avgLatencyMs / openCount
+     */
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("fallback", shouldUseFallback());
+        status.put("reason", openReason);
+        status.put("openUntil", openUntilMillis);
+        status.put("calls", count);
+        status.put("errorRate", count == 0 ? 0.0 : (double) failureCount / count);
+        status.put("avgLatencyMs", count == 0 ? 0 : latencySum / count);
+        status.put("openCount", openCount);
+        return status;
+    }
+
+    private synchronized void record(long latencyMs, boolean failed) {
+        if (count == windowSize) {
+            latencySum -= latencies[next];
+            if (failures[next]) {
+                failureCount--;
+            }
+        } else {
+            count++;
+        }
+        latencies[next] = latencyMs;
+        failures[next] = failed;
+        latencySum += latencyMs;
+        if (failed) {
+            failureCount++;
+        }
+        next = (next + 1) % windowSize;
+
+        if (count < minCalls || openUntilMillis != 0) {
+            return;
+        }
+
+        double errorRate = (double) failureCount / count;
+        long avgLatencyMs = latencySum / count;
+        if (errorRate >= errorRateThreshold) {
+            open("실패율 %.0f%% (최근 %d건)".formatted(errorRate * 100, count));
+        } else if (avgLatencyMs >= latencyThresholdMs) {
+            open("평균 지연 %dms (최근 %d건)".formatted(avgLatencyMs, count));
+        }
+    }
+
+    private void open(String reason) {
+        openUntilMillis = System.currentTimeMillis() + openDurationMs;
+        openReason = reason;
+        openCount++;
+        log.warn("🚧 Elasticsearch 검색 상태 이상 → {}ms 동안 로컬 대체 인덱스로 검색: {}", openDurationMs, reason);
+    }
+
+    /* 전환 기간 종료: 이전 기록을 비우고 Elasticsearch로 다시 검색 */
+    private synchronized void close() {
+        if (openUntilMillis == 0 || System.currentTimeMillis() < openUntilMillis) {
+            return;
+        }
+        openUntilMillis = 0;
+        next = 0;
+        count = 0;
+        latencySum = 0;
+        failureCount = 0;
+        log.info("🔓 로컬 대체 인덱스 전환 종료 → Elasticsearch 검색 재개 (직전 사유: {})", openReason);
+    }
+}
@@ -0,0 +1,143 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.helper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 날짜별 뉴스 인덱스 이름 Helper
+ *
+ * <p>뉴스는 발행일({@code published_at})의 날짜별 인덱스 {@code news-nori-yyyy.MM.dd}에 저장되고,
+ * 모든 날짜 인덱스는 템플릿({@code resources/elasticsearch/news-nori-template.json})에 의해
+ * 읽기 별칭 {@code news-nori}에 포함됩니다.</p>
+ *
+ * <p>날짜 범위가 있는 검색은 {@link #indicesFor}로 해당 날짜의 인덱스만 조회하여,
+ * 보관 기간 동안 인덱스가 늘어나도 검색이 건드리는 샤드 수는 조회 기간만큼으로 유지됩니다.</p>
+ *
+ * <p>매핑 / 분석기 변경으로 다시 만든 날짜 인덱스는 {@code news-nori-yyyy.MM.dd-v{버전}}이라는 실제 이름을 갖고,
+ * 날짜 이름 {@code news-nori-yyyy.MM.dd}는 그 인덱스를 가리키는 별칭이 됩니다. 색인 / 검색은 항상 날짜 이름을 사용하므로
+ * 실제 인덱스가 바뀌어도 호출자는 알 필요가 없습니다.</p>
+ *
+ * @author 김원중
+ */
+public class NewsIndexHelper {
+
+    /** 모든 날짜 인덱스를 가리키는 읽기 별칭 */
+    public static final String READ_ALIAS = "news-nori";
+
+    /** 날짜 인덱스 이름 접두사 */
+    public static final String INDEX_PREFIX = "news-nori-";
+
+    /** 날짜 인덱스 템플릿 이름 */
+    public static final String TEMPLATE_NAME = "news-nori-template";
+
+    /** 날짜 인덱스를 하나씩 나열할 최대 일수 (이보다 길면 별칭 전체 조회) */
+    private static final int MAX_LISTED_DAYS = 31;
+
+    /** 버전 인덱스 접미사 ({@code -v2}, {@code -v3} ...) */
+    private static final String VERSION_SEPARATOR = "-v";
+
+    private static final DateTimeFormatter INDEX_DATE = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+    private NewsIndexHelper() {
+    }
+
+    /**
+     * 날짜의 인덱스 이름
+     *
+     * @param date 발행일
+     * @return {@code news-nori-yyyy.MM.dd}
+     */
+    public static String dailyIndex(LocalDate date) {
+        return INDEX_PREFIX + date.format(INDEX_DATE);
+    }
+
+    /**
+     * 발행 시각의 인덱스 이름
+     *
+     * @param publishedAt 발행 시각
+     * @return {@code news-nori-yyyy.MM.dd}
+     */
+    public static String dailyIndex(LocalDateTime publishedAt) {
+        return dailyIndex(publishedAt.toLocalDate());
+    }
+
+    /**
+     * 날짜의 버전 인덱스 이름 (재생성한 날짜 인덱스의 실제 이름)
+     *
+     * @param date 발행일
+     * @param version 버전 (2 이상)
+     * @return {@code news-nori-yyyy.MM.dd-v{version}}
+     */
+    public static String versionedIndex(LocalDate date, int version) {
+        return dailyIndex(date) + VERSION_SEPARATOR + version;
+    }
+
+    /**
+     * 실제 인덱스 이름의 버전
+     *
+     * @param indexName 실제 인덱스 이름
+     * @return 버전 (접미사가 없는 최초 인덱스는 1)
+     */
+    public static int versionOf(String indexName) {
+        int separator = indexName.lastIndexOf(VERSION_SEPARATOR);
+        if (separator < 0) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(indexName.substring(separator + VERSION_SEPARATOR.length()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * 날짜 범위(양 끝 포함)를 덮는 인덱스 목록
+     *
+     * <p>아직 만들어지지 않았거나 보관 기간이 지나 삭제된 날짜도 포함되므로,
+     * 검색 시 {@code ignore_unavailable} / {@code allow_no_indices}를 함께 지정해야 합니다.</p>
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return 날짜 인덱스 목록 (범위가 {@value #MAX_LISTED_DAYS}일보다 길면 읽기 별칭 하나)
+     */
+    public static List<String> indicesFor(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return List.of(dailyIndex(from));
+        }
+        if (from.plusDays(MAX_LISTED_DAYS).isBefore(to)) {
+            return List.of(READ_ALIAS);
+        }
+
+        List<String> indices = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            indices.add(dailyIndex(date));
+        }
+        return indices;
+    }
+
+    /**
+     * 날짜 인덱스 이름(버전 인덱스 포함)에서 날짜 추출
+     *
+     * @param indexName 인덱스 이름
+     * @return 날짜 (날짜 인덱스 형식이 아니면 null)
+     */
+    public static LocalDate dateOf(String indexName) {
+        if (indexName == null || !indexName.startsWith(INDEX_PREFIX)) {
+            return null;
+        }
+        String date = indexName.substring(INDEX_PREFIX.length());
+        int separator = date.indexOf(VERSION_SEPARATOR);
+        if (separator >= 0) {
+            date = date.substring(0, separator);
+        }
+        try {
+            return LocalDate.parse(date, INDEX_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
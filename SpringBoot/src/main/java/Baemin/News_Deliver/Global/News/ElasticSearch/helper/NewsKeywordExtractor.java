@@ -0,0 +1,127 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.helper;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.WordlistLoader;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanReadingFormFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.ko.POS;
+import org.apache.lucene.analysis.miscellaneous.LengthFilter;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 색인 시점 뉴스 키워드 추출기
+ *
+ * <p>제목과 요약을 인덱스의 {@code korean_nori} 분석기와 같은 순서(nori 토크나이저 → 소문자 → 한자 읽기 →
+ * 품사 제외 → 불용어 → 2자 이상)로 분석해, 도큐먼트의 {@code keywords}(keyword 타입, doc values) 필드에 담을 토큰을 만듭니다.
+ * 핫토픽 집계는 이 필드를 사용하므로, Elasticsearch가 {@code combinedTokens}의 fielddata를 힙에 만들지 않습니다.</p>
+ *
+ * <p>품사 제외 목록과 불용어 파일({@code resources/elasticsearch/stopwords.txt})은 인덱스 템플릿과 같은 것을 사용합니다.
+ * 분석기 설정을 바꾸면 {@code news-nori-template.json}과 함께 바꿔야 합니다.</p>
+ *
+ * @author 김원중
+ */
+@Component
+public class NewsKeywordExtractor {
+
+    /** news-nori-template.json의 nori_pos_filter stoptags */
+    private static final String[] STOP_TAGS = {
+            "E", "IC", "J", "MAG", "MAJ", "MM", "SP", "SSC", "SSO", "SC", "SE",
+            "UNA", "NA", "VSV", "VV", "VA", "VX", "VCP", "VCN", "EC", "ETM", "ETN",
+            "XPN", "XR", "XSA", "XSN", "XSV"
+    };
+
+    private static final String STOPWORDS_RESOURCE = "elasticsearch/stopwords.txt";
+    private static final int MIN_LENGTH = 2;
+
+    private final Analyzer analyzer;
+
+    public NewsKeywordExtractor() {
+        Set<POS.Tag> stopTags = EnumSet.noneOf(POS.Tag.class);
+        for (String tag : STOP_TAGS) {
+            stopTags.add(POS.resolveTag(tag));
+        }
+        CharArraySet stopwords = loadStopwords();
+
+        // Analyzer는 스레드마다 TokenStream을 재사용하므로 여러 색인 스레드가 공유해도 안전
+        this.analyzer = new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new KoreanTokenizer(); // decompound_mode: discard (nori_tokenizer 기본값)
+                TokenStream stream = new LowerCaseFilter(tokenizer);
+                stream = new KoreanReadingFormFilter(stream);
+                stream = new KoreanPartOfSpeechStopFilter(stream, stopTags);
+                stream = new StopFilter(stream, stopwords);
+                stream = new LengthFilter(stream, MIN_LENGTH, Integer.MAX_VALUE);
+                return new TokenStreamComponents(tokenizer, stream);
+            }
+        };
+    }
+
+    /**
+     * 제목 + 요약 키워드 추출
+     *
+     * @param title 뉴스 제목 (null 허용)
+     * @param summary 뉴스 요약 (null 허용)
+     * @return 중복을 제거한 키워드 (처음 나온 순서)
+     */
+    public List<String> extract(String title, String summary) {
+        Set<String> keywords = new LinkedHashSet<>();
+        collect(title, keywords);
+        collect(summary, keywords);
+        return new ArrayList<>(keywords);
+    }
+
+    /**
+     * 인덱스의 {@code korean_nori}와 같은 분석기 (로컬 대체 인덱스의 색인 / 검색에도 사용)
+     *
+     * @return 공유 Analyzer (close 하지 않음)
+     */
+    public Analyzer analyzer() {
+        return analyzer;
+    }
+
+    private void collect(String text, Set<String> keywords) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        try (TokenStream stream = analyzer.tokenStream("keywords", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                keywords.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            // 문자열 입력이므로 실제로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CharArraySet loadStopwords() {
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource(STOPWORDS_RESOURCE).getInputStream(), StandardCharsets.UTF_8)) {
+            return WordlistLoader.getWordSet(reader, "#", new CharArraySet(1024, false));
+        } catch (IOException e) {
+            throw new UncheckedIOException("불용어 파일 로드 실패: " + STOPWORDS_RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 크기 / 용량 제한이 있는 Elasticsearch Bulk 동시 전송기
+ *
+ * <p>요청 한 번에 받은 도큐먼트 작업을 하나의 Bulk 요청으로 보내지 않고, {@link BulkIngester}가
+ * 작업 수({@code max-operations}) 또는 요청 크기({@code max-bytes})에 도달할 때마다 나누어 전송합니다.
+ * 최대 {@code max-concurrent-requests}개의 Bulk가 동시에 전송되며, 그 이상 쌓이면 작업 추가가 대기합니다(역압).
+ * 작은 힙(512MB)에서 큰 Bulk 하나로 circuit breaker에 걸리지 않도록 하고, 응답을 기다리는 동안 다음 Bulk를 보냅니다.</p>
+ *
+ * <p>호출자는 {@link #index(List)}로 작업 묶음을 넘기고, 그 묶음의 모든 작업이 어느 Bulk로든 응답을 받을 때까지 기다립니다.
+ * 여러 호출자(섹션)가 동시에 넘겨도 같은 전송기를 공유하므로 동시 전송 수는 전체에서 제한됩니다.
+ * {@link #submit}은 작업을 쌓기만 하므로 여러 묶음의 작업이 한 Bulk로 합쳐지며, 크기 제한에 못 미친 나머지 작업은
+ * 그 묶음을 {@link #await}할 때(더 보낼 작업이 없을 때), {@code flush-interval-ms} 주기, 종료 시에만 전송됩니다.</p>
+ *
+ * <p>도큐먼트 단위 실패는 재시도 가능(거부 429, 노드 과부하 / 일시 장애)과 영구 실패(매핑 오류 등)로 구분합니다.
+ * {@link #indexWithRetry(List)}는 재시도 가능한 작업만 지수 백오프 후 더 작은 Bulk({@code retry-batch-size})로 순서대로 다시 보내며,
+ * 영구 실패와 재시도 횟수를 넘긴 실패는 호출자에게 돌려줍니다.</p>
+ *
+ * <p>Bulk마다 작업 수, 지연 시간, 거부(429) 건수, 재전송 건수를 기록하며 {@link #getStats()}로 조회할 수 있습니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Component
+public class NewsEsBulkIngester {
+
+    /** 일시적인 과부하 / 장애로 보는 오류 유형 (상태 코드와 함께 판단) */
+    private static final Set<String> RETRYABLE_TYPES = Set.of(
+            "es_rejected_execution_exception",
+            "circuit_breaking_exception",
+            "unavailable_shards_exception",
+            "node_not_connected_exception",
+            "node_closed_exception"
+    );
+
+    private final BulkIngester<Submission> ingester;
+    private final long awaitTimeoutMs;
+    private final int maxRetries;
+    private final int retryBatchSize;
+    private final long retryInitialBackoffMs;
+    private final long retryMaxBackoffMs;
+
+    private final Map<Long, Long> startedAt = new ConcurrentHashMap<>();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong operations = new AtomicLong();
+    private final AtomicLong itemFailures = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong requestFailures = new AtomicLong();
+    private final AtomicLong totalLatencyMs = new AtomicLong();
+    private final AtomicLong maxLatencyMs = new AtomicLong();
+    private final AtomicLong lastLatencyMs = new AtomicLong();
+    private final AtomicLong retriedOperations = new AtomicLong();
+    private final AtomicLong retryRecovered = new AtomicLong();
+
+    public NewsEsBulkIngester(ElasticsearchClient elasticsearchClient,
+                              @Value("${news.es.bulk.max-operations:500}") int maxOperations,
+                              @Value("${news.es.bulk.max-bytes:5242880}") long maxBytes,
+                              @Value("${news.es.bulk.max-concurrent-requests:2}") int maxConcurrentRequests,
+                              @Value("${news.es.bulk.flush-interval-ms:1000}") long flushIntervalMs,
+                              @Value("${news.es.bulk.await-timeout-ms:60000}") long awaitTimeoutMs,
+                              @Value("${news.es.bulk.retry.max-attempts:3}") int maxRetries,
+                              @Value("${news.es.bulk.retry.batch-size:100}") int retryBatchSize,
+                              @Value("${news.es.bulk.retry.initial-backoff-ms:200}") long retryInitialBackoffMs,
+                              @Value("${news.es.bulk.retry.max-backoff-ms:5000}") long retryMaxBackoffMs) {
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.maxRetries = maxRetries;
+        this.retryBatchSize = retryBatchSize;
+        this.retryInitialBackoffMs = retryInitialBackoffMs;
+        this.retryMaxBackoffMs = retryMaxBackoffMs;
+        this.ingester = BulkIngester.of(b -> b
+                .client(elasticsearchClient)
+                .maxOperations(maxOperations)
+                .maxSize(maxBytes)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .flushInterval(flushIntervalMs, TimeUnit.MILLISECONDS)
+                .listener(new Listener())
+        );
+        log.info("📦 Bulk 전송기 설정: 작업 {}건 / {}KB 단위, 동시 전송 {}개", maxOperations, maxBytes / 1024, maxConcurrentRequests);
+    }
+
+    /**
+     * 도큐먼트 작업 묶음 전송 후 모두 응답받을 때까지 대기
+     *
+     * <p>버전 충돌(409)은 이미 같거나 더 새로운 버전이 반영된 것이므로 실패로 보지 않습니다.</p>
+     *
+     * @param bulkOperations 전송할 작업 (같은 도큐먼트에 대한 작업은 하나만 포함)
+     * @return 도큐먼트 ID → 실패 내용 (도큐먼트 단위 실패가 없으면 빈 Map)
+     * @throws IOException Bulk 요청 자체가 실패했거나 대기 시간 안에 응답받지 못한 경우
+     */
+    public Map<String, ItemFailure> index(List<BulkOperation> bulkOperations) throws IOException {
+        return await(submit(bulkOperations));
+    }
+
+    /**
+     * 도큐먼트 작업 묶음 전송 후, 재시도 가능한 실패만 백오프하며 다시 전송
+     *
+     * @param bulkOperations 전송할 작업 (같은 도큐먼트에 대한 작업은 하나만 포함)
+     * @return 도큐먼트 ID → 최종 실패 내용 (영구 실패 + 재시도 횟수를 넘긴 실패)
+     * @throws IOException Bulk 요청 자체가 실패했거나 대기 시간 안에 응답받지 못한 경우
+     */
+    public Map<String, ItemFailure> indexWithRetry(List<BulkOperation> bulkOperations) throws IOException {
+        return retry(bulkOperations, index(bulkOperations));
+    }
+
+    /**
+     * 이미 전송한 작업 묶음의 실패 중 재시도 가능한 작업만 다시 전송
+     *
+     * <p>시도마다 {@code initial-backoff-ms}부터 두 배씩({@code max-backoff-ms}까지) 기다린 뒤,
+     * 실패한 작업을 {@code retry-batch-size}개씩 나누어 한 번에 하나의 Bulk만 보냅니다.
+     * 외부 버전을 쓰는 작업은 그 사이 더 새로운 버전이 반영됐다면 버전 충돌(성공)로 끝납니다.</p>
+     *
+     * @param submitted 전송했던 작업
+     * @param failures 그 작업의 실패 내용 ({@link #index} / {@link #await} 결과)
+     * @return 도큐먼트 ID → 최종 실패 내용
+     * @throws IOException Bulk 요청 자체가 실패했거나 대기 시간 안에 응답받지 못한 경우
+     */
+    public Map<String, ItemFailure> retry(List<BulkOperation> submitted, Map<String, ItemFailure> failures) throws IOException {
+        Map<String, ItemFailure> remaining = new HashMap<>(failures);
+        if (remaining.values().stream().noneMatch(ItemFailure::retryable)) {
+            return remaining;
+        }
+
+        long backoffMs = retryInitialBackoffMs;
+        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            List<BulkOperation> retryable = new ArrayList<>();
+            for (BulkOperation operation : submitted) {
+                ItemFailure failure = remaining.get(idOf(operation));
+                if (failure != null && failure.retryable()) {
+                    retryable.add(operation);
+                }
+            }
+            if (retryable.isEmpty()) {
+                break;
+            }
+
+            log.warn("🔁 Bulk 재시도 {}/{}: {}건 ({}ms 후, {}건씩)", attempt, maxRetries, retryable.size(), backoffMs, retryBatchSize);
+            sleep(backoffMs);
+            backoffMs = Math.min(backoffMs * 2, retryMaxBackoffMs);
+            retriedOperations.addAndGet(retryable.size());
+
+            for (int from = 0; from < retryable.size(); from += retryBatchSize) {
+                List<BulkOperation> chunk = retryable.subList(from, Math.min(from + retryBatchSize, retryable.size()));
+                Map<String, ItemFailure> chunkFailures = index(chunk);
+                for (BulkOperation operation : chunk) {
+                    String id = idOf(operation);
+                    ItemFailure failure = chunkFailures.get(id);
+                    if (failure == null) {
+                        remaining.remove(id);
+                        retryRecovered.incrementAndGet();
+                    } else {
+                        remaining.put(id, failure);
+                    }
+                }
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * 도큐먼트 작업 묶음 전송 (응답을 기다리지 않음)
+     *
+     * <p>다음 묶음을 준비하는 동안 이전 묶음이 전송되도록 할 때 사용합니다.
+     * 동시 전송 수를 넘으면 작업을 추가하는 동안 대기합니다. 크기 제한에 못 미친 나머지 작업은 바로 보내지 않고
+     * 다음 묶음의 작업과 합쳐 전송합니다.</p>
+     *
+     * @param bulkOperations 전송할 작업 (같은 도큐먼트에 대한 작업은 하나만 포함)
+     * @return 모든 작업이 응답받으면 도큐먼트 ID → 실패 내용으로 완료되는 Future (Bulk 요청 자체가 실패하면 예외로 완료)
+     */
+    public CompletableFuture<Map<String, ItemFailure>> submit(List<BulkOperation> bulkOperations) {
+        if (bulkOperations.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        Submission submission = new Submission(bulkOperations.size());
+        for (BulkOperation operation : bulkOperations) {
+            ingester.add(operation, submission);
+        }
+        return submission.result;
+    }
+
+    /**
+     * {@link #submit}한 묶음의 응답 대기
+     *
+     * <p>묶음의 작업이 아직 전송되지 않고 쌓여 있으면 flush 주기를 기다리지 않고 바로 전송합니다.</p>
+     *
+     * @param submitted {@link #submit}의 반환값
+     * @return 도큐먼트 ID → 실패 내용
+     * @throws IOException Bulk 요청 자체가 실패했거나 대기 시간 안에 응답받지 못한 경우
+     */
+    public Map<String, ItemFailure> await(CompletableFuture<Map<String, ItemFailure>> submitted) throws IOException {
+        if (submitted instanceof Submission.Result result && result.unsent() > 0) {
+            ingester.flush();
+        }
+        try {
+            return submitted.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("Bulk 응답 대기 시간 초과 (" + awaitTimeoutMs + "ms)", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk 응답 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable failure = e.getCause();
+            throw failure instanceof IOException io ? io : new IOException(failure.getMessage(), failure);
+        }
+    }
+
+    /**
+     * Bulk 전송 지표 조회
+     *
+     * @return flushes / operations / itemFailures / rejections / requestFailures / retriedOperations / retryRecovered / avgLatencyMs / maxLatencyMs / lastLatencyMs / pendingRequests
+     */
+    public Map<String, Object> getStats() {
+        long flushCount = flushes.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("flushes", flushCount);
+        stats.put("operations", operations.get());
+        stats.put("itemFailures", itemFailures.get());
+        stats.put("rejections", rejections.get());
+        stats.put("requestFailures", requestFailures.get());
+        stats.put("retriedOperations", retriedOperations.get());
+        stats.put("retryRecovered", retryRecovered.get());
+        stats.put("avgLatencyMs", flushCount == 0 ? 0 : totalLatencyMs.get() / flushCount);
+        stats.put("maxLatencyMs", maxLatencyMs.get());
+        stats.put("lastLatencyMs", lastLatencyMs.get());
+        stats.put("pendingRequests", ingester.pendingRequests());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ingester.close();
+    }
+
+    /**
+     * 도큐먼트 단위 실패 내용
+     *
+     * @param status 응답 상태 코드
+     * @param type 오류 유형 (예: es_rejected_execution_exception, document_parsing_exception)
+     * @param reason 오류 사유
+     */
+    public record ItemFailure(int status, String type, String reason) {
+
+        /**
+         * 다시 보내면 성공할 수 있는 실패인지 (거부 / 과부하 / 일시 장애)
+         */
+        public boolean retryable() {
+            return status == 429 || status == 502 || status == 503 || status == 504
+                    || (type != null && RETRYABLE_TYPES.contains(type));
+        }
+    }
+
+    private static String idOf(BulkOperation operation) {
+        return switch (operation._kind()) {
+            case Index -> operation.index().id();
+            case Create -> operation.create().id();
+            case Update -> operation.update().id();
+            case Delete -> operation.delete().id();
+            default -> null;
+        };
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk 재시도 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 호출 한 번에 넘긴 작업 묶음의 응답 추적 (작업마다 Bulk 컨텍스트로 전달)
+     */
+    static final class Submission {
+
+        private final AtomicInteger unsent;
+        private final AtomicInteger remaining;
+        private final Map<String, ItemFailure> failures = new ConcurrentHashMap<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Result result = new Result();
+
+        private Submission(int operations) {
+            this.unsent = new AtomicInteger(operations);
+            this.remaining = new AtomicInteger(operations);
+        }
+
+        /* 묶음의 응답 Future (아직 Bulk에 담기지 않은 작업 수를 함께 확인) */
+        final class Result extends CompletableFuture<Map<String, ItemFailure>> {
+            private int unsent() {
+                return unsent.get();
+            }
+        }
+
+        /* 작업 하나가 응답받음 (마지막 작업이면 결과 완료) */
+        private void responded() {
+            if (remaining.decrementAndGet() > 0) {
+                return;
+            }
+            Throwable error = failure.get();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(failures);
+            }
+        }
+    }
+
+    private final class Listener implements BulkListener<Submission> {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<Submission> contexts) {
+            startedAt.put(executionId, System.nanoTime());
+            contexts.forEach(submission -> submission.unsent.decrementAndGet());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<Submission> contexts, BulkResponse response) {
+            long latencyMs = recordLatency(executionId, contexts.size());
+
+            int failed = 0;
+            int rejected = 0;
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < items.size(); i++) {
+                BulkResponseItem item = items.get(i);
+                Submission submission = contexts.get(i);
+                if (item.error() != null && item.status() != 409) { // 409 = 이미 반영된 버전
+                    submission.failures.put(item.id(), new ItemFailure(item.status(), item.error().type(), String.valueOf(item.error().reason())));
+                    failed++;
+                    if (item.status() == 429) {
+                        rejected++;
+                    }
+                }
+                submission.responded();
+            }
+            itemFailures.addAndGet(failed);
+            rejections.addAndGet(rejected);
+
+            if (failed > 0) {
+                log.warn("⚠️ Bulk #{} {}건 ({}ms): 실패 {}건 (거부 {}건)", executionId, contexts.size(), latencyMs, failed, rejected);
+            } else {
+                log.info("📦 Bulk #{} {}건 ({}ms)", executionId, contexts.size(), latencyMs);
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<Submission> contexts, Throwable failure) {
+            long latencyMs = recordLatency(executionId, contexts.size());
+            requestFailures.incrementAndGet();
+
+            for (Submission submission : contexts) {
+                submission.failure.compareAndSet(null, failure);
+                submission.responded();
+            }
+            log.error("❌ Bulk #{} {}건 요청 실패 ({}ms): {}", executionId, contexts.size(), latencyMs, failure.getMessage());
+        }
+
+        private long recordLatency(long executionId, int size) {
+            Long start = startedAt.remove(executionId);
+            long latencyMs = start == null ? 0 : (System.nanoTime() - start) / 1_000_000;
+
+            flushes.incrementAndGet();
+            operations.addAndGet(size);
+            totalLatencyMs.addAndGet(latencyMs);
+            maxLatencyMs.accumulateAndGet(latencyMs, Math::max);
+            lastLatencyMs.set(latencyMs);
+            return latencyMs;
+        }
+    }
+}
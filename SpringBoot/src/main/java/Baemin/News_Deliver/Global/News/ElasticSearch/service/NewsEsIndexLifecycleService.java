@@ -0,0 +1,287 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.GetIndicesSettingsResponse;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날짜별 뉴스 인덱스 생명주기 관리 서비스
+ *
+ * <p>날짜별 인덱스({@code news-nori-yyyy.MM.dd})의 템플릿 등록, 보관 기간이 지난 인덱스 삭제,
+ * 자정 대량 적재 모드 전환을 담당합니다.</p>
+ *
+ * <ul>
+ *     <li>템플릿: 애플리케이션 시작 시 {@code resources/elasticsearch/news-nori-template.json}을 등록
+ *     (nori 분석기 / 매핑 / 읽기 별칭 {@code news-nori}). 날짜 인덱스는 첫 색인 때 이 템플릿으로 자동 생성되며,
+ *     이미 있는 날짜 인덱스에는 새로 추가된 필드 매핑만 반영합니다.</li>
+ *     <li>보관: 매일 {@code news.es.index.retention-days}일보다 오래된 날짜 인덱스를 삭제 (리더 한 곳에서만)</li>
+ * </ul>
+ *
+ * <p>자정 수집처럼 짧은 시간에 많은 도큐먼트를 색인할 때는, 적재 전후로 그 날짜 인덱스의 설정을 바꿉니다.</p>
+ *
+ * 단계:
+ * <ol>
+ *     <li>적재 시작: {@code refresh_interval=-1}, {@code number_of_replicas=0} (기존 값은 기억)</li>
+ *     <li>적재 종료: 기존 설정 복구 후 refresh 1회 (이때부터 적재한 도큐먼트가 검색됨)</li>
+ *     <li>병합: 세그먼트를 {@code max-num-segments}개 이하로 force merge (다음 날 검색이 조각난 세그먼트를 읽지 않도록)</li>
+ * </ol>
+ *
+ * <p>기존 설정은 메모리에만 기억하므로, 적재 중 인스턴스가 재시작되면 {@code news.es.bulk-load.restore-*} 값으로 복구합니다.
+ * 단계별 소요 시간은 로그와 {@link #getLastReport()}로 확인할 수 있습니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+public class NewsEsIndexLifecycleService {
+
+    private static final String BULK_REFRESH_INTERVAL = "-1";
+    private static final String BULK_REPLICAS = "0";
+
+    private static final String TEMPLATE_RESOURCE = "elasticsearch/news-nori-template.json";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final BatchLeaderLock batchLeaderLock;
+    private final int retentionDays;
+    private final String restoreRefreshInterval;
+    private final String restoreReplicas;
+    private final long maxNumSegments;
+
+    /** 인덱스 → 적재 시작 전 설정 */
+    private final Map<String, SavedSettings> saved = new ConcurrentHashMap<>();
+
+    /** 인덱스 → 단계별 소요 시간(ms) */
+    private final Map<String, Map<String, Object>> reports = new ConcurrentHashMap<>();
+
+    public NewsEsIndexLifecycleService(ElasticsearchClient elasticsearchClient,
+                                       BatchLeaderLock batchLeaderLock,
+                                       @Value("${news.es.index.retention-days:30}") int retentionDays,
+                                       @Value("${news.es.bulk-load.restore-refresh-interval:1s}") String restoreRefreshInterval,
+                                       @Value("${news.es.bulk-load.restore-replicas:1}") String restoreReplicas,
+                                       @Value("${news.es.bulk-load.max-num-segments:5}") long maxNumSegments) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.batchLeaderLock = batchLeaderLock;
+        this.retentionDays = retentionDays;
+        this.restoreRefreshInterval = restoreRefreshInterval;
+        this.restoreReplicas = restoreReplicas;
+        this.maxNumSegments = maxNumSegments;
+    }
+
+    private record SavedSettings(String refreshInterval, String replicas) {
+    }
+
+    /**
+     * 날짜 인덱스 템플릿 등록 (시작 시 1회, 실패해도 애플리케이션은 계속 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void installTemplate() {
+        try (InputStream template = new ClassPathResource(TEMPLATE_RESOURCE).getInputStream()) {
+            elasticsearchClient.indices().putIndexTemplate(p -> p
+                    .withJson(template)
+                    .name(NewsIndexHelper.TEMPLATE_NAME)
+            );
+            log.info("✅ 날짜별 뉴스 인덱스 템플릿 등록: {}", NewsIndexHelper.TEMPLATE_NAME);
+        } catch (Exception e) {
+            log.error("❌ 날짜별 뉴스 인덱스 템플릿 등록 실패 (기존 템플릿 유지): {}", e.getMessage());
+        }
+
+        // 템플릿은 새 인덱스에만 적용되므로, 이미 있는 날짜 인덱스에도 집계용 keywords 필드를 추가 (필드 추가는 기존 매핑과 충돌하지 않음)
+        try {
+            elasticsearchClient.indices().putMapping(m -> m
+                    .index(NewsIndexHelper.INDEX_PREFIX + "*")
+                    .allowNoIndices(true)
+                    .properties("keywords", p -> p.keyword(k -> k))
+            );
+        } catch (Exception e) {
+            log.error("❌ 기존 날짜 인덱스 keywords 매핑 추가 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 날짜 인덱스가 없으면 템플릿으로 생성
+     *
+     * @param indexName 날짜 인덱스 이름
+     * @throws IOException Elasticsearch 요청 실패 시
+     */
+    public void ensureIndex(String indexName) throws IOException {
+        if (!elasticsearchClient.indices().exists(e -> e.index(indexName)).value()) {
+            elasticsearchClient.indices().create(c -> c.index(indexName));
+            log.info("🆕 날짜별 뉴스 인덱스 생성: {}", indexName);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 날짜 인덱스 삭제 (매일, 리더 한 곳에서만)
+     */
+    @Scheduled(cron = "${news.es.index.retention-cron:0 30 3 * * *}")
+    public void scheduledRetention() {
+        try {
+            batchLeaderLock.runIfLeader(BatchLeaderLock.ES_INDEX_RETENTION, lease -> deleteExpiredIndices());
+        } catch (Exception e) {
+            log.error("❌ 날짜별 뉴스 인덱스 보관 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@code retention-days}일보다 오래된 날짜 인덱스 삭제
+     *
+     * @return 삭제한 인덱스 이름
+     * @throws IOException Elasticsearch 요청 실패 시
+     */
+    public List<String> deleteExpiredIndices() throws IOException {
+        LocalDate oldestKept = LocalDate.now().minusDays(retentionDays);
+
+        List<String> expired = new ArrayList<>();
+        for (String indexName : elasticsearchClient.indices().get(g -> g
+                .index(NewsIndexHelper.INDEX_PREFIX + "*")
+                .allowNoIndices(true)
+        ).result().keySet()) {
+            LocalDate date = NewsIndexHelper.dateOf(indexName);
+            if (date != null && date.isBefore(oldestKept)) {
+                expired.add(indexName);
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            elasticsearchClient.indices().delete(d -> d.index(expired));
+        }
+        log.info("🗑️ 보관 기간({}일) 지난 뉴스 인덱스 {}개 삭제: {}", retentionDays, expired.size(), expired);
+        return expired;
+    }
+
+    /**
+     * 대량 적재 모드 시작 (인덱스가 없으면 생성 후 refresh 끔, 레플리카 0)
+     *
+     * @param indexName 대상 날짜 인덱스
+     * @throws IOException Elasticsearch 요청 실패 시
+     */
+    public void beginBulkLoad(String indexName) throws IOException {
+        long start = System.nanoTime();
+        ensureIndex(indexName);
+
+        GetIndicesSettingsResponse response = elasticsearchClient.indices().getSettings(g -> g.index(indexName));
+        SavedSettings current = currentSettings(response);
+
+        // 이전 적재가 복구 전에 중단되었으면 현재 값이 이미 적재용 값이므로 기억하지 않음
+        if (!BULK_REFRESH_INTERVAL.equals(current.refreshInterval())) {
+            saved.put(indexName, current);
+        }
+
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time(BULK_REFRESH_INTERVAL))
+                        .numberOfReplicas(BULK_REPLICAS)
+                )
+        );
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("savedRefreshInterval", current.refreshInterval());
+        report.put("savedReplicas", current.replicas());
+        report.put("beginMs", elapsedMs);
+        reports.put(indexName, report);
+
+        log.info("🚚 {} 대량 적재 모드 시작 (refresh: {} → -1, replicas: {} → 0, {}ms)",
+                indexName, current.refreshInterval(), current.replicas(), elapsedMs);
+    }
+
+    /**
+     * 대량 적재 모드 종료 (설정 복구 후 refresh 1회)
+     *
+     * @param indexName 대상 인덱스 (또는 별칭)
+     * @throws IOException Elasticsearch 요청 실패 시
+     */
+    public void endBulkLoad(String indexName) throws IOException {
+        SavedSettings restore = saved.remove(indexName);
+        if (restore == null) {
+            restore = new SavedSettings(restoreRefreshInterval, restoreReplicas);
+            log.warn("⚠️ {} 적재 전 설정을 알 수 없어 기본값으로 복구 (refresh: {}, replicas: {})",
+                    indexName, restoreRefreshInterval, restoreReplicas);
+        }
+        String refreshInterval = restore.refreshInterval();
+        String replicas = restore.replicas();
+
+        long start = System.nanoTime();
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time(refreshInterval))
+                        .numberOfReplicas(replicas)
+                )
+        );
+        long restoreMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        elasticsearchClient.indices().refresh(r -> r.index(indexName));
+        long refreshMs = (System.nanoTime() - start) / 1_000_000;
+
+        Map<String, Object> report = reports.computeIfAbsent(indexName, key -> new LinkedHashMap<>());
+        report.put("restoreMs", restoreMs);
+        report.put("refreshMs", refreshMs);
+
+        log.info("✅ {} 대량 적재 모드 종료 (refresh: {}, replicas: {}, 복구 {}ms, refresh {}ms)",
+                indexName, refreshInterval, replicas, restoreMs, refreshMs);
+    }
+
+    /**
+     * 세그먼트 병합 ({@code max-num-segments}개 이하)
+     *
+     * @param indexName 대상 인덱스 (또는 별칭)
+     * @throws IOException Elasticsearch 요청 실패 시
+     */
+    public void forceMerge(String indexName) throws IOException {
+        long start = System.nanoTime();
+        elasticsearchClient.indices().forcemerge(f -> f
+                .index(indexName)
+                .maxNumSegments(maxNumSegments)
+        );
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        reports.computeIfAbsent(indexName, key -> new LinkedHashMap<>()).put("forceMergeMs", elapsedMs);
+        log.info("🧱 {} 세그먼트 병합 완료 (최대 {}개, {}ms)", indexName, maxNumSegments, elapsedMs);
+    }
+
+    /**
+     * 인덱스별 마지막 대량 적재 단계 소요 시간
+     *
+     * @return 인덱스 → savedRefreshInterval / savedReplicas / beginMs / restoreMs / refreshMs / forceMergeMs
+     */
+    public Map<String, Map<String, Object>> getLastReport() {
+        return Map.copyOf(reports);
+    }
+
+    /* 별칭이면 실제 인덱스 하나의 설정을 사용 (설정이 없으면 Elasticsearch 기본값) */
+    private SavedSettings currentSettings(GetIndicesSettingsResponse response) {
+        IndexState state = response.result().values().iterator().next();
+        IndexSettings settings = state.settings();
+        if (settings != null && settings.index() != null) {
+            settings = settings.index();
+        }
+
+        String refreshInterval = settings != null && settings.refreshInterval() != null
+                ? settings.refreshInterval().time() : restoreRefreshInterval;
+        String replicas = settings != null && settings.numberOfReplicas() != null
+                ? settings.numberOfReplicas() : restoreReplicas;
+        return new SavedSettings(refreshInterval, replicas);
+    }
+}
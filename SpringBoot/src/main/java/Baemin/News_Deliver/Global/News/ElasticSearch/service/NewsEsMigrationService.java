@@ -0,0 +1,301 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsBulkIngester.ItemFailure;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 날짜 인덱스 무중단 재생성 서비스
+ *
+ * <p>분석기 / 불용어 / 매핑을 바꾼 뒤(템플릿 수정 후 재시작) 이미 만들어진 날짜 인덱스에 새 설정을 적용합니다.
+ * 기존 인덱스는 교체 직전까지 그대로 검색되므로, 재생성 중에도 검색 / 전송이 빈 인덱스를 보지 않습니다.</p>
+ *
+ * 날짜마다 (최대 {@code news.es.migrate.parallelism}개 날짜를 동시에):
+ * <ol>
+ *     <li>현재 템플릿으로 버전 인덱스 {@code news-nori-yyyy.MM.dd-v{N+1}} 생성 후 읽기 별칭에서 제외, 대량 적재 모드 시작</li>
+ *     <li>MySQL에서 그 날짜 뉴스를 keyset 페이지로 채움 ({@link NewsEsReindexService}, {@code news.es.reindex.max-docs-per-second}로 속도 제한)</li>
+ *     <li>채우는 동안 outbox 릴레이가 기존 인덱스에만 반영한 이벤트를 새 인덱스에 따라잡기</li>
+ *     <li>적재 모드 종료(설정 복구 + refresh) 후 도큐먼트 수를 DB와 비교 - 다르면 새 인덱스를 지우고 중단</li>
+ *     <li>하나의 {@code _aliases} 요청으로 날짜 별칭 / 읽기 별칭을 새 인덱스로 옮기고 기존 인덱스 제거 (원자적 교체)</li>
+ *     <li>교체 직전까지 기존 인덱스에만 반영된 이벤트를 한 번 더 따라잡기</li>
+ * </ol>
+ *
+ * <p>따라잡기는 이벤트 ID를 외부 버전({@link VersionType#ExternalGte})으로 쓰므로, 릴레이가 같은 이벤트를 나중에 반영해도 버전 충돌(성공)로 끝납니다.
+ * 재생성은 리더 락({@link BatchLeaderLock#ES_INDEX_MIGRATION})으로 한 인스턴스에서만 실행됩니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+public class NewsEsMigrationService {
+
+    public static final String SWAPPED = "SWAPPED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String FAILED = "FAILED";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsEsReindexService newsEsReindexService;
+    private final NewsEsIndexLifecycleService newsEsIndexLifecycleService;
+    private final NewsEsOutboxRelay newsEsOutboxRelay;
+    private final NewsEsBulkIngester newsEsBulkIngester;
+    private final NewsEsService newsEsService;
+    private final BatchLeaderLock batchLeaderLock;
+    private final int parallelism;
+
+    public NewsEsMigrationService(ElasticsearchClient elasticsearchClient,
+                                  JdbcTemplate jdbcTemplate,
+                                  NewsEsReindexService newsEsReindexService,
+                                  NewsEsIndexLifecycleService newsEsIndexLifecycleService,
+                                  NewsEsOutboxRelay newsEsOutboxRelay,
+                                  NewsEsBulkIngester newsEsBulkIngester,
+                                  NewsEsService newsEsService,
+                                  BatchLeaderLock batchLeaderLock,
+                                  @Value("${news.es.migrate.parallelism:2}") int parallelism) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newsEsReindexService = newsEsReindexService;
+        this.newsEsIndexLifecycleService = newsEsIndexLifecycleService;
+        this.newsEsOutboxRelay = newsEsOutboxRelay;
+        this.newsEsBulkIngester = newsEsBulkIngester;
+        this.newsEsService = newsEsService;
+        this.batchLeaderLock = batchLeaderLock;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 날짜별 재생성 결과
+     *
+     * @param date 날짜
+     * @param previousIndex 교체 전 실제 인덱스 (없었으면 null)
+     * @param newIndex 새 버전 인덱스
+     * @param dbCount DB 뉴스 수
+     * @param indexCount 새 인덱스 도큐먼트 수
+     * @param status SWAPPED / SKIPPED / FAILED
+     * @param elapsedMs 소요 시간
+     * @param error 실패 사유
+     */
+    public record DayResult(LocalDate date, String previousIndex, String newIndex, long dbCount, long indexCount,
+                            String status, long elapsedMs, String error) {
+    }
+
+    /**
+     * 기간 내 날짜 인덱스를 현재 템플릿으로 다시 만들고 교체
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return 날짜별 결과
+     * @throws Exception 다른 인스턴스가 실행 중이면 {@code BATCH_LOCK_HELD}
+     */
+    public List<DayResult> migrate(LocalDate from, LocalDate to) throws Exception {
+        return batchLeaderLock.runExclusive(BatchLeaderLock.ES_INDEX_MIGRATION, lease -> {
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<DayResult>> futures = new ArrayList<>();
+                for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                    LocalDate day = date;
+                    futures.add(executor.submit(() -> {
+                        lease.checkValid();
+                        return migrateDay(day);
+                    }));
+                }
+
+                List<DayResult> results = new ArrayList<>();
+                for (Future<DayResult> future : futures) {
+                    results.add(future.get());
+                }
+                log.info("🔀 {} ~ {} 날짜 인덱스 재생성 완료: {}", from, to,
+                        results.stream().map(r -> r.date() + "=" + r.status()).toList());
+                return results;
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    /**
+     * 하루치 날짜 인덱스 재생성 (실패해도 예외 대신 FAILED 결과)
+     */
+    private DayResult migrateDay(LocalDate date) {
+        long start = System.nanoTime();
+        String alias = NewsIndexHelper.dailyIndex(date);
+        String previous = null;
+        String next = null;
+
+        try {
+            long dbCount = countNews(date);
+            previous = currentIndex(alias);
+            if (previous == null && dbCount == 0) {
+                return result(date, null, null, 0, 0, SKIPPED, start, "인덱스와 뉴스 없음");
+            }
+
+            next = NewsIndexHelper.versionedIndex(date, previous == null ? 2 : NewsIndexHelper.versionOf(previous) + 1);
+            createDetached(next);
+
+            // 1) DB에서 채우기 + 그동안 기존 인덱스에만 반영된 이벤트 따라잡기
+            newsEsIndexLifecycleService.beginBulkLoad(next);
+            long startOffset = newsEsOutboxRelay.currentOffset();
+            String target = next;
+            newsEsReindexService.reindex(date, date, day -> target);
+            long caughtUpTo = catchUp(date, startOffset, next);
+            newsEsIndexLifecycleService.endBulkLoad(next);
+
+            // 2) 도큐먼트 수 확인 (따라잡기 후 DB 기준)
+            dbCount = countNews(date);
+            long indexCount = elasticsearchClient.count(c -> c.index(target)).count();
+            if (indexCount != dbCount) {
+                elasticsearchClient.indices().delete(d -> d.index(target));
+                return result(date, previous, next, dbCount, indexCount, FAILED, start,
+                        "도큐먼트 수 불일치 → 새 인덱스 삭제, 기존 인덱스 유지");
+            }
+
+            // 3) 원자적 교체 후, 교체 직전까지 기존 인덱스에만 반영된 이벤트 한 번 더 따라잡기
+            swap(alias, previous, next);
+            catchUp(date, caughtUpTo, alias);
+
+            log.info("🔀 {} → {} 교체 완료 ({}건)", previous, next, indexCount);
+            return result(date, previous, next, dbCount, indexCount, SWAPPED, start, null);
+        } catch (Exception e) {
+            log.error("❌ {} 날짜 인덱스 재생성 실패: {}", date, e.getMessage(), e);
+            deleteQuietly(next, previous);
+            return result(date, previous, next, 0, 0, FAILED, start, e.getMessage());
+        }
+    }
+
+    /**
+     * 날짜 이름이 가리키는 실제 인덱스 (날짜 이름 자체가 인덱스이면 그 이름, 없으면 null)
+     */
+    private String currentIndex(String alias) throws IOException {
+        if (!elasticsearchClient.indices().exists(e -> e.index(alias)).value()) {
+            return null;
+        }
+        Set<String> indices = elasticsearchClient.indices().get(g -> g.index(alias)).result().keySet();
+        return indices.iterator().next();
+    }
+
+    /**
+     * 템플릿으로 새 인덱스를 만들고 읽기 별칭에서 바로 제외 (채우는 동안 검색에 중복으로 잡히지 않도록)
+     */
+    private void createDetached(String index) throws IOException {
+        elasticsearchClient.indices().create(c -> c.index(index));
+        elasticsearchClient.indices().updateAliases(u -> u
+                .actions(a -> a.remove(r -> r.index(index).alias(NewsIndexHelper.READ_ALIAS)))
+        );
+    }
+
+    /**
+     * 날짜 별칭 / 읽기 별칭을 새 인덱스로 옮기고 기존 인덱스 제거 (한 번의 {@code _aliases} 요청)
+     */
+    private void swap(String alias, String previous, String next) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(next).alias(NewsIndexHelper.READ_ALIAS))));
+        if (previous != null) {
+            // 날짜 이름과 같은 이름의 인덱스는 별칭을 추가하기 전에 같은 요청 안에서 제거해야 함
+            actions.add(Action.of(a -> a.removeIndex(r -> r.index(previous))));
+        }
+        actions.add(Action.of(a -> a.add(add -> add.index(next).alias(alias).isWriteIndex(true))));
+
+        elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+    }
+
+    /**
+     * {@code sinceEventId} 이후 그 날짜 뉴스에 기록된 이벤트를 대상 인덱스에 반영
+     *
+     * @return 반영한 마지막 이벤트 ID (없으면 {@code sinceEventId})
+     */
+    private long catchUp(LocalDate date, long sinceEventId, String index) throws IOException {
+        List<CatchUpRow> rows = jdbcTemplate.query("""
+                    SELECT o.id AS event_id, o.news_id,
+                           n.id, n.sections, n.title, n.publisher, n.summary, n.content_url, n.published_at
+                    FROM news_es_outbox o
+                    JOIN (SELECT news_id, MAX(id) AS max_id
+                          FROM news_es_outbox
+                          WHERE id > ? AND published_at >= ? AND published_at < ?
+                          GROUP BY news_id) latest ON latest.max_id = o.id
+                    LEFT JOIN news n ON n.id = o.news_id
+                """, (rs, rowNum) -> new CatchUpRow(
+                rs.getLong("event_id"),
+                rs.getLong("news_id"),
+                rs.getObject("id") == null ? null : NewsEsService.documentRowMapper().mapRow(rs, rowNum)
+        ), sinceEventId, Timestamp.valueOf(date.atStartOfDay()), Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+
+        if (rows.isEmpty()) {
+            return sinceEventId;
+        }
+
+        long lastEventId = sinceEventId;
+        List<BulkOperation> operations = new ArrayList<>(rows.size());
+        for (CatchUpRow row : rows) {
+            lastEventId = Math.max(lastEventId, row.eventId());
+            String id = String.valueOf(row.newsId());
+            if (row.document() != null) {
+                NewsEsDocument document = newsEsService.withKeywords(row.document());
+                operations.add(BulkOperation.of(op -> op
+                        .index(idx -> idx.index(index).id(id).version(row.eventId()).versionType(VersionType.ExternalGte).document(document))
+                ));
+            } else {
+                operations.add(BulkOperation.of(op -> op
+                        .delete(del -> del.index(index).id(id).version(row.eventId()).versionType(VersionType.ExternalGte))
+                ));
+            }
+        }
+
+        Map<String, ItemFailure> failures = newsEsBulkIngester.indexWithRetry(operations);
+        if (!failures.isEmpty()) {
+            newsEsService.recordFailures(failures);
+        }
+        log.info("↪️ {} 따라잡기: 이벤트 {}건 반영 (실패 {}건, ~{})", index, rows.size(), failures.size(), lastEventId);
+        return lastEventId;
+    }
+
+    private long countNews(LocalDate date) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM news WHERE published_at >= ? AND published_at < ?",
+                Long.class, Timestamp.valueOf(date.atStartOfDay()), Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+        return count == null ? 0 : count;
+    }
+
+    /* 교체 전에 실패한 새 인덱스 정리 (교체된 인덱스는 지우지 않음) */
+    private void deleteQuietly(String next, String previous) {
+        if (next == null || next.equals(previous)) {
+            return;
+        }
+        try {
+            String alias = NewsIndexHelper.dailyIndex(NewsIndexHelper.dateOf(next));
+            if (next.equals(currentIndex(alias))) {
+                return;
+            }
+            elasticsearchClient.indices().delete(d -> d.index(next).ignoreUnavailable(true));
+        } catch (Exception e) {
+            log.warn("⚠️ 실패한 새 인덱스 {} 정리 실패: {}", next, e.getMessage());
+        }
+    }
+
+    private static DayResult result(LocalDate date, String previous, String next, long dbCount, long indexCount,
+                                    String status, long start, String error) {
+        return new DayResult(date, previous, next, dbCount, indexCount, status, (System.nanoTime() - start) / 1_000_000, error);
+    }
+
+    private record CatchUpRow(long eventId, long newsId, NewsEsDocument document) {
+    }
+}
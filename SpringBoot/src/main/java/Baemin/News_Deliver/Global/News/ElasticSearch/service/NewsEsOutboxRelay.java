@@ -0,0 +1,325 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsOutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * news → Elasticsearch outbox 릴레이
+ *
+ * <p>news 테이블의 INSERT / DELETE 트리거가 같은 트랜잭션 안에서 {@code news_es_outbox}에 이벤트를 기록하고,
+ * 이 릴레이가 주기적으로 이벤트를 대량으로 읽어 Elasticsearch Bulk 요청으로 반영합니다.
+ * 자정에 전날 뉴스 전체를 다시 복사하지 않고, 뉴스가 저장되는 즉시(최대 {@code news.outbox.relay.interval-ms} 지연) 검색에 반영됩니다.</p>
+ *
+ * 처리 순서 (한 배치 = 하나의 DB 트랜잭션):
+ * <ol>
+ *     <li>{@code news_es_outbox_offset}의 릴레이 행을 {@code SELECT ... FOR UPDATE}로 잠금 (여러 인스턴스 중 하나만 진행)</li>
+ *     <li>이전에 건너뛴 ID({@code news_es_outbox_gap}) 중 그사이 커밋된 이벤트와,
+ *     오프셋 이후 이벤트를 ID 순으로 최대 {@code batch-size}건씩 조회 (news 행과 LEFT JOIN)</li>
+ *     <li>아직 커밋되지 않았을 수 있는 최근 ID 구멍(gap) 앞에서 멈춤</li>
+ *     <li>뉴스당 최신 이벤트만 남겨 {@link NewsEsService#applyOutboxEvents}로 반영 (이벤트 ID = 외부 버전)</li>
+ *     <li>Bulk 요청이 성공했을 때만 오프셋 전진 + 지나간 구멍 ID 기록 + 반영된 구멍 ID 삭제
+ *     (실패 시 롤백되어 다음 주기에 같은 이벤트부터 재시도)</li>
+ * </ol>
+ *
+ * <p>{@code gap-wait-ms}보다 오래된 구멍은 오프셋이 지나가되 ID를 {@code news_es_outbox_gap}에 남기므로,
+ * 긴 트랜잭션이 늦게 커밋한 이벤트도 다음 배치에서 반영됩니다. 롤백되어 끝내 나타나지 않는 ID는
+ * {@code news.outbox.retention-hours}가 지나면 기록에서 지웁니다.</p>
+ *
+ * <p>오프셋은 반영이 끝난 뒤에 커밋되므로 같은 이벤트가 두 번 전송될 수는 있지만,
+ * 외부 버전 덕분에 Elasticsearch 입장에서는 각 이벤트가 정확히 한 번 반영된 것과 같습니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Component
+public class NewsEsOutboxRelay {
+
+    private static final String RELAY_NAME = "news-es";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NewsEsService newsEsService;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration gapWait;
+    private final Duration retention;
+
+    public NewsEsOutboxRelay(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             NewsEsService newsEsService,
+                             @Value("${news.outbox.relay.batch-size:1000}") int batchSize,
+                             @Value("${news.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun,
+                             @Value("${news.outbox.relay.gap-wait-ms:10000}") long gapWaitMs,
+                             @Value("${news.outbox.retention-hours:24}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newsEsService = newsEsService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.gapWait = Duration.ofMillis(gapWaitMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /** outbox 행 + 조인된 news 행 */
+    record OutboxRow(long eventId, long newsId, NewsEsOutboxEvent.Op op, LocalDateTime publishedAt,
+                     LocalDateTime createdAt, NewsEsDocument document) {
+    }
+
+    /**
+     * 구멍 검사 결과
+     *
+     * @param ready 이번 배치에서 반영할 이벤트 (오프셋은 마지막 이벤트까지 전진)
+     * @param skippedIds 오프셋이 지나가는 구멍 ID (나중에 다시 확인)
+     */
+    record GapScan(List<OutboxRow> ready, List<Long> skippedIds) {
+    }
+
+    /**
+     * 쌓인 outbox 이벤트를 배치 단위로 반영
+     *
+     * <p>한 번 실행에 최대 {@code max-batches-per-run}개 배치까지 처리하고, 남은 이벤트는 다음 주기로 넘깁니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${news.outbox.relay.interval-ms:5000}")
+    public void relay() {
+        long start = System.nanoTime();
+        int total = 0;
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed == null || relayed == 0) {
+                    break;
+                }
+                total += relayed;
+            }
+        } catch (Exception e) {
+            log.error("❌ outbox 릴레이 실패 → 오프셋 유지 후 다음 주기에 재시도: {}", e.getMessage());
+        }
+
+        if (total > 0) {
+            log.info("📤 outbox 이벤트 {}건 Elasticsearch 반영 ({}ms)", total, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 릴레이 상태 조회 (오프셋, 대기 이벤트 수, 가장 오래된 대기 이벤트의 지연)
+     *
+     * @return offset / latestEventId / pending / lagSeconds
+     */
+    public Map<String, Object> getStatus() {
+        long offset = currentOffset();
+        long latest = latestEventId();
+        Long pending = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_es_outbox WHERE id > ?", Long.class, offset);
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM news_es_outbox WHERE id > ?",
+                Timestamp.class, offset);
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("offset", offset);
+        status.put("latestEventId", latest);
+        status.put("pending", pending);
+        status.put("lagSeconds", oldest == null ? 0 : Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toSeconds());
+        return status;
+    }
+
+    /**
+     * 마지막으로 Elasticsearch에 반영된 outbox 이벤트 ID
+     */
+    public long currentOffset() {
+        Long offset = jdbcTemplate.query("SELECT last_event_id FROM news_es_outbox_offset WHERE relay_name = ?",
+                rs -> rs.next() ? rs.getLong(1) : 0L, RELAY_NAME);
+        return offset == null ? 0L : offset;
+    }
+
+    /**
+     * 지금까지 커밋된 가장 큰 outbox 이벤트 ID
+     */
+    public long latestEventId() {
+        Long latest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM news_es_outbox", Long.class);
+        return latest == null ? 0L : latest;
+    }
+
+    /**
+     * 지정한 이벤트까지 Elasticsearch에 반영될 때까지 대기
+     *
+     * <p>자정 파이프라인에서 섹션 저장이 끝난 뒤 해당 섹션이 검색 가능해졌는지 확인하는 용도입니다.
+     * 반영은 릴레이 스케줄이 수행하며, 이 메서드는 오프셋만 확인합니다.</p>
+     *
+     * @param eventId 반영을 기다릴 이벤트 ID
+     * @param timeout 최대 대기 시간
+     * @return 시간 안에 반영되었으면 {@code true}
+     */
+    public boolean awaitRelayed(long eventId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (currentOffset() < eventId) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1000);
+        }
+        return true;
+    }
+
+    /**
+     * 한 배치 반영 (트랜잭션 안에서 호출)
+     *
+     * @return 오프셋이 전진한 이벤트 수 (0이면 더 처리할 이벤트 없음)
+     */
+    private int relayBatch() {
+        long offset = lockOffset();
+
+        /* 이전에 건너뛴 ID 중 그사이 커밋된 이벤트 */
+        List<OutboxRow> lateRows = jdbcTemplate.query("""
+                SELECT o.id AS event_id, o.news_id, o.op, o.published_at AS event_published_at, o.created_at,
+                       n.id, n.sections, n.title, n.publisher, n.summary, n.content_url, n.published_at
+                FROM news_es_outbox_gap g
+                JOIN news_es_outbox o ON o.id = g.event_id
+                LEFT JOIN news n ON n.id = o.news_id
+                WHERE g.relay_name = ?
+                ORDER BY o.id
+                LIMIT ?
+            """, outboxRowMapper(), RELAY_NAME, batchSize);
+
+        List<OutboxRow> rows = jdbcTemplate.query("""
+                SELECT o.id AS event_id, o.news_id, o.op, o.published_at AS event_published_at, o.created_at,
+                       n.id, n.sections, n.title, n.publisher, n.summary, n.content_url, n.published_at
+                FROM news_es_outbox o
+                LEFT JOIN news n ON n.id = o.news_id
+                WHERE o.id > ?
+                ORDER BY o.id
+                LIMIT ?
+            """, outboxRowMapper(), offset, batchSize);
+
+        GapScan scan = scanGaps(offset, rows, LocalDateTime.now().minus(gapWait));
+        if (scan.ready().isEmpty() && lateRows.isEmpty()) {
+            return 0;
+        }
+
+        /* 뉴스당 마지막 이벤트만 반영 (이전 이벤트는 어차피 더 낮은 외부 버전, 늦게 커밋된 이벤트가 항상 ID가 작으므로 먼저) */
+        Map<Long, NewsEsOutboxEvent> latestByNews = new LinkedHashMap<>();
+        for (List<OutboxRow> batch : List.of(lateRows, scan.ready())) {
+            for (OutboxRow row : batch) {
+                latestByNews.put(row.newsId(), NewsEsOutboxEvent.builder()
+                        .eventId(row.eventId())
+                        .newsId(row.newsId())
+                        .op(row.op())
+                        .publishedAt(row.publishedAt())
+                        .document(row.op() == NewsEsOutboxEvent.Op.INDEX ? row.document() : null)
+                        .build());
+            }
+        }
+
+        try {
+            int failed = newsEsService.applyOutboxEvents(new ArrayList<>(latestByNews.values()));
+            if (failed > 0) {
+                log.warn("⚠️ outbox 배치 중 {}건 반영 실패 (news_es_failure 기록)", failed);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 롤백 → 오프셋 유지
+        }
+
+        if (!lateRows.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM news_es_outbox_gap WHERE relay_name = ? AND event_id = ?",
+                    lateRows, lateRows.size(), (ps, row) -> {
+                        ps.setString(1, RELAY_NAME);
+                        ps.setLong(2, row.eventId());
+                    });
+            log.info("🧩 건너뛰었던 outbox 이벤트 {}건이 늦게 커밋되어 반영", lateRows.size());
+        }
+
+        if (!scan.skippedIds().isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT IGNORE INTO news_es_outbox_gap (relay_name, event_id, detected_at) VALUES (?, ?, NOW())",
+                    scan.skippedIds(), scan.skippedIds().size(), (ps, eventId) -> {
+                        ps.setString(1, RELAY_NAME);
+                        ps.setLong(2, eventId);
+                    });
+            log.info("🕳️ 커밋되지 않은 outbox ID {}개를 건너뛰고 기록 (늦게 커밋되면 다음 배치에서 반영)", scan.skippedIds().size());
+        }
+
+        if (!scan.ready().isEmpty()) {
+            long newOffset = scan.ready().get(scan.ready().size() - 1).eventId();
+            Timestamp expiry = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+            jdbcTemplate.update("UPDATE news_es_outbox_offset SET last_event_id = ?, updated_at = NOW() WHERE relay_name = ?",
+                    newOffset, RELAY_NAME);
+            jdbcTemplate.update("DELETE FROM news_es_outbox WHERE id <= ? AND created_at < ?", newOffset, expiry);
+            int expired = jdbcTemplate.update("DELETE FROM news_es_outbox_gap WHERE relay_name = ? AND detected_at < ?",
+                    RELAY_NAME, expiry);
+            if (expired > 0) {
+                log.info("🧹 보관 기간 동안 나타나지 않은 outbox ID {}개 기록 삭제 (롤백된 ID)", expired);
+            }
+        }
+
+        return lateRows.size() + scan.ready().size();
+    }
+
+    private static RowMapper<OutboxRow> outboxRowMapper() {
+        return (rs, rowNum) -> new OutboxRow(
+                rs.getLong("event_id"),
+                rs.getLong("news_id"),
+                NewsEsOutboxEvent.Op.valueOf(rs.getString("op")),
+                rs.getTimestamp("event_published_at") == null ? null : rs.getTimestamp("event_published_at").toLocalDateTime(),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getObject("id") == null ? null : NewsEsService.documentRowMapper().mapRow(rs, rowNum));
+    }
+
+    /**
+     * 릴레이 오프셋 행 잠금 후 현재 오프셋 반환 (행이 없으면 0으로 생성)
+     */
+    private long lockOffset() {
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO news_es_outbox_offset (relay_name, last_event_id, updated_at)
+                VALUES (?, 0, NOW())
+            """, RELAY_NAME);
+        Long offset = jdbcTemplate.queryForObject(
+                "SELECT last_event_id FROM news_es_outbox_offset WHERE relay_name = ? FOR UPDATE", Long.class, RELAY_NAME);
+        return offset == null ? 0L : offset;
+    }
+
+    /**
+     * ID 구멍(gap) 검사
+     *
+     * <p>AUTO_INCREMENT ID는 커밋 순서가 아니라 발급 순서이므로, 더 작은 ID의 트랜잭션이 아직 커밋되지 않았을 수 있습니다.
+     * 구멍 뒤의 이벤트가 {@code gapDeadline}보다 최근에 기록되었다면 구멍 앞에서 멈추고 다음 주기에 다시 확인합니다.
+     * 그보다 오래된 구멍은 지나가되, 구멍의 ID를 돌려주어 나중에 커밋되더라도 반영할 수 있게 합니다.</p>
+     *
+     * @param offset 현재 오프셋
+     * @param rows 오프셋 이후 이벤트 (ID 순)
+     * @param gapDeadline 이 시각 이후에 기록된 이벤트 앞의 구멍은 기다림
+     * @return 반영할 이벤트와 지나가는 구멍 ID
+     */
+    static GapScan scanGaps(long offset, List<OutboxRow> rows, LocalDateTime gapDeadline) {
+        List<Long> skippedIds = new ArrayList<>();
+        long expected = offset + 1;
+
+        for (int i = 0; i < rows.size(); i++) {
+            OutboxRow row = rows.get(i);
+            if (row.eventId() != expected) {
+                if (row.createdAt().isAfter(gapDeadline)) {
+                    return new GapScan(rows.subList(0, i), skippedIds);
+                }
+                for (long id = expected; id < row.eventId(); id++) {
+                    skippedIds.add(id);
+                }
+            }
+            expected = row.eventId() + 1;
+        }
+        return new GapScan(rows, skippedIds);
+    }
+}
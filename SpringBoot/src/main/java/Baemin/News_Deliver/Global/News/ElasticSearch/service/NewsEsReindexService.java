@@ -0,0 +1,205 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsBulkIngester.ItemFailure;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * DB → Elasticsearch 기간 재색인 서비스
+ *
+ * <p>outbox 이벤트는 {@code news.outbox.retention-hours}가 지나면 지워지므로, Elasticsearch 데이터를 잃었거나
+ * 인덱스를 새로 채워야 할 때(날짜별 인덱스 전환 직후 보관 기간만큼 채우기 등)는 news 테이블에서 직접 읽어 색인합니다.</p>
+ *
+ * <p>기간 전체를 한 번에 List로 읽지 않고 {@code (published_at, id)} keyset 페이지 단위로 읽어
+ * 읽은 즉시 도큐먼트로 변환해 {@link NewsEsBulkIngester}로 넘깁니다. 이전 페이지가 전송되는 동안 다음 페이지를 읽으며,
+ * 메모리에는 최대 두 페이지만 남으므로 기간 내 뉴스 수와 관계없이 사용량이 일정합니다.
+ * 정렬은 {@code idx_news_published_at}(InnoDB 보조 인덱스는 PK를 포함하므로 (published_at, id) 순서)를 그대로 사용합니다.
+ * {@code news.es.reindex.max-docs-per-second}로 실행 중인 모든 재색인의 전송 속도를 함께 제한할 수 있습니다.</p>
+ *
+ * <p>모든 도큐먼트는 시작 시점의 outbox 릴레이 오프셋을 외부 버전({@link VersionType#ExternalGte})으로 씁니다.
+ * 오프셋까지의 이벤트는 이미 같거나 낮은 버전으로 반영되어 있으므로 덮어쓰고, 이후 이벤트가 먼저 반영된 도큐먼트는
+ * 버전 충돌(409)로 무시되며, 재색인 뒤의 이벤트는 더 높은 버전으로 릴레이가 반영합니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsEsReindexService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsEsBulkIngester newsEsBulkIngester;
+    private final NewsEsOutboxRelay newsEsOutboxRelay;
+    private final NewsEsService newsEsService;
+
+    @Value("${news.es.reindex.page-size:1000}")
+    private int pageSize;
+
+    /** 초당 최대 색인 도큐먼트 수 (0이면 제한 없음, 동시에 실행 중인 재색인 전체에 적용) */
+    @Value("${news.es.reindex.max-docs-per-second:0}")
+    private double maxDocsPerSecond;
+
+    private long nextPermitNanos = System.nanoTime();
+
+    /**
+     * 기간 내 뉴스를 발행일별 인덱스에 다시 색인
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return 색인 요청한 뉴스 수
+     * @throws IOException Bulk 요청 실패 시
+     */
+    public long reindex(LocalDate from, LocalDate to) throws IOException {
+        return reindex(from, to, NewsIndexHelper::dailyIndex);
+    }
+
+    /**
+     * 기간 내 뉴스를 keyset 페이지 단위로 읽어 발행일로 정한 인덱스에 색인
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @param indexOf 발행일 → 대상 인덱스
+     * @return 색인 요청한 뉴스 수
+     * @throws IOException Bulk 요청 실패 시
+     */
+    public long reindex(LocalDate from, LocalDate to, Function<LocalDate, String> indexOf) throws IOException {
+        long start = System.nanoTime();
+        long version = newsEsOutboxRelay.currentOffset();
+        Timestamp rangeFrom = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp rangeTo = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+
+        long indexed = 0;
+        int failed = 0;
+        CompletableFuture<Map<String, ItemFailure>> inFlight = CompletableFuture.completedFuture(Map.of());
+        List<BulkOperation> inFlightOperations = List.of();
+        LocalDateTime lastPublishedAt = null;
+        long lastId = 0;
+
+        while (true) {
+            List<NewsEsDocument> page = readPage(rangeFrom, rangeTo, lastPublishedAt, lastId);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<BulkOperation> operations = new ArrayList<>(page.size());
+            for (NewsEsDocument document : page) {
+                newsEsService.withKeywords(document);
+                String indexName = indexOf.apply(document.getPublished_at().toLocalDate());
+                operations.add(BulkOperation.of(op -> op
+                        .index(idx -> idx
+                                .index(indexName)
+                                .id(document.getId())
+                                .version(version)
+                                .versionType(VersionType.ExternalGte)
+                                .document(document)
+                        )
+                ));
+            }
+
+            NewsEsDocument last = page.get(page.size() - 1);
+            lastPublishedAt = last.getPublished_at();
+            lastId = Long.parseLong(last.getId());
+            indexed += page.size();
+
+            // 이번 페이지를 쌓은 뒤 이전 페이지 응답 대기 (이전 페이지의 나머지 작업이 이번 페이지와 한 Bulk로 합쳐짐)
+            throttle(page.size());
+            CompletableFuture<Map<String, ItemFailure>> submitted = newsEsBulkIngester.submit(operations);
+            failed += settle(inFlightOperations, inFlight);
+            inFlight = submitted;
+            inFlightOperations = operations;
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+        failed += settle(inFlightOperations, inFlight);
+
+        log.info("🔁 {} ~ {} 뉴스 {}건 재색인 완료 (실패 {}건, 버전 {}, {}ms)",
+                from, to, indexed, failed, version, (System.nanoTime() - start) / 1_000_000);
+        return indexed;
+    }
+
+    /**
+     * 초당 색인 도큐먼트 수 제한 (검색 중인 노드 보호)
+     *
+     * <p>이번 페이지가 차지할 시간만큼 다음 전송 가능 시각을 예약한 뒤, 해당 시각까지 대기합니다.</p>
+     */
+    private void throttle(int documents) throws IOException {
+        if (maxDocsPerSecond <= 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitAt + (long) (documents * 1_000_000_000L / maxDocsPerSecond);
+            waitNanos = permitAt - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("재색인 속도 제한 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    /**
+     * 전송한 페이지의 응답 대기 → 재시도 가능한 실패는 다시 전송 → 남은 실패는 dead-letter 기록
+     *
+     * @return 최종 실패 건수
+     */
+    private int settle(List<BulkOperation> operations, CompletableFuture<Map<String, ItemFailure>> submitted) throws IOException {
+        Map<String, ItemFailure> failures = newsEsBulkIngester.retry(operations, newsEsBulkIngester.await(submitted));
+        if (!failures.isEmpty()) {
+            newsEsService.recordFailures(failures);
+        }
+        return failures.size();
+    }
+
+    /**
+     * {@code (published_at, id)}가 커서보다 큰 다음 페이지 조회 (커서가 없으면 첫 페이지)
+     */
+    private List<NewsEsDocument> readPage(Timestamp rangeFrom, Timestamp rangeTo, LocalDateTime lastPublishedAt, long lastId) {
+        if (lastPublishedAt == null) {
+            return jdbcTemplate.query("""
+                    SELECT id, sections, title, publisher, summary, content_url, published_at
+                    FROM news
+                    WHERE published_at >= ? AND published_at < ?
+                    ORDER BY published_at, id
+                    LIMIT ?
+                """, NewsEsService.documentRowMapper(), rangeFrom, rangeTo, pageSize);
+        }
+
+        Timestamp cursor = Timestamp.valueOf(lastPublishedAt);
+        return jdbcTemplate.query("""
+                    SELECT id, sections, title, publisher, summary, content_url, published_at
+                    FROM news
+                    WHERE published_at < ?
+                      AND (published_at > ? OR (published_at = ? AND id > ?))
+                    ORDER BY published_at, id
+                    LIMIT ?
+                """, NewsEsService.documentRowMapper(), rangeTo, cursor, cursor, lastId, pageSize);
+    }
+}
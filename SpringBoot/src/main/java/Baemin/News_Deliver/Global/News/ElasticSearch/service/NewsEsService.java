@@ -1,26 +1,34 @@
 package Baemin.News_Deliver.Global.News.ElasticSearch.service;
 
 import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
-import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsOutboxEvent;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsKeywordExtractor;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsBulkIngester.ItemFailure;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.VersionType;
 import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
-import co.elastic.clients.elasticsearch.core.BulkRequest;
-import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -29,14 +37,16 @@ import java.util.Objects;
  * <p>해당 서비스는 다음의 역할을 수행합니다:</p>
  *
  * <ul>
- *     <li>전날 수집된 뉴스 데이터를 DB에서 조회 후, Elasticsearch에 Bulk 색인</li>
+ *     <li>{@link NewsEsOutboxRelay}가 읽은 outbox 이벤트를 {@link NewsEsBulkIngester}로 나누어 Bulk 반영 ({@link #applyOutboxEvents})</li>
+ *     <li>반영에 실패한 뉴스를 {@code news_es_failure} 테이블에 기록하고, 자정 배치에서 outbox에 재등록 ({@link #retryFailedIndexing})</li>
  *     <li>Elasticsearch에서 키워드 기반 뉴스 검색</li>
  *     <li>지정 날짜 범위 내에서 인기 키워드(terms aggregation) 추출</li>
  * </ul>
  *
- * 색인 대상 인덱스: {@code news-index-nori}
+ * 색인 대상 인덱스: 발행일별 {@code news-nori-yyyy.MM.dd} (읽기 별칭 {@code news-nori}, {@link NewsIndexHelper})
  * 검색 필드: {@code combinedTokens} (제목 + 요약 통합 필드)
- * 색인 기준 날짜: {@code CURDATE() - INTERVAL 1 DAY}
+ * 집계 필드: {@code keywords} (색인 시점 nori 키워드, {@link NewsKeywordExtractor})
+ * 도큐먼트 ID: news 테이블의 id
  *
  * @author 김원중
  */
@@ -47,145 +57,263 @@ public class NewsEsService {
 
     private final JdbcTemplate jdbcTemplate;
     private final ElasticsearchClient elasticsearchClient;
-    private static final String[] SECTIONS = {
-            "politics", "economy", "society", "culture", "tech", "entertainment", "opinion"
-    };
+    private final NewsEsBulkIngester newsEsBulkIngester;
+    private final NewsKeywordExtractor newsKeywordExtractor;
 
     /**
-     * 섹션별 뉴스 데이터를 Elasticsearch에 Bulk 색인하는 메서드
+     * 색인 실패(dead-letter) 기록
      *
-     * <p>전날 수집된 뉴스 중 각 섹션(section)에 해당하는 데이터를 DB에서 조회하고,
-     * {@link NewsEsDocument} 형식으로 변환한 후 ES에 색인합니다.</p>
-     *
-     * 색인 대상 인덱스: {@code news-index-nori}
+     * @param newsId 뉴스 ID
+     * @param status 마지막 응답 상태 코드
+     * @param errorType 오류 유형
+     * @param reason 실패 사유
+     * @param retryable 재시도 가능한 실패인지 (자정 파이프라인이 자동 재처리)
+     * @param attempts 실패 횟수
+     * @param failedAt 마지막 실패 시각
      */
-    public void esBulkService() throws IOException {
-        long totalStart = System.nanoTime(); // 전체 시작 시간
-        int totalCount = 0;
-        int totalFailureCount = 0;
+    public record DeadLetter(long newsId, Integer status, String errorType, String reason,
+                             boolean retryable, int attempts, LocalDateTime failedAt) {
+    }
 
-        for (String section : SECTIONS) {
-            long sectionStart = System.nanoTime(); // 섹션 시작 시간
-            log.info("📌 [{}] 섹션 색인 시작", section);
+    /**
+     * outbox 이벤트를 Elasticsearch에 Bulk 반영
+     *
+     * <p>INDEX 이벤트는 도큐먼트 색인, DELETE 이벤트(또는 이미 삭제된 뉴스의 INDEX 이벤트)는 도큐먼트 삭제로 변환합니다.
+     * 모든 요청은 이벤트 ID를 외부 버전({@link VersionType#External})으로 사용하므로,
+     * 이미 같거나 더 새로운 이벤트가 반영된 도큐먼트에 대한 요청은 버전 충돌(409)로 무시되며 이를 성공으로 간주합니다.</p>
+     *
+     * <p>이벤트 묶음은 {@link NewsEsBulkIngester}가 작업 수 / 요청 크기 단위의 여러 Bulk로 나누어 동시에 전송합니다.
+     * 한 묶음 안에서는 뉴스당 이벤트가 하나뿐이고 외부 버전을 쓰므로 Bulk 간 완료 순서는 결과에 영향이 없습니다.</p>
+     *
+     * <p>거부(429) 등 재시도 가능한 도큐먼트 단위 실패는 전송기가 백오프하며 작은 Bulk로 다시 보내고,
+     * 영구 실패(매핑 오류 등)와 재시도 횟수를 넘긴 실패는 dead-letter({@code news_es_failure})에 기록합니다.
+     * Bulk 요청 자체가 실패하면 예외를 던져 호출자(outbox 릴레이)가 오프셋을 전진시키지 않도록 합니다.</p>
+     *
+     * @param events 반영할 outbox 이벤트 (뉴스당 최신 이벤트 1건)
+     * @return 도큐먼트 단위 실패 건수
+     * @throws IOException Elasticsearch Bulk 요청 실패 시
+     */
+    public int applyOutboxEvents(List<NewsEsOutboxEvent> events) throws IOException {
+        if (events.isEmpty()) {
+            return 0;
+        }
 
-            List<NewsItemDTO> dtoList = loadNewsFromDB(section);
-            if (dtoList.isEmpty()) {
-                log.info("ℹ️ [{}] 섹션에 색인할 데이터가 없습니다.", section);
-                continue;
+        List<BulkOperation> operations = new ArrayList<>(events.size());
+        Map<String, LocalDateTime> publishedAt = new HashMap<>();
+        List<String> undatedDeletes = new ArrayList<>();
+        for (NewsEsOutboxEvent event : events) {
+            String id = String.valueOf(event.getNewsId());
+            if (event.getOp() == NewsEsOutboxEvent.Op.INDEX && event.getDocument() != null) {
+                publishedAt.put(id, event.getDocument().getPublished_at());
+                withKeywords(event.getDocument());
+                String indexName = NewsIndexHelper.dailyIndex(event.getDocument().getPublished_at());
+                operations.add(BulkOperation.of(op -> op
+                        .index(idx -> idx
+                                .index(indexName)
+                                .id(id)
+                                .version(event.getEventId())
+                                .versionType(VersionType.External)
+                                .document(event.getDocument())
+                        )
+                ));
+            } else if (event.getPublishedAt() != null) {
+                publishedAt.put(id, event.getPublishedAt());
+                String indexName = NewsIndexHelper.dailyIndex(event.getPublishedAt());
+                operations.add(BulkOperation.of(op -> op
+                        .delete(del -> del
+                                .index(indexName)
+                                .id(id)
+                                .version(event.getEventId())
+                                .versionType(VersionType.External)
+                        )
+                ));
+            } else {
+                // 발행 시각을 모르는 삭제 이벤트(컬럼 추가 전 기록 등)는 대상 날짜 인덱스를 알 수 없으므로 별칭 전체에서 삭제
+                undatedDeletes.add(id);
             }
+        }
+        deleteFromAllIndices(undatedDeletes);
 
-            List<NewsEsDocument> docs = convertToEsDocuments(dtoList);
-            boolean success = bulkInsert(docs, section);
-
-            long sectionTime = System.nanoTime() - sectionStart;
-            log.info("⏱️ [{}] 섹션 처리 시간: {}ms", section, sectionTime / 1_000_000);
+        // 작업 수 / 용량 단위로 나누어 동시 전송, 재시도 가능한 실패는 백오프 후 재전송 (버전 충돌은 전송기에서 성공으로 처리)
+        Map<String, ItemFailure> failures = newsEsBulkIngester.indexWithRetry(operations);
+        if (!failures.isEmpty()) {
+            log.warn("⚠️ outbox 이벤트 반영 실패 {}건 → dead-letter 기록", failures.size());
+            recordFailures(failures, publishedAt);
+        }
+        return failures.size();
+    }
 
-            totalCount += docs.size();
-            if (!success) totalFailureCount += docs.size();
+    /**
+     * 발행일을 모르는 뉴스 도큐먼트를 읽기 별칭의 모든 날짜 인덱스에서 삭제
+     *
+     * <p>삭제된 뉴스의 ID는 다시 쓰이지 않으므로 외부 버전 없이 ID 조건으로 삭제합니다.</p>
+     *
+     * @param ids 삭제할 도큐먼트 ID
+     * @throws IOException Elasticsearch 요청 실패 시 (릴레이가 오프셋을 전진시키지 않음)
+     */
+    private void deleteFromAllIndices(List<String> ids) throws IOException {
+        if (ids.isEmpty()) {
+            return;
         }
+        long deleted = Objects.requireNonNullElse(elasticsearchClient.deleteByQuery(d -> d
+                .index(NewsIndexHelper.READ_ALIAS)
+                .query(q -> q.ids(i -> i.values(ids)))
+                .conflicts(Conflicts.Proceed)
+        ).deleted(), 0L);
+        log.info("🗑️ 발행일 없는 삭제 이벤트 {}건을 별칭 전체에서 삭제 ({}건 삭제됨)", ids.size(), deleted);
+    }
+
+    /**
+     * 재시도 가능한 실패로 기록된 뉴스를 다시 색인 (자정 파이프라인)
+     *
+     * <p>{@code news_es_failure}에서 재시도 가능(거부 / 일시 장애)으로 분류된 뉴스마다 INDEX 이벤트를 outbox에 다시 넣고 기록을 지웁니다.
+     * 실제 색인은 outbox 릴레이가 새 이벤트 ID(외부 버전)로 수행하므로, 재처리도 일반 동기화와 같은 순서 보장을 받습니다.
+     * 영구 실패는 다시 보내도 같은 이유로 실패하므로 원인을 고친 뒤 {@link #replayDeadLetters(Long)}로 재처리합니다.</p>
+     *
+     * @return 다시 넣은 이벤트 수
+     */
+    @Transactional
+    public int retryFailedIndexing() {
+        int requeued = requeue("f.retryable = 1");
+        log.info("✅ 재시도 가능한 색인 실패 뉴스 {}건을 outbox에 다시 등록", requeued);
+        return requeued;
+    }
 
-        long totalTime = System.nanoTime() - totalStart;
-        log.info("✅ 전체 색인 완료: 총 {}건 처리 (실패: {}건)", totalCount, totalFailureCount);
-        log.info("⏱️ 전체 소요 시간: {}ms", totalTime / 1_000_000);
+    /**
+     * dead-letter에 기록된 뉴스를 다시 색인 (관리자 재처리)
+     *
+     * @param newsId 재처리할 뉴스 ID (null이면 영구 실패를 포함한 전체)
+     * @return 다시 넣은 이벤트 수
+     */
+    @Transactional
+    public int replayDeadLetters(Long newsId) {
+        int requeued = newsId == null ? requeue("1 = 1") : requeue("f.news_id = ?", newsId);
+        log.info("✅ dead-letter 뉴스 {}건을 outbox에 다시 등록 (대상: {})", requeued, newsId == null ? "전체" : newsId);
+        return requeued;
     }
 
     /**
-     * 전날 뉴스 중 특정 섹션에 해당하는 데이터를 DB에서 조회
+     * dead-letter 조회 (최근 실패 순)
      *
-     * @param section 뉴스 섹션 (예: politics, economy)
-     * @return 해당 섹션의 뉴스 DTO 리스트
+     * @param limit 최대 조회 건수
+     * @return 색인 실패 기록
      */
-    private List<NewsItemDTO> loadNewsFromDB(String section) {
-        // 현재 시간 기준으로 어제의 시작과 끝을 계산
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDateTime startOfYesterday = today.minusDays(1).atStartOfDay();
-        LocalDateTime endOfYesterday = today.atStartOfDay();
-        //FIXME : AWS RDS와 시간대 차이로 임시로 서버측에서 시간대를 조절하였음. 설정 문제로 인한 수정이니 해결되면 수정할 것.
-        String sql = """
-                SELECT *
-                FROM news
-                WHERE published_at >= ?
-                  AND published_at < ?
-                  AND sections = ?
-            """;
+    public List<DeadLetter> getDeadLetters(int limit) {
+        return jdbcTemplate.query("""
+                SELECT news_id, status, error_type, reason, retryable, attempts, failed_at
+                FROM news_es_failure
+                ORDER BY failed_at DESC
+                LIMIT ?
+            """, (rs, rowNum) -> new DeadLetter(
+                rs.getLong("news_id"),
+                (Integer) rs.getObject("status"),
+                rs.getString("error_type"),
+                rs.getString("reason"),
+                rs.getBoolean("retryable"),
+                rs.getInt("attempts"),
+                rs.getTimestamp("failed_at").toLocalDateTime()
+        ), limit);
+    }
 
-//        String sql = """
-//            SELECT *
-//            FROM news
-//            WHERE published_at >= CURDATE() - INTERVAL 1 DAY
-//              AND published_at < CURDATE()
-//              AND sections = ?
-//                """;
+    /**
+     * 조건에 맞는 실패 기록을 INDEX 이벤트로 outbox에 다시 넣고 기록 삭제
+     *
+     * <p>이미 삭제된 뉴스는 실패 기록에 남긴 발행일로 등록되며, 릴레이가 그 날짜 인덱스의 삭제 이벤트로 처리합니다.
+     * 발행일이 기록되지 않은 경우에는 릴레이가 별칭 전체에서 삭제합니다.</p>
+     */
+    private int requeue(String condition, Object... args) {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now());
+        Object[] params = new Object[args.length + 1];
+        params[0] = cutoff;
+        System.arraycopy(args, 0, params, 1, args.length);
 
-        return jdbcTemplate.query(
-                sql,
-                new Object[]{Timestamp.valueOf(startOfYesterday), Timestamp.valueOf(endOfYesterday), section},
-                (rs, rowNum) -> new NewsItemDTO(
-                        String.valueOf(rs.getLong("id")),
-                        List.of(rs.getString("sections")),
-                        rs.getString("title"),
-                        rs.getString("publisher"),
-                        rs.getString("summary"),
-                        rs.getString("content_url"),
-                        rs.getTimestamp("published_at").toLocalDateTime()
-                )
-        );
+        int requeued = jdbcTemplate.update("""
+                INSERT INTO news_es_outbox (news_id, op, published_at, created_at)
+                SELECT f.news_id, 'INDEX', COALESCE(n.published_at, f.published_at), NOW(6)
+                FROM news_es_failure f
+                LEFT JOIN news n ON n.id = f.news_id
+                WHERE f.failed_at <= ? AND %s
+                ORDER BY f.news_id
+            """.formatted(condition), params);
+        jdbcTemplate.update("DELETE f FROM news_es_failure f WHERE f.failed_at <= ? AND %s".formatted(condition), params);
+        return requeued;
     }
 
     /**
-     * DTO → Elasticsearch 도큐먼트 변환
+     * news 행(id, sections, title, publisher, summary, content_url, published_at)을 색인용 도큐먼트로 변환하는 RowMapper
      *
-     * @param dtoList DB에서 불러온 뉴스 DTO 리스트
-     * @return 변환된 Elasticsearch 도큐먼트 리스트
+     * @return RowMapper (도큐먼트 ID = news.id)
      */
-    private List<NewsEsDocument> convertToEsDocuments(List<NewsItemDTO> dtoList) {
-        return dtoList.stream()
-                .map(dto -> NewsEsDocument.builder()
-                        .id(dto.getId())
-                        .sections(dto.getSections().get(0))
-                        .title(dto.getTitle())
-                        .publisher(dto.getPublisher())
-                        .summary(dto.getSummary())
-                        .content_url(dto.getContent_url())
-                        .published_at(dto.getPublished_at())
-                        .build())
-                .toList();
+    public static RowMapper<NewsEsDocument> documentRowMapper() {
+        return (rs, rowNum) -> NewsEsDocument.builder()
+                .id(String.valueOf(rs.getLong("id")))
+                .sections(rs.getString("sections"))
+                .title(rs.getString("title"))
+                .publisher(rs.getString("publisher"))
+                .summary(rs.getString("summary"))
+                .content_url(rs.getString("content_url"))
+                .published_at(rs.getTimestamp("published_at").toLocalDateTime())
+                .build();
+    }
+
+    /**
+     * 도큐먼트에 색인 시점 키워드 채우기 (핫토픽 집계용 {@code keywords} 필드)
+     *
+     * @param document 색인할 도큐먼트
+     * @return 같은 도큐먼트
+     */
+    public NewsEsDocument withKeywords(NewsEsDocument document) {
+        document.setKeywords(newsKeywordExtractor.extract(document.getTitle(), document.getSummary()));
+        return document;
     }
 
     /**
-     * Elasticsearch에 Bulk 색인 요청을 수행
+     * 색인 실패를 dead-letter에 기록 (이미 있으면 분류 / 사유 / 시각 갱신, 실패 횟수 증가)
      *
-     * @param docs 색인할 뉴스 도큐먼트 리스트
-     * @param section 섹션명 (로그 용도)
-     * @return 전체 색인 성공 여부 (true: 성공, false: 일부 실패 발생)
-     * @throws IOException Elasticsearch 통신 실패 시 발생
+     * @param failures 도큐먼트 ID(= news.id) → 최종 실패 내용
      */
-    private boolean bulkInsert(List<NewsEsDocument> docs, String section) throws IOException {
-        BulkRequest.Builder br = new BulkRequest.Builder();
+    public void recordFailures(Map<String, ItemFailure> failures) {
+        recordFailures(failures, Map.of());
+    }
 
-        for (NewsEsDocument doc : docs) {
-            br.operations(op -> op
-                    .index(idx -> idx
-                            .index("news-index-nori")
-                            .id(doc.getId())
-                            .document(doc)
-                    )
-            );
-        }
+    /**
+     * 색인 실패를 발행일과 함께 dead-letter에 기록
+     *
+     * <p>발행일은 뉴스가 그 사이 삭제되어도 재처리 시 삭제할 날짜 인덱스를 알 수 있도록 남깁니다.
+     * 넘기지 않은 뉴스는 news 테이블의 발행일을 사용합니다.</p>
+     *
+     * @param failures 도큐먼트 ID(= news.id) → 최종 실패 내용
+     * @param publishedAt 도큐먼트 ID → 발행일 (삭제 이벤트처럼 news 행이 없는 경우)
+     */
+    public void recordFailures(Map<String, ItemFailure> failures, Map<String, LocalDateTime> publishedAt) {
+        try {
+            List<Object[]> args = new ArrayList<>(failures.size());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            failures.forEach((id, failure) -> {
+                LocalDateTime published = publishedAt.get(id);
+                args.add(new Object[]{
+                        Long.parseLong(id), failure.status(), failure.type(), truncate(failure.reason()), failure.retryable(),
+                        published == null ? null : Timestamp.valueOf(published), Long.parseLong(id), now
+                });
+            });
 
-        BulkResponse result = elasticsearchClient.bulk(br.build());
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO news_es_failure (news_id, status, error_type, reason, retryable, published_at, attempts, failed_at)
+                    VALUES (?, ?, ?, ?, ?, COALESCE(?, (SELECT n.published_at FROM news n WHERE n.id = ?)), 1, ?)
+                    ON DUPLICATE KEY UPDATE status = VALUES(status), error_type = VALUES(error_type), reason = VALUES(reason),
+                                            retryable = VALUES(retryable), published_at = COALESCE(VALUES(published_at), published_at),
+                                            attempts = attempts + 1, failed_at = VALUES(failed_at)
+                """, args);
+        } catch (Exception e) {
+            log.error("❌ 색인 실패 기록 저장 실패 ({}건): {}", failures.size(), e.getMessage());
+        }
+    }
 
-        if (result.errors()) {
-            log.warn("⚠️ [{}] 색인 중 일부 실패 발생", section);
-            result.items().stream()
-                    .filter(item -> item.error() != null)
-                    .forEach(item ->
-                            log.warn("❌ 에러 - ID: {}, 이유: {}", item.id(), item.error().reason()));
-            return false;
-        } else {
-            log.info("✅ [{}] 섹션 색인 성공: {}건", section, docs.size());
-            return true;
+    private static String truncate(String reason) {
+        if (reason == null) {
+            return null;
         }
+        return reason.length() > 500 ? reason.substring(0, 500) : reason;
     }
 
     /**
@@ -201,7 +329,7 @@ public class NewsEsService {
      */
     public List<NewsEsDocument> searchByKeyword(String keyword, int size) throws IOException {
         SearchResponse<NewsEsDocument> response = elasticsearchClient.search(s -> s
-                        .index("news-index-nori")
+                        .index(NewsIndexHelper.READ_ALIAS) // 날짜 조건이 없으므로 별칭 전체
                         .size(size)
                         .query(q -> q
                                 .match(m -> m
@@ -224,7 +352,7 @@ public class NewsEsService {
     /**
      * 날짜 범위 내 인기 키워드(terms aggregation) 추출
      *
-     * <p>{@code combinedTokens} 필드에 대해 terms aggregation을 수행하여
+     * <p>색인 시점에 추출한 {@code keywords}(keyword, doc values) 필드에 대해 terms aggregation을 수행하여
      * 지정한 날짜 범위 내에서 가장 많이 등장한 키워드 Top N을 추출합니다.</p>
      *
      * @param gte 시작 날짜 (포함)
@@ -235,7 +363,9 @@ public class NewsEsService {
      */
     public List<StringTermsBucket> getTopKeywordsForDateRange(LocalDate gte, LocalDate lt, int size) throws IOException {
         SearchResponse<Void> response = elasticsearchClient.search(s -> s
-                .index("news-index-nori")
+                .index(NewsIndexHelper.indicesFor(gte, lt.minusDays(1))) // 범위의 날짜 인덱스만
+                .ignoreUnavailable(true)
+                .allowNoIndices(true)
                 .size(0)
                 .query(q -> q.range(r -> r
                         .field("published_at")
@@ -244,7 +374,7 @@ public class NewsEsService {
                 ))
                 .aggregations("top_combined_keywords", a -> a
                         .terms(t -> t
-                                .field("combinedTokens")
+                                .field("keywords") // combinedTokens는 fielddata가 필요하므로 사용하지 않음
                                 .size(size)
                         )
                 ), Void.class);
@@ -0,0 +1,503 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsKeywordExtractor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 어제 뉴스 로컬 대체 인덱스 (Elasticsearch 장애 / 지연 대비)
+ *
+ * <p>최근 {@code news.fallback.index.days}일치 뉴스를 MySQL에서 읽어 인스턴스마다 작은 Lucene 인덱스를 만들고,
+ * 메모리 매핑 파일({@link MMapDirectory})로 엽니다. Elasticsearch 검색이 실패하거나
+ * {@link Baemin.News_Deliver.Global.News.ElasticSearch.helper.EsSearchHealthTracker}가 전환을 결정하면
+ * 사용자 전송 검색(포함 / 제외 키워드 + 날짜 범위)을 이 인덱스에서 수행합니다.</p>
+ *
+ * <ul>
+ *     <li>분석기: {@link NewsKeywordExtractor#analyzer()} - 날짜 인덱스의 {@code korean_nori}와 같은 nori 분석 순서</li>
+ *     <li>쿼리: Elasticsearch의 {@code multi_match}(bool_prefix, title / summary / content_url / publisher)와 같은 형태</li>
+ *     <li>생성: 리더가 수집을 마친 시점(자정 파이프라인의 {@code fallback-index} 노드, 실패 페이지 재수집으로 뉴스를 복구한 뒤)에
+ *     인덱스를 만들고 Redis의 세대 번호({@code NewsFallbackIndex:generation})를 올림.
+ *     다른 인스턴스는 시작 시 / {@code news.fallback.index.refresh-cron}마다 세대 번호를 확인해 바뀌었을 때만 다시 생성
+ *     (날짜로 최신 여부를 추정하지 않으므로, 수집 도중 만든 인덱스가 하루 종일 남지 않음)</li>
+ *     <li>세대: 인덱스 커밋 데이터에 기록되어 재시작 후에도 같은 세대면 다시 만들지 않음</li>
+ *     <li>교체: 새 디렉터리에 만든 뒤 참조만 바꾸고, 검색 중인 Reader는 참조 카운트로 검색이 끝난 뒤 닫음</li>
+ * </ul>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+public class NewsFallbackIndexService {
+
+    private static final String ID = "id";
+    private static final String SECTIONS = "sections";
+    private static final String TITLE = "title";
+    private static final String SUMMARY = "summary";
+    private static final String PUBLISHER = "publisher";
+    private static final String CONTENT_URL = "content_url";
+    private static final String PUBLISHED_AT = "published_at";
+
+    private static final DateTimeFormatter GENERATION = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int PAGE_SIZE = 1000;
+
+    /** 리더가 게시하는 인덱스 세대 번호 키, 같은 값이 인덱스 커밋 데이터에도 기록됨 */
+    public static final String GENERATION_KEY = "NewsFallbackIndex:generation";
+    private static final String GENERATION_COMMIT_DATA = "generation";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, Object> redisSession1Template;
+    private final Analyzer analyzer;
+    private final boolean enabled;
+    private final Path basePath;
+    private final int days;
+
+    /** 현재 검색 중인 인덱스 (교체 시 참조만 바뀜) */
+    private volatile Snapshot current;
+
+    public NewsFallbackIndexService(JdbcTemplate jdbcTemplate,
+                                    @Qualifier("redisSession1Template") RedisTemplate<String, Object> redisSession1Template,
+                                    NewsKeywordExtractor newsKeywordExtractor,
+                                    @Value("${news.fallback.index.enabled:true}") boolean enabled,
+                                    @Value("${news.fallback.index.path:./data/news-fallback-index}") String path,
+                                    @Value("${news.fallback.index.days:7}") int days) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisSession1Template = redisSession1Template;
+        this.analyzer = newsKeywordExtractor.analyzer();
+        this.enabled = enabled;
+        this.basePath = Paths.get(path).toAbsolutePath();
+        this.days = Math.max(1, days);
+    }
+
+    /**
+     * @param reader 메모리 매핑된 Reader (참조 카운트로 닫힘)
+     * @param path 인덱스 디렉터리
+     * @param from 포함된 첫 날짜
+     * @param to 포함된 마지막 날짜
+     * @param generation 생성 당시 게시된 세대 번호 (게시된 적이 없으면 0)
+     * @param builtAt 생성 시각
+     * @param buildMs 생성 소요 시간
+     */
+    private record Snapshot(DirectoryReader reader, IndexSearcher searcher, Path path,
+                            LocalDate from, LocalDate to, long generation, LocalDateTime builtAt, long buildMs) {
+    }
+
+    /**
+     * 로컬 인덱스 검색 가능 여부
+     *
+     * @return 인덱스가 열려 있으면 true
+     */
+    public boolean isAvailable() {
+        return current != null;
+    }
+
+    /**
+     * 시작 시 마지막으로 만든 인덱스를 열고, 게시된 세대와 다르면 다시 생성 (실패해도 애플리케이션은 계속 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void openOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path latest = latestGeneration();
+            if (latest != null) {
+                open(latest, null, null, 0);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 기존 로컬 대체 인덱스 열기 실패 → 새로 생성: {}", e.getMessage());
+        }
+        refreshIfChanged();
+    }
+
+    /**
+     * 게시된 세대가 현재 인덱스의 세대와 다르면 다시 생성 (모든 인스턴스, 주기 실행)
+     *
+     * <p>인덱스가 없으면 세대와 관계없이 생성합니다. Redis 장애로 세대를 확인하지 못하면 기존 인덱스를 유지합니다.</p>
+     */
+    @Scheduled(cron = "${news.fallback.index.refresh-cron:0 * * * * *}")
+    public synchronized void refreshIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        Long published;
+        try {
+            published = publishedGeneration();
+        } catch (Exception e) {
+            log.warn("⚠️ 로컬 대체 인덱스 세대 확인 실패: {}", e.getMessage());
+            published = null;
+        }
+
+        Snapshot snapshot = current;
+        if (snapshot != null && (published == null || snapshot.generation() == published)) {
+            return;
+        }
+        try {
+            rebuild(published == null ? 0 : published);
+        } catch (Exception e) {
+            log.error("❌ 로컬 대체 인덱스 생성 실패 (기존 인덱스 유지): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 새 세대를 게시하고 이 인스턴스의 인덱스를 다시 생성 (리더가 수집을 마친 뒤 / 관리자 API)
+     *
+     * <p>세대를 먼저 올리므로, 이 인스턴스의 생성이 실패해도 다른 인스턴스는 다음 주기 확인에서 다시 생성합니다.</p>
+     *
+     * @return 이 인스턴스에서 색인한 뉴스 수
+     * @throws IOException 인덱스 파일 쓰기 실패 시
+     */
+    public long rebuildAndPublish() throws IOException {
+        Long generation = redisSession1Template.opsForValue().increment(GENERATION_KEY);
+        log.info("📣 로컬 대체 인덱스 세대 게시: {}", generation);
+        return rebuild(generation == null ? 0 : generation);
+    }
+
+    /**
+     * 최근 {@code days}일치 뉴스로 로컬 인덱스를 새로 만들고 교체
+     *
+     * @param generation 새 인덱스에 기록할 세대 번호
+     * @return 색인한 뉴스 수
+     * @throws IOException 인덱스 파일 쓰기 실패 시
+     */
+    private synchronized long rebuild(long generation) throws IOException {
+        if (!enabled) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days);
+        Path path = basePath.resolve(LocalDateTime.now().format(GENERATION));
+
+        long indexed = 0;
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                .setRAMBufferSizeMB(32);
+        try (FSDirectory directory = FSDirectory.open(path);
+             IndexWriter writer = new IndexWriter(directory, config)) {
+            LocalDateTime lastPublishedAt = null;
+            long lastId = 0;
+            while (true) {
+                List<NewsEsDocument> page = readPage(from, to, lastPublishedAt, lastId);
+                for (NewsEsDocument document : page) {
+                    writer.addDocument(toLucene(document));
+                }
+                indexed += page.size();
+                if (page.size() < PAGE_SIZE) {
+                    break;
+                }
+                NewsEsDocument last = page.get(page.size() - 1);
+                lastPublishedAt = last.getPublished_at();
+                lastId = Long.parseLong(last.getId());
+            }
+            writer.forceMerge(1); // 읽기 전용이므로 세그먼트 하나로 (작고 검색이 빠름)
+            writer.setLiveCommitData(Map.of(GENERATION_COMMIT_DATA, String.valueOf(generation)).entrySet());
+            writer.commit();
+        } catch (IOException | RuntimeException e) {
+            FileSystemUtils.deleteRecursively(path);
+            throw e;
+        }
+
+        long buildMs = (System.nanoTime() - start) / 1_000_000;
+        open(path, from, to.minusDays(1), buildMs);
+        log.info("📦 로컬 대체 인덱스 생성: {} ~ {} 뉴스 {}건, 세대 {}, {}ms ({})", from, to, indexed, generation, buildMs, path);
+        return indexed;
+    }
+
+    /**
+     * 포함 / 제외 키워드와 검색 기간으로 로컬 인덱스 검색 ({@code KakaoNewsService}의 Elasticsearch 검색과 같은 조건)
+     *
+     * @param includeKeywords 포함 키워드
+     * @param blockKeywords 제외 키워드
+     * @param fromDaysAgo 검색할 기간
+     * @param size 최대 결과 수
+     * @return 점수 순 뉴스 리스트 (인덱스가 없거나 실패하면 빈 리스트)
+     */
+    public List<NewsEsDocument> search(List<String> includeKeywords, List<String> blockKeywords, int fromDaysAgo, int size) {
+        Snapshot snapshot = current;
+        if (snapshot == null || !snapshot.reader().tryIncRef()) {
+            log.warn("⚠️ 로컬 대체 인덱스가 없어 검색 결과 없음");
+            return List.of();
+        }
+
+        try {
+            LocalDate now = LocalDate.now();
+            LocalDate fromDate = now.minusDays(fromDaysAgo);
+
+            BooleanQuery.Builder include = new BooleanQuery.Builder().setMinimumNumberShouldMatch(1);
+            for (String keyword : includeKeywords) {
+                include.add(keywordQuery(keyword), BooleanClause.Occur.SHOULD);
+            }
+
+            BooleanQuery.Builder query = new BooleanQuery.Builder()
+                    .add(include.build(), BooleanClause.Occur.MUST)
+                    .add(LongPoint.newRangeQuery(PUBLISHED_AT,
+                            epochSecond(fromDate.atStartOfDay()),
+                            epochSecond(now.plusDays(1).atStartOfDay()) - 1), BooleanClause.Occur.FILTER);
+            if (blockKeywords != null) {
+                for (String keyword : blockKeywords) {
+                    query.add(keywordQuery(keyword), BooleanClause.Occur.MUST_NOT);
+                }
+            }
+
+            IndexSearcher searcher = snapshot.searcher();
+            TopDocs topDocs = searcher.search(query.build(), size);
+            List<NewsEsDocument> documents = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                NewsEsDocument document = fromLucene(searcher.storedFields().document(scoreDoc.doc));
+                log.info("{} | score: {} (local)", document.getTitle(), scoreDoc.score);
+                documents.add(document);
+            }
+            return documents;
+        } catch (IOException e) {
+            log.error("로컬 대체 인덱스 검색 실패: {}", e.getMessage(), e);
+            return List.of();
+        } finally {
+            decRefQuietly(snapshot.reader());
+        }
+    }
+
+    /**
+     * 로컬 인덱스 상태 (모니터링용)
+     *
+     * @return enabled / available / path / from / to / generation / docs / sizeBytes / builtAt / buildMs
+     */
+    public Map<String, Object> getStatus() {
+        Snapshot snapshot = current;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("available", snapshot != null);
+        if (snapshot != null) {
+            status.put("path", snapshot.path().toString());
+            status.put("from", snapshot.from());
+            status.put("to", snapshot.to());
+            status.put("generation", snapshot.generation());
+            status.put("docs", snapshot.reader().numDocs());
+            status.put("sizeBytes", sizeOf(snapshot.path()));
+            status.put("builtAt", snapshot.builtAt());
+            status.put("buildMs", snapshot.buildMs());
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void close() {
+        Snapshot snapshot = current;
+        current = null;
+        if (snapshot != null) {
+            decRefQuietly(snapshot.reader());
+        }
+    }
+
+    /**
+     * 키워드 하나의 쿼리 - Elasticsearch {@code multi_match}(bool_prefix)와 같이 필드별 점수 중 최고값 사용
+     *
+     * <ul>
+     *     <li>title / summary: 분석한 토큰 중 마지막 토큰만 접두어, 나머지는 일치 (OR)</li>
+     *     <li>publisher / content_url(keyword): 키워드 전체 접두어</li>
+     * </ul>
+     */
+    private Query keywordQuery(String keyword) throws IOException {
+        List<Query> fieldQueries = new ArrayList<>();
+        fieldQueries.add(boolPrefix(TITLE, keyword));
+        fieldQueries.add(boolPrefix(SUMMARY, keyword));
+        fieldQueries.add(new PrefixQuery(new Term(PUBLISHER, keyword)));
+        fieldQueries.add(new PrefixQuery(new Term(CONTENT_URL, keyword)));
+        return new DisjunctionMaxQuery(fieldQueries, 0.0f);
+    }
+
+    private Query boolPrefix(String field, String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        }
+        if (terms.isEmpty()) {
+            return new MatchNoDocsQuery();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            Term term = new Term(field, terms.get(i));
+            query.add(i == terms.size() - 1 ? new PrefixQuery(term) : new TermQuery(term), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private static Document toLucene(NewsEsDocument news) {
+        Document document = new Document();
+        document.add(new StoredField(ID, news.getId()));
+        document.add(new StoredField(SECTIONS, nullToEmpty(news.getSections())));
+        document.add(new TextField(TITLE, nullToEmpty(news.getTitle()), Field.Store.YES));
+        document.add(new TextField(SUMMARY, nullToEmpty(news.getSummary()), Field.Store.YES));
+        document.add(new StringField(PUBLISHER, nullToEmpty(news.getPublisher()), Field.Store.YES));
+        document.add(new StringField(CONTENT_URL, nullToEmpty(news.getContent_url()), Field.Store.YES));
+        long publishedAt = epochSecond(news.getPublished_at());
+        document.add(new LongPoint(PUBLISHED_AT, publishedAt));
+        document.add(new StoredField(PUBLISHED_AT, publishedAt));
+        return document;
+    }
+
+    private static NewsEsDocument fromLucene(Document document) {
+        return NewsEsDocument.builder()
+                .id(document.get(ID))
+                .sections(document.get(SECTIONS))
+                .title(document.get(TITLE))
+                .summary(document.get(SUMMARY))
+                .publisher(document.get(PUBLISHER))
+                .content_url(document.get(CONTENT_URL))
+                .published_at(LocalDateTime.ofEpochSecond(
+                        document.getField(PUBLISHED_AT).numericValue().longValue(), 0, ZoneOffset.UTC))
+                .build();
+    }
+
+    /* 발행 시각은 시간대 변환 없이 그대로 정렬 가능한 값으로만 사용 */
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * 디렉터리를 메모리 매핑으로 열어 현재 인덱스로 교체하고, 이전 인덱스는 검색이 끝나면 닫은 뒤 삭제
+     */
+    private void open(Path path, LocalDate from, LocalDate to, long buildMs) throws IOException {
+        DirectoryReader reader = DirectoryReader.open(new MMapDirectory(path));
+        String generation = reader.getIndexCommit().getUserData().get(GENERATION_COMMIT_DATA);
+        LocalDateTime builtAt = LocalDateTime.parse(path.getFileName().toString(), GENERATION);
+        if (from == null) {
+            // 시작 시 기존 인덱스: 디렉터리 이름(생성 시각)으로 기간 추정
+            from = builtAt.toLocalDate().minusDays(days);
+            to = builtAt.toLocalDate().minusDays(1);
+        }
+
+        Snapshot previous = current;
+        current = new Snapshot(reader, new IndexSearcher(reader), path, from, to,
+                generation == null ? 0 : Long.parseLong(generation), builtAt, buildMs);
+        if (previous != null) {
+            decRefQuietly(previous.reader());
+        }
+        deleteOtherGenerations(path);
+    }
+
+    /* 게시된 세대 번호 (게시된 적이 없으면 null) */
+    private Long publishedGeneration() {
+        Object value = redisSession1Template.opsForValue().get(GENERATION_KEY);
+        return value == null ? null : Long.valueOf(value.toString());
+    }
+
+    private List<NewsEsDocument> readPage(LocalDate from, LocalDate to, LocalDateTime lastPublishedAt, long lastId) {
+        Timestamp rangeFrom = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp rangeTo = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        Timestamp cursor = lastPublishedAt == null ? rangeFrom : Timestamp.valueOf(lastPublishedAt);
+        return jdbcTemplate.query("""
+                    SELECT id, sections, title, publisher, summary, content_url, published_at
+                    FROM news
+                    WHERE published_at >= ? AND published_at < ?
+                      AND (published_at > ? OR (published_at = ? AND id > ?))
+                    ORDER BY published_at, id
+                    LIMIT ?
+                """, NewsEsService.documentRowMapper(), rangeFrom, rangeTo, cursor, cursor, lastId, PAGE_SIZE);
+    }
+
+    private Path latestGeneration() throws IOException {
+        if (!Files.isDirectory(basePath)) {
+            return null;
+        }
+        try (Stream<Path> generations = Files.list(basePath)) {
+            return generations
+                    .filter(Files::isDirectory)
+                    .filter(path -> path.getFileName().toString().matches("\\d{14}"))
+                    .max(Comparator.comparing(path -> path.getFileName().toString()))
+                    .orElse(null);
+        }
+    }
+
+    /* 메모리 매핑된 파일은 삭제해도 매핑이 풀릴 때까지 읽을 수 있으므로 검색 중인 이전 Reader에 영향 없음 */
+    private void deleteOtherGenerations(Path keep) {
+        try (Stream<Path> generations = Files.list(basePath)) {
+            generations.filter(path -> !path.equals(keep)).forEach(path -> {
+                try {
+                    FileSystemUtils.deleteRecursively(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("⚠️ 이전 로컬 대체 인덱스 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try (Stream<Path> files = Files.list(path)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void decRefQuietly(DirectoryReader reader) {
+        try {
+            reader.decRef();
+        } catch (IOException e) {
+            log.warn("⚠️ 로컬 대체 인덱스 Reader 닫기 실패: {}", e.getMessage());
+        }
+    }
+}
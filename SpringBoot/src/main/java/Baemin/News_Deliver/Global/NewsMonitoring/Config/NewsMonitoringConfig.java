@@ -2,30 +2,55 @@ package Baemin.News_Deliver.Global.NewsMonitoring.Config;
 
 import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
 import Baemin.News_Deliver.Global.News.Batch.entity.News;
+import Baemin.News_Deliver.Global.News.Batch.helper.NewsDedupHelper;
+import Baemin.News_Deliver.Global.News.Batch.listener.AdaptiveChunkMetrics;
+import Baemin.News_Deliver.Global.News.Batch.listener.AdaptiveChunkPolicy;
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner;
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner.WindowCount;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchFetchExecutor;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchPageReader;
+import Baemin.News_Deliver.Global.News.Batch.service.FailedPageService;
+import Baemin.News_Deliver.Global.NewsMonitoring.Listener.NewsWatermarkListener;
 import Baemin.News_Deliver.Global.NewsMonitoring.Manager.NewsMonitoringManager;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsBloomFilterService;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsWatermarkService;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsWatermarkService.Watermark;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.BeanPropertyItemSqlParameterSourceProvider;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
-import org.springframework.batch.item.support.ListItemReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Configuration
@@ -34,6 +59,33 @@ import java.util.List;
 public class NewsMonitoringConfig {
 
     private final NewsMonitoringManager newsMonitoringManager;
+    private final DeepSearchFetchExecutor deepSearchFetchExecutor;
+    private final NewsBloomFilterService newsBloomFilterService;
+    private final NewsWatermarkService newsWatermarkService;
+    private final AdaptiveChunkMetrics adaptiveChunkMetrics;
+    private final FailedPageService failedPageService;
+
+    /* 미리 요청해 둘 DeepSearch 페이지 수 */
+    @Value("${deepsearch.fetch.prefetch-pages:4}")
+    private int prefetchPages;
+
+    /* 워터마크 이후 뉴스만 수집하는 증분 모드 사용 여부 */
+    @Value("${monitoring.incremental.enabled:true}")
+    private boolean incrementalEnabled;
+
+    /* 적응형 청크 크기 (초기 / 최소 / 최대 / 목표 커밋 시간) */
+    @Value("${batch.chunk.initial-size:1000}")
+    private int chunkInitialSize;
+    @Value("${batch.chunk.min-size:100}")
+    private int chunkMinSize;
+    @Value("${batch.chunk.max-size:10000}")
+    private int chunkMaxSize;
+    @Value("${batch.chunk.target-commit-ms:500}")
+    private long chunkTargetCommitMillis;
+
+    /* 건너뛸 수 있는 잘못된 뉴스 수 */
+    @Value("${batch.skip-limit:100}")
+    private int skipLimit;
 
     /**
      * 뉴스 데이터를 저장하는 Spring Batch Job을 정의하는 메서드
@@ -61,70 +113,237 @@ public class NewsMonitoringConfig {
      * @param apiReader_Monitoring 뉴스 데이터를 외부 API로부터 읽어오는 ItemReader
      * @param newsProcessor_Monitoring NewsItemDTO를 News 엔티티로 변환하는 ItemProcessor
      * @param newsWriter_Monitoring 변환된 News 엔티티를 DB에 저장하는 ItemWriter
+     * @param newsBloomWriteListener 커밋된 뉴스를 Bloom Filter에 등록하는 리스너
+     * @param newsWatermarkListener 저장된 뉴스로 증분 수집 워터마크를 전진시키는 리스너
+     * @param newsChunkPolicy_Monitoring 목표 커밋 시간 기반 적응형 청크 크기 정책
      * @return 구성된 Step 객체 (newsDataSaveStep)
      */
     @Bean
     public Step newsDataSaveStep_Monitoring(JobRepository jobRepository,
                                  PlatformTransactionManager transactionManager,
-                                 ItemReader<NewsItemDTO> apiReader_Monitoring,
+                                 ItemStreamReader<NewsItemDTO> apiReader_Monitoring,
                                  ItemProcessor<NewsItemDTO, News> newsProcessor_Monitoring,
-                                 ItemWriter<News> newsWriter_Monitoring) {
+                                 ItemWriter<News> newsWriter_Monitoring,
+                                 ItemWriteListener<News> newsBloomWriteListener,
+                                 NewsWatermarkListener newsWatermarkListener,
+                                 AdaptiveChunkPolicy newsChunkPolicy_Monitoring) {
 
         return new StepBuilder("newsDataSaveStep", jobRepository)
-                .<NewsItemDTO, News>chunk(10_000, transactionManager)  // 10000개씩 처리
+                .<NewsItemDTO, News>chunk(newsChunkPolicy_Monitoring, transactionManager)  // 커밋 시간에 맞춰 청크 크기 조정
                 .reader(apiReader_Monitoring)
                 .processor(newsProcessor_Monitoring)
                 .writer(newsWriter_Monitoring)
+                .faultTolerant()
+                .skipLimit(skipLimit)
+                .skip(IllegalArgumentException.class)           // Processor: 필수 필드 누락
+                .skip(DataIntegrityViolationException.class)    // Writer: 컬럼 길이 초과 등 (해당 뉴스만 제외)
+                .listener(newsBloomWriteListener)
+                .listener((ItemWriteListener<News>) newsWatermarkListener)
+                .listener((StepExecutionListener) newsWatermarkListener)
+                .listener((ChunkListener) newsChunkPolicy_Monitoring)
+                .listener((ItemWriteListener<News>) newsChunkPolicy_Monitoring)
                 .build();
     }
 
     /**
      * 외부 뉴스 API에서 데이터를 읽어오는 ItemReader 생성 메서드
      *
+     * 페이지를 모두 받아 두지 않고, 한 페이지씩 요청하는 {@link DeepSearchPageReader}를 반환
+     * 다음 페이지들은 {@link DeepSearchFetchExecutor}를 통해 prefetchPages개까지 동시에 미리 요청(순서는 보장)
+     * 읽은 위치는 Step ExecutionContext에 저장되어 재시작 시 마지막 커밋 페이지부터 이어서 읽음
+     * 페이지는 API 응답 그대로 전달하므로, 저장된 페이지/인덱스는 항상 원본 페이지 기준
+     * 대신 페이지를 받을 때 워터마크 이전 뉴스({@link NewsWatermarkService#filterNewer})와
+     * Bloom Filter에 있는 뉴스({@link NewsBloomFilterService#filterUnseen})를 페이지 단위로 한 번에 판정해
+     * {@link NewsItemDTO#isCollected()}로 표시 (Processor는 표시만 확인, 뉴스마다 Redis를 호출하지 않음)
+     * 재시도 후에도 실패한 페이지는 {@link FailedPageService}에 기록하고 빈 페이지로 건너뜀 (재수집 Job이 처리)
+     *
+     * 증분 모드: 해당 날짜/섹션의 워터마크가 있으면 조회 시작을 워터마크 발행 시각으로 좁혀
+     * 그 이후 발행된 뉴스의 페이지만 요청 (워터마크가 없는 첫 실행은 하루 전체 수집)
+     *
+     * DeepSearch는 한 조회에 100페이지까지만 돌려주므로, 조회 구간을 {@link TimeWindowPartitioner#countWindows}로
+     * 정규 배치 파티션과 같은 규칙으로 나눈 뒤 구간들의 페이지를 이어 붙여 차례로 읽음 (페이지 번호는 전체 구간 기준)
+     * 최소 구간에서도 상한을 넘는 구간이 있으면 읽지 못한 뉴스가 남으므로 워터마크를 전진시키지 않도록 표시
+     *
      * @param section Job 파라미터로 전달되는 뉴스 섹션 이름 (예: "politics", "economy" 등)
-     * @return 지정된 섹션의 뉴스 데이터를 순차적으로 읽는 ItemReader
+     * @param date Job 파라미터로 전달되는 수집 날짜 (없으면 오늘)
+     * @param stepExecution 현재 Step 실행 (워터마크 보류 표시용)
+     * @return 지정된 섹션의 뉴스 데이터를 순차적으로 읽는 ItemStreamReader
      */
     @StepScope
     @Bean
-    public ItemReader<NewsItemDTO> apiReader_Monitoring(@Value("#{jobParameters['section']}") String section) {
+    public ItemStreamReader<NewsItemDTO> apiReader_Monitoring(@Value("#{jobParameters['section']}") String section,
+                                                              @Value("#{jobParameters['date']}") String date,
+                                                              @Value("#{stepExecution}") StepExecution stepExecution) {
 
-        /* 오늘의 날짜 확인 */
-        LocalDate day = LocalDate.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        /* 수집 날짜 확인 (Job 파라미터 우선, 없으면 오늘) */
+        String day = monitoringDate(date);
+        LocalDateTime dayStart = LocalDate.parse(day).atStartOfDay();
+
+        /* 증분 모드면 워터마크 이후부터, 아니면 하루 전체 조회 */
+        Optional<Watermark> watermark = incrementalEnabled
+                ? newsWatermarkService.getWatermark(section, day)
+                : Optional.empty();
+        LocalDateTime start = watermark.map(Watermark::publishedAt).orElse(dayStart);
+
+        /* 100페이지 상한에 맞춰 조회 구간 분할 */
+        List<WindowCount> windows = TimeWindowPartitioner.countWindows(newsMonitoringManager, deepSearchFetchExecutor,
+                section, start, dayStart.plusDays(1));
+
+        /* 구간별 첫 페이지의 전체 페이지 번호 (1부터) */
+        int[] firstPages = new int[windows.size()];
+        int totalPages = 0;
+        int totalItems = 0;
+        for (int i = 0; i < windows.size(); i++) {
+            firstPages[i] = totalPages + 1;
+            totalPages += windows.get(i).pages();
+            totalItems += windows.get(i).totalItems();
+        }
+        log.info("[{}] 조회 구간 : {} ~ {} ({}), 구간 {}개, 뉴스 {}건, 요청할 페이지 {}개", section,
+                start, day, watermark.isPresent() ? "증분" : "전체", windows.size(), totalItems, totalPages);
+
+        if (windows.stream().anyMatch(WindowCount::truncated)) {
+            log.warn("⚠️ [{}] 최소 구간에서도 100페이지를 넘는 구간이 있어 이번 실행은 워터마크를 전진시키지 않음", section);
+            stepExecution.getExecutionContext().putString(NewsWatermarkListener.HOLD_KEY, "truncated");
+        }
+
+        /* DeepSearch API를 페이지 순서대로 (동시에 선행 요청하며) 호출하는 Reader 반환 */
+        return new DeepSearchPageReader(section, totalPages,
+                page -> {
+                    int found = Arrays.binarySearch(firstPages, page);
+                    int index = found >= 0 ? found : -found - 2;
+                    WindowCount window = windows.get(index);
+                    int windowPage = page - firstPages[index] + 1;
+                    return failedPageService.recoverPage(
+                            deepSearchFetchExecutor.submit(section + " " + window.dateFrom() + " p" + windowPage,
+                                    () -> newsMonitoringManager.fetchPage(section, window.dateFrom(), window.dateTo(), windowPage)),
+                            FailedPageService.SOURCE_MONITORING, section, window.dateFrom(), window.dateTo(), windowPage)
+                            .thenApply(items -> markCollected(section, day, watermark, items));
+                },
+                prefetchPages);
+    }
 
-        /* 날짜를 문자열로 변환 */
-        String dateTo = day.format(formatter);
-        String dateFrom = day.format(formatter);
+    /**
+     * 한 페이지에서 이미 수집된 뉴스 표시
+     *
+     * 워터마크 이전 뉴스를 먼저 거르고, 남은 뉴스만 Bloom Filter 파이프라인 한 번으로 조회
+     * 페이지 목록은 그대로 반환하므로 Reader의 페이지/인덱스는 필터링 결과와 무관
+     *
+     * @param section 뉴스 섹션
+     * @param day 수집 날짜 (yyyy-MM-dd)
+     * @param watermark 증분 수집 워터마크 (없으면 워터마크 판정 생략)
+     * @param items DeepSearch에서 받은 한 페이지의 뉴스
+     * @return 표시를 마친 같은 페이지
+     */
+    private List<NewsItemDTO> markCollected(String section, String day, Optional<Watermark> watermark,
+                                            List<NewsItemDTO> items) {
+        List<NewsItemDTO> candidates = watermark
+                .map(mark -> newsWatermarkService.filterNewer(items, mark))
+                .orElse(items);
+        Set<NewsItemDTO> unseen = Collections.newSetFromMap(new IdentityHashMap<>());
+        unseen.addAll(newsBloomFilterService.filterUnseen(section, day, candidates));
 
-        /* Batch를 요청할 페이지 수 계산(한 페이지에 100개씩 호출) */
-        int totalItem = newsMonitoringManager.getTotalItems(section,dateFrom,dateTo);
-        int requestPageSize = totalItem/100;
-        if(requestPageSize>=100) requestPageSize = 100; // Total Page 요청이 100이 넘으면 100으로 통일
-        log.info("requestPageSize(요청할 페이지 수) : {} ",requestPageSize);
+        for (NewsItemDTO item : items) {
+            item.setCollected(!unseen.contains(item));
+        }
+        return items;
+    }
 
-        /* DeepSearch API를 통한 데이터 수집 메서드 호출 */
-        List<NewsItemDTO> newsList = newsMonitoringManager.fetchAllPages(section,dateFrom,dateTo,requestPageSize);
-        log.info("newsList.size() : {}",newsList.size());
+    /**
+     * 커밋된 청크의 뉴스를 Bloom Filter에 등록하는 리스너
+     *
+     * afterWrite는 청크 트랜잭션 안(커밋 전)에서 호출되므로, 등록은 트랜잭션 커밋 후로 미룸
+     * 커밋에 실패한 청크는 필터에 등록되지 않으므로 재시도 / 다음 중간 배치에서 다시 수집됨
+     *
+     * @param section Job 파라미터로 전달되는 뉴스 섹션 이름
+     * @param date Job 파라미터로 전달되는 수집 날짜 (없으면 오늘)
+     * @return ItemWriteListener
+     */
+    @StepScope
+    @Bean
+    public ItemWriteListener<News> newsBloomWriteListener(@Value("#{jobParameters['section']}") String section,
+                                                          @Value("#{jobParameters['date']}") String date) {
+        String day = monitoringDate(date);
 
-        /* ListItemReader로 이 데이터를 하나씩 읽어서 다음 단계로 전달 */
-        return new ListItemReader<>(newsList);
+        return new ItemWriteListener<>() {
+            @Override
+            public void afterWrite(Chunk<? extends News> items) {
+                List<News> written = List.copyOf(items.getItems());
+                if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                    newsBloomFilterService.markSeen(section, day, written);
+                    return;
+                }
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        newsBloomFilterService.markSeen(section, day, written);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * 증분 수집 워터마크 리스너
+     *
+     * @param section Job 파라미터로 전달되는 뉴스 섹션 이름
+     * @param date Job 파라미터로 전달되는 수집 날짜 (없으면 오늘)
+     * @return NewsWatermarkListener
+     */
+    @StepScope
+    @Bean
+    public NewsWatermarkListener newsWatermarkListener(@Value("#{jobParameters['section']}") String section,
+                                                       @Value("#{jobParameters['date']}") String date) {
+        return new NewsWatermarkListener(newsWatermarkService, section, monitoringDate(date));
+    }
+
+    /**
+     * 섹션별 적응형 청크 크기 정책
+     * 청크마다 쓰기~커밋 시간을 측정해 batch.chunk.target-commit-ms에 맞도록 다음 청크 크기를 조정
+     *
+     * @param section Job 파라미터로 전달되는 뉴스 섹션 이름
+     * @return AdaptiveChunkPolicy
+     */
+    @StepScope
+    @Bean
+    public AdaptiveChunkPolicy newsChunkPolicy_Monitoring(@Value("#{jobParameters['section']}") String section) {
+        return new AdaptiveChunkPolicy("newsDataSaveStep_Monitoring", section, chunkInitialSize, chunkMinSize,
+                chunkMaxSize, chunkTargetCommitMillis, adaptiveChunkMetrics);
     }
 
     /**
      * DTO를 Entity(DB에 저장할 수 있는)로 변환하는 메서드
+     * [속보] 기사는 제외하고, 중복 판별용 contentHash를 계산
+     *
+     * Reader가 이미 수집된 뉴스로 표시한 뉴스(워터마크 이전 / Bloom Filter에 있음)도 여기서 제외(null 반환)
+     * Reader가 원본 페이지를 그대로 넘기므로 재시작 위치(페이지/인덱스)가 필터링 결과에 따라 달라지지 않음
      *
      * @return NewsItemDTO를 News로 변환하는 ItemProcessor
      */
     @Bean
     public ItemProcessor<NewsItemDTO, News> newsProcessor_Monitoring() {
 
-        /* sections가 없으면 skip */
         return dto -> {
+            /* 이미 수집된 뉴스 제외 (Reader가 페이지 단위로 판정) */
+            if (dto.isCollected()) {
+                return null;
+            }
+
+            /* sections가 없으면 skip */
             if (dto.getSections() == null || dto.getSections().isEmpty()) {
                 log.info("섹션 정보 없음 → 건너뜀 (title: {})", dto.getTitle());
                 return null;
             }
 
+            /* [속보] 기사는 저장하지 않음 */
+            if (NewsDedupHelper.isBreakingNews(dto.getTitle())) {
+                return null;
+            }
+
+            /* 필수 필드가 없으면 skip (skipLimit 이내) */
+            if (dto.getTitle() == null || dto.getContent_url() == null || dto.getPublished_at() == null) {
+                throw new IllegalArgumentException("필수 필드 누락 (url: " + dto.getContent_url() + ")");
+            }
+
             /* 이전 단계에서 받은 DTO -> Entity 변환*/
             return News.builder()
                     .title(dto.getTitle())
@@ -134,12 +353,14 @@ public class NewsMonitoringConfig {
                     .publishedAt(dto.getPublished_at())
                     .sections(dto.getSections().get(0)) // List → String
                     .send(false)
+                    .contentHash(NewsDedupHelper.contentHash(dto.getTitle(), dto.getPublisher(), dto.getPublished_at()))
                     .build();
         };
     }
 
     /**
      * 변환된 News 엔티티를 DB에 저장하는 ItemWriter(Jdbc 기반)
+     * content_hash가 이미 있는 뉴스(정규 배치/이전 중간 배치에서 저장된 뉴스)는 무시
      *
      * @param dataSource Spring이 관리하는 DataSource 객체로, DB 커넥션을 제공하는 주입 대상
      * @return News 엔티티 리스트를 DB에 저장하는 ItemWriter
@@ -152,13 +373,23 @@ public class NewsMonitoringConfig {
         JdbcBatchItemWriter<News> writer = new JdbcBatchItemWriter<>();
         writer.setDataSource(dataSource);
         writer.setSql("""
-        INSERT INTO news (title, summary, content_url, published_at, send, sections, publisher)
-        VALUES (:title, :summary, :contentUrl, :publishedAt, :send, :sections, :publisher)
+        INSERT INTO news (title, summary, content_url, published_at, send, sections, publisher, content_hash)
+        VALUES (:title, :summary, :contentUrl, :publishedAt, :send, :sections, :publisher, :contentHash)
+        ON DUPLICATE KEY UPDATE id = id
     """);
+        writer.setAssertUpdates(false); // 중복 뉴스는 영향 행 수가 0이므로 검증 생략
 
         writer.setItemSqlParameterSourceProvider(new BeanPropertyItemSqlParameterSourceProvider<>());
         writer.afterPropertiesSet(); // 설정 검증 필수
 
         return writer;
     }
-}
\ No newline at end of file
+
+    /* Job 파라미터의 수집 날짜, 없으면 오늘 (yyyy-MM-dd) */
+    private String monitoringDate(String date) {
+        if (date != null && !date.isBlank()) {
+            return date;
+        }
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    }
+}
@@ -1,15 +1,25 @@
 package Baemin.News_Deliver.Global.NewsMonitoring.Controller;
 
+import Baemin.News_Deliver.Global.Config.HttpClientPoolMonitor;
+import Baemin.News_Deliver.Global.News.Batch.listener.AdaptiveChunkMetrics;
+import Baemin.News_Deliver.Global.News.Batch.service.FailedPageService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsBulkIngester;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsIndexLifecycleService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsOutboxRelay;
 import Baemin.News_Deliver.Global.NewsMonitoring.Service.IntermediateBatchRedisService;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsBloomFilterService;
 import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsMonitoringService;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 @RestController
@@ -22,6 +32,14 @@ public class NewsMonitoringTestController {
 
     private final NewsMonitoringService newsMonitoringService;
     private final IntermediateBatchRedisService intermediateBatchRedisService;
+    private final HttpClientPoolMonitor httpClientPoolMonitor;
+    private final NewsBloomFilterService newsBloomFilterService;
+    private final NewsEsOutboxRelay newsEsOutboxRelay;
+    private final NewsEsBulkIngester newsEsBulkIngester;
+    private final NewsEsIndexLifecycleService newsEsIndexLifecycleService;
+    private final AdaptiveChunkMetrics adaptiveChunkMetrics;
+    private final FailedPageService failedPageService;
+    private final BatchLeaderLock batchLeaderLock;
 
     /**
      * 섹션 별 뉴스 숫자 집계 테스트 메서드
@@ -77,5 +95,145 @@ public class NewsMonitoringTestController {
 //            "opinion": 0
 //    }
 
+    /**
+     * 외부 API 커넥션 풀 사용 현황 조회 테스트 메서드
+     *
+     * @return 풀 별 leased / available / pending / max / utilization(%) 반환
+     */
+    @GetMapping("http/pool")
+    @Operation(summary = "외부 API 커넥션 풀 조회", description = "DeepSearch / Kakao 호스트별 커넥션 풀 사용 현황을 조회합니다.")
+    public Map<String, Map<String, Object>> getHttpPoolStats() {
+
+        return httpClientPoolMonitor.getPoolStats();
+    }
+
+    /* 예시 답변 */
+//    {
+//            "deepSearchConnectionManager": {"leased": 4, "available": 2, "pending": 0, "max": 8, "utilization": 50},
+//            "kakaoApiConnectionManager": {"leased": 0, "available": 1, "pending": 0, "max": 20, "utilization": 0},
+//            "kakaoAuthConnectionManager": {"leased": 0, "available": 1, "pending": 0, "max": 20, "utilization": 0}
+//    }
+
+    /**
+     * 중간 배치 Bloom Filter 통계 조회 테스트 메서드
+     *
+     * @param date 조회 날짜 (yyyy-MM-dd, 없으면 오늘)
+     * @return 필터 크기 / 목표 오탐률 및 섹션 별 checked, hits, inserted, hitRate, estimatedFpp 반환
+     */
+    @GetMapping("bloom/stats")
+    @Operation(summary = "중간 배치 Bloom Filter 통계", description = "이미 수집된 뉴스를 걸러낸 건수(hits)와 필터 크기, 추정 오탐률을 조회합니다.")
+    public Map<String, Object> getBloomStats(@RequestParam(required = false) String date) {
+
+        return newsBloomFilterService.getStats(date != null ? date : LocalDate.now().toString());
+    }
+
+    /* 예시 답변 */
+//    {
+//            "bits": 1265623, "bytes": 158202, "hashes": 11, "expectedItems": 40000, "targetFpp": 0.001,
+//            "society": {"checked": 9200, "hits": 8950, "inserted": 2480, "hitRate": 0.97, "estimatedFpp": 0.0000001},
+//            ...
+//    }
+
+    /**
+     * news → Elasticsearch outbox 릴레이 상태 조회 테스트 메서드
+     *
+     * @return 오프셋, 최신 이벤트 ID, 대기 이벤트 수, 가장 오래된 대기 이벤트의 지연(초) 반환
+     */
+    @GetMapping("outbox/status")
+    @Operation(summary = "Elasticsearch outbox 릴레이 상태", description = "아직 Elasticsearch에 반영되지 않은 outbox 이벤트 수와 동기화 지연을 조회합니다.")
+    public Map<String, Object> getOutboxStatus() {
+
+        return newsEsOutboxRelay.getStatus();
+    }
+
+    /* 예시 답변 */
+//    {"offset": 182340, "latestEventId": 182391, "pending": 51, "lagSeconds": 3}
+
+    /**
+     * Elasticsearch Bulk 전송 지표 조회 테스트 메서드
+     *
+     * @return Bulk 전송 수, 작업 수, 도큐먼트 실패 / 거부(429) / 요청 실패 수, 평균/최대/최근 지연(ms), 전송 중인 Bulk 수 반환
+     */
+    @GetMapping("es/bulk")
+    @Operation(summary = "Elasticsearch Bulk 전송 지표", description = "outbox 반영에 사용하는 Bulk의 전송 지연과 거부 건수를 조회합니다.")
+    public Map<String, Object> getBulkStats() {
+
+        return newsEsBulkIngester.getStats();
+    }
+
+    /* 예시 답변 */
+//    {"flushes": 412, "operations": 198230, "itemFailures": 3, "rejections": 2, "requestFailures": 0,
+//            "retriedOperations": 2, "retryRecovered": 2, "avgLatencyMs": 184, "maxLatencyMs": 920, "lastLatencyMs": 161, "pendingRequests": 1}
+
+    /**
+     * 자정 대량 적재 모드 단계별 소요 시간 조회 테스트 메서드
+     *
+     * @return 인덱스 별 적재 전 설정과 시작 / 설정 복구 / refresh / 세그먼트 병합 소요 시간(ms) 반환
+     */
+    @GetMapping("es/bulk-load")
+    @Operation(summary = "대량 적재 모드 단계별 소요 시간", description = "마지막 자정 적재에서 인덱스 설정 변경, refresh, force merge에 걸린 시간을 조회합니다.")
+    public Map<String, Map<String, Object>> getBulkLoadReport() {
+
+        return newsEsIndexLifecycleService.getLastReport();
+    }
+
+    /* 예시 답변 */
+//    {
+//            "news-nori-2026.10.17": {"savedRefreshInterval": "1s", "savedReplicas": "1", "beginMs": 38,
+//                    "restoreMs": 41, "refreshMs": 512, "forceMergeMs": 18240}
+//    }
+
+    /**
+     * 뉴스 저장 Step의 적응형 청크 지표 조회 테스트 메서드
+     *
+     * @return Step/섹션 별 청크 수, 롤백 수, 평균/최근/다음 청크 크기, 평균/최대/최근 커밋 시간(ms) 반환
+     */
+    @GetMapping("batch/chunk")
+    @Operation(summary = "적응형 청크 지표", description = "섹션별로 선택된 청크 크기와 청크 커밋 시간을 조회합니다.")
+    public Map<String, Map<String, Object>> getChunkMetrics() {
+
+        return adaptiveChunkMetrics.snapshot();
+    }
+
+    /* 예시 답변 */
+//    {
+//            "newsDataSaveStep:society": {"chunks": 12, "rollbacks": 0, "avgChunkSize": 1850, "lastChunkSize": 2400,
+//                    "nextChunkSize": 2600, "avgCommitMs": 410, "maxCommitMs": 780, "lastCommitMs": 455},
+//            ...
+//    }
+
+    /**
+     * 수집 실패 페이지 큐 현황 조회 테스트 메서드
+     *
+     * @return 상태(PENDING / DONE / DEAD) 별 페이지 수 반환
+     */
+    @GetMapping("failed-pages/stats")
+    @Operation(summary = "수집 실패 페이지 큐 현황", description = "재시도 후에도 실패해 재수집 큐에 기록된 DeepSearch 페이지 수를 상태별로 조회합니다.")
+    public Map<String, Long> getFailedPageStats() {
+
+        return failedPageService.getStats();
+    }
+
+    /* 예시 답변 */
+//    {"PENDING": 3, "DONE": 41, "DEAD": 0}
 
+    /**
+     * 배치 리더 락 현황 조회 테스트 메서드
+     *
+     * @return 락 이름 별 보유 인스턴스, 펜싱 토큰, 임대 경과 시간, 남은 TTL 및 이 인스턴스의 획득 / 경합 / 임대 상실 횟수 반환
+     */
+    @GetMapping("batch/lock")
+    @Operation(summary = "배치 리더 락 현황", description = "자정 파이프라인 / 모니터링 / 실패 페이지 재수집 락을 어느 인스턴스가 가지고 있는지와 경합 횟수를 조회합니다.")
+    public Map<String, Map<String, Object>> getBatchLockStatus() {
+
+        return batchLeaderLock.getStatus();
+    }
+
+    /* 예시 답변 */
+//    {
+//            "news-pipeline": {"holder": "4123@app-1#9f2c1a7e", "token": 57, "leaseAgeMs": 184233, "ttlMs": 51200,
+//                    "self": "4188@app-2#03be44d1", "acquired": 0, "contended": 1, "renewFailures": 0, "lost": 0},
+//            "news-monitoring": {"holder": null, "self": "4188@app-2#03be44d1", "acquired": 14, "contended": 9, "renewFailures": 0, "lost": 0},
+//            ...
+//    }
 }
@@ -0,0 +1,83 @@
+package Baemin.News_Deliver.Global.NewsMonitoring.Listener;
+
+import Baemin.News_Deliver.Global.News.Batch.entity.News;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsWatermarkService;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsWatermarkService.Watermark;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * 중간 배치 증분 수집 워터마크 리스너
+ *
+ * <p>청크가 저장될 때마다 지금까지 저장된 뉴스 중 가장 최신 (published_at, content_hash)를
+ * Step ExecutionContext의 {@code watermark.candidate}에 기록합니다.
+ * ExecutionContext는 청크 트랜잭션과 함께 커밋되므로, 후보 워터마크는 커밋된 청크 기준으로만 전진합니다.</p>
+ *
+ * <p>페이지 정렬 방향과 관계없이 중간 실패 시 읽지 않은 뉴스를 건너뛰지 않도록,
+ * 공유 워터마크(Redis)는 Step이 정상 완료({@link ExitStatus#COMPLETED})되었을 때 후보 값으로 한 번에 전진시킵니다.
+ * Reader가 조회 구간을 다 읽지 못한다고 표시({@link #HOLD_KEY})한 실행은 완료되어도 워터마크를 전진시키지 않습니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+public class NewsWatermarkListener implements ItemWriteListener<News>, StepExecutionListener {
+
+    private static final String CANDIDATE_KEY = "watermark.candidate";
+
+    /** 이번 실행이 조회 구간의 뉴스를 모두 읽지 못함 (값: 사유) */
+    public static final String HOLD_KEY = "watermark.hold";
+
+    private final NewsWatermarkService newsWatermarkService;
+    private final String section;
+    private final String date;
+
+    private StepExecution stepExecution;
+    private Watermark candidate;
+
+    public NewsWatermarkListener(NewsWatermarkService newsWatermarkService, String section, String date) {
+        this.newsWatermarkService = newsWatermarkService;
+        this.section = section;
+        this.date = date;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        if (stepExecution.getExecutionContext().containsKey(CANDIDATE_KEY)) {
+            candidate = Watermark.parse(stepExecution.getExecutionContext().getString(CANDIDATE_KEY));
+        }
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends News> items) {
+        for (News news : items) {
+            if (news.getPublishedAt() == null) {
+                continue;
+            }
+            Watermark watermark = new Watermark(news.getPublishedAt().withNano(0), news.getContentHash());
+            if (candidate == null || watermark.compareTo(candidate) > 0) {
+                candidate = watermark;
+            }
+        }
+
+        if (candidate != null) {
+            stepExecution.getExecutionContext().putString(CANDIDATE_KEY, candidate.serialize());
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getExecutionContext().containsKey(HOLD_KEY)) {
+            log.warn("💧 [{}] 워터마크 유지: {}", section, stepExecution.getExecutionContext().getString(HOLD_KEY));
+            return stepExecution.getExitStatus();
+        }
+        if (candidate != null && ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+            newsWatermarkService.advance(section, date, candidate);
+        }
+        return stepExecution.getExitStatus();
+    }
+}
@@ -1,7 +1,9 @@
 package Baemin.News_Deliver.Global.NewsMonitoring.Manager;
 
 import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
-import Baemin.News_Deliver.Global.NewsMonitoring.DTO.NewsSimpleResponseDTO;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchFetchExecutor;
+import Baemin.News_Deliver.Global.News.Batch.reader.DeepSearchPageDecoder;
+import Baemin.News_Deliver.Global.News.Batch.service.FailedPageService;
 import Baemin.News_Deliver.Global.NewsMonitoring.Helper.NewsMonitoringHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +12,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -21,6 +22,11 @@ public class NewsMonitoringManager {
     @Value("${deepsearch.api.key}")
     private String apiKey;
 
+    private final DeepSearchFetchExecutor deepSearchFetchExecutor;
+    private final RestTemplate deepSearchRestTemplate;
+    private final DeepSearchPageDecoder deepSearchPageDecoder;
+    private final FailedPageService failedPageService;
+
     /**
      * page_size=1로 호출해서 해당 섹션의 total_items를 모니터링
      *
@@ -32,29 +38,9 @@ public class NewsMonitoringManager {
      * @return 해당 섹션의 total item 수
      */
     public int getTotalItems(String section, String dateFrom, String dateTo) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        /* 해당 섹션의 total item 수 파악을 위한 http url 생성 */
-        String url = NewsMonitoringHelper.buildUrl(section, 1, 1, dateFrom, dateTo);
-
-        /* Header 정의 메서드 호출 */
-        HttpEntity<String> entity = NewsMonitoringHelper.getAuthorizedEntity(apiKey);
-
-        /* http 요청 후 totalItem 최종 반환 */
+        /* http 요청 후 totalItem 최종 반환 (일시적인 실패는 재시도) */
         try {
-            // Http 요청
-            ResponseEntity<NewsSimpleResponseDTO> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    NewsSimpleResponseDTO.class // 응답
-            );
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-
-                return response.getBody().getTotal_items();
-            } else {
-                log.warn("[{}] 응답 실패 or 데이터 없음", section);  /* 예외 커스터마이징 */
-            }
+            return deepSearchFetchExecutor.execute(section + " total", () -> fetchTotalItems(section, dateFrom, dateTo));
         } catch (Exception e) {
             log.error("[{}] total_items 조회 실패: {}", section, e.getMessage()); /* 예외 커스터마이징 */
         }
@@ -65,52 +51,65 @@ public class NewsMonitoringManager {
     }
 
     /**
-     * DeepSearch API를 통한 데이터 중간 수집 메서드
+     * page_size=1 단일 요청으로 조회 구간의 total_items 조회 (실패 시 예외)
+     *
+     * 시간 구간 Partitioner처럼 0으로 fallback 하면 안 되는 곳에서 사용 (재시도는 호출자가 DeepSearchFetchExecutor로 처리)
      *
-     * 테스트 필요
+     * @param section 검색 영역
+     * @param dateFrom 시작 (yyyy-MM-dd 또는 yyyy-MM-dd'T'HH:mm:ss)
+     * @param dateTo 마감 (yyyy-MM-dd 또는 yyyy-MM-dd'T'HH:mm:ss)
+     * @return 해당 구간의 total item 수
+     */
+    public int fetchTotalItems(String section, String dateFrom, String dateTo) {
+        /* 해당 섹션의 total item 수 파악을 위한 http url 생성 */
+        String url = NewsMonitoringHelper.buildUrl(section, 1, 1, dateFrom, dateTo);
+
+        /* Header 정의 메서드 호출 */
+        HttpEntity<String> entity = NewsMonitoringHelper.getAuthorizedEntity(apiKey);
+
+        DeepSearchPageDecoder.Page response = deepSearchRestTemplate.execute(
+                url,
+                HttpMethod.GET,
+                deepSearchRestTemplate.httpEntityCallback(entity),
+                deepSearchPageDecoder // 응답 (스트리밍 디코딩)
+        );
+        if (response == null) {
+            log.warn("[{}] 응답 데이터 없음", section);
+            return 0;
+        }
+        return response.totalItems();
+    }
+
+    /**
+     * DeepSearch API 단일 페이지 수집 메서드
      *
      * @param section 뉴스 영역
      * @param dateFrom 시작일
      * @param dateTo 마감일
-     * @param totalPages 수집할 데이터의 페이지 (100이하)
-     * @return 수집된 모든 뉴스 데이터 List로 반환
+     * @param page 요청할 페이지 번호 (1부터 시작)
+     * @return 해당 페이지의 뉴스 데이터 (데이터가 없으면 빈 List)
+     * @throws org.springframework.web.client.RestClientException 요청 실패 시 (재시도 / 실패 페이지 기록은 호출자가 처리)
      */
-    public List<NewsItemDTO> fetchAllPages(String section, String dateFrom, String dateTo, int totalPages) {
-        List<NewsItemDTO> allNews = new ArrayList<>();
-
-        /* http 요청 메타 데이터 - 다른 코드에도 중복 : 이후 global 처리 하기 */
-        RestTemplate restTemplate = new RestTemplate();
+    public List<NewsItemDTO> fetchPage(String section, String dateFrom, String dateTo, int page) {
 
         /* Header 정의 메서드 호출 */
         HttpEntity<String> entity = NewsMonitoringHelper.getAuthorizedEntity(apiKey);
 
-        /* 집계된 수만큼만 뉴스 데이터 수집 */
-        if(totalPages > 100) totalPages = 100; // 방어 코드 : 토탈 페이지가 100이 넘으면 100으로 Fix
-        for (int page = 1; page <= totalPages; page++) {
-
-            /* 중간 수집을 위한 url 생성 */
-            String url = NewsMonitoringHelper.buildUrl(section, 100, page, dateFrom, dateTo);
-
-            try {
-                // http 요청
-                ResponseEntity<NewsSimpleResponseDTO> response = restTemplate.exchange(
-                        url,
-                        HttpMethod.GET,
-                        entity,
-                        NewsSimpleResponseDTO.class
-                );
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    List<NewsItemDTO> dataList = response.getBody().getData();
-                    allNews.addAll(dataList);
-                    // log.info("[{}] {}페이지 수집 성공, {}건", section, page, dataList.size());
-                } else {
-                    log.warn("[{}] {}페이지 응답 실패", section, page); /* 예외 커스터 마이징 */
-                }
-            } catch (Exception e) {
-                log.error("[{}] {}페이지 호출 실패: {}", section, page, e.getMessage()); /* 예외 커스터 마이징 */
-            }
+        /* 중간 수집을 위한 url 생성 */
+        String url = NewsMonitoringHelper.buildUrl(section, 100, page, dateFrom, dateTo);
+
+        // http 요청 (실패는 예외로 전달하여 재시도 / 재수집 큐에서 처리)
+        DeepSearchPageDecoder.Page response = deepSearchRestTemplate.execute(
+                url,
+                HttpMethod.GET,
+                deepSearchRestTemplate.httpEntityCallback(entity),
+                deepSearchPageDecoder
+        );
+        if (response != null && !response.items().isEmpty()) {
+            return response.items();
         }
-        return allNews;
+        log.warn("[{}] {}페이지 응답 데이터 없음", section, page);
+        return List.of();
     }
 
 
@@ -0,0 +1,284 @@
+package Baemin.News_Deliver.Global.NewsMonitoring.Service;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import Baemin.News_Deliver.Global.News.Batch.entity.News;
+import Baemin.News_Deliver.Global.News.Batch.helper.NewsDedupHelper;
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 중간 배치(모니터링) 수집 뉴스 Bloom Filter 서비스
+ *
+ * <p>하루 최대 3번 실행되는 {@code newsDataSaveJob_Monitoring}이 같은 날의 1페이지부터 다시 수집하면서
+ * 이미 저장한 뉴스를 또 처리하지 않도록, 날짜/섹션별 Bloom Filter를 Redis 비트맵으로 관리합니다.
+ * Redis에 저장되므로 모든 인스턴스가 같은 필터를 공유합니다.</p>
+ *
+ * <ul>
+ *     <li>필터 키: {@code NewsBloom:{date}:{section}} (SETBIT/GETBIT 비트맵, TTL 2일)</li>
+ *     <li>통계 키: {@code NewsBloom:stats:{date}:{section}} (checked / hits / inserted)</li>
+ *     <li>원소: content_url, 그리고 {@link NewsDedupHelper#contentHash} (둘 중 하나라도 있으면 이미 수집된 뉴스)</li>
+ * </ul>
+ *
+ * <p>필터 크기(m)와 해시 함수 수(k)는 {@code monitoring.bloom.expected-items}와
+ * {@code monitoring.bloom.fpp}로부터 계산합니다. 오탐(false positive)된 뉴스는 그날 중간 배치에서 빠지지만,
+ * 자정의 정규 배치가 전날 전체를 다시 수집하므로 누락되지 않습니다.</p>
+ *
+ * <p>Redis 장애 시에는 필터링 없이 그대로 통과시킵니다 (DB의 content_hash 유니크 키가 최종 중복 방지).</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+public class NewsBloomFilterService {
+
+    private static final String BLOOM_KEY_PREFIX = "NewsBloom:";
+    private static final String STATS_KEY_PREFIX = "NewsBloom:stats:";
+    private static final Duration TTL = Duration.ofDays(2);
+    private static final String URL_PREFIX = "url:";
+    private static final String HASH_PREFIX = "hash:";
+
+    private final RedisTemplate<String, Object> redisSession1Template;
+    private final long expectedItems;
+    private final double fpp;
+    private final long bitSize;
+    private final int hashCount;
+
+    public NewsBloomFilterService(@Qualifier("redisSession1Template") RedisTemplate<String, Object> redisSession1Template,
+                                  @Value("${monitoring.bloom.expected-items:40000}") long expectedItems,
+                                  @Value("${monitoring.bloom.fpp:0.001}") double fpp) {
+        this.redisSession1Template = redisSession1Template;
+        this.expectedItems = expectedItems;
+        this.fpp = fpp;
+
+        /* 뉴스 1건당 원소 2개(url, hash)를 OR로 판정하므로, 원소 수 n = 2 * expectedItems, 원소당 목표 오탐률 p = fpp / 2 */
+        /* m = -n ln p / (ln 2)^2, k = m/n ln 2 */
+        long elements = expectedItems * 2;
+        double elementFpp = fpp / 2;
+        this.bitSize = (long) Math.ceil(-elements * Math.log(elementFpp) / (Math.log(2) * Math.log(2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / elements * Math.log(2)));
+
+        log.info("🧮 뉴스 Bloom Filter 설정: expectedItems={}, fpp={}, bits={}, hashes={}",
+                expectedItems, fpp, bitSize, hashCount);
+    }
+
+    /**
+     * 아직 수집되지 않은 뉴스만 반환
+     *
+     * <p>한 페이지의 모든 비트 조회를 하나의 파이프라인으로, 통계 기록을 또 하나의 파이프라인으로 처리합니다
+     * (페이지당 Redis 왕복 2회).</p>
+     *
+     * @param section 뉴스 섹션
+     * @param date 수집 날짜 (yyyy-MM-dd)
+     * @param items DeepSearch에서 받은 한 페이지의 뉴스
+     * @return 필터에 없는 뉴스 목록
+     */
+    public List<NewsItemDTO> filterUnseen(String section, String date, List<NewsItemDTO> items) {
+        if (items.isEmpty()) {
+            return items;
+        }
+
+        byte[] key = bloomKey(date, section).getBytes(StandardCharsets.UTF_8);
+        List<long[]> urlOffsets = new ArrayList<>(items.size());
+        List<long[]> hashOffsets = new ArrayList<>(items.size());
+        for (NewsItemDTO item : items) {
+            urlOffsets.add(offsets(urlElement(item.getContent_url())));
+            hashOffsets.add(offsets(hashElement(item)));
+        }
+
+        try {
+            List<Object> bits = redisSession1Template.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < items.size(); i++) {
+                    for (long offset : urlOffsets.get(i)) {
+                        connection.stringCommands().getBit(key, offset);
+                    }
+                    for (long offset : hashOffsets.get(i)) {
+                        connection.stringCommands().getBit(key, offset);
+                    }
+                }
+                return null;
+            });
+
+            List<NewsItemDTO> unseen = new ArrayList<>(items.size());
+            int cursor = 0;
+            for (NewsItemDTO item : items) {
+                boolean urlSeen = allSet(bits, cursor, hashCount);
+                boolean hashSeen = allSet(bits, cursor + hashCount, hashCount);
+                cursor += hashCount * 2;
+
+                if (!urlSeen && !hashSeen) {
+                    unseen.add(item);
+                }
+            }
+
+            int hits = items.size() - unseen.size();
+            incrementStats(date, section, Map.of("checked", (long) items.size(), "hits", (long) hits));
+            if (hits > 0) {
+                log.debug("[{}] Bloom Filter로 이미 수집된 뉴스 {}건 제외 ({}건 중)", section, hits, items.size());
+            }
+            return unseen;
+
+        } catch (Exception e) {
+            log.error("Bloom Filter 조회 실패 → 필터링 없이 진행: section={}, error={}", section, e.getMessage());
+            return items;
+        }
+    }
+
+    /**
+     * 저장이 끝난 뉴스를 필터에 등록
+     *
+     * @param section 뉴스 섹션
+     * @param date 수집 날짜 (yyyy-MM-dd)
+     * @param items 저장된 뉴스
+     */
+    public void markSeen(String section, String date, List<? extends News> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        byte[] key = bloomKey(date, section).getBytes(StandardCharsets.UTF_8);
+        byte[] statsKey = statsKey(date, section).getBytes(StandardCharsets.UTF_8);
+
+        try {
+            /* 비트 등록 / TTL / 통계를 한 번의 파이프라인으로 */
+            redisSession1Template.executePipelined((RedisCallback<Object>) connection -> {
+                for (News news : items) {
+                    for (long offset : offsets(urlElement(news.getContentUrl()))) {
+                        connection.stringCommands().setBit(key, offset, true);
+                    }
+                    for (long offset : offsets(HASH_PREFIX + news.getContentHash())) {
+                        connection.stringCommands().setBit(key, offset, true);
+                    }
+                }
+                connection.keyCommands().expire(key, TTL.getSeconds());
+                connection.hashCommands().hIncrBy(statsKey, "inserted".getBytes(StandardCharsets.UTF_8), items.size());
+                connection.keyCommands().expire(statsKey, TTL.getSeconds());
+                return null;
+            });
+
+        } catch (Exception e) {
+            log.error("Bloom Filter 등록 실패: section={}, error={}", section, e.getMessage());
+        }
+    }
+
+    /**
+     * 날짜별 섹션 Bloom Filter 통계 조회
+     *
+     * @param date 조회 날짜 (yyyy-MM-dd)
+     * @return 섹션별 필터 크기, 목표/추정 오탐률, checked / hits / inserted 건수
+     */
+    public Map<String, Object> getStats(String date) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bits", bitSize);
+        result.put("bytes", bitSize / 8);
+        result.put("hashes", hashCount);
+        result.put("expectedItems", expectedItems);
+        result.put("targetFpp", fpp);
+
+        for (String section : TimeWindowPartitioner.SECTIONS) {
+            Map<Object, Object> stats = redisSession1Template.opsForHash().entries(statsKey(date, section));
+            long checked = toLong(stats.get("checked"));
+            long hits = toLong(stats.get("hits"));
+            long inserted = toLong(stats.get("inserted"));
+
+            Map<String, Object> sectionStats = new LinkedHashMap<>();
+            sectionStats.put("checked", checked);
+            sectionStats.put("hits", hits);
+            sectionStats.put("inserted", inserted);
+            sectionStats.put("hitRate", checked == 0 ? 0.0 : (double) hits / checked);
+            sectionStats.put("estimatedFpp", estimatedFpp(inserted));
+            result.put(section, sectionStats);
+        }
+        return result;
+    }
+
+    /* ---------------------- 내부 계산 ---------------------- */
+
+    private static String urlElement(String contentUrl) {
+        return URL_PREFIX + (contentUrl == null ? "" : contentUrl);
+    }
+
+    private static String hashElement(NewsItemDTO item) {
+        return HASH_PREFIX + NewsDedupHelper.contentHash(item.getTitle(), item.getPublisher(), item.getPublished_at());
+    }
+
+    /**
+     * 원소의 비트 위치 k개 계산 (SHA-256 앞 16바이트로 double hashing)
+     */
+    private long[] offsets(String element) {
+        byte[] digest = sha256(element);
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, bitSize);
+        }
+        return offsets;
+    }
+
+    private static boolean allSet(List<Object> bits, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            if (!Boolean.TRUE.equals(bits.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* 등록된 뉴스 수에 대한 추정 오탐률: 원소당 (1 - e^(-kn/m))^k, 뉴스당 원소 2개를 OR로 판정 */
+    private double estimatedFpp(long insertedNews) {
+        double n = insertedNews * 2.0;
+        double elementFpp = Math.pow(1 - Math.exp(-hashCount * n / bitSize), hashCount);
+        return 1 - Math.pow(1 - elementFpp, 2);
+    }
+
+    /* 통계 필드들을 한 번의 파이프라인으로 증가 (0인 필드는 생략) */
+    private void incrementStats(String date, String section, Map<String, Long> deltas) {
+        byte[] key = statsKey(date, section).getBytes(StandardCharsets.UTF_8);
+        redisSession1Template.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((field, delta) -> {
+                if (delta != 0) {
+                    connection.hashCommands().hIncrBy(key, field.getBytes(StandardCharsets.UTF_8), delta);
+                }
+            });
+            connection.keyCommands().expire(key, TTL.getSeconds());
+            return null;
+        });
+    }
+
+    private static String bloomKey(String date, String section) {
+        return BLOOM_KEY_PREFIX + date + ":" + section;
+    }
+
+    private static String statsKey(String date, String section) {
+        return STATS_KEY_PREFIX + date + ":" + section;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package Baemin.News_Deliver.Global.NewsMonitoring.Service;
 
 
+import Baemin.News_Deliver.Global.News.Batch.service.RestartableJobLauncher;
 import Baemin.News_Deliver.Global.NewsMonitoring.Manager.NewsMonitoringManager;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock.Lease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -24,8 +28,9 @@ public class NewsMonitoringService {
 
     private final IntermediateBatchRedisService intermediateBatchRedisService;
     private final NewsMonitoringManager newsMonitoringManager;
-    private final JobLauncher jobLauncher;
+    private final RestartableJobLauncher restartableJobLauncher;
     private final Job newsDataSaveJob_Monitoring;
+    private final BatchLeaderLock batchLeaderLock;
 
     @Scheduled(cron = "0 0 * * * *") // 매 시간 정각
     //@Scheduled(cron = "0 */5 * * * *") // 5분
@@ -34,6 +39,19 @@ public class NewsMonitoringService {
     //@Scheduled(cron = "0 * * * * *") // 1분
     public void monitoring() {
 
+        /* 여러 인스턴스 중 모니터링 락을 잡은 한 곳에서만 실행 */
+        try {
+            batchLeaderLock.runIfLeader(BatchLeaderLock.NEWS_MONITORING, lease -> {
+                monitoring(lease);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("[모니터링] 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void monitoring(Lease lease) {
+
         /* 날짜 & 시간 확인 */
         LocalDate day = LocalDate.now(); // 오늘의 날짜
         LocalDateTime time = LocalDateTime.now(); // 현재 날짜와 시간(분 단위 포함)
@@ -69,8 +87,12 @@ public class NewsMonitoringService {
                 int prevCount = intermediateBatchRedisService.getBatchCount(batchCountKey);
                 log.info("{} 섹션 기존 중간 배치 현황 : 총 {}회 중간 배치", section, prevCount);
 
-                runNewsBatch(section); // 배치 실행
+                // 배치 실행 (실패하면 횟수를 올리지 않아 다음 정각에 같은 회차를 이어서 실행)
+                if (!runNewsBatch(section, dateStr, prevCount + 1, lease)) {
+                    continue;
+                }
 
+                lease.checkValid(); // 임대를 잃었으면 카운터를 건드리지 않고 중단 (펜싱)
                 intermediateBatchRedisService.incrementBatchCount(batchCountKey); // 횟수 증가
                 intermediateBatchRedisService.markBatchDone(batchDoneKey);        // 하루 1회 완료 기록
 
@@ -86,8 +108,12 @@ public class NewsMonitoringService {
                     continue;
                 }
 
-                runNewsBatch(section); // 배치 실행
+                // 배치 실행 (실패하면 횟수를 올리지 않아 다음 정각에 같은 회차를 이어서 실행)
+                if (!runNewsBatch(section, dateStr, count + 1, lease)) {
+                    continue;
+                }
 
+                lease.checkValid(); // 임대를 잃었으면 카운터를 건드리지 않고 중단 (펜싱)
                 intermediateBatchRedisService.incrementBatchCount(batchCountKey); // 횟수 증가
                 log.warn("[#주의#] {} 섹션의 total_items 수 : {} (누적 {}회 배치됨)", section, total_items, count + 1);
             }
@@ -159,20 +185,29 @@ public class NewsMonitoringService {
      * Spring Batch Job 실행 jobLauncher
      *
      * @param section 뉴스의 섹션
+     * @param date 수집 날짜 (yyyy-MM-dd, Reader와 Bloom Filter가 같은 날짜 기준을 사용하도록 전달)
+     * @param round 그날 해당 섹션의 중간 배치 회차 (섹션, 날짜와 함께 JobInstance를 식별)
+     * @param lease 보유 중인 모니터링 락 임대 (펜싱 토큰을 Job 파라미터로 기록)
+     * @return Job이 COMPLETED로 끝났으면 true
      */
-    private void runNewsBatch(String section) {
+    private boolean runNewsBatch(String section, String date, int round, Lease lease) {
 
+        // 식별 파라미터가 결정적이므로 실패한 회차는 저장된 페이지/인덱스부터 재시작됨
         JobParameters jobParameters = new JobParametersBuilder()
                 .addString("section", section)
-                .addLong("timestamp", System.currentTimeMillis())
+                .addString("date", date)
+                .addLong("round", (long) round)
+                .addLong("fence_token", lease.token(), false)
                 .toJobParameters();
 
         try {
             /* 뉴스 모니터링 시 실행 될 Job 실행 */
-            jobLauncher.run(newsDataSaveJob_Monitoring, jobParameters);
-            log.info("[{}] Spring Batch Job 실행 완료", section);
+            JobExecution execution = restartableJobLauncher.run(newsDataSaveJob_Monitoring, jobParameters);
+            log.info("[{}] Spring Batch Job 실행 종료 ({}회차, 상태: {})", section, round, execution.getStatus());
+            return execution.getStatus() == BatchStatus.COMPLETED;
         } catch (Exception e) {
             log.error("[{}] Spring Batch Job 실행 실패", section, e);
+            return false;
         }
     }
 
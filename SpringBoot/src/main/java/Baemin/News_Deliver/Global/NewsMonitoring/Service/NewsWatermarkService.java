@@ -0,0 +1,167 @@
+package Baemin.News_Deliver.Global.NewsMonitoring.Service;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import Baemin.News_Deliver.Global.News.Batch.helper.NewsDedupHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 중간 배치(모니터링) 증분 수집 워터마크 서비스
+ *
+ * <p>날짜/섹션별로 마지막으로 수집 완료된 뉴스의 (published_at, content_hash)를 Redis에 보관합니다.
+ * 다음 중간 배치는 워터마크 이후의 뉴스만 DeepSearch에 요청하므로,
+ * 시간당 비용이 하루 누적 뉴스 수가 아니라 그 사이 새로 발행된 뉴스 수에 비례합니다.</p>
+ *
+ * <ul>
+ *     <li>키: {@code NewsWatermark:{date}:{section}} (TTL 2일)</li>
+ *     <li>값: {@code yyyy-MM-dd'T'HH:mm:ss|content_hash} (문자열 비교 = 시간순 비교)</li>
+ * </ul>
+ *
+ * <p>워터마크는 Lua 스크립트로 "현재 값보다 클 때만 갱신"하므로, 여러 인스턴스가 동시에 갱신해도 뒤로 돌아가지 않습니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+public class NewsWatermarkService {
+
+    private static final String WATERMARK_KEY_PREFIX = "NewsWatermark:";
+    private static final Duration TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter WATERMARK_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String SEPARATOR = "|";
+
+    /* 현재 값이 없거나 새 값이 더 클 때만 SET (원자적) */
+    private static final DefaultRedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if (not current) or ARGV[1] > current then
+                redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisSession1Template;
+
+    public NewsWatermarkService(@Qualifier("redisSession1Template") RedisTemplate<String, Object> redisSession1Template) {
+        this.redisSession1Template = redisSession1Template;
+    }
+
+    /**
+     * 워터마크 값 (마지막 수집 뉴스의 발행 시각 + content_hash)
+     *
+     * @param publishedAt 발행 시각 (초 단위)
+     * @param contentHash 뉴스 content_hash
+     */
+    public record Watermark(LocalDateTime publishedAt, String contentHash) implements Comparable<Watermark> {
+
+        public static Watermark parse(String value) {
+            int separator = value.indexOf(SEPARATOR);
+            return new Watermark(LocalDateTime.parse(value.substring(0, separator), WATERMARK_FORMAT),
+                    value.substring(separator + 1));
+        }
+
+        /* yyyy-MM-dd'T'HH:mm:ss 형식이므로 DeepSearch date_from 파라미터로 그대로 사용 */
+        public String publishedAtParam() {
+            return publishedAt.format(WATERMARK_FORMAT);
+        }
+
+        public String serialize() {
+            return publishedAtParam() + SEPARATOR + contentHash;
+        }
+
+        @Override
+        public int compareTo(Watermark other) {
+            return serialize().compareTo(other.serialize());
+        }
+    }
+
+    /**
+     * 워터마크 조회
+     *
+     * @param section 뉴스 섹션
+     * @param date 수집 날짜 (yyyy-MM-dd)
+     * @return 워터마크 (해당 날짜에 완료된 중간 배치가 없으면 empty)
+     */
+    public Optional<Watermark> getWatermark(String section, String date) {
+        try {
+            Object value = redisSession1Template.opsForValue().get(watermarkKey(date, section));
+            return value == null ? Optional.empty() : Optional.of(Watermark.parse(value.toString()));
+        } catch (Exception e) {
+            log.error("Redis 워터마크 조회 실패 → 전체 수집으로 진행: section={}, error={}", section, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 워터마크 전진 (현재 값보다 클 때만 원자적으로 갱신)
+     *
+     * @param section 뉴스 섹션
+     * @param date 수집 날짜 (yyyy-MM-dd)
+     * @param watermark 새 워터마크
+     */
+    public void advance(String section, String date, Watermark watermark) {
+        try {
+            Long updated = redisSession1Template.execute(ADVANCE_SCRIPT, List.of(watermarkKey(date, section)),
+                    watermark.serialize(), String.valueOf(TTL.getSeconds()));
+            log.info("💧 [{}] 워터마크 {}: {}", section, Long.valueOf(1L).equals(updated) ? "갱신" : "유지(이미 최신)",
+                    watermark.serialize());
+        } catch (Exception e) {
+            log.error("Redis 워터마크 갱신 실패: section={}, error={}", section, e.getMessage());
+        }
+    }
+
+    /**
+     * 워터마크 이전(이미 수집된) 뉴스 제외
+     *
+     * <p>발행 시각이 워터마크보다 이른 뉴스와 워터마크 뉴스 자체를 제외합니다.
+     * 같은 초에 발행된 다른 뉴스는 통과시키고, Bloom Filter와 content_hash 유니크 키로 중복을 거릅니다.</p>
+     *
+     * @param items 한 페이지의 뉴스
+     * @param watermark 워터마크
+     * @return 워터마크 이후 뉴스
+     */
+    public List<NewsItemDTO> filterNewer(List<NewsItemDTO> items, Watermark watermark) {
+        List<NewsItemDTO> newer = new ArrayList<>(items.size());
+        for (NewsItemDTO item : items) {
+            if (isNewer(item, watermark)) {
+                newer.add(item);
+            }
+        }
+        return newer;
+    }
+
+    /**
+     * 워터마크 이후 뉴스인지 ({@link #filterNewer}의 한 건 판정, 발행 시각이 없으면 true)
+     *
+     * @param item 판정할 뉴스
+     * @param watermark 워터마크
+     * @return 수집 대상이면 true
+     */
+    public boolean isNewer(NewsItemDTO item, Watermark watermark) {
+        LocalDateTime publishedAt = item.getPublished_at();
+        if (publishedAt == null) {
+            return true;
+        }
+
+        LocalDateTime second = publishedAt.withNano(0);
+        if (second.isBefore(watermark.publishedAt())) {
+            return false;
+        }
+        return !second.isEqual(watermark.publishedAt())
+                || !NewsDedupHelper.contentHash(item.getTitle(), item.getPublisher(), item.getPublished_at()).equals(watermark.contentHash());
+    }
+
+    private static String watermarkKey(String date, String section) {
+        return WATERMARK_KEY_PREFIX + date + ":" + section;
+    }
+}
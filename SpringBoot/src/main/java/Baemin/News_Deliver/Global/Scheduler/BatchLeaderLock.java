@@ -0,0 +1,335 @@
+package Baemin.News_Deliver.Global.Scheduler;
+
+import Baemin.News_Deliver.Domain.Kakao.Exception.KakaoException;
+import Baemin.News_Deliver.Global.Exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 배치 실행 클러스터 단일 리더 락 (Redis 임대 + 펜싱 토큰)
+ *
+ * <p>여러 애플리케이션 인스턴스가 같은 스케줄을 가지고 있어도, 락 이름마다 한 인스턴스만 배치를 실행하도록 합니다.
+ * 스케줄러와 관리자 API 등 모든 배치 진입점은 이 락을 획득한 뒤에만 실행합니다.</p>
+ *
+ * 동작 방식:
+ * <ul>
+ *     <li>획득: 키가 비어 있을 때만 펜싱 토큰을 1 증가시키고 {@code {owner}|{token}|{획득 시각}}을 TTL과 함께 저장 (Lua, 원자적)</li>
+ *     <li>갱신: 실행 중에는 TTL의 1/3 주기로 값이 자기 것일 때만 TTL을 연장. 실패하면 임대를 잃은 것으로 표시</li>
+ *     <li>해제: 값이 자기 것일 때만 삭제 (다른 인스턴스가 이어받은 락은 지우지 않음)</li>
+ *     <li>펜싱: 토큰은 획득할 때마다 증가합니다. 쓰기 대상이 토큰을 함께 저장하는 경우
+ *     ({@code batch_pipeline_node.fence_token})에는 조건부 UPDATE로 더 작은 토큰의 쓰기를 거부합니다.</li>
+ * </ul>
+ *
+ * <p>그 밖의 공유 상태(Redis 카운터, 중간 배치 키, ES 별칭 등)에 대한 {@link Lease#checkValid()}는
+ * 확인 후 쓰기(check-then-act)이므로 권고 수준입니다. 확인과 쓰기 사이에 임대가 만료되면 이전 리더의 쓰기가
+ * 한 번 반영될 수 있으므로, 이 쓰기들은 다시 실행해도 결과가 같도록(멱등) 작성되어 있어야 합니다.</p>
+ *
+ * <ul>
+ *     <li>키: {@code BatchLock:{name}} (임대), {@code BatchLock:{name}:fence} (펜싱 토큰 카운터, 만료 없음)</li>
+ * </ul>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Component
+public class BatchLeaderLock {
+
+    /** 자정 파이프라인 / 수동 배치 / 백필 (newsDataSaveJob) */
+    public static final String NEWS_PIPELINE = "news-pipeline";
+    /** 매시 중간 배치 모니터링 (newsDataSaveJob_Monitoring) */
+    public static final String NEWS_MONITORING = "news-monitoring";
+    /** 수집 실패 페이지 재수집 (failedPageReplayJob) */
+    public static final String FAILED_PAGE_REPLAY = "failed-page-replay";
+    /** 보관 기간이 지난 날짜별 뉴스 인덱스 삭제 */
+    public static final String ES_INDEX_RETENTION = "es-index-retention";
+    /** 날짜 인덱스 무중단 재생성 (버전 인덱스 + 별칭 교체) */
+    public static final String ES_INDEX_MIGRATION = "es-index-migration";
+
+    /** 상태 조회에 항상 포함되는 락 이름 (획득한 적이 없어도 표시) */
+    static final List<String> LOCK_NAMES =
+            List.of(NEWS_PIPELINE, NEWS_MONITORING, FAILED_PAGE_REPLAY, ES_INDEX_RETENTION, ES_INDEX_MIGRATION);
+
+    private static final String LOCK_KEY_PREFIX = "BatchLock:";
+    private static final String FENCE_SUFFIX = ":fence";
+    private static final String SEPARATOR = "|";
+
+    /* 비어 있을 때만 토큰 발급 후 임대 저장, 토큰 반환 (이미 잡혀 있으면 0) */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. '|' .. token .. '|' .. ARGV[2], 'PX', ARGV[3])
+            return token
+            """, Long.class);
+
+    /* 값이 자기 것일 때만 TTL 연장 */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /* 값이 자기 것일 때만 삭제 */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisSession1Template;
+    private final long leaseMillis;
+    private final String owner;
+    private final ScheduledExecutorService renewer;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public BatchLeaderLock(@Qualifier("redisSession1Template") RedisTemplate<String, Object> redisSession1Template,
+                           @Value("${batch.lock.lease-ms:60000}") long leaseMillis) {
+        this.redisSession1Template = redisSession1Template;
+        this.leaseMillis = leaseMillis;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "#" + UUID.randomUUID().toString().substring(0, 8);
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batch-lock-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("배치 리더 락 생성: owner={}, leaseMs={}", owner, leaseMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    /**
+     * 락을 획득한 상태에서 실행할 작업
+     */
+    @FunctionalInterface
+    public interface LeaseTask<T> {
+        T run(Lease lease) throws Exception;
+    }
+
+    /**
+     * 락을 획득하면 작업을 실행하고, 다른 인스턴스가 실행 중이면 건너뜀 (스케줄러용)
+     *
+     * @param name 락 이름
+     * @param task 실행할 작업
+     * @return 실행했으면 {@code true}, 락을 얻지 못해 건너뛰었으면 {@code false}
+     */
+    public boolean runIfLeader(String name, LeaseTask<?> task) throws Exception {
+        Lease lease = tryAcquire(name);
+        if (lease == null) {
+            log.info("⏭️ [{}] 다른 인스턴스가 실행 중이므로 건너뜀 (holder: {})", name, currentHolder(name));
+            return false;
+        }
+        try (lease) {
+            task.run(lease);
+        }
+        return true;
+    }
+
+    /**
+     * 락을 획득하여 작업을 실행하고, 다른 인스턴스가 실행 중이면 예외 (관리자 API용)
+     *
+     * @param name 락 이름
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @throws KakaoException {@link ErrorCode#BATCH_LOCK_HELD} 락을 얻지 못한 경우 (409)
+     */
+    public <T> T runExclusive(String name, LeaseTask<T> task) throws Exception {
+        Lease lease = tryAcquire(name);
+        if (lease == null) {
+            log.warn("⛔ [{}] 다른 인스턴스가 실행 중이므로 요청 거절 (holder: {})", name, currentHolder(name));
+            throw new KakaoException(ErrorCode.BATCH_LOCK_HELD);
+        }
+        try (lease) {
+            return task.run(lease);
+        }
+    }
+
+    /**
+     * 락 획득 시도 (대기하지 않음)
+     *
+     * @param name 락 이름
+     * @return 획득한 임대 (이미 다른 인스턴스가 가지고 있으면 {@code null})
+     */
+    public Lease tryAcquire(String name) {
+        Counters counter = counters.computeIfAbsent(name, key -> new Counters());
+        long now = System.currentTimeMillis();
+
+        Long token = redisSession1Template.execute(ACQUIRE_SCRIPT,
+                List.of(lockKey(name), lockKey(name) + FENCE_SUFFIX),
+                owner, String.valueOf(now), String.valueOf(leaseMillis));
+
+        if (token == null || token == 0L) {
+            counter.contended.incrementAndGet();
+            return null;
+        }
+
+        counter.acquired.incrementAndGet();
+        Lease lease = new Lease(name, token, owner + SEPARATOR + token + SEPARATOR + now, now);
+        long period = Math.max(1, leaseMillis / 3);
+        lease.renewal = renewer.scheduleAtFixedRate(lease::renew, period, period, TimeUnit.MILLISECONDS);
+
+        log.info("🔒 [{}] 리더 락 획득 (token: {}, owner: {})", name, token, owner);
+        return lease;
+    }
+
+    /**
+     * 락 이름별 현재 보유자 / 임대 경과 시간 / 경합 지표
+     *
+     * @return 락 이름 → holder, token, leaseAgeMs, ttlMs, acquired, contended, renewFailures, lost
+     */
+    public Map<String, Map<String, Object>> getStatus() {
+        Map<String, Map<String, Object>> status = new LinkedHashMap<>();
+        Set<String> names = new LinkedHashSet<>(LOCK_NAMES);
+        names.addAll(new TreeSet<>(counters.keySet())); // 이 인스턴스에서 사용한 그 밖의 락 이름
+        for (String name : names) {
+            Map<String, Object> lock = new LinkedHashMap<>();
+            Object value = redisSession1Template.opsForValue().get(lockKey(name));
+
+            if (value != null) {
+                String[] parts = value.toString().split("\\" + SEPARATOR);
+                lock.put("holder", parts[0]);
+                lock.put("token", parts.length > 1 ? Long.parseLong(parts[1]) : null);
+                lock.put("leaseAgeMs", parts.length > 2 ? System.currentTimeMillis() - Long.parseLong(parts[2]) : null);
+                lock.put("ttlMs", redisSession1Template.getExpire(lockKey(name), TimeUnit.MILLISECONDS));
+            } else {
+                lock.put("holder", null);
+            }
+            lock.put("self", owner);
+
+            Counters counter = counters.getOrDefault(name, new Counters());
+            lock.put("acquired", counter.acquired.get());
+            lock.put("contended", counter.contended.get());
+            lock.put("renewFailures", counter.renewFailures.get());
+            lock.put("lost", counter.lost.get());
+            status.put(name, lock);
+        }
+        return status;
+    }
+
+    private String currentHolder(String name) {
+        Object value = redisSession1Template.opsForValue().get(lockKey(name));
+        return value != null ? value.toString() : "-";
+    }
+
+    private static String lockKey(String name) {
+        return LOCK_KEY_PREFIX + name;
+    }
+
+    /**
+     * 획득한 리더 임대
+     *
+     * <p>{@code try-with-resources}로 사용하며, 닫으면 갱신을 멈추고 락을 해제합니다.</p>
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String name;
+        private final long token;
+        private final String value;
+        private final long acquiredAt;
+        private volatile boolean lost;
+        private ScheduledFuture<?> renewal;
+
+        private Lease(String name, long token, String value, long acquiredAt) {
+            this.name = name;
+            this.token = token;
+            this.value = value;
+            this.acquiredAt = acquiredAt;
+        }
+
+        /**
+         * 펜싱 토큰 (획득할 때마다 증가, Job 파라미터 등으로 실행 주체를 기록할 때 사용)
+         */
+        public long token() {
+            return token;
+        }
+
+        /**
+         * 공유 상태를 바꾸기 전 임대가 아직 자기 것인지 Redis에서 확인
+         *
+         * <p>확인과 이후 쓰기는 원자적이지 않으므로 권고 수준의 펜싱입니다 (클래스 설명 참고).
+         * 반드시 막아야 하는 쓰기는 {@link #token()}을 함께 저장하고 조건부로 갱신하세요.</p>
+         *
+         * @throws KakaoException {@link ErrorCode#BATCH_LOCK_LOST} 임대가 만료되었거나 다른 인스턴스가 이어받은 경우
+         */
+        public void checkValid() {
+            if (!lost && value.equals(String.valueOf(redisSession1Template.opsForValue().get(lockKey(name))))) {
+                return;
+            }
+            markLost();
+            log.error("❌ [{}] 리더 임대를 잃어 작업을 중단합니다 (token: {}, 경과: {}ms)",
+                    name, token, System.currentTimeMillis() - acquiredAt);
+            throw new KakaoException(ErrorCode.BATCH_LOCK_LOST);
+        }
+
+        private void renew() {
+            try {
+                Long renewed = redisSession1Template.execute(RENEW_SCRIPT, List.of(lockKey(name)),
+                        value, String.valueOf(leaseMillis));
+                if (renewed == null || renewed == 0L) {
+                    markLost();
+                    log.error("❌ [{}] 리더 임대 갱신 실패: 다른 인스턴스가 이어받았거나 만료됨 (token: {})", name, token);
+                }
+            } catch (Exception e) {
+                // Redis 일시 장애: 남은 TTL 안에서 다음 주기에 다시 시도
+                counters.get(name).renewFailures.incrementAndGet();
+                log.warn("⚠️ [{}] 리더 임대 갱신 오류: {}", name, e.getMessage());
+            }
+        }
+
+        private void markLost() {
+            if (!lost) {
+                lost = true;
+                counters.get(name).lost.incrementAndGet();
+                if (renewal != null) {
+                    renewal.cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+            try {
+                redisSession1Template.execute(RELEASE_SCRIPT, List.of(lockKey(name)), value);
+            } catch (Exception e) {
+                log.warn("⚠️ [{}] 리더 락 해제 실패 (TTL 만료 후 자동 해제): {}", name, e.getMessage());
+            }
+            log.info("🔓 [{}] 리더 락 해제 (token: {}, 보유 시간: {}ms)", name, token, System.currentTimeMillis() - acquiredAt);
+        }
+    }
+
+    private static final class Counters {
+        private final AtomicLong acquired = new AtomicLong();
+        private final AtomicLong contended = new AtomicLong();
+        private final AtomicLong renewFailures = new AtomicLong();
+        private final AtomicLong lost = new AtomicLong();
+    }
+}
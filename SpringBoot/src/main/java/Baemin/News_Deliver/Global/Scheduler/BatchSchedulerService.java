@@ -1,10 +1,8 @@
 package Baemin.News_Deliver.Global.Scheduler;
 
-import Baemin.News_Deliver.Domain.HotTopic.service.HotTopicService;
 import Baemin.News_Deliver.Domain.Kakao.Exception.KakaoException;
 import Baemin.News_Deliver.Global.Exception.ErrorCode;
-import Baemin.News_Deliver.Global.News.Batch.service.BatchService;
-import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsService;
+import Baemin.News_Deliver.Global.Scheduler.PipelineNodeStateService.NodeState;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +11,10 @@ import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 
 /**
@@ -21,12 +22,13 @@ import java.util.concurrent.ScheduledFuture;
  * 배치 작업을 스케줄링하는 서비스입니다.
  *
  * <p>Spring의 {@link TaskScheduler}를 이용하여 주기적인 작업을 등록하며,
- * 서버가 시작될 때 {@link PostConstruct}를 통해 자동 실행됩니다.</p>
+ * 서버가 시작될 때 {@link PostConstruct}를 통해 자동 실행됩니다.
+ * 모든 인스턴스가 스케줄을 등록하지만, {@link BatchLeaderLock}을 잡은 한 인스턴스만 실제로 실행합니다.</p>
  *
- * <p>실행되는 주요 작업:</p>
+ * <p>실행되는 주요 작업 ({@link MidnightPipelineService}의 노드로 실행):</p>
  * <ul>
- *     <li>DB 뉴스 수집 및 저장</li>
- *     <li>Elasticsearch 인덱싱</li>
+ *     <li>DB 뉴스 수집 및 저장 (섹션별)</li>
+ *     <li>Elasticsearch 색인 실패 재처리 및 섹션별 색인 반영 확인 (정상 색인은 outbox 릴레이가 수행)</li>
  *     <li>핫토픽 수집 및 저장</li>
  *     <li>사용자 맞춤 스케줄 등록</li>
  * </ul>
@@ -37,10 +39,8 @@ import java.util.concurrent.ScheduledFuture;
 public class BatchSchedulerService {
 
     private final TaskScheduler taskScheduler;
-    private final BatchService batchService;
-    private final NewsEsService newsEsService;
-    private final SchedulerInitializer schedulerInitializer;
-    private final HotTopicService hotTopicService;
+    private final MidnightPipelineService midnightPipelineService;
+    private final BatchLeaderLock batchLeaderLock;
     private ScheduledFuture<?> batchFuture;
 
     /**
@@ -58,73 +58,48 @@ public class BatchSchedulerService {
         Runnable batchTask = () -> {
             log.info("[BatchScheduler] 자정 배치 시작 - {}", LocalDateTime.now());
 
-            // DB 배치
             try {
-                LocalDateTime start = LocalDateTime.now();
-                log.info("[BatchScheduler] DB 배치 시작");
-
-                batchService.runBatch();
-
-                LocalDateTime end = LocalDateTime.now();
-                log.info("[BatchScheduler] DB 배치 완료 (실행 시간: {}초)", Duration.between(start, end).toSeconds());
-
+                // 여러 인스턴스 중 파이프라인 락을 잡은 한 곳에서만 실행
+                batchLeaderLock.runIfLeader(BatchLeaderLock.NEWS_PIPELINE, lease -> {
+                    runPipeline(lease);
+                    return null;
+                });
+            } catch (KakaoException e) {
+                throw e;
             } catch (Exception e) {
-                log.error("[BatchScheduler] DB 배치 실패: DB 배치 중 예외 발생: {}", e.getMessage(), e);
-                //우선은 코드 중단 이후에 로직은 정책에 맞춰서 작성할 것
+                log.error("[BatchScheduler] 자정 배치 리더 락 처리 중 예외 발생: {}", e.getMessage(), e);
                 throw new KakaoException(ErrorCode.BATCH_SCHEDULER_FAILED);
             }
-
-            // 엘라스틱 인덱싱
-            try {
-                LocalDateTime start = LocalDateTime.now();
-                log.info("[BatchScheduler] 엘라스틱서치 인덱싱 시작");
-
-                newsEsService.esBulkService();
-
-                LocalDateTime end = LocalDateTime.now();
-                log.info("[BatchScheduler] 엘라스틱서치 인덱싱 완료 (실행 시간: {}초)", Duration.between(start, end).toSeconds());
-
-            } catch (Exception e) {
-                log.error("[BatchScheduler] 엘라스틱 서치 인덱싱 중 예외 발생: {}", e.getMessage(), e);
-                //우선은 코드 중단 이후에 로직은 정책에 맞춰서 작성할 것
-                throw new KakaoException(ErrorCode.ES_SCHEDULER_FAILED);
-            }
-
-            // 핫토픽
-            try {
-                LocalDateTime start = LocalDateTime.now();
-                log.info("[BatchScheduler] 핫토픽 배치 시작");
-
-                hotTopicService.getAndSaveHotTopic();
-
-                LocalDateTime end = LocalDateTime.now();
-                log.info("[BatchScheduler] 핫토픽 배치 완료 (실행 시간: {}초)", Duration.between(start, end).toSeconds());
-
-            } catch (Exception e) {
-                log.error("[BatchScheduler] 핫토픽 배치 중 예외 발생: {}", e.getMessage(), e);
-                //우선은 코드 중단 이후에 로직은 정책에 맞춰서 작성할 것
-                throw new KakaoException(ErrorCode.HT_SCHEDULER_FAILED);
-            }
-
-            // 사용자 셋팅 스케줄 등록
-            try {
-                LocalDateTime start = LocalDateTime.now();
-                log.info("[BatchScheduler] 사용자 셋팅 스케줄 등록 시작");
-
-                schedulerInitializer.scheduleAllUserSettings();
-
-                LocalDateTime end = LocalDateTime.now();
-                log.info("[BatchScheduler] 사용자 셋팅 스케줄 등록 완료 (실행 시간: {}초)", Duration.between(start, end).toSeconds());
-
-            } catch (Exception e) {
-                log.error("[BatchScheduler] 사용자 스케줄러 등록 중 예외 발생: {}", e.getMessage(), e);
-                throw new KakaoException(ErrorCode.SETTING_SCHEDULER_FAILED);
-            }
         };
 
         batchFuture = taskScheduler.schedule(batchTask, new CronTrigger(cron));
     }
 
+    /**
+     * 자정 파이프라인 (전날 수집 날짜의 DAG 실행)
+     *
+     * <p>섹션별 저장 → 색인 반영 확인 → 핫토픽 순서는 {@link MidnightPipelineService}가 노드 단위로 관리하며,
+     * 노드마다 리더 임대가 아직 유효한지 확인합니다.</p>
+     *
+     * @param lease 보유 중인 파이프라인 락 임대
+     */
+    private void runPipeline(BatchLeaderLock.Lease lease) {
+        LocalDateTime start = LocalDateTime.now();
+
+        Map<String, NodeState> states = midnightPipelineService.run(LocalDate.now().minusDays(1), lease);
+
+        List<String> unfinished = states.values().stream()
+                .filter(state -> !PipelineNodeStateService.DONE.equals(state.status()))
+                .map(NodeState::node)
+                .toList();
+        LocalDateTime end = LocalDateTime.now();
+        if (!unfinished.isEmpty()) {
+            log.error("[BatchScheduler] 자정 파이프라인 미완료 노드: {} (실행 시간: {}초)", unfinished, Duration.between(start, end).toSeconds());
+            throw new KakaoException(ErrorCode.BATCH_SCHEDULER_FAILED);
+        }
+        log.info("[BatchScheduler] 자정 파이프라인 완료 (실행 시간: {}초)", Duration.between(start, end).toSeconds());
+    }
+
     /**
      * 현재 등록된 배치 스케줄을 취소합니다.
      *
@@ -0,0 +1,424 @@
+package Baemin.News_Deliver.Global.Scheduler;
+
+import Baemin.News_Deliver.Domain.HotTopic.service.HotTopicService;
+import Baemin.News_Deliver.Domain.Kakao.Exception.KakaoException;
+import Baemin.News_Deliver.Global.Exception.ErrorCode;
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner;
+import Baemin.News_Deliver.Global.News.Batch.service.BatchService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsIndexLifecycleService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsOutboxRelay;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsService;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsFallbackIndexService;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.IntermediateBatchRedisService;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock.Lease;
+import Baemin.News_Deliver.Global.Scheduler.PipelineNodeStateService.NodeState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자정 파이프라인 DAG 실행 서비스
+ *
+ * <p>기존에는 DB 배치(전체 섹션) → 색인 실패 재처리 → 핫토픽 → 사용자 스케줄 등록을 순서대로 실행했습니다.
+ * 이제 각 작업을 노드로 나누고 선행 관계만 지키면서, 선행 노드가 끝난 노드는 바로 실행합니다.</p>
+ *
+ * 노드 (선행 노드):
+ * <ul>
+ *     <li>{@code es-retry}: 색인 실패 건 outbox 재등록 (없음)</li>
+ *     <li>{@code user-schedules}: 사용자 맞춤 전송 스케줄 등록 (없음)</li>
+ *     <li>{@code es-bulk-load}: 수집 날짜 인덱스 대량 적재 모드 시작 - refresh 끔, 레플리카 0 (없음)</li>
+ *     <li>{@code ingest:{섹션}}: 섹션 하루치 뉴스 저장 ({@code es-bulk-load}, 동시 실행 수 제한)</li>
+ *     <li>{@code index:{섹션}}: 섹션 저장분이 Elasticsearch에 반영될 때까지 대기 ({@code ingest:{섹션}})</li>
+ *     <li>{@code flush-intermediate}: 중간 배치 Redis 키 정리 (모든 {@code ingest})</li>
+ *     <li>{@code es-refresh}: 인덱스 설정 복구 후 refresh (모든 {@code index}, 선행 노드가 실패해도 실행)</li>
+ *     <li>{@code es-force-merge}: 수집이 끝난 날짜 인덱스 세그먼트 병합 (모든 {@code index}, {@code es-refresh})</li>
+ *     <li>{@code hot-topics}: 핫토픽 추출 및 저장 (모든 {@code index}, {@code es-refresh})</li>
+ *     <li>{@code fallback-index}: Elasticsearch 장애 대비 로컬 대체 인덱스 재생성 (모든 {@code ingest})</li>
+ * </ul>
+ *
+ * <p>색인은 outbox 릴레이가 저장과 동시에 계속 수행하므로 {@code index} 노드는 색인을 직접 하지 않고,
+ * 노드 시작 시점의 마지막 outbox 이벤트까지 릴레이가 반영했는지 확인하는 배리어입니다.
+ * 따라서 한 섹션의 저장이 끝나면 다른 섹션의 저장을 기다리지 않고 그 섹션의 색인 확인이 시작됩니다.</p>
+ *
+ * <p>노드 상태는 {@link PipelineNodeStateService}에 수집 날짜별로 기록되며, 같은 날짜로 다시 실행하면
+ * {@code DONE}이 아닌 노드만 실행합니다. 실패한 노드의 후속 노드는 {@code SKIPPED}로 기록되고,
+ * 관리자 API로 실패 노드부터 다시 실행할 수 있습니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MidnightPipelineService {
+
+    public static final String ES_RETRY = "es-retry";
+    public static final String USER_SCHEDULES = "user-schedules";
+    public static final String INGEST_PREFIX = "ingest:";
+    public static final String INDEX_PREFIX = "index:";
+    public static final String FLUSH_INTERMEDIATE = "flush-intermediate";
+    public static final String ES_BULK_LOAD = "es-bulk-load";
+    public static final String ES_REFRESH = "es-refresh";
+    public static final String ES_FORCE_MERGE = "es-force-merge";
+    public static final String HOT_TOPICS = "hot-topics";
+    public static final String FALLBACK_INDEX = "fallback-index";
+
+    /** 아직 한 번도 실행하지 않은 노드의 조회용 상태 */
+    private static final String PENDING = "PENDING";
+
+    private final BatchService batchService;
+    private final NewsEsService newsEsService;
+    private final NewsEsOutboxRelay newsEsOutboxRelay;
+    private final NewsEsIndexLifecycleService newsEsIndexLifecycleService;
+    private final HotTopicService hotTopicService;
+    private final NewsFallbackIndexService newsFallbackIndexService;
+    private final SchedulerInitializer schedulerInitializer;
+    private final IntermediateBatchRedisService intermediateBatchRedisService;
+    private final PipelineNodeStateService pipelineNodeStateService;
+    private final BatchLeaderLock batchLeaderLock;
+
+    @Value("${batch.pipeline.ingest-concurrency:2}")
+    private int ingestConcurrency;
+
+    @Value("${batch.pipeline.index-timeout-ms:600000}")
+    private long indexTimeoutMs;
+
+    @FunctionalInterface
+    private interface NodeAction {
+        void run(LocalDate runDate, Lease lease) throws Exception;
+    }
+
+    /**
+     * @param ingest 섹션 저장 노드 (동시 실행 수 제한 대상)
+     * @param always 선행 노드가 실패해도 실행하는 정리 노드
+     */
+    private record Node(String name, List<String> dependsOn, boolean ingest, boolean always, NodeAction action) {
+
+        private Node(String name, List<String> dependsOn, boolean ingest, NodeAction action) {
+            this(name, dependsOn, ingest, false, action);
+        }
+    }
+
+    /**
+     * 수집 날짜의 파이프라인 실행 ({@code DONE}이 아닌 노드만)
+     *
+     * @param runDate 수집 날짜 (정규 실행은 전날)
+     * @param lease 보유 중인 파이프라인 락 임대
+     * @return 실행 후 노드별 상태
+     */
+    public Map<String, NodeState> run(LocalDate runDate, Lease lease) {
+        Map<String, NodeState> states = pipelineNodeStateService.load(runDate);
+
+        Set<String> targets = new HashSet<>();
+        for (Node node : graph()) {
+            if (!isDone(states.get(node.name()))) {
+                targets.add(node.name());
+            }
+        }
+
+        if (targets.isEmpty()) {
+            log.info("[Pipeline] {} 파이프라인은 이미 모든 노드가 완료되었습니다.", runDate);
+            return getStatus(runDate);
+        }
+        return execute(runDate, targets, states, lease);
+    }
+
+    /**
+     * 실패(또는 미완료) 노드와 그 후속 노드 재실행
+     *
+     * <p>파이프라인 락을 새로 획득하며, 이미 다른 곳에서 실행 중이면 예외가 발생합니다.
+     * 후속 노드 중 이미 {@code DONE}인 노드는 다시 실행하지 않습니다.</p>
+     *
+     * @param runDate 수집 날짜
+     * @param nodeName 재실행할 노드 이름 (예: {@code ingest:economy})
+     * @return 실행 후 노드별 상태
+     */
+    public Map<String, NodeState> rerun(LocalDate runDate, String nodeName) throws Exception {
+        return batchLeaderLock.runExclusive(BatchLeaderLock.NEWS_PIPELINE, lease -> {
+            List<Node> graph = graph();
+            if (graph.stream().noneMatch(node -> node.name().equals(nodeName))) {
+                throw new KakaoException(ErrorCode.PIPELINE_NODE_NOT_FOUND);
+            }
+
+            Map<String, NodeState> states = pipelineNodeStateService.load(runDate);
+            if (isDone(states.get(nodeName))) {
+                throw new KakaoException(ErrorCode.PIPELINE_NODE_ALREADY_DONE);
+            }
+
+            // 재실행 노드 + 아직 완료되지 않은 후속 노드 (그래프가 위상 순서이므로 한 번 순회로 충분)
+            Set<String> targets = new HashSet<>();
+            targets.add(nodeName);
+            for (Node node : graph) {
+                if (!isDone(states.get(node.name())) && node.dependsOn().stream().anyMatch(targets::contains)) {
+                    targets.add(node.name());
+                }
+            }
+
+            log.info("[Pipeline] {} 노드 재실행: {}", runDate, targets);
+            return execute(runDate, targets, states, lease);
+        });
+    }
+
+    /**
+     * 수집 날짜의 노드 상태 조회 (그래프 순서, 실행 기록이 없는 노드는 {@code PENDING})
+     *
+     * @param runDate 수집 날짜
+     * @return 노드 이름 → 상태
+     */
+    public Map<String, NodeState> getStatus(LocalDate runDate) {
+        Map<String, NodeState> states = pipelineNodeStateService.load(runDate);
+
+        Map<String, NodeState> result = new LinkedHashMap<>();
+        for (Node node : graph()) {
+            NodeState state = states.get(node.name());
+            result.put(node.name(), state != null ? state
+                    : new NodeState(node.name(), PENDING, 0, null, null, null, null));
+        }
+        return result;
+    }
+
+    /**
+     * 파이프라인 그래프 (위상 순서: 선행 노드가 항상 먼저 나옴)
+     */
+    private List<Node> graph() {
+        List<Node> nodes = new ArrayList<>();
+        List<String> ingestNodes = new ArrayList<>();
+        List<String> indexNodes = new ArrayList<>();
+
+        nodes.add(new Node(ES_RETRY, List.of(), false,
+                (runDate, lease) -> newsEsService.retryFailedIndexing()));
+        nodes.add(new Node(USER_SCHEDULES, List.of(), false,
+                (runDate, lease) -> schedulerInitializer.scheduleAllUserSettings()));
+        nodes.add(new Node(ES_BULK_LOAD, List.of(), false, (runDate, lease) -> beginBulkLoad(runDate)));
+
+        for (String section : TimeWindowPartitioner.SECTIONS) {
+            String ingest = INGEST_PREFIX + section;
+            String index = INDEX_PREFIX + section;
+            ingestNodes.add(ingest);
+            indexNodes.add(index);
+
+            nodes.add(new Node(ingest, List.of(ES_BULK_LOAD), true, (runDate, lease) -> ingestSection(runDate, section, lease)));
+            nodes.add(new Node(index, List.of(ingest), false, (runDate, lease) -> awaitIndexed(section)));
+        }
+
+        nodes.add(new Node(FLUSH_INTERMEDIATE, ingestNodes, false,
+                (runDate, lease) -> intermediateBatchRedisService.flushIntermediateBatchKeys()));
+        // 적재 중 실패해도 refresh가 꺼진 채로 남지 않도록 항상 복구
+        nodes.add(new Node(ES_REFRESH, indexNodes, false, true,
+                (runDate, lease) -> newsEsIndexLifecycleService.endBulkLoad(NewsIndexHelper.dailyIndex(runDate))));
+        // refresh는 색인 확인이 실패해도 실행되므로, 후속 노드는 색인 확인 노드에도 직접 의존
+        List<String> indexedAndRefreshed = new ArrayList<>(indexNodes);
+        indexedAndRefreshed.add(ES_REFRESH);
+        nodes.add(new Node(ES_FORCE_MERGE, indexedAndRefreshed, false,
+                (runDate, lease) -> newsEsIndexLifecycleService.forceMerge(NewsIndexHelper.dailyIndex(runDate))));
+        nodes.add(new Node(HOT_TOPICS, indexedAndRefreshed, false,
+                (runDate, lease) -> hotTopicService.getAndSaveHotTopic(runDate)));
+        // DB에서 읽으므로 색인 반영을 기다리지 않음 (세대를 게시하면 다른 인스턴스는 주기 확인에서 따라 재생성)
+        nodes.add(new Node(FALLBACK_INDEX, ingestNodes, false,
+                (runDate, lease) -> newsFallbackIndexService.rebuildAndPublish()));
+        return nodes;
+    }
+
+    /* 적재 모드는 최적화일 뿐이므로 실패해도 저장은 진행 (종료 노드가 설정을 다시 복구) */
+    private void beginBulkLoad(LocalDate runDate) {
+        try {
+            newsEsIndexLifecycleService.beginBulkLoad(NewsIndexHelper.dailyIndex(runDate));
+        } catch (Exception e) {
+            log.warn("[Pipeline] 대량 적재 모드 전환 실패 → 기본 설정으로 진행: {}", e.getMessage());
+        }
+    }
+
+    private void ingestSection(LocalDate runDate, String section, Lease lease) throws Exception {
+        JobExecution jobExecution = batchService.runSection(runDate, section, lease);
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException(section + " 저장 Job 상태: " + jobExecution.getStatus());
+        }
+    }
+
+    /* 섹션 저장이 끝난 시점까지의 outbox 이벤트가 반영되면 그 섹션은 검색 가능 (다른 섹션 이벤트도 포함하므로 보수적) */
+    private void awaitIndexed(String section) throws InterruptedException {
+        long target = newsEsOutboxRelay.latestEventId();
+        if (!newsEsOutboxRelay.awaitRelayed(target, Duration.ofMillis(indexTimeoutMs))) {
+            throw new IllegalStateException(section + " 색인 반영 대기 시간 초과 (목표 이벤트: " + target
+                    + ", 현재 오프셋: " + newsEsOutboxRelay.currentOffset() + ")");
+        }
+    }
+
+    /**
+     * 대상 노드 실행
+     *
+     * <p>노드마다 선행 노드의 결과를 기다린 뒤 실행하는 {@link CompletableFuture}를 만들고, 실행 단위마다 만든
+     * 스레드 풀에서 돌립니다. 대상이 아닌 노드는 저장된 상태가 {@code DONE}이면 완료로 간주합니다.</p>
+     */
+    private Map<String, NodeState> execute(LocalDate runDate, Set<String> targets, Map<String, NodeState> states, Lease lease) {
+        List<Node> graph = graph();
+        Map<String, CompletableFuture<Boolean>> results = new HashMap<>();
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        Semaphore ingestPermits = new Semaphore(Math.max(1, ingestConcurrency));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(targets.size(), runnable -> {
+            Thread thread = new Thread(runnable, "midnight-pipeline-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("[Pipeline] {} 파이프라인 시작 (노드 {}개, token: {})", runDate, targets.size(), lease.token());
+        long start = System.nanoTime();
+        try {
+            for (Node node : graph) {
+                if (!targets.contains(node.name())) {
+                    results.put(node.name(), CompletableFuture.completedFuture(isDone(states.get(node.name()))));
+                    continue;
+                }
+
+                Map<String, CompletableFuture<Boolean>> dependencies = new LinkedHashMap<>();
+                for (String dependency : node.dependsOn()) {
+                    dependencies.put(dependency, results.get(dependency));
+                }
+
+                CompletableFuture<Boolean> result = CompletableFuture
+                        .allOf(dependencies.values().toArray(CompletableFuture[]::new))
+                        .thenApplyAsync(ignored -> {
+                            List<String> unfinished = dependencies.entrySet().stream()
+                                    .filter(entry -> !entry.getValue().join())
+                                    .map(Map.Entry::getKey)
+                                    .toList();
+                            return runNode(runDate, node, unfinished, ingestPermits, durations, lease);
+                        }, executor);
+                results.put(node.name(), result);
+            }
+
+            CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long wallMs = (System.nanoTime() - start) / 1_000_000;
+        logCriticalPath(runDate, graph, durations, wallMs);
+
+        Map<String, NodeState> result = getStatus(runDate);
+        long failed = result.values().stream()
+                .filter(state -> targets.contains(state.node()) && !PipelineNodeStateService.DONE.equals(state.status()))
+                .count();
+        if (failed > 0) {
+            log.error("[Pipeline] {} 파이프라인 종료: 완료되지 않은 노드 {}개", runDate, failed);
+        } else {
+            log.info("[Pipeline] {} 파이프라인 완료 ({} ms)", runDate, wallMs);
+        }
+        return result;
+    }
+
+    private boolean runNode(LocalDate runDate, Node node, List<String> unfinished, Semaphore ingestPermits,
+                            Map<String, Long> durations, Lease lease) {
+        try {
+            lease.checkValid(); // 임대를 잃었으면 상태도 기록하지 않음 (새 리더가 다시 실행)
+        } catch (KakaoException e) {
+            log.error("[Pipeline] {} 노드 실행 중단: 파이프라인 락을 잃었습니다.", node.name());
+            return false;
+        }
+
+        if (!unfinished.isEmpty() && !node.always()) {
+            pipelineNodeStateService.markSkipped(runDate, node.name(), "선행 노드 미완료: " + unfinished, lease.token());
+            log.warn("[Pipeline] {} 노드 건너뜀 (선행 노드 미완료: {})", node.name(), unfinished);
+            return false;
+        }
+
+        if (!pipelineNodeStateService.markRunning(runDate, node.name(), lease.token())) {
+            log.error("[Pipeline] {} 노드 실행 중단: 더 최근 리더가 실행 중입니다.", node.name());
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            if (node.ingest()) {
+                ingestPermits.acquire();
+            }
+            try {
+                node.action().run(runDate, lease);
+            } finally {
+                if (node.ingest()) {
+                    ingestPermits.release();
+                }
+            }
+
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            durations.put(node.name(), elapsedMs);
+            pipelineNodeStateService.markDone(runDate, node.name(), lease.token());
+            log.info("[Pipeline] {} 노드 완료 ({} ms)", node.name(), elapsedMs);
+            return true;
+
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            durations.put(node.name(), (System.nanoTime() - start) / 1_000_000);
+            pipelineNodeStateService.markFailed(runDate, node.name(), e.getMessage(), lease.token());
+            log.error("[Pipeline] {} 노드 실패: {}", node.name(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 이번 실행의 임계 경로(선행 관계를 따라 소요 시간 합이 가장 긴 경로) 로그
+     *
+     * <p>노드 소요 시간의 합이 전체 소요 시간에 가까운 경로가 파이프라인 단축의 병목입니다.</p>
+     */
+    private void logCriticalPath(LocalDate runDate, List<Node> graph, Map<String, Long> durations, long wallMs) {
+        Map<String, Long> finish = new HashMap<>();
+        Map<String, String> previous = new HashMap<>();
+        String last = null;
+
+        for (Node node : graph) {
+            Long duration = durations.get(node.name());
+            if (duration == null) {
+                continue;
+            }
+            long longest = 0;
+            for (String dependency : node.dependsOn()) {
+                Long dependencyFinish = finish.get(dependency);
+                if (dependencyFinish != null && dependencyFinish > longest) {
+                    longest = dependencyFinish;
+                    previous.put(node.name(), dependency);
+                }
+            }
+            finish.put(node.name(), longest + duration);
+            if (last == null || finish.get(node.name()) > finish.get(last)) {
+                last = node.name();
+            }
+        }
+
+        if (last == null) {
+            return;
+        }
+        LinkedList<String> path = new LinkedList<>();
+        for (String node = last; node != null; node = previous.get(node)) {
+            path.addFirst(node + "(" + durations.get(node) + "ms)");
+        }
+        log.info("[Pipeline] {} 전체 소요 시간: {} ms, 임계 경로: {} = {} ms",
+                runDate, wallMs, String.join(" → ", path), finish.get(last));
+    }
+
+    private static boolean isDone(NodeState state) {
+        return state != null && PipelineNodeStateService.DONE.equals(state.status());
+    }
+}
@@ -0,0 +1,149 @@
+package Baemin.News_Deliver.Global.Scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 자정 파이프라인 노드 상태 저장 서비스
+ *
+ * <p>{@code batch_pipeline_node} 테이블에 수집 날짜 × 노드별 실행 상태를 기록합니다.
+ * 다음 실행(재실행 포함)은 {@code DONE}이 아닌 노드만 다시 실행합니다.</p>
+ *
+ * 상태:
+ * <ul>
+ *     <li>{@code RUNNING}: 실행 중 (인스턴스가 죽으면 이 상태로 남고, 다음 실행에서 다시 실행)</li>
+ *     <li>{@code DONE}: 완료</li>
+ *     <li>{@code FAILED}: 실패 (관리자 API로 재실행 가능)</li>
+ *     <li>{@code SKIPPED}: 선행 노드가 완료되지 않아 실행하지 않음</li>
+ * </ul>
+ *
+ * <p>펜싱: 실행 시작/건너뜀 기록은 저장된 {@code fence_token}보다 작지 않은 토큰일 때만, 종료 상태 기록은
+ * {@code fence_token}이 같을 때만 조건부 UPDATE로 반영되므로, 임대를 잃은 이전 리더가
+ * 새 리더의 실행 상태를 덮어쓰거나 새 리더가 시작한 노드를 다시 실행하지 못합니다.</p>
+ *
+ * @author 김원중
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PipelineNodeStateService {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+    public static final String SKIPPED = "SKIPPED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 노드 실행 상태
+     */
+    public record NodeState(String node, String status, int attempts, Long fenceToken,
+                            LocalDateTime startedAt, LocalDateTime finishedAt, String lastError) {
+    }
+
+    /**
+     * 수집 날짜의 노드 상태 전체 조회
+     *
+     * @param runDate 수집 날짜
+     * @return 노드 이름 → 상태 (한 번도 실행하지 않은 노드는 없음)
+     */
+    public Map<String, NodeState> load(LocalDate runDate) {
+        Map<String, NodeState> states = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                    SELECT node, status, attempts, fence_token, started_at, finished_at, last_error
+                    FROM batch_pipeline_node
+                    WHERE run_date = ?
+                    ORDER BY started_at
+                """, rs -> {
+            Timestamp startedAt = rs.getTimestamp("started_at");
+            Timestamp finishedAt = rs.getTimestamp("finished_at");
+            states.put(rs.getString("node"), new NodeState(
+                    rs.getString("node"),
+                    rs.getString("status"),
+                    rs.getInt("attempts"),
+                    rs.getObject("fence_token", Long.class),
+                    startedAt == null ? null : startedAt.toLocalDateTime(),
+                    finishedAt == null ? null : finishedAt.toLocalDateTime(),
+                    rs.getString("last_error")));
+        }, Date.valueOf(runDate));
+        return states;
+    }
+
+    /**
+     * 노드 실행 시작 기록
+     *
+     * @return 기록했으면 {@code true}, 더 큰 펜싱 토큰을 가진 리더가 이미 기록했으면 {@code false} (실행하지 않아야 함)
+     */
+    public boolean markRunning(LocalDate runDate, String node, long fenceToken) {
+        insertIfAbsent(runDate, node);
+        int updated = jdbcTemplate.update("""
+                    UPDATE batch_pipeline_node
+                    SET status = 'RUNNING', attempts = attempts + 1, fence_token = ?,
+                        started_at = NOW(), finished_at = NULL, last_error = NULL
+                    WHERE run_date = ? AND node = ? AND (fence_token IS NULL OR fence_token <= ?)
+                """, fenceToken, Date.valueOf(runDate), node, fenceToken);
+        if (updated == 0) {
+            log.warn("⚠️ [{}] {} 노드 실행 기록 거부: 더 최근 리더가 기록함 (token: {})", runDate, node, fenceToken);
+        }
+        return updated > 0;
+    }
+
+    public void markDone(LocalDate runDate, String node, long fenceToken) {
+        finish(runDate, node, DONE, null, fenceToken);
+    }
+
+    public void markFailed(LocalDate runDate, String node, String error, long fenceToken) {
+        finish(runDate, node, FAILED, error, fenceToken);
+    }
+
+    /**
+     * 선행 노드 미완료로 실행하지 않은 노드 기록
+     */
+    public void markSkipped(LocalDate runDate, String node, String reason, long fenceToken) {
+        insertIfAbsent(runDate, node);
+        int updated = jdbcTemplate.update("""
+                    UPDATE batch_pipeline_node
+                    SET status = 'SKIPPED', fence_token = ?, finished_at = NOW(), last_error = ?
+                    WHERE run_date = ? AND node = ? AND (fence_token IS NULL OR fence_token <= ?)
+                """, fenceToken, truncate(reason), Date.valueOf(runDate), node, fenceToken);
+        if (updated == 0) {
+            log.warn("⚠️ [{}] {} 노드 건너뜀 기록 무시: 더 최근 리더가 기록함 (token: {})", runDate, node, fenceToken);
+        }
+    }
+
+    /* 토큰 비교를 UPDATE 한 문장에서 하기 위해 행을 먼저 만들어 둠 (이미 있으면 무시) */
+    private void insertIfAbsent(LocalDate runDate, String node) {
+        jdbcTemplate.update("""
+                    INSERT IGNORE INTO batch_pipeline_node (run_date, node, status, attempts)
+                    VALUES (?, ?, 'SKIPPED', 0)
+                """, Date.valueOf(runDate), node);
+    }
+
+    private void finish(LocalDate runDate, String node, String status, String error, long fenceToken) {
+        int updated = jdbcTemplate.update("""
+                    UPDATE batch_pipeline_node
+                    SET status = ?, finished_at = NOW(), last_error = ?
+                    WHERE run_date = ? AND node = ? AND fence_token = ?
+                """, status, truncate(error), Date.valueOf(runDate), node, fenceToken);
+        if (updated == 0) {
+            log.warn("⚠️ [{}] {} 노드 상태({}) 기록 무시: 더 최근 리더가 실행 중 (token: {})", runDate, node, status, fenceToken);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -52,10 +52,11 @@ public class SchedulerInitializer { //서버시작시 또는 특정 시간에 
     }
 
     /**
-     * 모든 사용자 설정(Setting)을 조회하여, 개별 스케줄을 등록합니다.
+     * 모든 사용자 설정(Setting)을 조회하여, 전송 인덱스를 다시 만듭니다.
      *
-     * <p>이 메서드는 서버 시작 시 또는 수동으로 호출되어,
-     * {@link TaskSchedulerService#scheduleUser(Setting)}를 통해 각각의 사용자에 대한 크론을 등록합니다.</p>
+     * <p>이 메서드는 서버 시작 시, 자정 파이프라인({@code user-schedules}), 주기 재구성 또는 수동으로 호출되어,
+     * {@link TaskSchedulerService#scheduleAll(List)}를 통해 전체 사용자의 (요일, 분) 전송 시각을 한 번에 교체합니다.
+     * 만료 / 삭제된 세팅은 이때 함께 빠집니다.</p>
      */
     @PostConstruct
     public void scheduleAllUserSettings() {
@@ -65,17 +66,32 @@ public class SchedulerInitializer { //서버시작시 또는 특정 시간에 
         if (settings == null || settings.isEmpty()) {
             log.warn("[SchedulerInit] 등록할 Setting이 없어 스케줄러를 실행하지 않습니다.");
             // throw new KakaoException(ErrorCode.SETTING_NOT_FOUND);
+            settings = List.of();
         }
 
-        for (Setting setting : settings) {
-            try {
-                //셋팅값 반환
-                taskSchedulerService.scheduleUser(setting);
+        try {
+            taskSchedulerService.scheduleAll(settings);
+
+        } catch (Exception e) {
+            log.error("[SchedulerInit] 전송 인덱스 등록 중 예외 발생: {}", e.getMessage(), e);
+            throw new KakaoException(ErrorCode.SETTING_CRON_FAILED);
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("[SchedulerInit] 유저 {} / setting {} 에 대한 크론 등록 중 예외 발생: {}", setting.getUser().getId(), e.getMessage(), e);
-                throw new KakaoException(ErrorCode.SETTING_CRON_FAILED);
-            }
+    /**
+     * 전송 인덱스 주기 재구성 (모든 인스턴스)
+     *
+     * <p>자정 파이프라인은 리더 인스턴스에서만 실행되고 세팅 추가 / 변경 / 삭제 시에는 어느 인스턴스의 인덱스도 바로 고치지 않으므로,
+     * 각 인스턴스가 주기적으로 DB 기준 인덱스를 다시 만들어 같은 전송 대상을 갖도록 합니다.
+     * 따라서 세팅 변경은 요청을 받은 인스턴스를 포함해 최대 한 주기(기본 10분) 뒤에 전송에 반영됩니다.
+     * 실패하면 기존 인덱스를 그대로 사용합니다.</p>
+     */
+    @Scheduled(cron = "${delivery.dispatcher.index-refresh-cron:30 */10 * * * *}")
+    public void refreshAllUserSettings() {
+        try {
+            scheduleAllUserSettings();
+        } catch (Exception e) {
+            log.error("[SchedulerInit] 전송 인덱스 주기 재구성 실패 (기존 인덱스 유지): {}", e.getMessage(), e);
         }
     }
 
@@ -1,21 +1,32 @@
 package Baemin.News_Deliver.Global.Scheduler;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * {@code TaskSchedulerConfig}는 사용자 설정에 따라 동적으로 스케줄 작업을 등록하기 위한
  * Spring {@link TaskScheduler} Bean 설정 클래스입니다.
  *
- * <p>ThreadPool 기반의 {@link ThreadPoolTaskScheduler}를 생성하여,
- * 사용자별 뉴스 전송 스케줄 등 다양한 작업을 동시에 처리할 수 있도록 구성합니다.</p>
+ * <p>ThreadPool 기반의 {@link ThreadPoolTaskScheduler}를 생성하여 매분 전송 디스패처를 실행하고,
+ * 그 분에 보낼 사용자별 뉴스 전송은 별도의 전송 스레드 풀({@code deliveryTaskExecutor})에서 동시에 처리합니다.</p>
  */
 
 @Configuration
 public class TaskSchedulerConfig {
 
+    @Value("${delivery.dispatcher.worker-threads:20}")
+    private int workerThreads;
+
+    @Value("${delivery.dispatcher.queue-capacity:10000}")
+    private int queueCapacity;
+
     /**
      * 사용자 맞춤형 스케줄링을 위한 {@link TaskScheduler} Bean을 등록합니다.
      *
@@ -26,7 +37,7 @@ public class TaskSchedulerConfig {
      *
      * 설정된 내용:
      * <ul>
-     *     <li><b>PoolSize:</b> 10 (최대 10개의 작업 동시 실행)</li>
+     *     <li><b>PoolSize:</b> 2 (매분 전송 디스패처만 실행, 실제 전송은 deliveryTaskExecutor)</li>
      *     <li><b>ThreadNamePrefix:</b> "scheduled-task-" (디버깅용 식별자)</li>
      *     <li><b>Shutdown 시:</b> 현재 실행 중인 작업이 완료될 때까지 대기</li>
      *     <li><b>대기 시간:</b> 최대 30초까지 shutdown 대기</li>
@@ -39,11 +50,33 @@ public class TaskSchedulerConfig {
     @Bean("customTaskScheduler")
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(10); // 동시 작업 수
+        scheduler.setPoolSize(2); // 디스패처 실행용 (전송은 deliveryTaskExecutor)
         scheduler.setThreadNamePrefix("scheduled-task-");
         scheduler.setWaitForTasksToCompleteOnShutdown(true); //작업 완료까지 스프링종료를 대기
         scheduler.setAwaitTerminationSeconds(30); // 최대 30초 대기
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * 매분 전송 대상 유저의 메시지 발송을 처리하는 스레드 풀
+     *
+     * <p>많은 사용자가 같은 분을 골라도 한 번에 {@code delivery.dispatcher.worker-threads}명씩 동시에 보내며,
+     * 큐가 가득 차면 디스패처 스레드가 직접 실행해(CallerRuns) 전송을 버리지 않습니다.</p>
+     *
+     * @return 전송 {@link TaskExecutor}
+     */
+    @Bean("deliveryTaskExecutor")
+    public TaskExecutor deliveryTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("delivery-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
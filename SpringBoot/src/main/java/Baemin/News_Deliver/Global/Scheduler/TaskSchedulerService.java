@@ -1,158 +1,317 @@
 package Baemin.News_Deliver.Global.Scheduler;
 
 import Baemin.News_Deliver.Domain.Auth.Entity.Auth;
-import Baemin.News_Deliver.Domain.Auth.Entity.User;
 import Baemin.News_Deliver.Domain.Auth.Repository.AuthRepository;
 import Baemin.News_Deliver.Domain.Auth.Repository.UserRepository;
 import Baemin.News_Deliver.Domain.Kakao.Exception.KakaoException;
 import Baemin.News_Deliver.Domain.Kakao.service.KakaoMessageService;
-import Baemin.News_Deliver.Domain.Kakao.service.KakaoSchedulerService;
+import Baemin.News_Deliver.Domain.Mypage.Entity.Days;
 import Baemin.News_Deliver.Domain.Mypage.Entity.Setting;
-import Baemin.News_Deliver.Domain.Mypage.Repository.SettingRepository;
 import Baemin.News_Deliver.Global.Exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
-import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.lang.management.ManagementFactory;
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * {@code TaskSchedulerService}는 사용자 설정(Setting)에 따라
- * 동적으로 카카오 뉴스 메시지를 전송할 스케줄을 등록/취소하는 서비스입니다.
+ * 카카오 뉴스 메시지 전송 시각을 관리하고, 매분 해당 시각의 전송을 실행하는 서비스입니다.
  *
  * <p>
- * Spring의 {@link TaskScheduler}를 사용하여 사용자별로 개별 {@link ScheduledFuture} 작업을
- * 관리합니다.
- * 각 작업은 userId-settingId 조합으로 유니크하게 식별됩니다.
+ * 기존에는 세팅마다 {@link CronTrigger} 작업을 하나씩 등록했기 때문에, 같은 분(예: 08:00)을 고른 사용자가 많으면
+ * 10개 스레드의 스케줄러 큐에서 작업이 밀렸고, 늦게 실행된 작업은 현재 시각(분)으로 세팅을 다시 찾으면서 아무것도 보내지 못했습니다.
+ * </p>
+ *
+ * <p>
+ * 이제 (요일, 분) → 세팅 ID 목록의 전송 인덱스만 메모리에 두고, 스케줄러에는 매분 실행되는 작업 하나만 등록합니다.
+ * 매분 작업은 그 분에 보낼 세팅을 사용자별로 묶어 전송 스레드 풀({@code deliveryTaskExecutor})에 넘기며,
+ * 전송 시각(분)을 직접 전달하므로 실행이 늦어져도 원래 시각의 세팅을 보냅니다.
+ * 작업이 지연되어 분을 건너뛰면 다음 실행에서 {@code delivery.dispatcher.max-catch-up-minutes}까지 밀린 분을 이어서 보냅니다.
+ * </p>
+ *
+ * <p>
+ * 매분 작업은 모든 인스턴스에서 실행되므로, 분마다 Redis에 {@code DeliveryDispatch:{분}} 키를 먼저 선점({@code SET NX})한
+ * 인스턴스만 그 분을 전송합니다. 키는 이어서 보낼 수 있는 기간보다 오래 남아 있으므로 지연된 인스턴스가 같은 분을 다시 보내지 않습니다.
+ * Redis 오류로 선점하지 못한 분은 전송하지 않고 남겨 두었다가 다음 실행에서 이어서 보냅니다.
+ * 전송 인덱스는 인스턴스마다 메모리에 있으므로 {@link SchedulerInitializer}가 모든 인스턴스에서 주기적으로 다시 만듭니다.
+ * </p>
+ *
+ * <p>
+ * 세팅을 추가 / 변경 / 삭제해도 인덱스를 바로 고치지 않으므로, 요청을 받은 인스턴스를 포함한 모든 인스턴스에
+ * 다음 재구성({@code delivery.dispatcher.index-refresh-cron}, 기본 10분마다) 때 반영됩니다. 즉 변경이 전송에 반영되기까지 최대 10분이 걸립니다.
+ * 인스턴스마다 재구성 시점이 조금씩 다르면 그 사이의 분은 분을 선점한 인스턴스의 인덱스 기준으로 전송됩니다.
  * </p>
  *
  * <p>
  * 기능 요약:
  * </p>
  * <ul>
- * <li>사용자 설정에 따른 cron 스케줄 등록</li>
- * <li>기존 스케줄 취소 및 갱신</li>
- * <li>스케줄 실행 시 카카오 메시지 발송 트리거</li>
+ * <li>전체 사용자 설정으로 전송 인덱스 재구성 (만료 / 삭제된 세팅 정리 포함)</li>
+ * <li>매분 전송 대상 조회 후 카카오 메시지 발송 트리거</li>
  * </ul>
  */
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TaskSchedulerService {
 
-    @Qualifier("customTaskScheduler") // 커스텀한 테스크 스케쥴러로 등록함.
-    private final TaskScheduler taskScheduler;
+    /** 매분 0초 */
+    private static final String TICK_CRON = "0 * * * * *";
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final String CLAIM_KEY_PREFIX = "DeliveryDispatch:";
 
+    private final TaskScheduler taskScheduler;
+    private final TaskExecutor deliveryTaskExecutor;
     private final KakaoMessageService kakaoMessageService;
     private final UserRepository userRepository;
     private final AuthRepository authRepository;
-    private final SettingRepository settingRepository;
-
-    // userId-settingId 조합으로 key 관리
-    private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
-    private final KakaoSchedulerService kakaoSchedulerService;
+    private final RedisTemplate<String, Object> redisSession1Template;
+    private final int maxCatchUpMinutes;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
 
     /**
-     * 주어진 {@link Setting}을 기반으로 동적 스케줄을 등록합니다.
-     *
-     * <p>
-     * 1. 설정 정보에서 cron 표현식 생성<br>
-     * 2. 기존 스케줄이 있을 경우 취소 후 재등록<br>
-     * 3. 해당 시간마다 {@code KakaoMessageService.sendKakaoMessage()} 실행
-     * </p>
-     *
-     * @param setting {@link Setting} 사용자 알림 설정 객체
-     * @throws IllegalArgumentException 유저 정보 또는 토큰이 존재하지 않을 경우
+     * 전송 인덱스: (요일, 분) 슬롯 → 세팅 ID → 유저 ID
      */
-    @Transactional
-    public void scheduleUser(Setting setting) {
-        Long settingId = setting.getId();
+    private volatile Map<Integer, Map<Long, Long>> slots = new ConcurrentHashMap<>();
 
-        setting = settingRepository.findByIdWithDays(settingId)
-                .orElseThrow(() -> new KakaoException(ErrorCode.SETTING_NOT_FOUND));
+    /** 인덱스에 등록된 세팅 수 (상태 조회용) */
+    private volatile int settingCount;
 
-        Long userId = setting.getUser().getId();
-        String taskKey = generateTaskKey(userId, settingId);
+    /** 마지막으로 전송을 실행한 분 */
+    private LocalDateTime lastDispatchedMinute;
 
-        /* 이미 등록된 경우 기존 스케줄 취소 */
-        if (scheduledTasks.containsKey(taskKey)) {
-            cancelUser(userId, settingId);
-        }
+    private final AtomicLong dispatchedUsers = new AtomicLong();
+    private final AtomicLong caughtUpMinutes = new AtomicLong();
+    private final AtomicLong claimedByOthers = new AtomicLong();
 
-        log.info("[Scheduler] 유저 {} / setting {} 토큰 확인 중 - {}", userId, settingId, LocalDateTime.now());
+    public TaskSchedulerService(@Qualifier("customTaskScheduler") TaskScheduler taskScheduler, // 커스텀한 테스크 스케쥴러로 등록함.
+                                @Qualifier("deliveryTaskExecutor") TaskExecutor deliveryTaskExecutor,
+                                KakaoMessageService kakaoMessageService,
+                                UserRepository userRepository,
+                                AuthRepository authRepository,
+                                @Qualifier("redisSession1Template") RedisTemplate<String, Object> redisSession1Template,
+                                @Value("${delivery.dispatcher.max-catch-up-minutes:10}") int maxCatchUpMinutes) {
+        this.taskScheduler = taskScheduler;
+        this.deliveryTaskExecutor = deliveryTaskExecutor;
+        this.kakaoMessageService = kakaoMessageService;
+        this.userRepository = userRepository;
+        this.authRepository = authRepository;
+        this.redisSession1Template = redisSession1Template;
+        this.maxCatchUpMinutes = maxCatchUpMinutes;
+    }
 
-        String refreshAccessToken = userRepository.findById(userId)
-                .flatMap(user -> authRepository.findByUser(user)
-                        .map(Auth::getKakaoRefreshToken))
-                .orElseThrow(() -> new KakaoException(ErrorCode.OAUTH2_PROCESS_FAILED));
+    /**
+     * 매분 전송 작업 등록 (세팅 수와 관계없이 하나)
+     */
+    @PostConstruct
+    public void startDispatcher() {
+        taskScheduler.schedule(this::tick, new CronTrigger(TICK_CRON));
+        log.info("[Scheduler] 분 단위 전송 디스패처 시작 (cron: {})", TICK_CRON);
+    }
 
-        log.info("[Scheduler] 토큰 확인 완료 - {}", refreshAccessToken);
+    /**
+     * 유효한 전체 세팅으로 전송 인덱스를 새로 만들고 교체합니다.
+     *
+     * <p>만료 / 삭제된 세팅은 새 인덱스에 없으므로 함께 정리됩니다.</p>
+     *
+     * @param settings 요일(days)을 함께 조회한 세팅 목록
+     */
+    public void scheduleAll(List<Setting> settings) {
+        Map<Integer, Map<Long, Long>> newSlots = new ConcurrentHashMap<>();
 
-        String cron = kakaoSchedulerService.getCron(setting);
+        for (Setting setting : settings) {
+            Long userId = setting.getUser().getId();
+            for (Integer slot : slotsOf(setting)) {
+                newSlots.computeIfAbsent(slot, key -> new ConcurrentHashMap<>()).put(setting.getId(), userId);
+            }
+        }
 
-        Runnable task = () -> {
-            log.info("[Scheduler] 유저 {} / setting {} 메시지 발송 트리거 - {}", userId, settingId, LocalDateTime.now());
+        synchronized (this) {
+            slots = newSlots;
+            settingCount = settings.size();
+        }
+        log.info("[Scheduler] 전송 인덱스 재구성 완료 - 세팅 {}개 / 슬롯 {}개", settings.size(), newSlots.size());
+    }
 
-            try {
+    /**
+     * 디스패처 상태 (모니터링용)
+     *
+     * @return settings / slots / lastDispatchedMinute / dispatchedUsers / caughtUpMinutes / claimedByOthers
+     */
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("settings", settingCount);
+        status.put("slots", slots.size());
+        status.put("lastDispatchedMinute", lastDispatchedMinute);
+        status.put("dispatchedUsers", dispatchedUsers.get());
+        status.put("caughtUpMinutes", caughtUpMinutes.get());
+        status.put("claimedByOthers", claimedByOthers.get());
+        return status;
+    }
 
-                Optional<Setting> optionalSetting = settingRepository.findByIdWithDays(settingId);
+    /**
+     * 매분 실행: 마지막 실행 이후 지금까지의 분을 차례로 전송 (지연으로 건너뛴 분 포함)
+     */
+    private void tick() {
+        dispatchUpTo(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+    }
 
-                if (optionalSetting.isEmpty()) {
-                    log.warn("[Scheduler] 유저 {} / setting {} 설정 정보가 없음", userId, settingId);
-                    throw new KakaoException(ErrorCode.SETTING_NOT_FOUND);
+    /**
+     * 마지막 실행 다음 분부터 주어진 분까지, 이 인스턴스가 선점한 분만 전송
+     *
+     * @param now 현재 분
+     */
+    void dispatchUpTo(LocalDateTime now) {
+        try {
+            List<LocalDateTime> minutes;
+            synchronized (this) {
+                minutes = minutesToDispatch(lastDispatchedMinute, now, maxCatchUpMinutes);
+                if (minutes.isEmpty()) {
+                    return; // 같은 분에 중복 실행
                 }
+                if (lastDispatchedMinute != null && minutes.get(0).isAfter(lastDispatchedMinute.plusMinutes(1))) {
+                    log.warn("[Scheduler] 전송이 {} 부터 밀림 → 최근 {}분만 전송", lastDispatchedMinute.plusMinutes(1), maxCatchUpMinutes);
+                }
+                lastDispatchedMinute = now;
+            }
 
-                kakaoMessageService.sendKakaoMessage(refreshAccessToken, userId);
-
-            } catch (Exception e) {
-                log.error("[Scheduler] 유저 {} / setting {} 메시지 발송 중 예외 발생: {}", userId, settingId, e.getMessage(), e);
-                throw new KakaoException(ErrorCode.MESSAGE_SEND_FAILED);
+            for (LocalDateTime minute : minutes) {
+                if (!claim(minute)) {
+                    continue;
+                }
+                if (minute.isBefore(now)) {
+                    caughtUpMinutes.incrementAndGet();
+                    log.warn("[Scheduler] 지연된 전송 시각 {} 이어서 전송", minute);
+                }
+                dispatch(minute);
             }
-        };
+        } catch (Exception e) {
+            log.error("[Scheduler] 분 단위 전송 디스패치 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
 
-        CronTrigger trigger = new CronTrigger(cron);
-        ScheduledFuture<?> future = taskScheduler.schedule(task, trigger);
-        scheduledTasks.put(taskKey, future);
+    /**
+     * 이번 실행에서 보낼 분 목록 (마지막 실행 다음 분 ~ 지금, 최대 {@code maxCatchUpMinutes}분 전까지)
+     *
+     * @param lastDispatched 마지막으로 실행한 분 (처음이면 null)
+     * @param now 현재 분
+     * @param maxCatchUpMinutes 이어서 보낼 최대 분
+     * @return 보낼 분 (오래된 순, 같은 분에 다시 실행되면 빈 목록)
+     */
+    static List<LocalDateTime> minutesToDispatch(LocalDateTime lastDispatched, LocalDateTime now, int maxCatchUpMinutes) {
+        LocalDateTime from = lastDispatched == null ? now : lastDispatched.plusMinutes(1);
+        if (from.isBefore(now.minusMinutes(maxCatchUpMinutes))) {
+            from = now.minusMinutes(maxCatchUpMinutes);
+        }
+        List<LocalDateTime> minutes = new ArrayList<>();
+        for (LocalDateTime minute = from; !minute.isAfter(now); minute = minute.plusMinutes(1)) {
+            minutes.add(minute);
+        }
+        return minutes;
+    }
 
-        log.info("[Scheduler] 유저 {} / setting {} 스케줄 등록 완료 (cron: {})", userId, settingId, cron);
+    /**
+     * 전송 시각(분)을 이 인스턴스가 보내도록 선점
+     *
+     * <p>Redis 오류로 확인하지 못하면 마지막 실행 분을 되돌려 다음 실행에서 다시 시도합니다.</p>
+     *
+     * @return 선점했으면 {@code true}, 다른 인스턴스가 이미 선점했거나 확인하지 못했으면 {@code false}
+     */
+    private boolean claim(LocalDateTime minute) {
+        try {
+            // 이어서 보낼 수 있는 기간보다 오래 유지해야 지연된 인스턴스가 같은 분을 다시 보내지 않음
+            Boolean claimed = redisSession1Template.opsForValue().setIfAbsent(CLAIM_KEY_PREFIX + minute, owner,
+                    Duration.ofMinutes(maxCatchUpMinutes + 60L));
+            if (!Boolean.TRUE.equals(claimed)) {
+                claimedByOthers.incrementAndGet();
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            synchronized (this) {
+                LocalDateTime retryFrom = minute.minusMinutes(1);
+                if (lastDispatchedMinute == null || retryFrom.isBefore(lastDispatchedMinute)) {
+                    lastDispatchedMinute = retryFrom;
+                }
+            }
+            log.error("[Scheduler] {} 전송 선점 실패 → 다음 실행에서 다시 시도: {}", minute, e.getMessage());
+            return false;
+        }
     }
 
     /**
-     * 사용자 ID와 설정 ID에 해당하는 스케줄을 취소합니다.
+     * 전송 시각(분)에 해당하는 세팅을 유저별로 묶어 전송 스레드 풀에 제출
      *
-     * @param userId    사용자 ID
-     * @param settingId 설정 ID
+     * @param fireTime 전송 시각 (분 단위)
      */
-    public void cancelUser(Long userId, Long settingId) {
-        String taskKey = generateTaskKey(userId, settingId);
-        ScheduledFuture<?> future = scheduledTasks.get(taskKey);
-        if (future != null) {
-            future.cancel(false);
-            scheduledTasks.remove(taskKey);
-            log.info("[Scheduler] 유저 {} / setting {} 스케줄 취소됨", userId, settingId);
+    private void dispatch(LocalDateTime fireTime) {
+        Map<Long, Long> due = slots.get(slotOf(fireTime.getDayOfWeek(), fireTime.toLocalTime()));
+        if (due == null || due.isEmpty()) {
+            return;
         }
+
+        // 한 유저의 같은 시각 세팅은 sendKakaoMessage 한 번에 함께 처리됨
+        Map<Long, List<Long>> settingsByUser = due.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, HashMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        log.info("[Scheduler] {} 전송 대상 - 유저 {}명 / 세팅 {}개", fireTime, settingsByUser.size(), due.size());
+
+        settingsByUser.forEach((userId, settingIds) -> deliveryTaskExecutor.execute(() -> {
+            log.info("[Scheduler] 유저 {} / setting {} 메시지 발송 트리거 - {} (실행 {})", userId, settingIds, fireTime, LocalDateTime.now());
+            try {
+                kakaoMessageService.sendKakaoMessage(findRefreshToken(userId), userId, fireTime);
+                dispatchedUsers.incrementAndGet();
+            } catch (Exception e) {
+                log.error("[Scheduler] 유저 {} / setting {} 메시지 발송 중 예외 발생: {}", userId, settingIds, e.getMessage(), e);
+            }
+        }));
+    }
+
+    private String findRefreshToken(Long userId) {
+        return userRepository.findById(userId)
+                .flatMap(user -> authRepository.findByUser(user)
+                        .map(Auth::getKakaoRefreshToken))
+                .orElseThrow(() -> new KakaoException(ErrorCode.OAUTH2_PROCESS_FAILED));
     }
 
     /**
-     * 스케줄 작업 고유 키를 생성합니다.
+     * 세팅의 전송 슬롯 목록 (요일 × 전송 시각(분))
      *
-     * @param userId    사용자 ID
-     * @param settingId 설정 ID
-     * @return userId-settingId 형식의 문자열 키
+     * <p>요일 번호는 기존 cron 변환({@code KakaoSchedulerService})과 같이 1(월)~7(일)로 해석합니다.</p>
      */
-    // 중복 스케쥴러 삭제 메서드용
-    private String generateTaskKey(Long userId, Long settingId) {
-        return userId + "-" + settingId;
+    static List<Integer> slotsOf(Setting setting) {
+        LocalTime deliveryTime = setting.getDeliveryTime().toLocalTime();
+        return setting.getDays().stream()
+                .map(Days::getDeliveryDay)
+                .filter(day -> day != null && day >= 1 && day <= 7)
+                .distinct()
+                .map(day -> slotOf(DayOfWeek.of(day), deliveryTime))
+                .toList();
+    }
+
+    static int slotOf(DayOfWeek dayOfWeek, LocalTime time) {
+        return (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
     }
 
 }
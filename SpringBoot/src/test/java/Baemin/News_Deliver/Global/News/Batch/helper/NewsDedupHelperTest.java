@@ -0,0 +1,41 @@
+package Baemin.News_Deliver.Global.News.Batch.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link NewsDedupHelper#contentHash} 중복 범위 단위 테스트
+ *
+ * @author 김원중
+ */
+class NewsDedupHelperTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 7, 1, 6, 0);
+
+    @Test
+    @DisplayName("같은 날 발행된 기사는 공백 / 대소문자 차이와 시각에 관계없이 같은 해시를 갖는다")
+    void sameDayIgnoresWhitespaceCaseAndTime() {
+        String hash = NewsDedupHelper.contentHash("오늘의  날씨 ", "A일보", MORNING);
+
+        assertThat(NewsDedupHelper.contentHash("오늘의 날씨", " a일보", MORNING.plusHours(15))).isEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("같은 언론사의 같은 제목이라도 발행일이 다르면 다른 뉴스로 본다")
+    void differentPublishDateIsDifferentNews() {
+        assertThat(NewsDedupHelper.contentHash("오늘의 날씨", "A일보", MORNING))
+                .isNotEqualTo(NewsDedupHelper.contentHash("오늘의 날씨", "A일보", MORNING.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("백필 SQL과 같은 규칙(SHA-256, 소문자 hex 64자)으로 계산된다")
+    void matchesBackfillFormat() {
+        // SELECT SHA2(CONCAT('a', CHAR(31), 'b', CHAR(31), '2025-07-01'), 256)
+        assertThat(NewsDedupHelper.contentHash("A", "B", MORNING))
+                .isEqualTo("1ff96f0a94ce4825ccc4cd0f2ef83b24561a264f15ca4772ea16313f3f9cb7ed");
+    }
+}
@@ -0,0 +1,109 @@
+package Baemin.News_Deliver.Global.News.Batch.listener;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AdaptiveChunkPolicy} 청크 크기 조정 단위 테스트
+ *
+ * @author 김원중
+ */
+class AdaptiveChunkPolicyTest {
+
+    private static final int MIN = 100;
+    private static final int MAX = 10_000;
+    private static final long TARGET_MS = 500;
+
+    private final AdaptiveChunkMetrics metrics = new AdaptiveChunkMetrics();
+
+    @Test
+    @DisplayName("초기 크기는 최소/최대 범위로 제한된다")
+    void clampsInitialSize() {
+        assertThat(policy(50).getChunkSize()).isEqualTo(MIN);
+        assertThat(policy(50_000).getChunkSize()).isEqualTo(MAX);
+    }
+
+    @Test
+    @DisplayName("커밋이 빠르면 한 번에 최대 2배까지만 늘어난다")
+    void growsAtMostDoubleEachChunk() {
+        AdaptiveChunkPolicy policy = policy(1000);
+
+        policy.adjust(10, 1000); // 건당 0.01ms → 목표 기준 50,000건까지 가능
+
+        assertThat(policy.getChunkSize()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("안정된 건당 쓰기 시간이면 목표 커밋 시간에 맞는 크기로 수렴한다")
+    void convergesToTargetCommitTime() {
+        AdaptiveChunkPolicy policy = policy(1000);
+
+        // 건당 0.25ms → 목표 500ms면 2,000건
+        for (int i = 0; i < 10; i++) {
+            int size = policy.getChunkSize();
+            policy.adjust(Math.round(size * 0.25), size);
+        }
+
+        assertThat(policy.getChunkSize()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("커밋이 목표의 1.5배를 넘으면 즉시 절반으로 줄어든다")
+    void halvesWhenCommitIsTooSlow() {
+        AdaptiveChunkPolicy policy = policy(4000);
+
+        policy.adjust(TARGET_MS * 2, 4000);
+
+        assertThat(policy.getChunkSize()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("롤백되면 절반으로 줄고 최소 크기 아래로는 내려가지 않는다")
+    void halvesOnRollbackDownToMinimum() {
+        AdaptiveChunkPolicy policy = policy(300);
+
+        policy.afterChunkError(null);
+        assertThat(policy.getChunkSize()).isEqualTo(150);
+
+        policy.afterChunkError(null);
+        assertThat(policy.getChunkSize()).isEqualTo(MIN);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘어 늘어나지 않는다")
+    void neverExceedsMaximum() {
+        AdaptiveChunkPolicy policy = policy(8000);
+
+        policy.adjust(1, 8000);
+
+        assertThat(policy.getChunkSize()).isEqualTo(MAX);
+    }
+
+    @Test
+    @DisplayName("모두 필터링되어 쓰지 않은 청크는 크기를 바꾸지 않는다")
+    void ignoresChunksWithoutWrites() {
+        AdaptiveChunkPolicy policy = policy(1000);
+
+        policy.beforeChunk(null);
+        policy.afterChunk(null);
+
+        assertThat(policy.getChunkSize()).isEqualTo(1000);
+        assertThat(metrics.snapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋마다 지표가 기록된다")
+    void recordsMetricsPerCommit() {
+        AdaptiveChunkPolicy policy = policy(1000);
+
+        policy.adjust(100, 1000);
+
+        assertThat(metrics.snapshot()).containsKey("newsDataSaveStep:politics");
+    }
+
+    private AdaptiveChunkPolicy policy(int initialSize) {
+        return new AdaptiveChunkPolicy("newsDataSaveStep", "politics", initialSize, MIN, MAX, TARGET_MS, metrics);
+    }
+}
@@ -0,0 +1,131 @@
+package Baemin.News_Deliver.Global.News.Batch.partitioner;
+
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner.Window;
+import Baemin.News_Deliver.Global.News.Batch.partitioner.TimeWindowPartitioner.WindowCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link TimeWindowPartitioner} 구간 분할 단위 테스트
+ *
+ * @author 김원중
+ */
+class TimeWindowPartitionerTest {
+
+    private static final DateTimeFormatter PARAM_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 7, 1, 0, 0);
+
+    @Test
+    @DisplayName("하루보다 긴 구간은 일 단위로 나뉜다")
+    void splitsMultiDayWindowByDay() {
+        Window window = new Window("politics", DAY, DAY.plusDays(3).plusHours(6));
+
+        List<Window> parts = window.split();
+
+        assertThat(parts).hasSize(4);
+        assertThat(parts.get(0).length()).isEqualTo(Duration.ofDays(1));
+        assertThat(parts.get(3).length()).isEqualTo(Duration.ofHours(6));
+        assertContiguous(window, parts);
+    }
+
+    @Test
+    @DisplayName("하루 이하 구간은 1시간 단위로 나뉜다")
+    void splitsDayWindowByHour() {
+        Window window = new Window("politics", DAY, DAY.plusDays(1));
+
+        List<Window> parts = window.split();
+
+        assertThat(parts).hasSize(24).allMatch(part -> part.length().equals(Duration.ofHours(1)));
+        assertContiguous(window, parts);
+    }
+
+    @Test
+    @DisplayName("1시간 이하 구간은 초 단위로 절반씩 나뉜다")
+    void halvesHourWindowInWholeSeconds() {
+        Window window = new Window("politics", DAY, DAY.plusSeconds(225));
+
+        List<Window> parts = window.split();
+
+        assertThat(parts).extracting(Window::length)
+                .containsExactly(Duration.ofSeconds(113), Duration.ofSeconds(112));
+        assertContiguous(window, parts);
+    }
+
+    @Test
+    @DisplayName("분할된 구간은 조회 파라미터 기준으로 빈틈도 겹침도 없다")
+    void refinedWindowsCoverRangeWithoutGapsOrOverlaps() {
+        // 초당 1건 (하루 86,400건) → 1시간(3,600건) 구간까지 나뉘어야 함
+        List<WindowCount> windows = refine(DAY, DAY.plusDays(2), window -> (int) window.length().getSeconds());
+
+        assertThat(windows).hasSize(48)
+                .allMatch(window -> window.totalItems() <= TimeWindowPartitioner.MAX_ITEMS_PER_WINDOW)
+                .noneMatch(WindowCount::truncated);
+        assertParamsContiguous(DAY, DAY.plusDays(2), windows);
+    }
+
+    @Test
+    @DisplayName("뉴스가 몰린 구간은 1분 가까이까지 절반씩 나뉘고, 최소 구간에서도 넘치면 truncated로 표시된다")
+    void refinesHotSpotDownToMinimumWindow() {
+        LocalDateTime hotSpot = DAY.plusHours(9).plusMinutes(30).plusSeconds(10);
+        Function<Window, Integer> counts = window -> {
+            int total = (int) window.length().getSeconds() / 60; // 분당 1건
+            boolean containsHotSpot = !hotSpot.isBefore(window.start()) && hotSpot.isBefore(window.end());
+            return containsHotSpot ? total + 20_000 : total;
+        };
+
+        List<WindowCount> windows = refine(DAY, DAY.plusDays(1), counts);
+
+        List<WindowCount> truncated = windows.stream().filter(WindowCount::truncated).toList();
+        assertThat(truncated).hasSize(1);
+        WindowCount hot = truncated.get(0);
+        Duration hotLength = Duration.between(LocalDateTime.parse(hot.dateFrom(), PARAM_FORMAT),
+                LocalDateTime.parse(hot.dateTo(), PARAM_FORMAT).plusSeconds(1));
+        assertThat(hotLength).isLessThanOrEqualTo(Duration.ofMinutes(1));
+        assertThat(hot.pages()).isEqualTo(100);
+
+        // 뉴스가 0건인 구간(분당 1건이 안 되는 1분 미만 구간)은 빠지므로, 남은 구간끼리 겹치지만 않으면 됨
+        List<WindowCount> sorted = windows.stream().sorted(Comparator.comparing(WindowCount::dateFrom)).toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(sorted.get(i).dateFrom()).isGreaterThan(sorted.get(i - 1).dateTo());
+        }
+    }
+
+    @Test
+    @DisplayName("뉴스가 없는 구간은 만들지 않는다")
+    void dropsEmptyWindows() {
+        assertThat(refine(DAY, DAY.plusDays(1), window -> 0)).isEmpty();
+    }
+
+    private static List<WindowCount> refine(LocalDateTime start, LocalDateTime end, Function<Window, Integer> counts) {
+        List<WindowCount> windows = TimeWindowPartitioner.refine(List.of(new Window("politics", start, end)),
+                window -> CompletableFuture.completedFuture(counts.apply(window)));
+        return windows.stream().sorted(Comparator.comparing(WindowCount::dateFrom)).toList();
+    }
+
+    private static void assertContiguous(Window whole, List<Window> parts) {
+        assertThat(parts.get(0).start()).isEqualTo(whole.start());
+        assertThat(parts.get(parts.size() - 1).end()).isEqualTo(whole.end());
+        for (int i = 1; i < parts.size(); i++) {
+            assertThat(parts.get(i).start()).isEqualTo(parts.get(i - 1).end());
+        }
+    }
+
+    private static void assertParamsContiguous(LocalDateTime start, LocalDateTime end, List<WindowCount> windows) {
+        assertThat(windows.get(0).dateFrom()).isEqualTo(start.format(PARAM_FORMAT));
+        assertThat(windows.get(windows.size() - 1).dateTo()).isEqualTo(end.minusSeconds(1).format(PARAM_FORMAT));
+        for (int i = 1; i < windows.size(); i++) {
+            LocalDateTime previousTo = LocalDateTime.parse(windows.get(i - 1).dateTo(), PARAM_FORMAT);
+            assertThat(windows.get(i).dateFrom()).isEqualTo(previousTo.plusSeconds(1).format(PARAM_FORMAT));
+        }
+    }
+}
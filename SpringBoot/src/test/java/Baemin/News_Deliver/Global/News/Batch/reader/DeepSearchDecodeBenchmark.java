@@ -0,0 +1,103 @@
+package Baemin.News_Deliver.Global.News.Batch.reader;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * DeepSearch 응답 디코딩 벤치마크
+ *
+ * <p>기록된 DeepSearch 응답({@code src/test/resources/deepsearch/sample-page.json})의 뉴스를 반복하여
+ * page_size=100 페이지를 만든 뒤, 기존 바인딩 경로({@code ObjectMapper → NewsResponseDTO})와
+ * {@link DeepSearchPageDecoder} 스트리밍 경로의 처리량과 페이지당 할당량을 출력합니다.
+ * 단위 테스트가 아니므로 {@code main}으로 직접 실행합니다.</p>
+ *
+ * <pre>
+ * databind   pages=20000  elapsed=...ms  pages/sec=...  alloc/page=...KB
+ * streaming  pages=20000  elapsed=...ms  pages/sec=...  alloc/page=...KB
+ * </pre>
+ *
+ * @author 김원중
+ */
+public class DeepSearchDecodeBenchmark {
+
+    private static final String SAMPLE = "/deepsearch/sample-page.json";
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_PAGES = 5_000;
+    private static final int MEASURED_PAGES = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        // 애플리케이션과 같은 설정(알 수 없는 필드 무시, JavaTimeModule)의 ObjectMapper
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        DeepSearchPageDecoder decoder = new DeepSearchPageDecoder();
+        byte[] page = samplePage(objectMapper);
+
+        System.out.printf("page bytes=%d  items=%d%n", page.length, decoder.decode(new ByteArrayInputStream(page)).items().size());
+
+        Decoder databind = body -> objectMapper.readValue(body, NewsResponseDTO.class).getData();
+        Decoder streaming = body -> decoder.decode(body).items();
+
+        for (int round = 0; round < 2; round++) {
+            run("databind", databind, page, WARMUP_PAGES, round == 1);
+            run("streaming", streaming, page, WARMUP_PAGES, round == 1);
+        }
+        run("databind", databind, page, MEASURED_PAGES, true);
+        run("streaming", streaming, page, MEASURED_PAGES, true);
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        List<NewsItemDTO> decode(InputStream body) throws Exception;
+    }
+
+    private static void run(String name, Decoder decoder, byte[] page, int pages, boolean print) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long sink = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < pages; i++) {
+            List<NewsItemDTO> items = decoder.decode(new ByteArrayInputStream(page));
+            sink += items.size() + items.get(items.size() - 1).getTitle().length();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        if (print) {
+            System.out.printf("%-10s pages=%d  elapsed=%dms  pages/sec=%.1f  alloc/page=%.1fKB  (sink=%d)%n",
+                    name, pages, elapsedMs, pages * 1000.0 / Math.max(elapsedMs, 1),
+                    allocated / 1024.0 / pages, sink);
+        }
+    }
+
+    /**
+     * 기록된 응답의 뉴스를 PAGE_SIZE개가 될 때까지 반복한 페이지 (id / content_url은 항목마다 다르게)
+     */
+    private static byte[] samplePage(ObjectMapper objectMapper) throws Exception {
+        ObjectNode root;
+        try (InputStream in = DeepSearchDecodeBenchmark.class.getResourceAsStream(SAMPLE)) {
+            root = (ObjectNode) objectMapper.readTree(in);
+        }
+
+        ArrayNode recorded = (ArrayNode) root.get("data");
+        ArrayNode data = objectMapper.createArrayNode();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            ObjectNode item = recorded.get(i % recorded.size()).deepCopy();
+            item.put("id", item.get("id").asText() + "-" + i);
+            item.put("content_url", item.get("content_url").asText() + "?n=" + i);
+            data.add(item);
+        }
+        root.set("data", data);
+        root.put("page_size", PAGE_SIZE);
+        return objectMapper.writeValueAsBytes(root);
+    }
+}
@@ -0,0 +1,90 @@
+package Baemin.News_Deliver.Global.News.Batch.reader;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * DeepSearch 페이지 동시 요청 벤치마크
+ *
+ * <p>고정 지연({@code LATENCY_MS})을 가진 로컬 스텁 서버를 띄우고,
+ * {@link DeepSearchFetchExecutor}의 동시성 수준별 초당 처리 페이지 수를 출력합니다.
+ * 단위 테스트가 아니므로 {@code main}으로 직접 실행합니다.</p>
+ *
+ * <pre>
+ * concurrency=1  pages=100  elapsed=...ms  pages/sec=...
+ * concurrency=2  ...
+ * </pre>
+ *
+ * @author 김원중
+ */
+public class DeepSearchFetchBenchmark {
+
+    private static final int PAGES = 100;
+    private static final long LATENCY_MS = 150;
+    private static final int[] CONCURRENCY_LEVELS = {1, 2, 4, 8};
+
+    public static void main(String[] args) throws Exception {
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        HttpServer server = startStubServer(serverExecutor);
+        String url = "http://localhost:" + server.getAddress().getPort() + "/v1/articles/economy?page=";
+        RestTemplate restTemplate = new RestTemplate();
+
+        try {
+            for (int concurrency : CONCURRENCY_LEVELS) {
+                // 초당 요청 수 제한과 재시도는 끄고(0, 1회) 동시성 효과만 측정
+                DeepSearchFetchExecutor fetchExecutor = new DeepSearchFetchExecutor(concurrency, 0, 1, 0, 0);
+
+                DeepSearchPageReader reader = new DeepSearchPageReader("economy", PAGES,
+                        page -> fetchExecutor.submit("economy p" + page, () -> restTemplate.getForObject(url + page, String.class))
+                                .thenApply(body -> List.of(new NewsItemDTO())),
+                        concurrency);
+                reader.open(new ExecutionContext());
+
+                long start = System.nanoTime();
+                int read = 0;
+                while (reader.read() != null) {
+                    read++;
+                }
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                reader.close();
+                fetchExecutor.shutdown();
+
+                System.out.printf("concurrency=%d  pages=%d  elapsed=%dms  pages/sec=%.1f%n",
+                        concurrency, read, elapsedMs, read * 1000.0 / Math.max(elapsedMs, 1));
+            }
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청마다 {@code LATENCY_MS}만큼 지연 후 고정 JSON을 응답하는 스텁 서버
+     */
+    private static HttpServer startStubServer(ExecutorService serverExecutor) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/articles", exchange -> {
+            try {
+                Thread.sleep(LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"data\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,115 @@
+package Baemin.News_Deliver.Global.News.Batch.reader;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsResponseDTO;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link DeepSearchPageDecoder} 단위 테스트
+ *
+ * @author 김원중
+ */
+class DeepSearchPageDecoderTest {
+
+    private static final String SAMPLE = "/deepsearch/sample-page.json";
+
+    private final DeepSearchPageDecoder decoder = new DeepSearchPageDecoder();
+
+    @Test
+    @DisplayName("기록된 응답을 기존 바인딩 경로와 같은 뉴스로 디코딩한다")
+    void decodesSampleLikeDatabind() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<NewsItemDTO> expected;
+        try (InputStream body = getClass().getResourceAsStream(SAMPLE)) {
+            expected = objectMapper.readValue(body, NewsResponseDTO.class).getData();
+        }
+
+        DeepSearchPageDecoder.Page page;
+        try (InputStream body = getClass().getResourceAsStream(SAMPLE)) {
+            page = decoder.decode(body);
+        }
+
+        assertThat(page.totalItems()).isEqualTo(8421);
+        assertThat(page.items()).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            NewsItemDTO actual = page.items().get(i);
+            NewsItemDTO bound = expected.get(i);
+            assertThat(actual.getId()).isEqualTo(bound.getId());
+            assertThat(actual.getSections()).isEqualTo(bound.getSections());
+            assertThat(actual.getTitle()).isEqualTo(bound.getTitle());
+            assertThat(actual.getPublisher()).isEqualTo(bound.getPublisher());
+            assertThat(actual.getSummary()).isEqualTo(bound.getSummary());
+            assertThat(actual.getContent_url()).isEqualTo(bound.getContent_url());
+            assertThat(actual.getPublished_at()).isEqualTo(bound.getPublished_at());
+        }
+    }
+
+    @Test
+    @DisplayName("'Z'로 끝나는 발행 시각은 UTC로, 해석할 수 없는 발행 시각은 null로 읽는다")
+    void parsesUtcAndNullsInvalidPublishedAt() throws IOException {
+        DeepSearchPageDecoder.Page page = decode("""
+                {"total_items": 2, "data": [
+                  {"title": "a", "published_at": "2025-07-15T00:30:00Z"},
+                  {"title": "b", "published_at": "어제 오후"}
+                ]}
+                """);
+
+        assertThat(page.items().get(0).getPublished_at()).isEqualTo(LocalDateTime.of(2025, 7, 15, 0, 30));
+        assertThat(page.items().get(1).getPublished_at()).isNull();
+    }
+
+    @Test
+    @DisplayName("섹션이 문자열 하나여도 목록으로 읽고, 객체 값 필드는 건너뛴다")
+    void readsSingleSectionAndSkipsNestedValues() throws IOException {
+        DeepSearchPageDecoder.Page page = decode("""
+                {"data": [{"sections": "politics", "title": {"ko": "제목"}, "publisher": "A일보"}]}
+                """);
+
+        NewsItemDTO item = page.items().get(0);
+        assertThat(item.getSections()).containsExactly("politics");
+        assertThat(item.getTitle()).isNull();
+        assertThat(item.getPublisher()).isEqualTo("A일보");
+        assertThat(page.totalItems()).isZero();
+    }
+
+    @Test
+    @DisplayName("data가 없거나 배열이 아니면 빈 페이지를 돌려준다")
+    void returnsEmptyPageWithoutData() throws IOException {
+        assertThat(decode("{\"total_items\": 0}").items()).isEmpty();
+        assertThat(decode("{\"total_items\": 3, \"data\": null}").items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 응답은 예외로 실패한다")
+    void rejectsNonObjectBody() {
+        assertThatThrownBy(() -> decode("[1, 2, 3]")).isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    @DisplayName("같은 언론사명은 같은 문자열 인스턴스를 재사용한다")
+    void poolsRepeatedPublishers() throws IOException {
+        DeepSearchPageDecoder.Page page = decode("""
+                {"data": [{"publisher": "연합뉴스"}, {"publisher": "연합뉴스"}]}
+                """);
+
+        assertThat(page.items().get(0).getPublisher()).isSameAs(page.items().get(1).getPublisher());
+    }
+
+    private DeepSearchPageDecoder.Page decode(String json) throws IOException {
+        return decoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,203 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsDocument;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsIndexHelper;
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsKeywordExtractor;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 핫토픽 집계 벤치마크 (fielddata vs 색인 시점 keyword 필드)
+ *
+ * <p>실제 하루치 날짜 인덱스(기본: 어제 {@code news-nori-yyyy.MM.dd})의 도큐먼트를 읽어 두 개의 임시 인덱스에 색인합니다.</p>
+ * <ul>
+ *     <li>{@code fielddata}: 기존 방식 - {@code combinedTokens}(text, fielddata: true)로 terms 집계</li>
+ *     <li>{@code keywords}: {@link NewsKeywordExtractor}로 추출한 {@code keywords}(keyword, doc values)로 terms 집계</li>
+ * </ul>
+ *
+ * <p>각 인덱스에서 fielddata 캐시를 비운 뒤 첫 집계(cold)와 반복 집계(warm)의 지연 시간,
+ * 인덱스 fielddata 메모리, 노드 힙 사용량 변화를 출력합니다. 힙 사용량은 GC에 따라 흔들리므로 fielddata 메모리와 함께 봐야 합니다.
+ * 단위 테스트가 아니므로 실행 중인 Elasticsearch를 대상으로 {@code main}으로 직접 실행합니다.</p>
+ *
+ * <pre>
+ * 인자: [Elasticsearch URL (기본 http://localhost:9200)] [원본 인덱스 (기본 어제 날짜 인덱스)]
+ *
+ * extract    docs=3120  elapsed=...ms  docs/sec=...
+ * fielddata  docs=3120  cold=...ms  p50=...ms  p95=...ms  fielddata=...KB  heapDelta=...KB
+ * keywords   docs=3120  cold=...ms  p50=...ms  p95=...ms  fielddata=0KB  heapDelta=...KB
+ * </pre>
+ *
+ * @author 김원중
+ */
+public class HotTopicAggregationBenchmark {
+
+    private static final String TEMPLATE = "elasticsearch/news-nori-template.json";
+    private static final String FIELDDATA_INDEX = "bench-hot-topic-fielddata";
+    private static final String KEYWORDS_INDEX = "bench-hot-topic-keywords";
+    private static final int MAX_DOCS = 10_000; // 기본 index.max_result_window
+    private static final int BULK_SIZE = 500;
+    private static final int WARM_ROUNDS = 50;
+    private static final int TOP_SIZE = 10;
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:9200";
+        String source = args.length > 1 ? args[1] : NewsIndexHelper.dailyIndex(LocalDate.now().minusDays(1));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        RestClient restClient = RestClient.builder(HttpHost.create(url)).build();
+        ElasticsearchClient client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper(objectMapper)));
+
+        try {
+            List<NewsEsDocument> documents = readDay(client, source);
+            if (documents.isEmpty()) {
+                System.out.printf("%s 에 도큐먼트가 없습니다.%n", source);
+                return;
+            }
+
+            NewsKeywordExtractor extractor = new NewsKeywordExtractor();
+            long start = System.nanoTime();
+            for (NewsEsDocument document : documents) {
+                document.setKeywords(extractor.extract(document.getTitle(), document.getSummary()));
+            }
+            long extractMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("extract    docs=%d  elapsed=%dms  docs/sec=%.1f%n",
+                    documents.size(), extractMs, documents.size() * 1000.0 / Math.max(extractMs, 1));
+
+            createIndex(client, objectMapper, FIELDDATA_INDEX, true);
+            createIndex(client, objectMapper, KEYWORDS_INDEX, false);
+            load(client, FIELDDATA_INDEX, documents, true);
+            load(client, KEYWORDS_INDEX, documents, false);
+
+            measure(client, "fielddata", FIELDDATA_INDEX, "combinedTokens", documents.size());
+            measure(client, "keywords", KEYWORDS_INDEX, "keywords", documents.size());
+        } finally {
+            client.indices().delete(d -> d.index(FIELDDATA_INDEX, KEYWORDS_INDEX).ignoreUnavailable(true));
+            restClient.close();
+        }
+    }
+
+    /**
+     * 원본 날짜 인덱스의 도큐먼트 (최대 {@value #MAX_DOCS}건)
+     */
+    private static List<NewsEsDocument> readDay(ElasticsearchClient client, String source) throws Exception {
+        SearchResponse<NewsEsDocument> response = client.search(s -> s
+                .index(source)
+                .size(MAX_DOCS)
+                .source(src -> src.filter(f -> f.excludes("keywords"))), NewsEsDocument.class);
+
+        List<NewsEsDocument> documents = new ArrayList<>();
+        for (Hit<NewsEsDocument> hit : response.hits().hits()) {
+            if (hit.source() != null) {
+                documents.add(hit.source());
+            }
+        }
+        System.out.printf("source     index=%s  docs=%d%n", source, documents.size());
+        return documents;
+    }
+
+    /**
+     * 템플릿의 설정 / 매핑으로 임시 인덱스 생성 (fielddata 방식이면 keywords 대신 combinedTokens fielddata 사용)
+     */
+    private static void createIndex(ElasticsearchClient client, ObjectMapper objectMapper, String index, boolean fielddata) throws Exception {
+        ObjectNode template;
+        try (InputStream in = new ClassPathResource(TEMPLATE).getInputStream()) {
+            template = (ObjectNode) objectMapper.readTree(in).get("template");
+        }
+        template.remove("aliases"); // 벤치마크 인덱스가 읽기 별칭에 포함되지 않도록
+
+        ObjectNode properties = (ObjectNode) template.get("mappings").get("properties");
+        if (fielddata) {
+            properties.remove("keywords");
+            ((ObjectNode) properties.get("combinedTokens")).put("fielddata", true);
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(template);
+        client.indices().delete(d -> d.index(index).ignoreUnavailable(true));
+        client.indices().create(c -> c.withJson(new ByteArrayInputStream(body)).index(index));
+    }
+
+    private static void load(ElasticsearchClient client, String index, List<NewsEsDocument> documents, boolean fielddata) throws Exception {
+        for (int from = 0; from < documents.size(); from += BULK_SIZE) {
+            List<BulkOperation> operations = new ArrayList<>();
+            for (NewsEsDocument document : documents.subList(from, Math.min(from + BULK_SIZE, documents.size()))) {
+                NewsEsDocument copy = NewsEsDocument.builder()
+                        .id(document.getId())
+                        .sections(document.getSections())
+                        .title(document.getTitle())
+                        .publisher(document.getPublisher())
+                        .summary(document.getSummary())
+                        .content_url(document.getContent_url())
+                        .published_at(document.getPublished_at())
+                        .keywords(fielddata ? null : document.getKeywords()) // fielddata 방식은 기존 도큐먼트 그대로
+                        .build();
+                operations.add(BulkOperation.of(op -> op.index(idx -> idx.index(index).id(copy.getId()).document(copy))));
+            }
+            client.bulk(b -> b.operations(operations));
+        }
+        client.indices().refresh(r -> r.index(index));
+        client.indices().forcemerge(f -> f.index(index).maxNumSegments(1L)); // 두 인덱스의 세그먼트 수를 맞춤
+    }
+
+    private static void measure(ElasticsearchClient client, String label, String index, String field, int docs) throws Exception {
+        client.indices().clearCache(c -> c.index(index).fielddata(true));
+        long heapBefore = heapUsed(client);
+
+        long cold = aggregate(client, index, field);
+        long[] warm = new long[WARM_ROUNDS];
+        for (int i = 0; i < WARM_ROUNDS; i++) {
+            warm[i] = aggregate(client, index, field);
+        }
+        Arrays.sort(warm);
+
+        long fielddataBytes = client.indices().stats(s -> s.index(index).metric("fielddata"))
+                .indices().get(index).total().fielddata().memorySizeInBytes();
+        long heapAfter = heapUsed(client);
+
+        System.out.printf("%-9s  docs=%d  cold=%dms  p50=%dms  p95=%dms  fielddata=%dKB  heapDelta=%dKB%n",
+                label, docs, cold, warm[WARM_ROUNDS / 2], warm[(int) (WARM_ROUNDS * 0.95)],
+                fielddataBytes / 1024, (heapAfter - heapBefore) / 1024);
+    }
+
+    /**
+     * 핫토픽과 같은 terms 집계 1회 (ms)
+     */
+    private static long aggregate(ElasticsearchClient client, String index, String field) throws Exception {
+        long start = System.nanoTime();
+        client.search(s -> s
+                .index(index)
+                .size(0)
+                .requestCache(false)
+                .aggregations("top", a -> a.terms(t -> t.field(field).size(TOP_SIZE))), Void.class);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * 전체 노드 힙 사용량 합계
+     */
+    private static long heapUsed(ElasticsearchClient client) throws Exception {
+        return client.nodes().stats(s -> s.metric("jvm")).nodes().values().stream()
+                .mapToLong(node -> node.jvm().mem().heapUsedInBytes())
+                .sum();
+    }
+}
@@ -0,0 +1,97 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link EsSearchHealthTracker} 전환 조건 단위 테스트
+ *
+ * @author 김원중
+ */
+class EsSearchHealthTrackerTest {
+
+    private static final int WINDOW = 4;
+    private static final int MIN_CALLS = 4;
+    private static final long LATENCY_THRESHOLD_MS = 1000;
+
+    @Test
+    @DisplayName("호출 수가 최소 호출 수보다 적으면 모두 실패해도 전환하지 않는다")
+    void staysClosedBelowMinimumCalls() {
+        EsSearchHealthTracker tracker = tracker(60_000);
+
+        for (int i = 0; i < MIN_CALLS - 1; i++) {
+            tracker.recordFailure(10);
+        }
+
+        assertThat(tracker.shouldUseFallback()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 로컬 대체 인덱스로 전환한다")
+    void opensOnErrorRate() {
+        EsSearchHealthTracker tracker = tracker(60_000);
+
+        tracker.recordSuccess(10);
+        tracker.recordSuccess(10);
+        tracker.recordFailure(10);
+        tracker.recordFailure(10);
+
+        assertThat(tracker.shouldUseFallback()).isTrue();
+        assertThat(tracker.getStatus()).containsEntry("openCount", 1L);
+    }
+
+    @Test
+    @DisplayName("평균 지연 시간이 기준 이상이면 실패가 없어도 전환한다")
+    void opensOnAverageLatency() {
+        EsSearchHealthTracker tracker = tracker(60_000);
+
+        for (int i = 0; i < MIN_CALLS; i++) {
+            tracker.recordSuccess(LATENCY_THRESHOLD_MS + 200);
+        }
+
+        assertThat(tracker.shouldUseFallback()).isTrue();
+        assertThat(tracker.getStatus().get("reason").toString()).contains("평균 지연");
+    }
+
+    @Test
+    @DisplayName("최근 기록 수를 넘으면 가장 오래된 기록부터 빠진다")
+    void evictsOldestRecordFromWindow() {
+        EsSearchHealthTracker tracker = tracker(60_000);
+
+        tracker.recordFailure(10);
+        tracker.recordSuccess(10);
+        tracker.recordSuccess(10);
+        tracker.recordSuccess(10);
+        tracker.recordSuccess(10); // 첫 실패가 빠짐
+
+        assertThat(tracker.getStatus())
+                .containsEntry("calls", WINDOW)
+                .containsEntry("errorRate", 0.0)
+                .containsEntry("avgLatencyMs", 10L);
+        assertThat(tracker.shouldUseFallback()).isFalse();
+    }
+
+    @Test
+    @DisplayName("전환 기간이 지나면 기록을 비우고 Elasticsearch 검색을 재개한다")
+    void closesAndResetsAfterOpenDuration() throws InterruptedException {
+        EsSearchHealthTracker tracker = tracker(50);
+        for (int i = 0; i < MIN_CALLS; i++) {
+            tracker.recordFailure(10);
+        }
+        assertThat(tracker.shouldUseFallback()).isTrue();
+
+        Thread.sleep(100);
+
+        assertThat(tracker.shouldUseFallback()).isFalse();
+        assertThat(tracker.getStatus()).containsEntry("calls", 0);
+
+        tracker.recordFailure(10); // 새 기록이 최소 호출 수에 다시 도달해야 전환
+        assertThat(tracker.shouldUseFallback()).isFalse();
+    }
+
+    private static EsSearchHealthTracker tracker(long openDurationMs) {
+        return new EsSearchHealthTracker(WINDOW, MIN_CALLS, 0.5, LATENCY_THRESHOLD_MS, openDurationMs);
+    }
+}
@@ -0,0 +1,135 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.dto.NewsEsOutboxEvent;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsOutboxRelay.GapScan;
+import Baemin.News_Deliver.Global.News.ElasticSearch.service.NewsEsOutboxRelay.OutboxRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link NewsEsOutboxRelay} ID 구멍 처리 단위 테스트
+ *
+ * @author 김원중
+ */
+class NewsEsOutboxRelayTest {
+
+    private static final Duration GAP_WAIT = Duration.ofSeconds(10);
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    @Test
+    @DisplayName("최근 구멍 앞에서는 멈추고 건너뛴 ID도 없다")
+    void stopsBeforeRecentGap() {
+        List<OutboxRow> rows = List.of(row(11, T0), row(13, T0.plusSeconds(5)));
+
+        GapScan scan = NewsEsOutboxRelay.scanGaps(10, rows, T0.plusSeconds(8).minus(GAP_WAIT));
+
+        assertThat(scan.ready()).extracting(OutboxRow::eventId).containsExactly(11L);
+        assertThat(scan.skippedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오래된 구멍은 지나가되 구멍 ID를 모두 돌려준다")
+    void passesOldGapAndReportsSkippedIds() {
+        List<OutboxRow> rows = List.of(row(11, T0), row(14, T0), row(15, T0));
+
+        GapScan scan = NewsEsOutboxRelay.scanGaps(10, rows, T0.plusSeconds(30).minus(GAP_WAIT));
+
+        assertThat(scan.ready()).extracting(OutboxRow::eventId).containsExactly(11L, 14L, 15L);
+        assertThat(scan.skippedIds()).containsExactly(12L, 13L);
+    }
+
+    @Test
+    @DisplayName("오래된 구멍을 지난 뒤 최근 구멍에서 멈추면 앞의 구멍 ID만 돌려준다")
+    void reportsOnlyGapsBehindNewOffset() {
+        List<OutboxRow> rows = List.of(row(12, T0), row(14, T0.plusSeconds(25)));
+
+        GapScan scan = NewsEsOutboxRelay.scanGaps(10, rows, T0.plusSeconds(30).minus(GAP_WAIT));
+
+        assertThat(scan.ready()).extracting(OutboxRow::eventId).containsExactly(12L);
+        assertThat(scan.skippedIds()).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("작은 ID의 트랜잭션이 구멍 대기 시간보다 늦게 커밋되어도 이벤트를 잃지 않는다")
+    void lateCommitAfterGapWaitIsStillRelayed() {
+        RelayModel relay = new RelayModel();
+
+        // T1이 ID 2를 받은 채 오래 실행되는 동안 ID 1, 3이 커밋됨
+        relay.commit(1, T0);
+        relay.commit(3, T0.plusSeconds(1));
+
+        relay.run(T0.plusSeconds(2));
+        assertThat(relay.offset).isEqualTo(1);        // 최근 구멍 앞에서 대기
+        assertThat(relay.applied).containsExactly(1L);
+
+        relay.run(T0.plusSeconds(20));
+        assertThat(relay.offset).isEqualTo(3);        // 대기 시간이 지나 구멍을 지나감
+        assertThat(relay.gaps).containsExactly(2L);   // 하지만 ID 2는 기록해 둠
+
+        relay.commit(2, T0);                          // T1이 뒤늦게 커밋 (created_at은 INSERT 시각)
+        relay.run(T0.plusSeconds(40));
+
+        assertThat(relay.applied).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(relay.gaps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백되어 나타나지 않는 ID는 다른 이벤트 반영을 막지 않는다")
+    void rolledBackIdDoesNotBlockLaterEvents() {
+        RelayModel relay = new RelayModel();
+        relay.commit(1, T0);
+        relay.commit(3, T0); // ID 2는 롤백
+
+        relay.run(T0.plusSeconds(20));
+        relay.commit(4, T0.plusSeconds(21));
+        relay.run(T0.plusSeconds(40));
+
+        assertThat(relay.offset).isEqualTo(4);
+        assertThat(relay.applied).containsExactly(1L, 3L, 4L);
+        assertThat(relay.gaps).containsExactly(2L); // 보관 기간이 지나면 릴레이가 기록을 지움
+    }
+
+    /**
+     * 릴레이 한 배치의 처리 순서(건너뛴 ID 재확인 → 오프셋 이후 조회 → 구멍 검사 → 오프셋 전진)를 메모리로 재현
+     */
+    private static class RelayModel {
+
+        private final TreeMap<Long, OutboxRow> committed = new TreeMap<>();
+        private final Set<Long> gaps = new TreeSet<>();
+        private final List<Long> applied = new ArrayList<>();
+        private long offset;
+
+        void commit(long eventId, LocalDateTime createdAt) {
+            committed.put(eventId, row(eventId, createdAt));
+        }
+
+        void run(LocalDateTime now) {
+            List<OutboxRow> lateRows = gaps.stream().filter(committed::containsKey).map(committed::get).toList();
+            List<OutboxRow> rows = new ArrayList<>(committed.tailMap(offset, false).values());
+
+            GapScan scan = NewsEsOutboxRelay.scanGaps(offset, rows, now.minus(GAP_WAIT));
+
+            lateRows.forEach(row -> applied.add(row.eventId()));
+            scan.ready().forEach(row -> applied.add(row.eventId()));
+            lateRows.forEach(row -> gaps.remove(row.eventId()));
+            gaps.addAll(scan.skippedIds());
+            if (!scan.ready().isEmpty()) {
+                offset = scan.ready().get(scan.ready().size() - 1).eventId();
+            }
+        }
+    }
+
+    private static OutboxRow row(long eventId, LocalDateTime createdAt) {
+        return new OutboxRow(eventId, eventId * 100, NewsEsOutboxEvent.Op.INDEX, createdAt, createdAt, null);
+    }
+}
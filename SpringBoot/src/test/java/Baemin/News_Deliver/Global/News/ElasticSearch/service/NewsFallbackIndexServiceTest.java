@@ -0,0 +1,148 @@
+package Baemin.News_Deliver.Global.News.ElasticSearch.service;
+
+import Baemin.News_Deliver.Global.News.ElasticSearch.helper.NewsKeywordExtractor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link NewsFallbackIndexService} 게시된 세대 기반 재생성 단위 테스트
+ *
+ * @author 김원중
+ */
+class NewsFallbackIndexServiceTest {
+
+    private final FakeRedis redis = new FakeRedis();
+    private final List<NewsFallbackIndexService> services = new ArrayList<>();
+    private final List<Path> directories = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() throws IOException {
+        services.forEach(NewsFallbackIndexService::close);
+        for (Path directory : directories) {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스는 리더가 세대를 게시했을 때만 다시 생성하고, 같은 세대면 주기 확인에서 그대로 둔다")
+    void followerRebuildsOnlyWhenGenerationChanges() throws IOException {
+        FakeJdbc leaderJdbc = new FakeJdbc();
+        FakeJdbc followerJdbc = new FakeJdbc();
+        NewsFallbackIndexService leader = service(leaderJdbc, newDirectory());
+        NewsFallbackIndexService follower = service(followerJdbc, newDirectory());
+
+        follower.refreshIfChanged(); // 게시된 세대가 없으면 인덱스가 없을 때만 생성
+        follower.refreshIfChanged();
+        assertThat(followerJdbc.queries.get()).isEqualTo(1);
+        assertThat(follower.getStatus()).containsEntry("generation", 0L);
+
+        leader.rebuildAndPublish();
+        assertThat(leader.getStatus()).containsEntry("generation", 1L);
+
+        follower.refreshIfChanged();
+        follower.refreshIfChanged();
+        assertThat(followerJdbc.queries.get()).isEqualTo(2);
+        assertThat(follower.getStatus()).containsEntry("generation", 1L);
+    }
+
+    @Test
+    @DisplayName("재시작해도 기존 인덱스의 세대가 게시된 세대와 같으면 다시 만들지 않는다")
+    void reopensSameGenerationWithoutRebuild() throws IOException {
+        Path directory = newDirectory();
+        service(new FakeJdbc(), directory).rebuildAndPublish();
+
+        FakeJdbc restartedJdbc = new FakeJdbc();
+        NewsFallbackIndexService restarted = service(restartedJdbc, directory);
+        restarted.openOnStartup();
+
+        assertThat(restartedJdbc.queries.get()).isZero();
+        assertThat(restarted.isAvailable()).isTrue();
+        assertThat(restarted.getStatus()).containsEntry("generation", 1L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 세대를 확인하지 못하면 기존 인덱스를 유지한다")
+    void keepsIndexWhenGenerationUnavailable() throws IOException {
+        FakeJdbc jdbc = new FakeJdbc();
+        NewsFallbackIndexService service = service(jdbc, newDirectory());
+        service.rebuildAndPublish();
+
+        redis.down = true;
+        service.refreshIfChanged();
+
+        assertThat(jdbc.queries.get()).isEqualTo(1);
+        assertThat(service.isAvailable()).isTrue();
+    }
+
+    private NewsFallbackIndexService service(FakeJdbc jdbc, Path directory) {
+        NewsFallbackIndexService service = new NewsFallbackIndexService(jdbc, redis, new NewsKeywordExtractor(),
+                true, directory.toString(), 7);
+        services.add(service);
+        return service;
+    }
+
+    private Path newDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("news-fallback-index");
+        directories.add(directory);
+        return directory;
+    }
+
+    /**
+     * 뉴스가 없는 DB (조회 횟수로 재생성 여부 확인)
+     */
+    private static class FakeJdbc extends JdbcTemplate {
+
+        private final AtomicInteger queries = new AtomicInteger();
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            queries.incrementAndGet();
+            return List.of();
+        }
+    }
+
+    /**
+     * 세대 번호 GET / INCR만 흉내 내는 메모리 Redis (인스턴스 간 공유)
+     */
+    private static class FakeRedis extends RedisTemplate<String, Object> {
+
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+        private volatile boolean down;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValueOperations<String, Object> opsForValue() {
+            return (ValueOperations<String, Object>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ValueOperations.class}, (proxy, method, args) -> {
+                        if (down) {
+                            throw new IllegalStateException("redis down");
+                        }
+                        if (method.getName().equals("get") && args.length == 1) {
+                            return values.get(args[0].toString());
+                        }
+                        if (method.getName().equals("increment") && args.length == 1) {
+                            return (Long) values.merge(args[0].toString(), 1L, (a, b) -> (Long) a + (Long) b);
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package Baemin.News_Deliver.Global.NewsMonitoring.Service;
+
+import Baemin.News_Deliver.Global.News.Batch.dto.NewsItemDTO;
+import Baemin.News_Deliver.Global.News.Batch.helper.NewsDedupHelper;
+import Baemin.News_Deliver.Global.NewsMonitoring.Service.NewsWatermarkService.Watermark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link NewsWatermarkService#filterNewer} 단위 테스트
+ *
+ * @author 김원중
+ */
+class NewsWatermarkServiceTest {
+
+    private static final LocalDateTime MARK = LocalDateTime.of(2025, 7, 1, 10, 30, 15);
+
+    private final NewsWatermarkService service = new NewsWatermarkService(null);
+    private final Watermark watermark = new Watermark(MARK, NewsDedupHelper.contentHash("기준 뉴스", "A일보", MARK));
+
+    @Test
+    @DisplayName("워터마크 이전 뉴스와 워터마크 뉴스 자체는 제외된다")
+    void excludesOlderNewsAndWatermarkItself() {
+        NewsItemDTO older = news("이전 뉴스", "B일보", MARK.minusSeconds(1));
+        NewsItemDTO marked = news("기준 뉴스", "A일보", MARK.withNano(500_000_000)); // 초 단위로 비교
+        NewsItemDTO newer = news("새 뉴스", "C일보", MARK.plusMinutes(5));
+
+        assertThat(service.filterNewer(List.of(older, marked, newer), watermark)).containsExactly(newer);
+    }
+
+    @Test
+    @DisplayName("같은 초에 발행된 다른 뉴스는 통과한다")
+    void keepsOtherNewsPublishedInSameSecond() {
+        NewsItemDTO sameSecond = news("같은 초 다른 뉴스", "A일보", MARK);
+
+        assertThat(service.filterNewer(List.of(sameSecond), watermark)).containsExactly(sameSecond);
+    }
+
+    @Test
+    @DisplayName("발행 시각이 없는 뉴스는 통과한다")
+    void keepsNewsWithoutPublishedAt() {
+        NewsItemDTO unknown = news("발행 시각 없음", "D일보", null);
+
+        assertThat(service.filterNewer(List.of(unknown), watermark)).containsExactly(unknown);
+        assertThat(service.isNewer(unknown, watermark)).isTrue();
+    }
+
+    @Test
+    @DisplayName("워터마크 직렬화 값은 시간순으로 비교된다")
+    void serializedWatermarkComparesChronologically() {
+        Watermark later = new Watermark(MARK.plusSeconds(1), "0");
+
+        assertThat(Watermark.parse(watermark.serialize())).isEqualTo(watermark);
+        assertThat(later).isGreaterThan(watermark);
+    }
+
+    private static NewsItemDTO news(String title, String publisher, LocalDateTime publishedAt) {
+        return NewsItemDTO.builder()
+                .title(title)
+                .publisher(publisher)
+                .content_url("https://news.example.com/" + title.hashCode())
+                .published_at(publishedAt)
+                .build();
+    }
+}
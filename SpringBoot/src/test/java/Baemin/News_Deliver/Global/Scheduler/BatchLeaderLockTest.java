@@ -0,0 +1,181 @@
+package Baemin.News_Deliver.Global.Scheduler;
+
+import Baemin.News_Deliver.Domain.Kakao.Exception.KakaoException;
+import Baemin.News_Deliver.Global.Scheduler.BatchLeaderLock.Lease;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link BatchLeaderLock} 임대 획득 / 갱신 / 펜싱 단위 테스트
+ *
+ * @author 김원중
+ */
+class BatchLeaderLockTest {
+
+    private static final long LEASE_MS = 300;
+
+    private final FakeRedis redis = new FakeRedis();
+    private final List<BatchLeaderLock> locks = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        locks.forEach(BatchLeaderLock::shutdown);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스가 임대를 가지고 있으면 다른 인스턴스는 획득하지 못하고, 해제 후에는 더 큰 토큰으로 획득한다")
+    void onlyOneHolderAndTokenIncreases() {
+        BatchLeaderLock first = lock();
+        BatchLeaderLock second = lock();
+
+        Lease lease = first.tryAcquire(BatchLeaderLock.NEWS_PIPELINE);
+        assertThat(lease).isNotNull();
+        assertThat(second.tryAcquire(BatchLeaderLock.NEWS_PIPELINE)).isNull();
+
+        lease.close();
+        Lease next = second.tryAcquire(BatchLeaderLock.NEWS_PIPELINE);
+
+        assertThat(next).isNotNull();
+        assertThat(next.token()).isGreaterThan(lease.token());
+        next.close();
+    }
+
+    @Test
+    @DisplayName("실행 중에는 TTL보다 오래 걸려도 갱신되어 임대가 유지된다")
+    void renewsWhileRunning() throws InterruptedException {
+        BatchLeaderLock lock = lock();
+        Lease lease = lock.tryAcquire(BatchLeaderLock.NEWS_MONITORING);
+
+        Thread.sleep(LEASE_MS * 3);
+
+        lease.checkValid();
+        assertThat(lock().tryAcquire(BatchLeaderLock.NEWS_MONITORING)).isNull();
+        lease.close();
+    }
+
+    @Test
+    @DisplayName("임대가 만료되어 다른 인스턴스가 이어받으면 이전 리더는 checkValid에서 중단되고 새 리더의 락을 지우지 않는다")
+    void staleLeaderIsFencedAfterTakeover() {
+        BatchLeaderLock stale = lock();
+        Lease old = stale.tryAcquire(BatchLeaderLock.FAILED_PAGE_REPLAY);
+
+        redis.skewMillis += LEASE_MS * 2; // GC 정지 등으로 갱신하지 못한 채 TTL이 지남
+        Lease current = lock().tryAcquire(BatchLeaderLock.FAILED_PAGE_REPLAY);
+
+        assertThat(current).isNotNull();
+        assertThat(current.token()).isGreaterThan(old.token());
+        assertThatThrownBy(old::checkValid).isInstanceOf(KakaoException.class);
+
+        old.close();
+        current.checkValid();
+        assertThat(stale.getStatus().get(BatchLeaderLock.FAILED_PAGE_REPLAY)).containsEntry("lost", 1L);
+        current.close();
+    }
+
+    @Test
+    @DisplayName("상태 조회는 등록된 모든 락 이름과 이 인스턴스가 사용한 락 이름을 포함한다")
+    void statusCoversAllLockNames() {
+        BatchLeaderLock lock = lock();
+        lock.tryAcquire("custom-lock").close();
+
+        Map<String, Map<String, Object>> status = lock.getStatus();
+
+        assertThat(status).containsKeys(BatchLeaderLock.LOCK_NAMES.toArray(String[]::new));
+        assertThat(status).containsKey("custom-lock");
+        assertThat(status.get("custom-lock")).containsEntry("acquired", 1L).containsEntry("holder", null);
+    }
+
+    private BatchLeaderLock lock() {
+        BatchLeaderLock lock = new BatchLeaderLock(redis, LEASE_MS);
+        locks.add(lock);
+        return lock;
+    }
+
+    /**
+     * 락 스크립트 3개(획득/갱신/해제)와 GET만 흉내 내는 메모리 Redis (시계를 앞당겨 만료를 재현)
+     */
+    private static class FakeRedis extends RedisTemplate<String, Object> {
+
+        private final Map<String, Object> values = new HashMap<>();
+        private final Map<String, Long> expireAt = new HashMap<>();
+        private volatile long skewMillis;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            String body = script.getScriptAsString();
+            String key = keys.get(0);
+            if (body.contains("INCR")) {
+                if (get(key) != null) {
+                    return (T) Long.valueOf(0);
+                }
+                long token = ((Long) values.getOrDefault(keys.get(1), 0L)) + 1;
+                values.put(keys.get(1), token);
+                put(key, args[0] + "|" + token + "|" + args[1], Long.parseLong(args[2].toString()));
+                return (T) Long.valueOf(token);
+            }
+            if (!args[0].equals(get(key))) {
+                return (T) Long.valueOf(0);
+            }
+            if (body.contains("PEXPIRE")) {
+                expireAt.put(key, now() + Long.parseLong(args[1].toString()));
+            } else {
+                values.remove(key);
+                expireAt.remove(key);
+            }
+            return (T) Long.valueOf(1);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValueOperations<String, Object> opsForValue() {
+            return (ValueOperations<String, Object>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ValueOperations.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("get") && args.length == 1) {
+                            synchronized (this) {
+                                return get(args[0].toString());
+                            }
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Override
+        public synchronized Long getExpire(String key, TimeUnit timeUnit) {
+            Long at = expireAt.get(key);
+            return at == null ? -1L : timeUnit.convert(at - now(), TimeUnit.MILLISECONDS);
+        }
+
+        private Object get(String key) {
+            Long at = expireAt.get(key);
+            if (at != null && at <= now()) {
+                values.remove(key);
+                expireAt.remove(key);
+            }
+            return values.get(key);
+        }
+
+        private void put(String key, Object value, long ttlMillis) {
+            values.put(key, value);
+            expireAt.put(key, now() + ttlMillis);
+        }
+
+        private long now() {
+            return System.currentTimeMillis() + skewMillis;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package Baemin.News_Deliver.Global.Scheduler;
+
+import Baemin.News_Deliver.Domain.Auth.Entity.User;
+import Baemin.News_Deliver.Domain.Mypage.Entity.Days;
+import Baemin.News_Deliver.Domain.Mypage.Entity.Setting;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link TaskSchedulerService} 전송 슬롯 / 지연 분 이어서 보내기 / 인스턴스 간 분 선점 단위 테스트
+ *
+ * @author 김원중
+ */
+class TaskSchedulerServiceTest {
+
+    private static final int MAX_CATCH_UP = 10;
+    /** 2025-07-07은 월요일 */
+    private static final LocalDateTime MONDAY_0800 = LocalDateTime.of(2025, 7, 7, 8, 0);
+
+    @Test
+    @DisplayName("슬롯은 월요일 00:00부터 분 단위로 번호가 매겨진다")
+    void numbersSlotsByMinuteFromMonday() {
+        assertThat(TaskSchedulerService.slotOf(DayOfWeek.MONDAY, LocalTime.MIDNIGHT)).isZero();
+        assertThat(TaskSchedulerService.slotOf(DayOfWeek.MONDAY, LocalTime.of(8, 0))).isEqualTo(480);
+        assertThat(TaskSchedulerService.slotOf(DayOfWeek.SUNDAY, LocalTime.of(23, 59))).isEqualTo(7 * 24 * 60 - 1);
+    }
+
+    @Test
+    @DisplayName("세팅의 슬롯은 요일마다 하나이고, 중복 / 범위 밖 요일은 빠진다")
+    void slotsOfSettingSkipDuplicateAndInvalidDays() {
+        Setting setting = setting(1L, 10L, LocalTime.of(8, 0), 1, 3, 3, 0, 8);
+
+        assertThat(TaskSchedulerService.slotsOf(setting)).containsExactly(
+                TaskSchedulerService.slotOf(DayOfWeek.MONDAY, LocalTime.of(8, 0)),
+                TaskSchedulerService.slotOf(DayOfWeek.WEDNESDAY, LocalTime.of(8, 0)));
+    }
+
+    @Test
+    @DisplayName("처음 실행하면 현재 분만, 같은 분에 다시 실행하면 아무것도 보내지 않는다")
+    void firstRunSendsCurrentMinuteOnly() {
+        assertThat(TaskSchedulerService.minutesToDispatch(null, MONDAY_0800, MAX_CATCH_UP)).containsExactly(MONDAY_0800);
+        assertThat(TaskSchedulerService.minutesToDispatch(MONDAY_0800, MONDAY_0800, MAX_CATCH_UP)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지연으로 건너뛴 분은 다음 실행에서 순서대로 이어서 보낸다")
+    void catchesUpSkippedMinutesInOrder() {
+        assertThat(TaskSchedulerService.minutesToDispatch(MONDAY_0800, MONDAY_0800.plusMinutes(3), MAX_CATCH_UP))
+                .containsExactly(MONDAY_0800.plusMinutes(1), MONDAY_0800.plusMinutes(2), MONDAY_0800.plusMinutes(3));
+    }
+
+    @Test
+    @DisplayName("이어서 보낼 최대 분보다 오래 밀리면 최근 분만 보낸다")
+    void capsCatchUpWindow() {
+        List<LocalDateTime> minutes = TaskSchedulerService.minutesToDispatch(
+                MONDAY_0800, MONDAY_0800.plusMinutes(60), MAX_CATCH_UP);
+
+        assertThat(minutes).hasSize(MAX_CATCH_UP + 1);
+        assertThat(minutes.get(0)).isEqualTo(MONDAY_0800.plusMinutes(50));
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 같은 분을 실행해도 분을 선점한 한 인스턴스만 전송한다")
+    void onlyClaimingInstanceDispatchesMinute() {
+        FakeRedis redis = new FakeRedis();
+        List<Runnable> sentByFirst = new ArrayList<>();
+        List<Runnable> sentBySecond = new ArrayList<>();
+        TaskSchedulerService first = service(redis, sentByFirst);
+        TaskSchedulerService second = service(redis, sentBySecond);
+
+        List<Setting> settings = List.of(setting(1L, 10L, LocalTime.of(8, 0), 1), setting(2L, 20L, LocalTime.of(8, 1), 1));
+        first.scheduleAll(settings);
+        second.scheduleAll(settings);
+
+        first.dispatchUpTo(MONDAY_0800);
+        second.dispatchUpTo(MONDAY_0800);
+        // 두 번째 인스턴스만 늦게 실행되어 08:00을 이어서 보내려 해도 이미 선점된 분
+        second.dispatchUpTo(MONDAY_0800.plusMinutes(1));
+        first.dispatchUpTo(MONDAY_0800.plusMinutes(1));
+
+        assertThat(sentByFirst).hasSize(1);
+        assertThat(sentBySecond).hasSize(1);
+        assertThat(second.getStatus()).containsEntry("claimedByOthers", 1L);
+        assertThat(first.getStatus()).containsEntry("claimedByOthers", 1L);
+    }
+
+    @Test
+    @DisplayName("인스턴스마다 인덱스가 다르면 분을 선점한 인스턴스의 인덱스로 보내고, 새 세팅은 그 인스턴스가 재구성한 뒤부터 전송된다")
+    void claimingInstanceIndexDecidesUntilRefresh() {
+        FakeRedis redis = new FakeRedis();
+        List<Runnable> sentByRefreshed = new ArrayList<>();
+        List<Runnable> sentByStale = new ArrayList<>();
+        TaskSchedulerService refreshed = service(redis, sentByRefreshed);
+        TaskSchedulerService stale = service(redis, sentByStale);
+
+        Setting existing = setting(1L, 10L, LocalTime.of(8, 0), 1);
+        Setting added = setting(2L, 20L, LocalTime.of(8, 1), 1); // 08:00~08:01 사이에 추가된 세팅
+        refreshed.scheduleAll(List.of(existing, added));
+        stale.scheduleAll(List.of(existing)); // 아직 다음 재구성 전
+
+        LocalDateTime minute = MONDAY_0800.plusMinutes(1);
+        stale.dispatchUpTo(minute);
+        refreshed.dispatchUpTo(minute);
+
+        assertThat(sentByStale).isEmpty();
+        assertThat(sentByRefreshed).isEmpty();
+
+        stale.scheduleAll(List.of(existing, added)); // 다음 재구성
+        stale.dispatchUpTo(minute.plusWeeks(1)); // 오래 밀린 것으로 보고 최근 분(08:00 포함)만 이어서 보냄
+
+        assertThat(sentByStale).hasSize(2); // 08:00 기존 세팅 + 08:01 새 세팅
+    }
+
+    private static TaskSchedulerService service(FakeRedis redis, List<Runnable> submitted) {
+        return new TaskSchedulerService(null, submitted::add, null, null, null, redis, MAX_CATCH_UP);
+    }
+
+    private static Setting setting(long settingId, long userId, LocalTime deliveryTime, Integer... days) {
+        User user = User.builder().kakaoId("kakao-" + userId).build();
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        List<Days> deliveryDays = new ArrayList<>();
+        for (Integer day : days) {
+            deliveryDays.add(Days.builder().deliveryDay(day).build());
+        }
+        return Setting.builder()
+                .id(settingId)
+                .user(user)
+                .deliveryTime(MONDAY_0800.with(deliveryTime))
+                .days(deliveryDays)
+                .build();
+    }
+
+    /**
+     * 분 선점({@code SET NX})만 흉내 내는 메모리 Redis (인스턴스 간 공유)
+     */
+    private static class FakeRedis extends RedisTemplate<String, Object> {
+
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValueOperations<String, Object> opsForValue() {
+            return (ValueOperations<String, Object>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ValueOperations.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("setIfAbsent")) {
+                            return values.putIfAbsent(args[0].toString(), args[1]) == null;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}